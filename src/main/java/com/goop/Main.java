@@ -1,8 +1,13 @@
 package com.goop;
 
-import com.goop.data.DataStore;
+import com.goop.data.DataAccessException;
+import com.goop.data.Repositories;
+import com.goop.grading.GradingCoordinator;
+import com.goop.runner.RunnerPool;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -35,10 +40,26 @@ public class Main extends Application {
             System.out.println("║  Game Object-Oriented Programming System   ║");
             System.out.println("╚════════════════════════════════════════════╝\n");
 
-            // Initialize DataStore (Singleton pattern)
-            // Ini akan men-trigger initializeSampleData()
-            DataStore dataStore = DataStore.getInstance();
-            System.out.println("✓ DataStore initialized\n");
+            // Error dari event handler di FX thread (misal penyimpanan gagal)
+            Thread.currentThread().setUncaughtExceptionHandler(Main::handleUncaught);
+
+            // Initialize backend penyimpanan (goop.storage=memory|jdbc)
+            // Ini akan men-trigger sample data jika penyimpanan masih kosong
+            try {
+                Repositories.users();
+            } catch (ExceptionInInitializerError e) {
+                // Backend yang dikonfigurasi tidak bisa dibuka: berhenti, jangan menulis ke penyimpanan lain
+                String message = e.getCause() != null ? e.getCause().getMessage() : e.toString();
+                System.err.println("ERROR: " + message);
+                SceneManager.showError("Penyimpanan tidak bisa dibuka", message);
+                Platform.exit();
+                return;
+            }
+            System.out.println("✓ Repositories initialized\n");
+
+            // Coordinator penilaian terdistribusi (hanya jika goop.grading.port di-set),
+            // dijalankan di awal agar node sudah terhubung saat dibutuhkan
+            GradingCoordinator.getIfConfigured();
 
             // Set primary stage ke SceneManager
             SceneManager.setPrimaryStage(primaryStage);
@@ -58,6 +79,23 @@ public class Main extends Application {
         }
     }
 
+    /**
+     * Error yang tidak ditangkap controller. Jika penyebabnya penyimpanan
+     * gagal (DataAccessException), user diberi tahu bahwa perubahan TIDAK
+     * tersimpan, bukan hanya dicetak ke console
+     */
+    private static void handleUncaught(Thread thread, Throwable error) {
+        error.printStackTrace();
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessException) {
+                String message = cause.getMessage();
+                Platform.runLater(() -> SceneManager.showError("Data tidak tersimpan",
+                        message + "\n\nPerubahan terakhir TIDAK tersimpan. Silakan coba lagi atau restart aplikasi."));
+                return;
+            }
+        }
+    }
+
     /**
      * Method stop() - Dipanggil saat aplikasi ditutup
      * Override untuk cleanup jika diperlukan
@@ -69,10 +107,14 @@ public class Main extends Application {
         System.out.println("╚════════════════════════════════════════════╝");
 
         // Logout user jika masih login
-        DataStore dataStore = DataStore.getInstance();
-        if (dataStore.isLoggedIn()) {
-            dataStore.logout();
-        }
+        SessionContext.end();
+
+        // Matikan node penilai lokal dan worker JVM program siswa
+        GradingCoordinator.shutdownIfStarted();
+        RunnerPool.shutdownIfStarted();
+
+        // Flush perubahan terakhir (write-ahead log / database)
+        Repositories.shutdown();
 
         System.out.println("✓ Application closed successfully");
     }
@@ -0,0 +1,184 @@
+package com.goop.compiler;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Class BackgroundCompiler - Cek compile otomatis selama siswa mengetik
+ *
+ * Editor memanggil check() setiap kali kode berubah. Pengecekan baru
+ * dimulai setelah siswa berhenti mengetik DEBOUNCE_MILLIS, dan hanya
+ * diagnostic untuk kode TERBARU yang dikirim ke listener.
+ *
+ * Konsep yang diterapkan:
+ * - Debounce: check() membatalkan pengecekan yang masih menunggu,
+ *   jadi rentetan ketikan hanya menghasilkan 1 compile
+ * - Pembatalan: setiap check() menaikkan nomor generasi. Compile yang
+ *   sedang berjalan memeriksa nomor ini di setiap tahap javac (parse,
+ *   enter, analyze per class) dan berhenti jika sudah ada kode lebih baru
+ * - 1 thread daemon prioritas rendah, terpisah dari thread CompilerService:
+ *   paling banyak 1 compile berjalan, dan tombol Jalankan tidak pernah
+ *   mengantri di belakang pengecekan otomatis
+ * - Hanya analyze (parse + cek tipe), tanpa membuat bytecode
+ *
+ * Listener dipanggil di thread background; pemanggil yang memindahkan
+ * hasil ke FX thread (Platform.runLater).
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class BackgroundCompiler {
+
+    /**
+     * Jeda setelah ketikan terakhir sebelum kode di-compile
+     */
+    public static final long DEBOUNCE_MILLIS = 400;
+
+    private static class Holder {
+        private static final BackgroundCompiler INSTANCE = new BackgroundCompiler();
+    }
+
+    /**
+     * Dilempar dari TaskListener untuk menghentikan javac
+     */
+    private static final class Dibatalkan extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Dibatalkan() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final JavaCompiler compiler;
+    private final StandardJavaFileManager fileManager;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pending;
+
+    // Hasil pengecekan terakhir, hanya diakses thread background
+    private String lastSource;
+    private List<CompileDiagnostic> lastDiagnostics;
+
+    private BackgroundCompiler() {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager manager = null;
+        if (compiler != null) {
+            // File manager sendiri: file manager CompilerService tidak thread-safe
+            manager = compiler.getStandardFileManager(null, Locale.getDefault(), null);
+            try {
+                manager.setLocation(StandardLocation.CLASS_PATH, Collections.emptyList());
+            } catch (IOException e) {
+                System.err.println("WARNING: Gagal mengosongkan classpath compiler: " + e.getMessage());
+            }
+        }
+        fileManager = manager;
+        executor = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "goop-compiler-background");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        // Pengecekan yang dibatalkan langsung dibuang dari antrian
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    public static BackgroundCompiler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Jadwalkan pengecekan kode. Pengecekan sebelumnya (menunggu atau
+     * sedang berjalan) dibatalkan. Tidak melakukan apa-apa jika compiler
+     * tidak tersedia. Aman dipanggil dari FX thread, tidak pernah menunggu.
+     *
+     * @param source   Kode di editor, apa adanya (nomor baris sama dengan editor)
+     * @param listener Menerima semua diagnostic, hanya jika kode ini masih yang terbaru
+     */
+    public synchronized void check(String source, Consumer<List<CompileDiagnostic>> listener) {
+        long id = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        if (compiler == null) {
+            pending = null;
+            return;
+        }
+        pending = executor.schedule(() -> run(id, source, listener), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Batalkan pengecekan yang menunggu atau berjalan, misal saat editor ditutup
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    private void run(long id, String source, Consumer<List<CompileDiagnostic>> listener) {
+        if (id != generation.get()) {
+            return;
+        }
+        List<CompileDiagnostic> diagnostics;
+        if (source.equals(lastSource)) {
+            diagnostics = lastDiagnostics;
+        } else {
+            diagnostics = analyze(id, source);
+            if (diagnostics == null) {
+                return;
+            }
+            lastSource = source;
+            lastDiagnostics = diagnostics;
+        }
+        if (id == generation.get()) {
+            listener.accept(diagnostics);
+        }
+    }
+
+    /**
+     * @return Diagnostic dari javac, null jika dibatalkan karena ada kode lebih baru
+     */
+    private List<CompileDiagnostic> analyze(long id, String source) {
+        List<CompileDiagnostic> diagnostics = new ArrayList<>();
+        JavacTask task = (JavacTask) compiler.getTask(null, new MemoryFileManager(fileManager),
+                diagnostic -> diagnostics.add(CompilerService.convert(diagnostic)), CompilerService.OPTIONS, null,
+                List.of(MemoryFileManager.source(CompilerService.primaryClassName(source), source)));
+        task.addTaskListener(new TaskListener() {
+            @Override
+            public void started(TaskEvent event) {
+                if (id != generation.get()) {
+                    throw new Dibatalkan();
+                }
+            }
+        });
+        try {
+            task.analyze();
+        } catch (IOException | RuntimeException e) {
+            // javac membungkus exception dari TaskListener
+            if (id != generation.get()) {
+                return null;
+            }
+            System.err.println("ERROR: Cek compile gagal: " + e);
+            diagnostics.add(CompilerService.convert(null));
+        }
+        return Collections.unmodifiableList(diagnostics);
+    }
+}
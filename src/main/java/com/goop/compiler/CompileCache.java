@@ -0,0 +1,166 @@
+package com.goop.compiler;
+
+import com.goop.data.DataStore;
+import com.goop.utils.BlobCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class CompileCache - Cache hasil compile per hash source code
+ *
+ * Siswa sering menekan "Jalankan Kode" tanpa mengubah kode, dan satu kelas
+ * biasanya mulai dari starter code yang sama. Hasil compile (diagnostic,
+ * bytecode dan main class) hanya bergantung pada source, opsi compiler,
+ * versi JDK dan bahasa pesan, jadi hasilnya di-cache dengan key SHA-256
+ * dari semua itu.
+ *
+ * Disimpan di BlobCache (LRU memory + folder cache/compile di folder data),
+ * sehingga tetap berlaku setelah aplikasi di-restart. Batas ukuran:
+ * - goop.cache.memoryMb  Batas memory per cache (default 32)
+ * - goop.cache.diskMb    Batas disk per cache, 0 = tanpa disk (default 256)
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class CompileCache {
+
+    /**
+     * Naikkan jika format data cache berubah (entry lama otomatis tidak terpakai)
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private final BlobCache cache;
+    private final String environment;
+
+    CompileCache(List<String> options) {
+        this(DataStore.getDataDirectory().resolve("cache").resolve("compile"), options);
+    }
+
+    /**
+     * CompileCache dengan folder tertentu (dipakai test untuk simulasi restart)
+     */
+    CompileCache(Path directory, List<String> options) {
+        long memoryBytes = Math.max(0, Long.getLong("goop.cache.memoryMb", 32)) * 1024 * 1024;
+        long diskBytes = Math.max(0, Long.getLong("goop.cache.diskMb", 256)) * 1024 * 1024;
+        cache = new BlobCache(directory, memoryBytes, diskBytes);
+        environment = FORMAT_VERSION + "\n" + Runtime.version() + "\n" + Locale.getDefault() + "\n"
+                + String.join(" ", options) + "\n";
+    }
+
+    /**
+     * Key cache untuk 1 compile (semua file source, urutan diperhitungkan)
+     */
+    String key(List<String> sources) {
+        MessageDigest digest = BlobCache.sha256();
+        digest.update(environment.getBytes(StandardCharsets.UTF_8));
+        for (String source : sources) {
+            byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+            digest.update((bytes.length + ":").getBytes(StandardCharsets.UTF_8));
+            digest.update(bytes);
+        }
+        return BlobCache.toKey(digest);
+    }
+
+    /**
+     * @return Hasil compile dari cache (isCached() = true), null jika tidak ada
+     */
+    CompileResult get(String key, long startNanos) {
+        byte[] bytes = cache.get(key);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return decode(new DataInputStream(new ByteArrayInputStream(bytes)), startNanos);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("WARNING: Cache compile tidak bisa dibaca, dihapus: " + e.getMessage());
+            cache.remove(key);
+            return null;
+        }
+    }
+
+    void put(String key, CompileResult result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try {
+            encode(new DataOutputStream(bytes), result);
+        } catch (IOException e) {
+            // ByteArrayOutputStream tidak melempar IOException
+            throw new IllegalStateException(e);
+        }
+        cache.put(key, bytes.toByteArray());
+    }
+
+    private static void encode(DataOutput out, CompileResult result) throws IOException {
+        out.writeBoolean(result.isSuccess());
+        writeString(out, result.getMainClass());
+        out.writeInt(result.getDiagnostics().size());
+        for (CompileDiagnostic diagnostic : result.getDiagnostics()) {
+            out.writeByte(diagnostic.getKind().ordinal());
+            out.writeLong(diagnostic.getLine());
+            out.writeLong(diagnostic.getColumn());
+            writeString(out, diagnostic.getMessage());
+        }
+        out.writeInt(result.getClasses().size());
+        for (Map.Entry<String, byte[]> entry : result.getClasses().entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().length);
+            out.write(entry.getValue());
+        }
+    }
+
+    private static CompileResult decode(DataInput in, long startNanos) throws IOException {
+        boolean success = in.readBoolean();
+        String mainClass = readString(in);
+        int diagnosticCount = in.readInt();
+        List<CompileDiagnostic> diagnostics = new ArrayList<>(diagnosticCount);
+        for (int i = 0; i < diagnosticCount; i++) {
+            CompileDiagnostic.Kind kind = CompileDiagnostic.Kind.values()[in.readByte()];
+            long line = in.readLong();
+            long column = in.readLong();
+            diagnostics.add(new CompileDiagnostic(kind, line, column, readString(in)));
+        }
+        int classCount = in.readInt();
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        for (int i = 0; i < classCount; i++) {
+            String name = readString(in);
+            byte[] bytecode = new byte[in.readInt()];
+            in.readFully(bytecode);
+            classes.put(name, bytecode);
+        }
+        return new CompileResult(success, classes, diagnostics, mainClass,
+                (System.nanoTime() - startNanos) / 1_000_000, true);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package com.goop.compiler;
+
+/**
+ * Class CompileDiagnostic - 1 pesan dari compiler (error, warning, atau catatan)
+ *
+ * Nomor baris dan kolom dimulai dari 1, 0 jika pesan tidak terkait posisi
+ * tertentu di source code.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class CompileDiagnostic {
+
+    public enum Kind {
+        ERROR, WARNING, NOTE
+    }
+
+    private final Kind kind;
+    private final long line;
+    private final long column;
+    private final String message;
+
+    public CompileDiagnostic(Kind kind, long line, long column, String message) {
+        this.kind = kind;
+        this.line = line;
+        this.column = column;
+        this.message = message;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public long getColumn() {
+        return column;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isError() {
+        return kind == Kind.ERROR;
+    }
+
+    /**
+     * Format untuk output console, misal: "❌ Baris 3, kolom 10: ';' expected"
+     */
+    @Override
+    public String toString() {
+        String prefix;
+        switch (kind) {
+            case ERROR:
+                prefix = "❌ ";
+                break;
+            case WARNING:
+                prefix = "⚠️ ";
+                break;
+            default:
+                prefix = "ℹ️ ";
+                break;
+        }
+        if (line <= 0) {
+            return prefix + message;
+        }
+        return prefix + "Baris " + line + (column > 0 ? ", kolom " + column : "") + ": " + message;
+    }
+}
@@ -0,0 +1,88 @@
+package com.goop.compiler;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class CompileResult - Hasil compile 1 source code siswa
+ *
+ * Bytecode hasil compile disimpan di memory (nama class -> isi file
+ * .class), tidak ada file sementara di disk.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class CompileResult {
+
+    private final boolean success;
+    private final Map<String, byte[]> classes;
+    private final List<CompileDiagnostic> diagnostics;
+    private final String mainClass;
+    private final long durasiMillis;
+    private final boolean cached;
+
+    CompileResult(boolean success, Map<String, byte[]> classes, List<CompileDiagnostic> diagnostics,
+            String mainClass, long durasiMillis) {
+        this(success, classes, diagnostics, mainClass, durasiMillis, false);
+    }
+
+    CompileResult(boolean success, Map<String, byte[]> classes, List<CompileDiagnostic> diagnostics,
+            String mainClass, long durasiMillis, boolean cached) {
+        this.success = success;
+        this.classes = Collections.unmodifiableMap(classes);
+        this.diagnostics = Collections.unmodifiableList(diagnostics);
+        this.mainClass = mainClass;
+        this.durasiMillis = durasiMillis;
+        this.cached = cached;
+    }
+
+    /**
+     * @return true jika compile tanpa error
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return Bytecode per nama class (binary name, misal "Main" atau "Main$Inner"), kosong jika gagal
+     */
+    public Map<String, byte[]> getClasses() {
+        return classes;
+    }
+
+    /**
+     * @return Semua pesan compiler, urut sesuai urutan dilaporkan
+     */
+    public List<CompileDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    /**
+     * @return Nama class yang punya method public static void main(String[]), null jika tidak ada
+     */
+    public String getMainClass() {
+        return mainClass;
+    }
+
+    public long getDurasiMillis() {
+        return durasiMillis;
+    }
+
+    /**
+     * @return true jika hasil diambil dari CompileCache (source sama sudah pernah di-compile)
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    public int getErrorCount() {
+        int count = 0;
+        for (CompileDiagnostic diagnostic : diagnostics) {
+            if (diagnostic.isError()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
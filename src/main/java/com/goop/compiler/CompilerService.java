@@ -0,0 +1,245 @@
+package com.goop.compiler;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Class CompilerService - Compile kode Java siswa di memory (javax.tools)
+ *
+ * - Tanpa file sementara: source dibaca dari String, bytecode ditulis ke
+ *   memory (MemoryFileManager)
+ * - Compile berjalan di 1 thread background, bukan di FX thread
+ * - Instance JavaCompiler dan StandardJavaFileManager dipakai ulang untuk
+ *   semua compile, sehingga index class JDK hanya dibangun sekali.
+ *   File manager tidak thread-safe, karena itu compile dijalankan
+ *   berurutan di 1 thread.
+ * - Diagnostic dikirim ke listener segera setelah dilaporkan javac
+ *   (streaming), dan juga dikumpulkan di CompileResult
+ * - Source yang sama tidak di-compile ulang: hasilnya diambil dari
+ *   CompileCache (diagnostic tetap dikirim ulang ke listener)
+ *
+ * Compiler hanya tersedia jika aplikasi berjalan di JDK (bukan JRE).
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class CompilerService {
+
+    /**
+     * -proc:none: kode siswa tidak memakai annotation processor, lewati pencarian processor
+     */
+    static final List<String> OPTIONS = List.of("-proc:none", "-Xlint:unchecked", "-Xmaxerrs", "50");
+
+    private static final Pattern PUBLIC_CLASS = Pattern.compile(
+            "public\\s+(?:(?:final|abstract|strictfp)\\s+)*(?:class|interface|@interface|enum|record)\\s+([A-Za-z_$][\\w$]*)");
+    private static final String DEFAULT_CLASS_NAME = "Main";
+
+    private static class Holder {
+        private static final CompilerService INSTANCE = new CompilerService();
+    }
+
+    private final JavaCompiler compiler;
+    private final StandardJavaFileManager fileManager;
+    private final ExecutorService executor;
+    private final CompileCache cache = new CompileCache(OPTIONS);
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
+
+    private CompilerService() {
+        compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager manager = null;
+        if (compiler == null) {
+            System.err.println("WARNING: Java compiler tidak tersedia (aplikasi tidak berjalan di JDK)");
+        } else {
+            manager = compiler.getStandardFileManager(null, Locale.getDefault(), null);
+            try {
+                // Kode siswa hanya memakai class JDK, jangan scan classpath aplikasi
+                manager.setLocation(StandardLocation.CLASS_PATH, Collections.emptyList());
+            } catch (IOException e) {
+                System.err.println("WARNING: Gagal mengosongkan classpath compiler: " + e.getMessage());
+            }
+        }
+        fileManager = manager;
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "goop-compiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static CompilerService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return true jika compiler tersedia
+     */
+    public boolean isAvailable() {
+        return compiler != null;
+    }
+
+    /**
+     * Compile 1 kali di background agar compile pertama siswa tidak menunggu
+     * class javac dimuat dan index JDK dibangun. Hanya berjalan sekali.
+     * Tidak memakai cache, karena tujuannya memanaskan javac.
+     */
+    public void warmUp() {
+        if (compiler != null && warmedUp.compareAndSet(false, true)) {
+            String source = "class Warmup { public static void main(String[] args) { System.out.println(args); } }";
+            executor.execute(() -> compileNow(List.of(source), null, false));
+        }
+    }
+
+    /**
+     * Compile source code di thread compiler
+     *
+     * @param source   Source code Java (1 file, boleh berisi beberapa class)
+     * @param listener Dipanggil di thread compiler untuk setiap diagnostic, boleh null
+     * @return Future hasil compile
+     */
+    public CompletableFuture<CompileResult> compile(String source, Consumer<CompileDiagnostic> listener) {
+        return compile(List.of(source), listener);
+    }
+
+    /**
+     * Compile beberapa file source sekaligus (misal kode siswa + kode cek
+     * test case). Nama file setiap source diambil dari class public-nya;
+     * main class dicari mulai dari source pertama.
+     */
+    public CompletableFuture<CompileResult> compile(List<String> sources, Consumer<CompileDiagnostic> listener) {
+        if (compiler == null) {
+            List<CompileDiagnostic> diagnostics = List.of(new CompileDiagnostic(CompileDiagnostic.Kind.ERROR, 0, 0,
+                    "Java compiler tidak tersedia. Jalankan aplikasi dengan JDK, bukan JRE."));
+            if (listener != null) {
+                listener.accept(diagnostics.get(0));
+            }
+            return CompletableFuture.completedFuture(
+                    new CompileResult(false, Collections.emptyMap(), diagnostics, null, 0));
+        }
+        List<String> copy = List.copyOf(sources);
+        return CompletableFuture.supplyAsync(() -> compileNow(copy, listener, true), executor);
+    }
+
+    /**
+     * Nama file source: nama class public pertama (wajib sama dengan nama file), default Main
+     */
+    public static String primaryClassName(String source) {
+        Matcher matcher = PUBLIC_CLASS.matcher(source);
+        return matcher.find() ? matcher.group(1) : DEFAULT_CLASS_NAME;
+    }
+
+    private CompileResult compileNow(List<String> sources, Consumer<CompileDiagnostic> listener,
+            boolean useCache) {
+        long start = System.nanoTime();
+        String key = useCache ? cache.key(sources) : null;
+        if (key != null) {
+            CompileResult cached = cache.get(key, start);
+            if (cached != null) {
+                if (listener != null) {
+                    cached.getDiagnostics().forEach(listener);
+                }
+                return cached;
+            }
+        }
+
+        String className = primaryClassName(sources.get(0));
+        List<JavaFileObject> files = new ArrayList<>(sources.size());
+        for (String source : sources) {
+            files.add(MemoryFileManager.source(primaryClassName(source), source));
+        }
+        List<CompileDiagnostic> diagnostics = new ArrayList<>();
+        DiagnosticListener<JavaFileObject> collector = diagnostic -> {
+            CompileDiagnostic item = convert(diagnostic);
+            diagnostics.add(item);
+            if (listener != null) {
+                listener.accept(item);
+            }
+        };
+
+        MemoryFileManager output = new MemoryFileManager(fileManager);
+        boolean success;
+        boolean internalError = false;
+        try {
+            success = compiler.getTask(null, output, collector, OPTIONS, null, files).call();
+        } catch (RuntimeException e) {
+            // Bug internal javac: laporkan sebagai error, jangan matikan thread compiler
+            System.err.println("ERROR: Compiler gagal: " + e);
+            collector.report(null);
+            success = false;
+            internalError = true;
+        }
+
+        Map<String, byte[]> classes = success ? output.getClasses() : Collections.emptyMap();
+        String mainClass = success ? findMainClass(classes, className) : null;
+        CompileResult result = new CompileResult(success, classes, diagnostics, mainClass,
+                (System.nanoTime() - start) / 1_000_000);
+        if (key != null && !internalError) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    static CompileDiagnostic convert(Diagnostic<? extends JavaFileObject> diagnostic) {
+        if (diagnostic == null) {
+            return new CompileDiagnostic(CompileDiagnostic.Kind.ERROR, 0, 0, "Compiler gagal (error internal)");
+        }
+        CompileDiagnostic.Kind kind;
+        switch (diagnostic.getKind()) {
+            case ERROR:
+                kind = CompileDiagnostic.Kind.ERROR;
+                break;
+            case WARNING:
+            case MANDATORY_WARNING:
+                kind = CompileDiagnostic.Kind.WARNING;
+                break;
+            default:
+                kind = CompileDiagnostic.Kind.NOTE;
+                break;
+        }
+        return new CompileDiagnostic(kind, Math.max(0, diagnostic.getLineNumber()),
+                Math.max(0, diagnostic.getColumnNumber()), diagnostic.getMessage(Locale.getDefault()));
+    }
+
+    /**
+     * Cari class dengan method public static void main(String[]), class
+     * public (nama file) diperiksa lebih dulu. Class hanya dimuat, static
+     * initializer tidak dijalankan.
+     */
+    private static String findMainClass(Map<String, byte[]> classes, String primary) {
+        MemoryClassLoader loader = new MemoryClassLoader(classes);
+        List<String> names = new ArrayList<>(classes.keySet());
+        if (names.remove(primary)) {
+            names.add(0, primary);
+        }
+        for (String name : names) {
+            try {
+                Method main = Class.forName(name, false, loader).getMethod("main", String[].class);
+                if (Modifier.isStatic(main.getModifiers()) && main.getReturnType() == void.class) {
+                    return name;
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Bukan class dengan main, lanjut ke class berikutnya
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.goop.compiler;
+
+import java.util.Map;
+
+/**
+ * Class MemoryClassLoader - Memuat class dari bytecode di memory
+ *
+ * Parent-nya platform class loader, sehingga kode siswa hanya melihat
+ * class JDK (tidak bisa mengakses class aplikasi GOOP).
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class MemoryClassLoader extends ClassLoader {
+
+    private final Map<String, byte[]> classes;
+
+    MemoryClassLoader(Map<String, byte[]> classes) {
+        super("goop-student", ClassLoader.getPlatformClassLoader());
+        this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytes = classes.get(name);
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,79 @@
+package com.goop.compiler;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class MemoryFileManager - File manager javac yang menulis .class ke memory
+ *
+ * Membaca class JDK lewat StandardJavaFileManager yang dipakai bersama
+ * (cache index modul JDK tetap hangat antar compile), tetapi output
+ * compile disimpan di map nama class -> bytecode. Dibuat baru untuk
+ * setiap compile; close() tidak menutup file manager bersama.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, ByteArrayOutputStream> outputs = new LinkedHashMap<>();
+
+    MemoryFileManager(StandardJavaFileManager shared) {
+        super(shared);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+            FileObject sibling) {
+        if (location != StandardLocation.CLASS_OUTPUT || kind != JavaFileObject.Kind.CLASS) {
+            throw new UnsupportedOperationException("Output tidak didukung: " + location + " " + kind);
+        }
+        return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension),
+                kind) {
+            @Override
+            public OutputStream openOutputStream() {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+                outputs.put(className, out);
+                return out;
+            }
+        };
+    }
+
+    /**
+     * @return Bytecode semua class yang ditulis compiler, urut sesuai urutan ditulis
+     */
+    Map<String, byte[]> getClasses() {
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        for (Map.Entry<String, ByteArrayOutputStream> entry : outputs.entrySet()) {
+            classes.put(entry.getKey(), entry.getValue().toByteArray());
+        }
+        return classes;
+    }
+
+    @Override
+    public void close() {
+        // File manager bersama tetap terbuka untuk compile berikutnya
+    }
+
+    /**
+     * Source code dari String
+     */
+    static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/')
+                + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -1,8 +1,11 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.KontenRepository;
+import com.goop.data.Repositories;
 import com.goop.models.Materi;
+import com.goop.models.User;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
@@ -14,11 +17,11 @@ public class CreateMateriController {
     @FXML
     private TextArea txtKonten;
 
-    private DataStore dataStore;
+    private KontenRepository kontenRepository;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        kontenRepository = Repositories.konten();
     }
 
     @FXML
@@ -34,9 +37,13 @@ public class CreateMateriController {
         }
 
         // Create materi with current guru's ID
-        int guruId = dataStore.getCurrentUser().getId();
+        User guru = SessionContext.requireUser();
+        if (guru == null) {
+            return;
+        }
+        int guruId = guru.getId();
         Materi materi = new Materi(0, judul, konten, topik, guruId);
-        dataStore.addMateri(materi);
+        kontenRepository.addMateri(materi);
 
         SceneManager.showInfo("Berhasil!",
                 "Materi berhasil dibuat!\n\n" +
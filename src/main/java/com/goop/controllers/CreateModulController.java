@@ -1,9 +1,11 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.KontenRepository;
+import com.goop.data.Repositories;
 import com.goop.models.Guru;
 import com.goop.models.Modul;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
@@ -19,12 +21,14 @@ public class CreateModulController {
     @FXML
     private TextField txtTopik;
 
-    private DataStore dataStore;
+    private KontenRepository kontenRepository;
     private Guru currentGuru;
 
     public void initialize() {
-        dataStore = DataStore.getInstance();
-        currentGuru = (Guru) dataStore.getCurrentUser();
+        kontenRepository = Repositories.konten();
+        if (SessionContext.getUser() instanceof Guru) {
+            currentGuru = (Guru) SessionContext.getUser();
+        }
     }
 
     @FXML
@@ -39,8 +43,12 @@ public class CreateModulController {
             return;
         }
 
+        if (currentGuru == null || SessionContext.requireUser() == null) {
+            return;
+        }
+
         // Create modul
-        int modulId = dataStore.createModul(judul, konten, topik, currentGuru.getId());
+        int modulId = kontenRepository.createModul(judul, konten, topik, currentGuru.getId());
 
         if (modulId > 0) {
             SceneManager.showInfo("Sukses", "Modul '" + judul + "' berhasil dibuat!");
@@ -1,14 +1,24 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.PenilaianRepository;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.data.UserRepository;
+import com.goop.grading.RubrikEngine;
+import com.goop.models.KriteriaRubrik;
 import com.goop.models.Proyek;
 import com.goop.models.Siswa;
+import com.goop.models.TestCase;
+import com.goop.models.User;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import javafx.scene.layout.VBox;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 public class CreateProyekController {
@@ -25,19 +35,54 @@ public class CreateProyekController {
     @FXML
     private ComboBox<Siswa> comboSiswa;
 
-    private DataStore dataStore;
+    @FXML
+    private TextField txtNamaTestCase, txtBobot, txtTimeout;
+
+    @FXML
+    private TextArea txtInputTestCase, txtExpectedOutput, txtKodeCek;
+
+    @FXML
+    private Label lblJumlahTestCase;
+
+    @FXML
+    private VBox listTestCaseContainer, testCaseItemsContainer;
+
+    @FXML
+    private ComboBox<String> cmbJenisRubrik;
+
+    @FXML
+    private TextField txtMinimalRubrik, txtBobotRubrik;
+
+    @FXML
+    private Label lblJumlahRubrik;
+
+    @FXML
+    private VBox listRubrikContainer, rubrikItemsContainer;
+
+    private UserRepository userRepository;
+    private ProyekRepository proyekRepository;
+    private PenilaianRepository penilaianRepository;
+    private List<TestCase> testCaseList;
+    private List<KriteriaRubrik> rubrikList;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        userRepository = Repositories.users();
+        proyekRepository = Repositories.proyek();
+        penilaianRepository = Repositories.penilaian();
+        testCaseList = new ArrayList<>();
+        rubrikList = new ArrayList<>();
         loadSiswaList();
+        loadJenisRubrik();
+        updateTestCaseCount();
+        updateRubrikCount();
 
         // Set default deadline (7 hari dari sekarang)
         dateDeadline.setValue(LocalDate.now().plusDays(7));
     }
 
     private void loadSiswaList() {
-        List<Siswa> siswaList = dataStore.getAllSiswa();
+        List<Siswa> siswaList = userRepository.getAllSiswa();
         comboSiswa.getItems().addAll(siswaList);
 
         // Custom cell factory untuk display nama
@@ -66,6 +111,31 @@ public class CreateProyekController {
         });
     }
 
+    private void loadJenisRubrik() {
+        cmbJenisRubrik.getItems().addAll(RubrikEngine.getJenis());
+
+        // Tampilkan JUMLAH_CLASS sebagai "Jumlah Class"
+        cmbJenisRubrik.setConverter(new javafx.util.StringConverter<String>() {
+            @Override
+            public String toString(String jenis) {
+                if (jenis == null) {
+                    return "";
+                }
+                StringBuilder label = new StringBuilder();
+                for (String kata : jenis.toLowerCase().split("_")) {
+                    label.append(label.length() > 0 ? " " : "")
+                            .append(Character.toUpperCase(kata.charAt(0))).append(kata.substring(1));
+                }
+                return label.toString();
+            }
+
+            @Override
+            public String fromString(String label) {
+                return label;
+            }
+        });
+    }
+
     @FXML
     private void handleCreateProyek() {
         String judul = txtJudul.getText().trim();
@@ -90,16 +160,28 @@ public class CreateProyekController {
         }
 
         // Create proyek with current guru's ID
-        int guruId = dataStore.getCurrentUser().getId();
+        User guru = SessionContext.requireUser();
+        if (guru == null) {
+            return;
+        }
+        int guruId = guru.getId();
         Proyek proyek = new Proyek(0, judul, deskripsi, deadline,
                 Proyek.STATUS_BELUM_DIKERJAKAN, 0, siswa.getId(), guruId);
-        dataStore.addProyek(proyek);
+        proyekRepository.addProyek(proyek);
+        if (!testCaseList.isEmpty()) {
+            penilaianRepository.saveTestCases(proyek.getId(), testCaseList);
+        }
+        if (!rubrikList.isEmpty()) {
+            penilaianRepository.saveRubrik(proyek.getId(), rubrikList);
+        }
 
         SceneManager.showInfo("Berhasil!",
                 "Proyek berhasil dibuat!\n\n" +
                         "Judul: " + judul + "\n" +
                         "Siswa: " + siswa.getNamaLengkap() + "\n" +
-                        "Deadline: " + deadline);
+                        "Deadline: " + deadline + "\n" +
+                        "Test Case: " + (testCaseList.isEmpty() ? "tidak ada (dinilai manual)" : testCaseList.size()) + "\n" +
+                        "Kriteria Rubrik: " + (rubrikList.isEmpty() ? "tidak ada" : rubrikList.size()));
 
         handleReset();
     }
@@ -110,6 +192,146 @@ public class CreateProyekController {
         txtDeskripsi.clear();
         dateDeadline.setValue(LocalDate.now().plusDays(7));
         comboSiswa.setValue(null);
+        handleClearTestCase();
+        testCaseList.clear();
+        testCaseItemsContainer.getChildren().clear();
+        listTestCaseContainer.setVisible(false);
+        listTestCaseContainer.setManaged(false);
+        updateTestCaseCount();
+        handleClearRubrik();
+        rubrikList.clear();
+        rubrikItemsContainer.getChildren().clear();
+        listRubrikContainer.setVisible(false);
+        listRubrikContainer.setManaged(false);
+        updateRubrikCount();
+    }
+
+    @FXML
+    private void handleTambahTestCase() {
+        String nama = txtNamaTestCase.getText().trim();
+        String input = txtInputTestCase.getText();
+        String expected = txtExpectedOutput.getText();
+        String kodeCek = txtKodeCek.getText().trim();
+
+        // Validation
+        if (nama.isEmpty()) {
+            SceneManager.showError("Error", "Nama test case harus diisi!");
+            return;
+        }
+
+        if (expected.trim().isEmpty() && kodeCek.isEmpty()) {
+            SceneManager.showError("Error", "Isi Expected Output atau Kode Cek!");
+            return;
+        }
+
+        if (!kodeCek.isEmpty() && (!kodeCek.contains("public class") || !kodeCek.contains("@GoopTest"))) {
+            SceneManager.showError("Error", "Kode Cek harus berisi public class dengan minimal 1 method @GoopTest!");
+            return;
+        }
+
+        int bobot;
+        int timeout;
+        try {
+            bobot = Integer.parseInt(txtBobot.getText().trim());
+            timeout = Integer.parseInt(txtTimeout.getText().trim());
+        } catch (NumberFormatException e) {
+            SceneManager.showError("Error", "Bobot dan batas waktu harus berupa angka!");
+            return;
+        }
+
+        if (bobot < 1 || timeout < 100) {
+            SceneManager.showError("Error", "Bobot minimal 1 dan batas waktu minimal 100 ms!");
+            return;
+        }
+
+        // Urutan diatur ulang saat disimpan
+        TestCase testCase = new TestCase(testCaseList.size() + 1, nama, input,
+                kodeCek.isEmpty() ? expected : "", kodeCek.isEmpty() ? null : kodeCek, bobot, timeout);
+        testCaseList.add(testCase);
+
+        // Add to list UI
+        addTestCaseToList(testCase);
+
+        // Clear form
+        handleClearTestCase();
+
+        updateTestCaseCount();
+    }
+
+    private void addTestCaseToList(TestCase testCase) {
+        Label testCaseLabel = new Label(testCaseList.size() + ". " + testCase.getNama() +
+                " (" + testCase.getJenis() + ", bobot " + testCase.getBobot() +
+                ", " + testCase.getTimeoutMs() + " ms)");
+        testCaseLabel.setWrapText(true);
+        testCaseLabel.setStyle("-fx-padding: 5; -fx-background-color: rgba(91, 79, 200, 0.1); -fx-background-radius: 5;");
+        testCaseItemsContainer.getChildren().add(testCaseLabel);
+
+        listTestCaseContainer.setVisible(true);
+        listTestCaseContainer.setManaged(true);
+    }
+
+    private void updateTestCaseCount() {
+        lblJumlahTestCase.setText("Jumlah test case: " + testCaseList.size());
+    }
+
+    @FXML
+    private void handleClearTestCase() {
+        txtNamaTestCase.clear();
+        txtInputTestCase.clear();
+        txtExpectedOutput.clear();
+        txtKodeCek.clear();
+        txtBobot.setText(String.valueOf(TestCase.DEFAULT_BOBOT));
+        txtTimeout.setText(String.valueOf(TestCase.DEFAULT_TIMEOUT_MS));
+    }
+
+    @FXML
+    private void handleTambahRubrik() {
+        String jenis = cmbJenisRubrik.getValue();
+        if (jenis == null) {
+            SceneManager.showError("Error", "Pilih jenis kriteria rubrik!");
+            return;
+        }
+
+        int minimal;
+        int bobot;
+        try {
+            minimal = Integer.parseInt(txtMinimalRubrik.getText().trim());
+            bobot = Integer.parseInt(txtBobotRubrik.getText().trim());
+        } catch (NumberFormatException e) {
+            SceneManager.showError("Error", "Jumlah minimal dan bobot harus berupa angka!");
+            return;
+        }
+
+        if (minimal < 0 || bobot < 1) {
+            SceneManager.showError("Error", "Jumlah minimal tidak boleh negatif dan bobot minimal 1!");
+            return;
+        }
+
+        // Urutan diatur ulang saat disimpan
+        KriteriaRubrik kriteria = new KriteriaRubrik(rubrikList.size() + 1, jenis, minimal, bobot);
+        rubrikList.add(kriteria);
+
+        Label kriteriaLabel = new Label(rubrikList.size() + ". " + RubrikEngine.deskripsi(kriteria) +
+                " (bobot " + kriteria.getBobot() + ")");
+        kriteriaLabel.setWrapText(true);
+        kriteriaLabel.setStyle("-fx-padding: 5; -fx-background-color: rgba(91, 79, 200, 0.1); -fx-background-radius: 5;");
+        rubrikItemsContainer.getChildren().add(kriteriaLabel);
+        listRubrikContainer.setVisible(true);
+        listRubrikContainer.setManaged(true);
+
+        handleClearRubrik();
+        updateRubrikCount();
+    }
+
+    private void updateRubrikCount() {
+        lblJumlahRubrik.setText("Jumlah kriteria: " + rubrikList.size());
+    }
+
+    @FXML
+    private void handleClearRubrik() {
+        cmbJenisRubrik.setValue(null);
+        txtMinimalRubrik.setText(String.valueOf(KriteriaRubrik.DEFAULT_MINIMAL));
+        txtBobotRubrik.setText(String.valueOf(KriteriaRubrik.DEFAULT_BOBOT));
     }
 
     @FXML
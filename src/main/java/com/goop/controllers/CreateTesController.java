@@ -1,6 +1,7 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.Repositories;
+import com.goop.data.TesRepository;
 import com.goop.models.Soal;
 import com.goop.models.TesKognitif;
 import com.goop.utils.SceneManager;
@@ -35,13 +36,13 @@ public class CreateTesController {
     @FXML
     private VBox listSoalContainer, soalItemsContainer;
 
-    private DataStore dataStore;
+    private TesRepository tesRepository;
     private List<Soal> soalList;
     private int soalIdCounter = 1;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        tesRepository = Repositories.tes();
         soalList = new ArrayList<>();
 
         // Populate jawaban combo
@@ -136,7 +137,7 @@ public class CreateTesController {
             tes.addSoal(soal);
         }
 
-        dataStore.addTesKognitif(tes);
+        tesRepository.addTesKognitif(tes);
 
         SceneManager.showInfo("Berhasil!",
                 "Tes berhasil dibuat!\n\n" +
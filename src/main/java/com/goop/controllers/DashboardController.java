@@ -1,10 +1,15 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.KontenRepository;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.data.TesRepository;
+import com.goop.data.UserRepository;
 import com.goop.models.Guru;
 import com.goop.models.Siswa;
 import com.goop.models.User;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -81,6 +86,9 @@ public class DashboardController {
     @FXML
     private Button btnHistori;
 
+    @FXML
+    private Button btnPlagiarisme;
+
     @FXML
     private Separator guruSeparator;
 
@@ -92,7 +100,10 @@ public class DashboardController {
 
     // ==================== INSTANCE VARIABLES ====================
 
-    private DataStore dataStore;
+    private UserRepository userRepository;
+    private ProyekRepository proyekRepository;
+    private TesRepository tesRepository;
+    private KontenRepository kontenRepository;
 
     private User currentUser;
 
@@ -102,11 +113,14 @@ public class DashboardController {
     public void initialize() {
         System.out.println("DashboardController initialized");
 
-        // Get DataStore
-        dataStore = DataStore.getInstance();
+        // Get repositories
+        userRepository = Repositories.users();
+        proyekRepository = Repositories.proyek();
+        tesRepository = Repositories.tes();
+        kontenRepository = Repositories.konten();
 
         // Get current user
-        currentUser = dataStore.getCurrentUser();
+        currentUser = SessionContext.getUser();
 
         if (currentUser != null) {
             // Load user data ke UI
@@ -142,12 +156,12 @@ public class DashboardController {
             if (currentUser instanceof Siswa) {
                 Siswa siswa = (Siswa) currentUser;
 
-                // Skor kognitif siswa
-                double skor = siswa.getSkorKognitif();
+                // Skor kognitif siswa (dari ringkasan skor tes, objek user di session bisa sudah lama)
+                double skor = tesRepository.getSkorTesSiswa(siswa.getId()).getRataRata();
                 skorKognitifLabel.setText(String.format("%.0f", skor));
 
                 // Jumlah proyek siswa
-                int jumlahProyek = dataStore.getProyekBySiswaId(siswa.getId()).size();
+                int jumlahProyek = proyekRepository.countProyekBySiswaId(siswa.getId());
                 jumlahProyekLabel.setText(String.valueOf(jumlahProyek));
 
                 // Menu untuk siswa: hanya Dashboard, Tes Kognitif, dan Proyek (sesuai use case)
@@ -169,7 +183,7 @@ public class DashboardController {
                 Guru guru = (Guru) currentUser;
 
                 // Total siswa (ditampilkan di box "Skor Kognitif" → update jadi "Jumlah Siswa")
-                int totalSiswa = dataStore.getAllSiswa().size();
+                int totalSiswa = userRepository.countSiswa();
                 skorKognitifLabel.setText(String.valueOf(totalSiswa));
 
                 // Update label text untuk Guru (ganti "Skor Kognitif" jadi "Jumlah Siswa")
@@ -181,7 +195,7 @@ public class DashboardController {
                 }
 
                 // Total proyek semua siswa
-                int totalProyek = dataStore.getAllProyek().size();
+                int totalProyek = proyekRepository.countProyek();
                 jumlahProyekLabel.setText(String.valueOf(totalProyek));
                 if (jumlahProyekSubLabel != null) {
                     jumlahProyekSubLabel.setText("proyek total");
@@ -200,6 +214,8 @@ public class DashboardController {
                 btnMonitorNilai.setManaged(true);
                 btnHistori.setVisible(true);
                 btnHistori.setManaged(true);
+                btnPlagiarisme.setVisible(true);
+                btnPlagiarisme.setManaged(true);
 
                 btnCreateProyek.setVisible(true);
                 btnCreateProyek.setManaged(true);
@@ -223,7 +239,7 @@ public class DashboardController {
                 btnModul.setManaged(true);
 
                 // Display jumlah modul
-                int totalModul = dataStore.getAllModul().size();
+                int totalModul = kontenRepository.countModul();
                 if (jumlahModulLabel != null) {
                     jumlahModulLabel.setText(String.valueOf(totalModul));
                 }
@@ -236,11 +252,11 @@ public class DashboardController {
             // Statistics yang sama untuk semua role
 
             // Jumlah materi
-            int jumlahMateri = dataStore.getAllMateri().size();
+            int jumlahMateri = kontenRepository.countMateri();
             jumlahMateriLabel.setText(String.valueOf(jumlahMateri));
 
             // Jumlah tes kognitif
-            int jumlahTes = dataStore.getActiveTesKognitif().size();
+            int jumlahTes = tesRepository.countActiveTesKognitif();
             jumlahTesLabel.setText(String.valueOf(jumlahTes));
 
             System.out.println("✓ Statistics loaded");
@@ -312,6 +328,12 @@ public class DashboardController {
         SceneManager.setTitle("Monitor Nilai Siswa");
     }
 
+    @FXML
+    private void showPlagiarisme() {
+        SceneManager.loadScene("plagiarisme.fxml");
+        SceneManager.setTitle("Cek Plagiarisme Proyek");
+    }
+
     @FXML
     private void showCreateProyek() {
         SceneManager.loadScene("create-proyek.fxml");
@@ -359,8 +381,8 @@ public class DashboardController {
                 "Apakah Anda yakin ingin logout?");
 
         if (confirmed) {
-            // Logout dari DataStore
-            dataStore.logout();
+            // Logout dari session
+            SessionContext.end();
 
             // Navigate kembali ke login
             SceneManager.loadScene("login.fxml");
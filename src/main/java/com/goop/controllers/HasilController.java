@@ -1,11 +1,16 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.data.SkorAggregate;
+import com.goop.data.TesRepository;
+import com.goop.models.HasilTesSiswa;
 import com.goop.models.Proyek;
 import com.goop.models.Siswa;
 import com.goop.models.TesKognitif;
 import com.goop.models.User;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.Label;
@@ -24,34 +29,34 @@ public class HasilController {
     @FXML
     private VBox historiTesContainer, statusProyekContainer;
 
-    private DataStore dataStore;
+    private ProyekRepository proyekRepository;
+    private TesRepository tesRepository;
     private Siswa siswa;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        proyekRepository = Repositories.proyek();
+        tesRepository = Repositories.tes();
 
-        User currentUser = dataStore.getCurrentUser();
+        User currentUser = SessionContext.requireUser();
         if (currentUser instanceof Siswa) {
             siswa = (Siswa) currentUser;
             loadData();
-        } else {
+        } else if (currentUser != null) {
             handleBack();
         }
     }
 
     private void loadData() {
         // Load summary statistics
-        double rataTes = siswa.getSkorKognitif();
-        rataTesLabel.setText(String.format("%.0f", rataTes));
+        SkorAggregate skorTes = tesRepository.getSkorTesSiswa(siswa.getId());
+        rataTesLabel.setText(String.format("%.0f", skorTes.getRataRata()));
 
-        // Hitung total tes (sederhana, asumsi 1 tes)
-        List<TesKognitif> tesList = dataStore.getAllTesKognitif();
-        int totalTesDikerjakan = rataTes > 0 ? 1 : 0; // Simplified
-        totalTesLabel.setText(String.valueOf(totalTesDikerjakan));
+        // Jumlah tes yang sudah dikerjakan (dari ringkasan skor tes)
+        totalTesLabel.setText(String.valueOf(skorTes.getJumlah()));
 
         // Hitung proyek selesai
-        List<Proyek> proyekList = dataStore.getProyekBySiswaId(siswa.getId());
+        List<Proyek> proyekList = proyekRepository.getProyekBySiswaId(siswa.getId());
         long proyekSelesai = proyekList.stream()
                 .filter(p -> p.getStatus().equals(Proyek.STATUS_SELESAI)
                         || p.getStatus().equals(Proyek.STATUS_TERVALIDASI))
@@ -66,31 +71,27 @@ public class HasilController {
     }
 
     private void loadHistoriTes() {
-        List<TesKognitif> tesList = dataStore.getAllTesKognitif();
+        // Hanya tes yang sudah dikerjakan (skor 0 tetap ditampilkan)
+        for (HasilTesSiswa hasil : tesRepository.getHasilTesSiswa(siswa.getId())) {
+            TesKognitif tes = hasil.getTes();
+            HBox tesCard = new HBox(20);
+            tesCard.setPadding(new Insets(10));
+            tesCard.setStyle("-fx-background-color: rgba(91, 79, 200, 0.05); -fx-background-radius: 8;");
 
-        for (TesKognitif tes : tesList) {
-            double skor = dataStore.getHasilTes(siswa.getId(), tes.getId());
-
-            if (skor > 0) {
-                HBox tesCard = new HBox(20);
-                tesCard.setPadding(new Insets(10));
-                tesCard.setStyle("-fx-background-color: rgba(91, 79, 200, 0.05); -fx-background-radius: 8;");
-
-                VBox info = new VBox(5);
-                Label judul = new Label(tes.getJudul());
-                judul.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
-                Label detail = new Label(tes.getJumlahSoal() + " soal");
-                detail.setStyle("-fx-text-fill: #747d8c;");
-                info.getChildren().addAll(judul, detail);
+            VBox info = new VBox(5);
+            Label judul = new Label(tes.getJudul());
+            judul.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+            Label detail = new Label(tes.getJumlahSoal() + " soal • " + hasil.getJumlahPercobaan() + "x dikerjakan");
+            detail.setStyle("-fx-text-fill: #747d8c;");
+            info.getChildren().addAll(judul, detail);
 
-                Label skorLabel = new Label(String.format("%.0f", skor));
-                skorLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: #5B4FC8;");
+            Label skorLabel = new Label(String.format("%.0f", hasil.getSkor()));
+            skorLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: #5B4FC8;");
 
-                tesCard.getChildren().addAll(info, new Label(), skorLabel);
-                HBox.setHgrow(tesCard.getChildren().get(1), javafx.scene.layout.Priority.ALWAYS);
+            tesCard.getChildren().addAll(info, new Label(), skorLabel);
+            HBox.setHgrow(tesCard.getChildren().get(1), javafx.scene.layout.Priority.ALWAYS);
 
-                historiTesContainer.getChildren().add(tesCard);
-            }
+            historiTesContainer.getChildren().add(tesCard);
         }
 
         if (historiTesContainer.getChildren().isEmpty()) {
@@ -101,7 +102,7 @@ public class HasilController {
     }
 
     private void loadStatusProyek() {
-        List<Proyek> proyekList = dataStore.getProyekBySiswaId(siswa.getId());
+        List<Proyek> proyekList = proyekRepository.getProyekBySiswaId(siswa.getId());
 
         for (Proyek proyek : proyekList) {
             HBox proyekCard = new HBox(20);
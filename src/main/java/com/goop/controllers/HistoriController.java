@@ -1,6 +1,8 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.data.UserRepository;
 import com.goop.models.Proyek;
 import com.goop.models.Siswa;
 import com.goop.utils.SceneManager;
@@ -20,16 +22,18 @@ public class HistoriController {
     @FXML
     private ComboBox<Siswa> comboSiswa;
 
-    private DataStore dataStore;
+    private UserRepository userRepository;
+    private ProyekRepository proyekRepository;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        userRepository = Repositories.users();
+        proyekRepository = Repositories.proyek();
         loadSiswaList();
     }
 
     private void loadSiswaList() {
-        List<Siswa> siswaList = dataStore.getAllSiswa();
+        List<Siswa> siswaList = userRepository.getAllSiswa();
         comboSiswa.getItems().addAll(siswaList);
 
         comboSiswa.setButtonCell(new ListCell<Siswa>() {
@@ -66,7 +70,7 @@ public class HistoriController {
 
         historiContainer.getChildren().clear();
 
-        List<Proyek> proyekList = dataStore.getProyekBySiswaId(selectedSiswa.getId());
+        List<Proyek> proyekList = proyekRepository.getProyekBySiswaId(selectedSiswa.getId());
 
         if (proyekList.isEmpty()) {
             Label emptyLabel = new Label("Belum ada histori pengerjaan untuk siswa ini");
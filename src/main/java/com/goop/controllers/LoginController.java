@@ -1,10 +1,14 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.LoginService;
+import com.goop.data.Repositories;
+import com.goop.data.Session;
 import com.goop.models.Guru;
 import com.goop.models.Siswa;
 import com.goop.models.User;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -24,12 +28,12 @@ import javafx.scene.input.KeyEvent;
  * Konsep yang diterapkan:
  * - SEPARATION OF CONCERNS: UI (FXML) terpisah dari logic (Controller)
  * - EVENT HANDLING: Handle button click dan keyboard input
- * - DEPENDENCY: Controller depend pada DataStore dan SceneManager
+ * - DEPENDENCY: Controller depend pada LoginService dan SceneManager
  * 
  * Cara kerja:
  * 1. User input username dan password
  * 2. User klik button Login (atau tekan Enter)
- * 3. Controller validasi via DataStore.login()
+ * 3. Controller validasi via LoginService (di worker pool, bukan FX thread)
  * 4. Jika berhasil, navigate ke dashboard
  * 5. Jika gagal, tampilkan error message
  * 
@@ -73,10 +77,10 @@ public class LoginController {
     // ==================== INSTANCE VARIABLES ====================
 
     /**
-     * Instance dari DataStore (Singleton)
+     * Login worker pool (backend dipilih oleh Repositories)
      * Digunakan untuk autentikasi
      */
-    private DataStore dataStore;
+    private LoginService loginService;
 
     // ==================== INITIALIZATION ====================
 
@@ -85,7 +89,7 @@ public class LoginController {
      * setelah FXML file di-load dan setelah @FXML fields di-inject
      * 
      * Digunakan untuk setup awal:
-     * - Initialize DataStore
+     * - Initialize repository
      * - Setup event handlers
      * - Set default values
      */
@@ -93,8 +97,8 @@ public class LoginController {
     public void initialize() {
         System.out.println("LoginController initialized");
 
-        // Get DataStore instance (Singleton pattern)
-        dataStore = DataStore.getInstance();
+        // Get login service
+        loginService = Repositories.login();
 
         // Setup keyboard event handler
         // Agar bisa login dengan tekan Enter
@@ -138,7 +142,7 @@ public class LoginController {
      * Alur login:
      * 1. Ambil input username dan password
      * 2. Validasi input tidak kosong
-     * 3. Call DataStore.login() untuk autentikasi
+     * 3. Call LoginService.login() untuk autentikasi (hasil diproses di handleLoginResult)
      * 4. Jika berhasil, navigate ke dashboard
      * 5. Jika gagal, tampilkan error
      */
@@ -160,12 +164,30 @@ public class LoginController {
         // Disable button sementara untuk mencegah double click
         loginButton.setDisable(true);
 
-        // Lakukan autentikasi via DataStore
-        User user = dataStore.login(username, password);
+        // Autentikasi di login worker pool (hashing password lambat, jangan di FX thread)
+        loginService.login(username, password).whenComplete((session, error) ->
+                Platform.runLater(() -> handleLoginResult(session, error)));
+    }
+
+    /**
+     * Dipanggil di FX thread setelah autentikasi selesai
+     *
+     * @param session Session jika login berhasil, null jika username/password salah
+     * @param error   Error jika login tidak bisa diproses (misal antrian login penuh)
+     */
+    private void handleLoginResult(Session session, Throwable error) {
+        if (error != null) {
+            System.err.println("ERROR: Login gagal diproses: " + error.getMessage());
+            showError("Server sedang sibuk, silakan coba lagi.");
+            loginButton.setDisable(false);
+            return;
+        }
 
         // Cek hasil login
-        if (user != null) {
-            // Login berhasil!
+        if (session != null) {
+            // Login berhasil! Pakai session untuk request berikutnya
+            SessionContext.begin(session);
+            User user = session.getUser();
             System.out.println("✓ Login successful: " + user.getNamaLengkap() + " (" + user.getRole() + ")");
 
             // Hide error message jika ada
@@ -1,8 +1,11 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.LoginService;
+import com.goop.data.Repositories;
+import com.goop.data.UserRepository;
 import com.goop.models.Siswa;
 import com.goop.utils.SceneManager;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -33,13 +36,18 @@ public class ManageSiswaController {
     @FXML
     private PasswordField txtPassword;
 
-    private DataStore dataStore;
+    @FXML
+    private Button btnSimpan;
+
+    private UserRepository userRepository;
+    private LoginService loginService;
     private Siswa selectedSiswa;
     private boolean isEditMode = false;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        userRepository = Repositories.users();
+        loginService = Repositories.login();
         loadSiswa();
 
         // Selection listener
@@ -49,7 +57,7 @@ public class ManageSiswaController {
     }
 
     private void loadSiswa() {
-        List<Siswa> siswaList = dataStore.getAllSiswa();
+        List<Siswa> siswaList = userRepository.getAllSiswa();
         ObservableList<Siswa> observableList = FXCollections.observableArrayList(siswaList);
         siswaTable.setItems(observableList);
     }
@@ -76,24 +84,60 @@ public class ManageSiswaController {
             return;
         }
 
-        if (!isEditMode) {
+        // Username harus unik di antara semua siswa dan guru
+        if (userRepository.isUsernameTaken(username, isEditMode ? selectedSiswa : null)) {
+            SceneManager.showError("Error", "Username '" + username + "' sudah dipakai!");
+            return;
+        }
+
+        // Hashing password lambat (PBKDF2), jalankan di login worker pool, bukan FX thread
+        boolean editMode = isEditMode;
+        Siswa target = selectedSiswa;
+        btnSimpan.setDisable(true);
+        loginService.hashPassword(password).whenComplete((hash, error) ->
+                Platform.runLater(() -> simpanSiswa(editMode, target, nama, username, email, hash, error)));
+    }
+
+    /**
+     * Dipanggil di FX thread setelah password selesai di-hash
+     */
+    private void simpanSiswa(boolean editMode, Siswa target, String nama, String username, String email,
+                             String passwordHash, Throwable error) {
+        btnSimpan.setDisable(false);
+        if (error != null) {
+            System.err.println("ERROR: Hash password gagal: " + error.getMessage());
+            SceneManager.showError("Error", "Server sedang sibuk, silakan coba lagi.");
+            return;
+        }
+
+        // Username bisa saja dipakai user lain selama hashing berjalan
+        if (userRepository.isUsernameTaken(username, editMode ? target : null)) {
+            SceneManager.showError("Error", "Username '" + username + "' sudah dipakai!");
+            return;
+        }
+
+        if (!editMode) {
             // Tambah siswa baru
-            int newId = dataStore.getAllSiswa().size() + 1;
+            int newId = userRepository.countSiswa() + 1;
 
             // Constructor: id, username, password, email, namaLengkap
-            Siswa siswa = new Siswa(newId, username, password, email, nama);
-            dataStore.addSiswa(siswa);
+            Siswa siswa = new Siswa(newId, username, passwordHash, email, nama);
+            if (!userRepository.addSiswa(siswa)) {
+                SceneManager.showError("Error", "Gagal menambahkan siswa. Silakan coba lagi.");
+                return;
+            }
             SceneManager.showInfo("Berhasil", "Siswa baru berhasil ditambahkan!");
         } else {
             // Edit siswa existing
-            if (selectedSiswa != null) {
-                selectedSiswa.setNamaLengkap(nama);
-                selectedSiswa.setUsername(username);
-                if (!password.isEmpty()) {
-                    selectedSiswa.setPassword(password);
+            if (target != null) {
+                target.setNamaLengkap(nama);
+                target.setUsername(username);
+                target.setPassword(passwordHash);
+                target.setEmail(email);
+                if (!userRepository.updateSiswa(target)) {
+                    SceneManager.showError("Error", "Gagal mengupdate data siswa. Silakan coba lagi.");
+                    return;
                 }
-                selectedSiswa.setEmail(email);
-                dataStore.updateSiswa(selectedSiswa);
                 SceneManager.showInfo("Berhasil", "Data siswa berhasil diupdate!");
             }
         }
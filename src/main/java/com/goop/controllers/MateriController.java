@@ -1,6 +1,7 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.KontenRepository;
+import com.goop.data.Repositories;
 import com.goop.models.Materi;
 import com.goop.utils.SceneManager;
 import javafx.fxml.FXML;
@@ -20,16 +21,16 @@ public class MateriController {
     @FXML
     private VBox materiContainer;
 
-    private DataStore dataStore;
+    private KontenRepository kontenRepository;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        kontenRepository = Repositories.konten();
         loadMateri();
     }
 
     private void loadMateri() {
-        List<Materi> materiList = dataStore.getAllMateri();
+        List<Materi> materiList = kontenRepository.getAllMateri();
 
         for (Materi materi : materiList) {
             VBox materiCard = createMateriCard(materi);
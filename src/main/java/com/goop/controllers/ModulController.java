@@ -1,6 +1,7 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.KontenRepository;
+import com.goop.data.Repositories;
 import com.goop.models.Modul;
 import com.goop.utils.SceneManager;
 import javafx.fxml.FXML;
@@ -35,17 +36,17 @@ public class ModulController {
     @FXML
     private ScrollPane scrollDetail;
 
-    private DataStore dataStore;
+    private KontenRepository kontenRepository;
 
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        kontenRepository = Repositories.konten();
         loadModulList();
     }
 
     private void loadModulList() {
         modulListContainer.getChildren().clear();
 
-        List<Modul> modulList = dataStore.getAllModul();
+        List<Modul> modulList = kontenRepository.getAllModul();
 
         if (modulList.isEmpty()) {
             Label emptyLabel = new Label("Belum ada modul tersedia.");
@@ -1,14 +1,23 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.data.TesRepository;
+import com.goop.data.UserRepository;
+import com.goop.grading.RegradeJob;
+import com.goop.models.HasilTesSiswa;
 import com.goop.models.Proyek;
 import com.goop.models.Siswa;
 import com.goop.models.TesKognitif;
 import com.goop.utils.SceneManager;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
+import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
@@ -18,7 +27,7 @@ import java.util.List;
 /**
  * MonitorNilaiController - Controller untuk monitor nilai tes kognitif siswa
  * (Guru)
- * Menampilkan skor tes kognitif saja
+ * Menampilkan skor tes kognitif, dan menjalankan penilaian ulang proyek
  */
 public class MonitorNilaiController {
 
@@ -34,17 +43,34 @@ public class MonitorNilaiController {
     @FXML
     private VBox historiTesContainer, historiTesCard;
 
-    private DataStore dataStore;
+    @FXML
+    private TextField txtFilterJudul;
+
+    @FXML
+    private Button btnNilaiUlang, btnBatalNilaiUlang;
+
+    @FXML
+    private ProgressBar progressNilaiUlang;
+
+    @FXML
+    private Label lblNilaiUlang;
+
+    private UserRepository userRepository;
+    private ProyekRepository proyekRepository;
+    private TesRepository tesRepository;
     private Siswa selectedSiswa;
+    private RegradeJob regradeJob;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        userRepository = Repositories.users();
+        proyekRepository = Repositories.proyek();
+        tesRepository = Repositories.tes();
         loadSiswaList();
     }
 
     private void loadSiswaList() {
-        List<Siswa> siswaList = dataStore.getAllSiswa();
+        List<Siswa> siswaList = userRepository.getAllSiswa();
         siswaComboBox.getItems().addAll(siswaList);
 
         // Custom cell factory untuk display nama
@@ -91,7 +117,7 @@ public class MonitorNilaiController {
         skorTesLabel.setText(String.format("%.0f", skorTes));
 
         // Load proyek
-        List<Proyek> proyekList = dataStore.getProyekBySiswaId(selectedSiswa.getId());
+        List<Proyek> proyekList = proyekRepository.getProyekBySiswaId(selectedSiswa.getId());
         long proyekSelesai = proyekList.stream()
                 .filter(p -> p.getStatus().equals(Proyek.STATUS_SELESAI)
                         || p.getStatus().equals(Proyek.STATUS_TERVALIDASI))
@@ -105,36 +131,33 @@ public class MonitorNilaiController {
 
     private void loadHistoriTes() {
         historiTesContainer.getChildren().clear();
-        List<TesKognitif> tesList = dataStore.getAllTesKognitif();
-
-        boolean hasData = false;
-        for (TesKognitif tes : tesList) {
-            double skor = dataStore.getHasilTes(selectedSiswa.getId(), tes.getId());
-
-            if (skor > 0) {
-                hasData = true;
-                HBox tesCard = new HBox(20);
-                tesCard.setPadding(new Insets(10));
-                tesCard.setStyle("-fx-background-color: rgba(91, 79, 200, 0.05); -fx-background-radius: 8;");
-
-                VBox info = new VBox(5);
-                Label judul = new Label(tes.getJudul());
-                judul.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
-                Label detail = new Label(tes.getJumlahSoal() + " soal • " + tes.getDurasiMenit() + " menit");
-                detail.setStyle("-fx-text-fill: #747d8c;");
-                info.getChildren().addAll(judul, detail);
-
-                Label skorLabel = new Label(String.format("%.0f", skor));
-                skorLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: #5B4FC8;");
-
-                tesCard.getChildren().addAll(info, new Label(), skorLabel);
-                HBox.setHgrow(tesCard.getChildren().get(1), javafx.scene.layout.Priority.ALWAYS);
-
-                historiTesContainer.getChildren().add(tesCard);
-            }
+        // Hanya tes yang sudah dikerjakan (skor 0 tetap ditampilkan)
+        List<HasilTesSiswa> hasilList = tesRepository.getHasilTesSiswa(selectedSiswa.getId());
+        for (HasilTesSiswa hasil : hasilList) {
+            TesKognitif tes = hasil.getTes();
+            HBox tesCard = new HBox(20);
+            tesCard.setPadding(new Insets(10));
+            tesCard.setStyle("-fx-background-color: rgba(91, 79, 200, 0.05); -fx-background-radius: 8;");
+
+            VBox info = new VBox(5);
+            Label judul = new Label(tes.getJudul());
+            judul.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+            Label detail = new Label(tes.getJumlahSoal() + " soal • " + tes.getDurasiMenit() + " menit • "
+                    + hasil.getJumlahPercobaan() + "x dikerjakan, tertinggi "
+                    + String.format("%.0f", hasil.getSkorTertinggi()));
+            detail.setStyle("-fx-text-fill: #747d8c;");
+            info.getChildren().addAll(judul, detail);
+
+            Label skorLabel = new Label(String.format("%.0f", hasil.getSkor()));
+            skorLabel.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: #5B4FC8;");
+
+            tesCard.getChildren().addAll(info, new Label(), skorLabel);
+            HBox.setHgrow(tesCard.getChildren().get(1), javafx.scene.layout.Priority.ALWAYS);
+
+            historiTesContainer.getChildren().add(tesCard);
         }
 
-        if (!hasData) {
+        if (hasilList.isEmpty()) {
             Label empty = new Label("Siswa belum mengerjakan tes apapun");
             empty.setStyle("-fx-text-fill: #747d8c;");
             historiTesContainer.getChildren().add(empty);
@@ -144,6 +167,68 @@ public class MonitorNilaiController {
         historiTesCard.setManaged(true);
     }
 
+    @FXML
+    private void handleNilaiUlang() {
+        if (regradeJob != null) {
+            return;
+        }
+        String judul = txtFilterJudul.getText().trim().toLowerCase();
+
+        boolean confirm = SceneManager.showConfirmation("Konfirmasi Nilai Ulang",
+                "Nilai ulang " + (judul.isEmpty() ? "semua proyek" : "proyek dengan judul \"" + judul + "\"")
+                        + " yang sudah di-submit?\n\nSkor proyek akan diganti dengan hasil penilaian ulang.");
+        if (!confirm) {
+            return;
+        }
+
+        try {
+            regradeJob = RegradeJob.start(
+                    judul.isEmpty() ? null : proyek -> proyek.getJudul().toLowerCase().contains(judul),
+                    (selesai, total) -> Platform.runLater(() -> showNilaiUlangProgress(selesai, total)));
+        } catch (IllegalStateException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            SceneManager.showError("Error", "Penilaian ulang tidak bisa dijalankan:\n" + e.getMessage());
+            return;
+        }
+
+        btnNilaiUlang.setDisable(true);
+        btnBatalNilaiUlang.setDisable(false);
+        progressNilaiUlang.setVisible(true);
+        progressNilaiUlang.setManaged(true);
+        showNilaiUlangProgress(0, regradeJob.getTotal());
+
+        regradeJob.getResult().whenComplete((hasil, error) -> Platform.runLater(() -> {
+            regradeJob = null;
+            btnNilaiUlang.setDisable(false);
+            btnBatalNilaiUlang.setDisable(true);
+            progressNilaiUlang.setVisible(false);
+            progressNilaiUlang.setManaged(false);
+            if (error != null) {
+                System.err.println("ERROR: Penilaian ulang gagal: " + error.getMessage());
+                lblNilaiUlang.setText("❌ Penilaian ulang gagal: " + error.getMessage());
+                return;
+            }
+            lblNilaiUlang.setText((hasil.isDibatalkan() ? "⏹ " : "✅ ") + hasil);
+            if (selectedSiswa != null) {
+                loadSiswaData();
+            }
+        }));
+    }
+
+    private void showNilaiUlangProgress(int selesai, int total) {
+        progressNilaiUlang.setProgress(total == 0 ? 1 : (double) selesai / total);
+        lblNilaiUlang.setText("Menilai ulang... " + selesai + " / " + total + " submission");
+    }
+
+    @FXML
+    private void handleBatalNilaiUlang() {
+        if (regradeJob != null) {
+            regradeJob.cancel();
+            btnBatalNilaiUlang.setDisable(true);
+            lblNilaiUlang.setText("Membatalkan... submission yang sedang dinilai diselesaikan dulu");
+        }
+    }
+
     @FXML
     private void handleBack() {
         SceneManager.loadScene("dashboard.fxml");
@@ -0,0 +1,200 @@
+package com.goop.controllers;
+
+import com.goop.data.KodeRepository;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.data.UserRepository;
+import com.goop.models.PasanganMirip;
+import com.goop.models.Proyek;
+import com.goop.models.Siswa;
+import com.goop.similarity.SimilarityIndex;
+import com.goop.utils.SceneManager;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PlagiarismeController - Controller untuk cek plagiarisme kode proyek (Guru)
+ * Proyek dengan judul yang sama dianggap 1 tugas; kode semua siswa di tugas
+ * itu dibandingkan dengan SimilarityIndex. Kode template dari Guru (jika
+ * diisi) tidak dihitung sebagai kemiripan
+ */
+public class PlagiarismeController {
+
+    @FXML
+    private ComboBox<String> cmbJudulProyek;
+
+    @FXML
+    private TextField txtAmbang;
+
+    @FXML
+    private Button btnPeriksa;
+
+    @FXML
+    private Label lblRingkasan, lblKodeA, lblKodeB;
+
+    @FXML
+    private VBox hasilCard, hasilContainer, perbandinganCard;
+
+    @FXML
+    private TextArea txtKodeA, txtKodeB, txtTemplate;
+
+    private ProyekRepository proyekRepository;
+    private KodeRepository kodeRepository;
+    private UserRepository userRepository;
+
+    // Judul (huruf kecil) -> proyek semua siswa dengan judul itu
+    private final Map<String, List<Proyek>> tugas = new LinkedHashMap<>();
+    private final Map<Integer, Proyek> proyekById = new LinkedHashMap<>();
+
+    @FXML
+    public void initialize() {
+        proyekRepository = Repositories.proyek();
+        kodeRepository = Repositories.kode();
+        userRepository = Repositories.users();
+        txtAmbang.setText(String.format("%.0f", SimilarityIndex.DEFAULT_AMBANG));
+        loadTugas();
+    }
+
+    private void loadTugas() {
+        proyekRepository.forEachProyek(proyek -> {
+            String judul = proyek.getJudul().trim();
+            List<Proyek> list = tugas.get(judul.toLowerCase());
+            if (list == null) {
+                list = new ArrayList<>();
+                tugas.put(judul.toLowerCase(), list);
+                cmbJudulProyek.getItems().add(judul);
+            }
+            list.add(proyek);
+            proyekById.put(proyek.getId(), proyek);
+        });
+        if (tugas.isEmpty()) {
+            lblRingkasan.setText("Belum ada proyek");
+        }
+    }
+
+    @FXML
+    private void handlePeriksa() {
+        String judul = cmbJudulProyek.getValue();
+        if (judul == null) {
+            SceneManager.showError("Error", "Pilih judul proyek terlebih dahulu");
+            return;
+        }
+        double ambang;
+        try {
+            ambang = Double.parseDouble(txtAmbang.getText().trim());
+        } catch (NumberFormatException e) {
+            ambang = -1;
+        }
+        if (ambang < 0 || ambang > 100) {
+            SceneManager.showError("Error", "Kemiripan minimal harus angka 0 - 100");
+            return;
+        }
+
+        List<Integer> proyekIds = new ArrayList<>();
+        for (Proyek proyek : tugas.get(judul.toLowerCase())) {
+            proyekIds.add(proyek.getId());
+        }
+
+        btnPeriksa.setDisable(true);
+        lblRingkasan.setText("Memeriksa " + proyekIds.size() + " proyek...");
+        double minimal = ambang;
+        String template = txtTemplate.getText();
+        // Code yang belum punya fingerprint dibaca dari repository, jangan di FX thread
+        CompletableFuture.supplyAsync(() -> SimilarityIndex.getInstance()
+                        .check(proyekIds, kodeRepository::getProyekCode, minimal, template))
+                .whenComplete((hasil, error) -> Platform.runLater(() -> {
+                    btnPeriksa.setDisable(false);
+                    if (error != null) {
+                        Throwable cause = error.getCause() != null ? error.getCause() : error;
+                        System.err.println("ERROR: Cek plagiarisme gagal: " + cause.getMessage());
+                        lblRingkasan.setText("❌ Cek plagiarisme gagal: " + cause.getMessage());
+                        return;
+                    }
+                    lblRingkasan.setText((hasil.getPasangan().isEmpty() ? "✅ " : "⚠ ") + hasil);
+                    showHasil(hasil.getPasangan());
+                }));
+    }
+
+    private void showHasil(List<PasanganMirip> pasangan) {
+        hasilContainer.getChildren().clear();
+        perbandinganCard.setVisible(false);
+        perbandinganCard.setManaged(false);
+
+        for (PasanganMirip item : pasangan) {
+            HBox card = new HBox(20);
+            card.setPadding(new Insets(10));
+            card.setAlignment(Pos.CENTER_LEFT);
+            card.setStyle("-fx-background-color: rgba(91, 79, 200, 0.05); -fx-background-radius: 8;");
+
+            VBox info = new VBox(5);
+            Label nama = new Label(namaSiswa(item.getProyekIdA()) + "  ↔  " + namaSiswa(item.getProyekIdB()));
+            nama.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+            Label detail = new Label(String.format("Cakupan %.0f%% • %d fingerprint sama",
+                    item.getCakupan(), item.getJumlahSama()));
+            detail.setStyle("-fx-text-fill: #747d8c;");
+            info.getChildren().addAll(nama, detail);
+            HBox.setHgrow(info, Priority.ALWAYS);
+
+            Label kemiripan = new Label(String.format("%.0f%%", item.getKemiripan()));
+            kemiripan.setStyle("-fx-font-size: 24px; -fx-font-weight: bold; -fx-text-fill: "
+                    + (item.getKemiripan() >= 80 ? "#e74c3c" : "#5B4FC8") + ";");
+
+            Button bandingkan = new Button("Bandingkan");
+            bandingkan.getStyleClass().add("btn-secondary");
+            bandingkan.setOnAction(e -> showPerbandingan(item));
+
+            card.getChildren().addAll(info, kemiripan, bandingkan);
+            hasilContainer.getChildren().add(card);
+        }
+
+        if (pasangan.isEmpty()) {
+            Label empty = new Label("Tidak ada pasangan kode yang mirip");
+            empty.setStyle("-fx-text-fill: #747d8c;");
+            hasilContainer.getChildren().add(empty);
+        }
+
+        hasilCard.setVisible(true);
+        hasilCard.setManaged(true);
+    }
+
+    private void showPerbandingan(PasanganMirip item) {
+        lblKodeA.setText(namaSiswa(item.getProyekIdA()));
+        lblKodeB.setText(namaSiswa(item.getProyekIdB()));
+        txtKodeA.setText(codeOf(item.getProyekIdA()));
+        txtKodeB.setText(codeOf(item.getProyekIdB()));
+        perbandinganCard.setVisible(true);
+        perbandinganCard.setManaged(true);
+    }
+
+    private String codeOf(int proyekId) {
+        String code = kodeRepository.getProyekCode(proyekId);
+        return code != null ? code : "";
+    }
+
+    private String namaSiswa(int proyekId) {
+        Proyek proyek = proyekById.get(proyekId);
+        Siswa siswa = proyek != null ? userRepository.getSiswaById(proyek.getSiswaId()) : null;
+        return siswa != null ? siswa.getNamaLengkap() : "Proyek " + proyekId;
+    }
+
+    @FXML
+    private void handleBack() {
+        SceneManager.loadScene("dashboard.fxml");
+    }
+}
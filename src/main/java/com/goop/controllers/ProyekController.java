@@ -1,9 +1,23 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.compiler.BackgroundCompiler;
+import com.goop.compiler.CompileDiagnostic;
+import com.goop.compiler.CompileResult;
+import com.goop.compiler.CompilerService;
+import com.goop.data.KodeRepository;
+import com.goop.data.PenilaianRepository;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.grading.Grader;
+import com.goop.models.LaporanPenilaian;
 import com.goop.models.Proyek;
 import com.goop.models.Siswa;
+import com.goop.models.User;
+import com.goop.runner.RunResult;
+import com.goop.runner.RunnerPool;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
@@ -25,7 +39,7 @@ public class ProyekController {
 
     // Editor View components
     @FXML
-    private VBox codeEditorView;
+    private VBox codeEditorView, diagnosticMarkers;
 
     @FXML
     private Text titleText, editorProyekJudul;
@@ -39,17 +53,35 @@ public class ProyekController {
     @FXML
     private Button btnSubmitCode;
 
-    private DataStore dataStore;
+    private ProyekRepository proyekRepository;
+    private KodeRepository kodeRepository;
+    private PenilaianRepository penilaianRepository;
     private Siswa currentSiswa;
     private Proyek selectedProyek;
     private boolean hasCompiledSuccessfully = false;
+    private boolean compiling = false;
+    private CompilerService compilerService;
+    private BackgroundCompiler backgroundCompiler;
+
+    /**
+     * Maksimal diagnostic cek otomatis yang ditampilkan di bawah editor
+     */
+    private static final int MAX_DIAGNOSTIC_MARKERS = 8;
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
-
-        if (dataStore.getCurrentUser() instanceof Siswa) {
-            currentSiswa = (Siswa) dataStore.getCurrentUser();
+        proyekRepository = Repositories.proyek();
+        kodeRepository = Repositories.kode();
+        penilaianRepository = Repositories.penilaian();
+        compilerService = CompilerService.getInstance();
+        backgroundCompiler = BackgroundCompiler.getInstance();
+
+        // Cek compile otomatis setiap kode berubah (di-debounce di background)
+        codeEditor.textProperty().addListener((obs, oldText, newText) -> scheduleCheck(newText));
+
+        User currentUser = SessionContext.requireUser();
+        if (currentUser instanceof Siswa) {
+            currentSiswa = (Siswa) currentUser;
             loadProyekList();
         }
     }
@@ -57,7 +89,7 @@ public class ProyekController {
     private void loadProyekList() {
         proyekCardsContainer.getChildren().clear();
 
-        List<Proyek> proyekList = dataStore.getProyekBySiswaId(currentSiswa.getId());
+        List<Proyek> proyekList = proyekRepository.getProyekBySiswaId(currentSiswa.getId());
 
         if (proyekList.isEmpty()) {
             Label empty = new Label("Belum ada proyek yang di-assign");
@@ -103,6 +135,14 @@ public class ProyekController {
         selectedProyek = proyek;
         hasCompiledSuccessfully = false;
 
+        // Siapkan compiler dan worker JVM di background selama siswa menulis kode
+        compilerService.warmUp();
+        try {
+            RunnerPool.getInstance();
+        } catch (IllegalStateException e) {
+            System.err.println("WARNING: " + e.getMessage());
+        }
+
         // Update UI
         titleText.setText("Proyek: " + proyek.getJudul());
         editorProyekJudul.setText(proyek.getJudul());
@@ -112,12 +152,20 @@ public class ProyekController {
         editorSkor.setText("🎯 Skor: " + proyek.getSkor());
 
         // Load saved code if exists
-        String savedCode = dataStore.getProyekCode(proyek.getId());
+        String savedCode = kodeRepository.getProyekCode(proyek.getId());
         codeEditor.setText(savedCode != null ? savedCode
                 : "// Tulis kode Java kamu di sini\n\npublic class Main {\n    public static void main(String[] args) {\n        // TODO: Implementasi\n    }\n}");
 
         compiledStatus.setText("");
         outputConsole.clear();
+        // Kode sama dengan editor sebelumnya tidak memicu listener, cek manual
+        scheduleCheck(codeEditor.getText());
+
+        // Tampilkan laporan penilaian terakhir jika proyek sudah di-submit
+        LaporanPenilaian laporan = penilaianRepository.getLaporanPenilaian(proyek.getId());
+        if (laporan != null) {
+            outputConsole.setText(laporan.getRingkasan());
+        }
 
         // Switch view
         proyekListView.setVisible(false);
@@ -128,6 +176,8 @@ public class ProyekController {
 
     @FXML
     private void showProyekList() {
+        backgroundCompiler.cancel();
+        showDiagnosticMarkers(List.of());
         codeEditorView.setVisible(false);
         codeEditorView.setManaged(false);
         proyekListView.setVisible(true);
@@ -150,42 +200,195 @@ public class ProyekController {
             return;
         }
 
-        // Simulate compilation & execution
+        // Abaikan klik berikutnya selama compile masih berjalan
+        if (compiling) {
+            return;
+        }
+        compiling = true;
+        hasCompiledSuccessfully = false;
+        compiledStatus.setText("⚙️ Compiling...");
+        compiledStatus.setStyle("-fx-text-fill: #747d8c;");
         outputConsole.setText("⚙️ Compiling...\n");
 
-        // Simple validation: check if contains basic Java syntax
-        boolean hasClass = code.contains("class ");
-        boolean hasMain = code.contains("public static void main");
+        // Compile di thread compiler, diagnostic langsung ditampilkan di console
+        Proyek proyek = selectedProyek;
+        compilerService.compile(code, diagnostic ->
+                Platform.runLater(() -> {
+                    if (proyek == selectedProyek) {
+                        outputConsole.appendText(diagnostic + "\n");
+                    }
+                }))
+                .whenComplete((result, error) ->
+                        Platform.runLater(() -> showCompileResult(proyek, code, result, error)));
+    }
+
+    /**
+     * Jadwalkan cek compile di background. Hasil hanya ditampilkan jika
+     * kode di editor belum berubah lagi saat hasil sampai di FX thread.
+     */
+    private void scheduleCheck(String code) {
+        if (selectedProyek == null || code.isBlank()) {
+            backgroundCompiler.cancel();
+            showDiagnosticMarkers(List.of());
+            return;
+        }
+        Proyek proyek = selectedProyek;
+        backgroundCompiler.check(code, diagnostics ->
+                Platform.runLater(() -> {
+                    if (proyek == selectedProyek && code.equals(codeEditor.getText())) {
+                        showDiagnosticMarkers(diagnostics);
+                    }
+                }));
+    }
+
+    /**
+     * Tampilkan error dan warning di bawah editor; klik untuk lompat ke barisnya
+     */
+    private void showDiagnosticMarkers(List<CompileDiagnostic> diagnostics) {
+        diagnosticMarkers.getChildren().clear();
+        int shown = 0;
+        int hidden = 0;
+        for (CompileDiagnostic diagnostic : diagnostics) {
+            if (diagnostic.getKind() == CompileDiagnostic.Kind.NOTE) {
+                continue;
+            }
+            if (shown == MAX_DIAGNOSTIC_MARKERS) {
+                hidden++;
+                continue;
+            }
+            Label marker = new Label(diagnostic.toString());
+            marker.setWrapText(true);
+            marker.setMaxWidth(Double.MAX_VALUE);
+            marker.getStyleClass().addAll("diagnostic-marker", diagnostic.isError() ? "error" : "warning");
+            if (diagnostic.getLine() > 0) {
+                marker.setOnMouseClicked(e -> selectLine(diagnostic.getLine()));
+            }
+            diagnosticMarkers.getChildren().add(marker);
+            shown++;
+        }
+        if (hidden > 0) {
+            Label more = new Label("... dan " + hidden + " pesan lainnya");
+            more.setStyle("-fx-text-fill: #747d8c; -fx-font-size: 12px;");
+            diagnosticMarkers.getChildren().add(more);
+        }
+        diagnosticMarkers.setVisible(shown > 0);
+        diagnosticMarkers.setManaged(shown > 0);
+    }
+
+    /**
+     * Pilih 1 baris di editor (nomor baris mulai 1)
+     */
+    private void selectLine(long line) {
+        String text = codeEditor.getText();
+        int start = 0;
+        for (long i = 1; i < line && start >= 0; i++) {
+            start = text.indexOf('\n', start);
+            start = start < 0 ? -1 : start + 1;
+        }
+        if (start < 0) {
+            return;
+        }
+        int end = text.indexOf('\n', start);
+        end = end < 0 ? text.length() : end;
+        codeEditor.requestFocus();
+        codeEditor.selectRange(end, start);
+    }
+
+    /**
+     * Dipanggil di FX thread setelah compile selesai
+     */
+    private void showCompileResult(Proyek proyek, String code, CompileResult result, Throwable error) {
+        if (proyek != selectedProyek) {
+            // Siswa sudah pindah ke proyek lain
+            compiling = false;
+            return;
+        }
 
-        if (!hasClass || !hasMain) {
-            // Compile error
-            outputConsole.setText("❌ COMPILE ERROR\n\n" +
-                    "Error: Missing required components\n" +
-                    (hasClass ? "" : "- Missing class declaration\n") +
-                    (hasMain ? "" : "- Missing main method\n") +
-                    "\nSilakan perbaiki kode dan coba lagi.");
+        if (error != null) {
+            compiling = false;
+            System.err.println("ERROR: Compile gagal: " + error.getMessage());
+            outputConsole.appendText("\n❌ Compile gagal: " + error.getMessage());
+            compiledStatus.setText("❌ Compile Error");
+            compiledStatus.setStyle("-fx-text-fill: #ff4757;");
+            return;
+        }
 
+        if (!result.isSuccess()) {
+            compiling = false;
+            outputConsole.appendText("\n❌ COMPILE ERROR (" + result.getErrorCount() + " error)\n" +
+                    "Silakan perbaiki kode dan coba lagi.");
             compiledStatus.setText("❌ Compile Error");
             compiledStatus.setStyle("-fx-text-fill: #ff4757;");
-            hasCompiledSuccessfully = false;
+
+        } else if (result.getMainClass() == null) {
+            compiling = false;
+            outputConsole.appendText("\n❌ Method main tidak ditemukan\n" +
+                    "Tambahkan: public static void main(String[] args)");
+            compiledStatus.setText("❌ Tidak ada main");
+            compiledStatus.setStyle("-fx-text-fill: #ff4757;");
 
         } else {
-            // Success
-            outputConsole.setText("✅ COMPILATION SUCCESSFUL\n\n" +
+            outputConsole.appendText("\n✅ COMPILATION SUCCESSFUL (" + result.getDurasiMillis() + " ms" +
+                    (result.isCached() ? ", dari cache" : "") + ")\n\n" +
                     "Running program...\n" +
-                    "===================\n" +
-                    "Program executed successfully!\n" +
-                    "(Dalam implementasi nyata, output program akan muncul di sini)\n" +
-                    "===================\n\n" +
-                    "✅ Kode berhasil dijalankan! Anda sekarang bisa submit jawaban.");
+                    "===================\n");
 
-            compiledStatus.setText("✅ Compiled & Ready");
+            compiledStatus.setText("✅ Compiled & Running...");
             compiledStatus.setStyle("-fx-text-fill: #26de81;");
             hasCompiledSuccessfully = true;
 
             // Save code
-            dataStore.saveProyekCode(selectedProyek.getId(), code);
+            kodeRepository.saveProyekCode(proyek.getId(), code);
+
+            runProgram(proyek, result);
+        }
+    }
+
+    /**
+     * Jalankan program di worker JVM, output ditampilkan di console selama program berjalan
+     */
+    private void runProgram(Proyek proyek, CompileResult compiled) {
+        RunnerPool runner;
+        try {
+            runner = RunnerPool.getInstance();
+        } catch (IllegalStateException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            showRunResult(proyek, null, e);
+            return;
+        }
+        runner.run(compiled, text ->
+                Platform.runLater(() -> {
+                    if (proyek == selectedProyek) {
+                        outputConsole.appendText(text);
+                    }
+                }))
+                .whenComplete((result, error) -> Platform.runLater(() -> showRunResult(proyek, result, error)));
+    }
+
+    /**
+     * Dipanggil di FX thread setelah program selesai dijalankan
+     */
+    private void showRunResult(Proyek proyek, RunResult result, Throwable error) {
+        compiling = false;
+        if (proyek != selectedProyek) {
+            return;
+        }
+
+        String summary;
+        if (error != null) {
+            summary = "❌ Program tidak bisa dijalankan: " + error.getMessage();
+        } else if (result.getStatus() == RunResult.Status.OK) {
+            summary = "✅ Program selesai (" + result.getDurasiMillis() + " ms" +
+                    (result.isCached() ? ", dari cache" : "") + ")";
+        } else if (result.getStatus() == RunResult.Status.EXCEPTION) {
+            summary = "❌ Program berhenti karena exception: " + result.getMessage();
+        } else {
+            summary = (result.isSuccess() ? "✅ " : "❌ ") + result.getMessage();
         }
+
+        outputConsole.appendText("\n===================\n" + summary + "\n\n" +
+                "✅ Kode berhasil di-compile! Anda sekarang bisa submit jawaban.");
+        compiledStatus.setText("✅ Compiled & Ready");
     }
 
     @FXML
@@ -217,52 +420,68 @@ public class ProyekController {
             return;
         }
 
+        // Nilai dengan test case Guru di worker JVM (semua test case paralel) dan rubrik proyek
+        Proyek proyek = selectedProyek;
+        btnSubmitCode.setDisable(true);
+        compiledStatus.setText("🧪 Menilai...");
+        compiledStatus.setStyle("-fx-text-fill: #747d8c;");
+        outputConsole.appendText("\n\n🧪 Menjalankan test case...\n");
+
+        Grader.getInstance().grade(proyek.getId(), code, penilaianRepository.getTestCases(proyek.getId()),
+                        penilaianRepository.getRubrik(proyek.getId()))
+                .whenComplete((laporan, error) ->
+                        Platform.runLater(() -> submitGraded(proyek, code, laporan, error)));
+    }
+
+    /**
+     * Dipanggil di FX thread setelah penilaian selesai: simpan skor, code dan laporan
+     */
+    private void submitGraded(Proyek proyek, String code, LaporanPenilaian laporan, Throwable error) {
+        btnSubmitCode.setDisable(false);
+
+        if (error != null) {
+            System.err.println("ERROR: Penilaian gagal: " + error.getMessage());
+            if (proyek == selectedProyek) {
+                compiledStatus.setText("❌ Penilaian gagal");
+                compiledStatus.setStyle("-fx-text-fill: #ff4757;");
+            }
+            SceneManager.showError("Gagal Submit",
+                    "Penilaian otomatis gagal dijalankan.\n\n" + error.getMessage() + "\nSilakan coba lagi.");
+            return;
+        }
+
         // Submit proyek
-        selectedProyek.setStatus(Proyek.STATUS_SELESAI);
+        double skor = laporan.getSkor();
+        proyek.setStatus(Proyek.STATUS_SELESAI);
+        proyek.setSkor(skor);
 
-        // Simple scoring based on code completeness
-        int skor = calculateScore(code);
-        selectedProyek.setSkor(skor);
+        proyekRepository.updateProyek(proyek);
+        kodeRepository.saveProyekCode(proyek.getId(), code);
+        penilaianRepository.saveLaporanPenilaian(laporan);
 
-        dataStore.updateProyek(selectedProyek);
-        dataStore.saveProyekCode(selectedProyek.getId(), code);
+        SceneManager.showInfo("Berhasil!",
+                "Proyek berhasil di-submit!\n\nSkor: " + skor + " / 100\n" +
+                        "Lulus " + laporan.getJumlahLulus() + " dari " + laporan.getHasil().size() + " test case.");
+
+        if (proyek != selectedProyek) {
+            return;
+        }
 
-        outputConsole.setText(outputConsole.getText() + "\n\n" +
+        outputConsole.appendText("\n" + laporan.getRingkasan() + "\n\n" +
                 "=============================\n" +
                 "✅ PROYEK BERHASIL DI-SUBMIT!\n" +
                 "=============================\n" +
                 "Skor: " + skor + " / 100\n" +
-                "Status: " + selectedProyek.getStatus() + "\n\n" +
-                "Terima kasih! Proyek Anda akan direview oleh Guru.");
-
-        SceneManager.showInfo("Berhasil!",
-                "Proyek berhasil di-submit!\n\nSkor: " + skor + " / 100\n" +
-                        "Proyek Anda akan direview oleh Guru.");
+                "Status: " + proyek.getStatus());
 
         // Refresh
-        editorStatus.setText("📌 Status: " + selectedProyek.getStatus());
-        editorSkor.setText("🎯 Skor: " + selectedProyek.getSkor());
+        compiledStatus.setText("✅ Submitted");
+        compiledStatus.setStyle("-fx-text-fill: #26de81;");
+        editorStatus.setText("📌 Status: " + proyek.getStatus());
+        editorSkor.setText("🎯 Skor: " + proyek.getSkor());
         hasCompiledSuccessfully = false;
     }
 
-    private int calculateScore(String code) {
-        int skor = 50; // Base score
-
-        // Bonus for OOP concepts
-        if (code.contains("class "))
-            skor += 10;
-        if (code.contains("public ") && code.contains("private "))
-            skor += 10;
-        if (code.contains("extends "))
-            skor += 10;
-        if (code.contains("@Override"))
-            skor += 10;
-        if (code.length() > 200)
-            skor += 10; // Substantial code
-
-        return Math.min(skor, 100);
-    }
-
     @FXML
     private void handleClearCode() {
         boolean confirm = SceneManager.showConfirmation("Konfirmasi",
@@ -278,6 +497,7 @@ public class ProyekController {
 
     @FXML
     private void handleBack() {
+        backgroundCompiler.cancel();
         SceneManager.loadScene("dashboard.fxml");
     }
 }
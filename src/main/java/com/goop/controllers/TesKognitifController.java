@@ -1,11 +1,13 @@
 package com.goop.controllers;
 
-import com.goop.data.DataStore;
+import com.goop.data.Repositories;
+import com.goop.data.TesRepository;
 import com.goop.models.Siswa;
 import com.goop.models.Soal;
 import com.goop.models.TesKognitif;
 import com.goop.models.User;
 import com.goop.utils.SceneManager;
+import com.goop.utils.SessionContext;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.fxml.FXML;
@@ -36,7 +38,7 @@ public class TesKognitifController {
     @FXML
     private VBox soalContainer, hasilPanel;
 
-    private DataStore dataStore;
+    private TesRepository tesRepository;
     private TesKognitif tes;
     private List<Soal> daftarSoal;
     private String[] jawabanSiswa;
@@ -46,13 +48,13 @@ public class TesKognitifController {
 
     @FXML
     public void initialize() {
-        dataStore = DataStore.getInstance();
+        tesRepository = Repositories.tes();
         loadTes();
     }
 
     private void loadTes() {
         // Ambil tes pertama yang aktif
-        List<TesKognitif> tesList = dataStore.getActiveTesKognitif();
+        List<TesKognitif> tesList = tesRepository.getActiveTesKognitif();
         if (tesList.isEmpty()) {
             SceneManager.showInfo("Tidak Ada Tes", "Tidak ada tes kognitif yang tersedia saat ini.");
             handleBack();
@@ -185,10 +187,14 @@ public class TesKognitifController {
         double skor = tes.hitungSkor(jawabanSiswa);
 
         // Simpan hasil tes
-        User currentUser = dataStore.getCurrentUser();
+        User currentUser = SessionContext.requireUser();
+        if (currentUser == null) {
+            return;
+        }
         if (currentUser instanceof Siswa) {
             Siswa siswa = (Siswa) currentUser;
-            dataStore.saveHasilTes(siswa.getId(), tes.getId(), skor);
+            int durasiDetik = tes.getDurasiMenit() * 60 - Math.max(waktuTersisa, 0);
+            tesRepository.saveHasilTes(siswa.getId(), tes.getId(), skor, durasiDetik, jawabanSiswa);
         }
 
         // Tampilkan hasil
@@ -0,0 +1,20 @@
+package com.goop.data;
+
+/**
+ * Class DataAccessException - Error dari backend penyimpanan
+ *
+ * Dilempar oleh implementasi repository jika penyimpanan gagal diakses
+ * (misal query database error). Unchecked, karena method repository
+ * dipanggil langsung dari controller.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public class DataAccessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DataAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,12 +1,32 @@
 package com.goop.data;
 
 import com.goop.models.*;
-
+import com.goop.utils.PasswordHasher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * Class DataStore - Singleton class untuk menyimpan semua data aplikasi
@@ -21,6 +41,34 @@ import java.util.Map;
  * - Centralized data management
  * - Mudah diakses dari mana saja (getInstance())
  * 
+ * THREAD SAFETY:
+ * - Setiap jenis entity punya ReadWriteLock sendiri (user, proyek, tes,
+ *   materi, modul), sehingga banyak reader bisa jalan bersamaan dan writer
+ *   satu jenis entity tidak memblokir jenis entity lain
+ * - Counter ID memakai AtomicInteger
+ * - Urutan lock jika perlu lebih dari satu: proyek/tes -> user.
+ *   userLock selalu diambil paling akhir untuk menghindari deadlock
+ * - Object model yang dikembalikan tetap mutable; perubahan oleh caller
+ *   baru "resmi" setelah dipanggil updateXxx()
+ * 
+ * PERSISTENCE:
+ * - Setiap mutation dicatat ke WriteAheadLog (file wal-*.log di folder data)
+ * - Checkpoint berkala menulis snapshot seluruh data di background
+ *   (System property goop.checkpoint.intervalSec, default 60, 0 = mati),
+ *   lalu segment log yang sudah tercakup snapshot dihapus
+ * - Saat start: snapshot terbaru di-load lalu hanya sisa log yang di-replay.
+ *   Sample data hanya dibuat jika belum ada snapshot
+ * - Snapshot dibaca lewat memory-mapped file; object Proyek, Materi, Modul
+ *   dan code proyek baru dibuat saat pertama kali diakses
+ * - Folder data: System property goop.data.dir (default ~/.goop)
+ * - Durability: System property goop.wal.durability = sync | group | async | off
+ *   (default group), interval group commit: goop.wal.groupCommitMs (default 10)
+ * - Jika perubahan gagal dicatat atau ditulis ke disk, method mutation
+ *   melempar DataAccessException (sama seperti backend JDBC), sehingga
+ *   caller tidak menganggap perubahan tersimpan. Setelah write log gagal,
+ *   log ditandai rusak dan semua mutation berikutnya juga gagal sampai
+ *   aplikasi di-restart
+ * 
  * Konsep OOP yang diterapkan:
  * - ENCAPSULATION: Semua data di-protect dengan private
  * - SINGLETON PATTERN: Private constructor + getInstance()
@@ -29,76 +77,232 @@ import java.util.Map;
  * @author GOOP Development Team
  * @version 1.0
  */
-public class DataStore {
+public class DataStore implements UserRepository, ProyekRepository, TesRepository, KontenRepository,
+        KodeRepository, PenilaianRepository {
 
     // ==================== SINGLETON INSTANCE ====================
 
     /**
-     * Single instance dari DataStore (Singleton pattern)
-     * Static variable yang akan di-share oleh semua yang mengakses class ini
+     * Holder untuk instance tunggal DataStore (Singleton pattern)
+     * 
+     * Class Holder baru di-load JVM saat getInstance() pertama kali dipanggil,
+     * dan class initialization dijamin thread-safe oleh JVM. Jadi instance
+     * dibuat tepat sekali dan terlihat lengkap oleh semua thread, tanpa
+     * synchronized di setiap pemanggilan.
      */
-    private static DataStore instance;
+    private static class Holder {
+        private static final DataStore INSTANCE = new DataStore();
+    }
 
     // ==================== DATA STORAGE ====================
-    // Menggunakan ArrayList untuk menyimpan data
+    // Menggunakan EntityTable (ArrayList terurut + index primary key)
     // Dalam aplikasi real, ini diganti dengan database
 
     /**
-     * List untuk menyimpan semua siswa
+     * Table untuk menyimpan semua siswa
+     */
+    private final EntityTable<Siswa> siswaTable;
+
+    /**
+     * Table untuk menyimpan semua guru
+     */
+    private final EntityTable<Guru> guruTable;
+
+    /**
+     * Table untuk menyimpan semua proyek
+     */
+    private final EntityTable<Proyek> proyekTable;
+
+    /**
+     * Table untuk menyimpan semua tes kognitif
+     */
+    private final EntityTable<TesKognitif> tesKognitifTable;
+
+    /**
+     * Table untuk menyimpan semua materi pembelajaran
+     */
+    private final EntityTable<Materi> materiTable;
+
+    /**
+     * Table untuk menyimpan semua modul pembelajaran (separate entity dari Materi)
+     */
+    private final EntityTable<Modul> modulTable;
+
+    /**
+     * Secondary index proyek: siswaId -> ID proyek milik siswa tersebut
+     */
+    private final IntPostingIndex proyekBySiswa;
+
+    /**
+     * Secondary index topik (case-insensitive) -> ID materi / ID modul
+     */
+    private final TopikIndex materiByTopik;
+    private final TopikIndex modulByTopik;
+
+    /**
+     * Unique index username -> user (Siswa dan Guru dalam satu namespace)
      */
-    private List<Siswa> siswaList;
+    private final Map<String, User> userByUsername;
 
     /**
-     * List untuk menyimpan semua guru
+     * Username yang tercatat di index untuk setiap user object.
+     * Diperlukan karena controller mengubah username langsung di object
+     * sebelum memanggil updateSiswa()
      */
-    private List<Guru> guruList;
+    private final Map<User, String> indexedUsername;
 
     /**
-     * List untuk menyimpan semua proyek
+     * Table untuk menyimpan hasil tes siswa: (siswaId, tesId) -> skor percobaan terakhir
      */
-    private List<Proyek> proyekList;
+    private final HasilTesTable hasilTesTable;
 
     /**
-     * List untuk menyimpan semua tes kognitif
+     * Riwayat semua percobaan tes (append-only)
      */
-    private List<TesKognitif> tesKognitifList;
+    private final RiwayatTesTable riwayatTesTable;
 
     /**
-     * List untuk menyimpan semua materi pembelajaran
+     * Ringkasan skor tes per siswa (siswaId -> aggregate), diupdate
+     * bersama hasilTesTable sehingga skor kognitif tidak perlu dihitung
+     * ulang dari semua hasil tes siswa
      */
-    private List<Materi> materiList;
+    private final IntHashMap<SkorAggregate> skorTesBySiswa;
 
     /**
-     * List untuk meny impan semua modul pembelajaran (separate entity dari Materi)
+     * Ringkasan skor proyek tervalidasi per siswa (siswaId -> aggregate)
      */
-    private List<Modul> modulList;
+    private final IntHashMap<SkorAggregate> skorProyekBySiswa;
 
     /**
-     * Map untuk menyimpan hasil tes siswa
-     * Key: siswaId, Value: Map<tesId, skor>
+     * Skor proyek tervalidasi yang sedang dihitung di skorProyekBySiswa
+     * (proyekId -> siswa dan skor). Diperlukan karena controller mengubah
+     * status/skor langsung di object Proyek sebelum memanggil updateProyek(),
+     * sehingga skor lama tidak bisa dibaca lagi dari object tersebut
      */
-    private Map<Integer, Map<Integer, Double>> hasilTesMap;
+    private final IntHashMap<SkorProyek> skorProyekTercatat;
 
     /**
      * Map untuk menyimpan code yang ditulis siswa untuk proyek
      * Key: proyekId, Value: code (String)
+     * ConcurrentHashMap karena tidak ada index lain yang perlu di-sync
+     */
+    private final Map<Integer, String> proyekCodeMap;
+
+    /**
+     * Test case dan kriteria rubrik penilaian per proyek (list read-only,
+     * diganti seluruhnya saat disimpan) dan laporan penilaian submission
+     * terakhir per proyek
      */
-    private Map<Integer, String> proyekCodeMap;
+    private final Map<Integer, List<TestCase>> testCaseMap;
+    private final Map<Integer, List<KriteriaRubrik>> rubrikMap;
+    private final Map<Integer, LaporanPenilaian> laporanMap;
+
+    // ==================== LOCKS ====================
+
+    /**
+     * Lock untuk siswaTable, guruTable dan index username
+     */
+    private final ReentrantReadWriteLock userLock = new ReentrantReadWriteLock();
+
+    /**
+     * Lock untuk proyekTable, index siswaId -> proyek dan ringkasan skor proyek
+     */
+    private final ReentrantReadWriteLock proyekLock = new ReentrantReadWriteLock();
+
+    /**
+     * Lock untuk tesKognitifTable, hasilTesTable, riwayatTesTable dan ringkasan skor tes
+     */
+    private final ReentrantReadWriteLock tesLock = new ReentrantReadWriteLock();
+
+    /**
+     * Lock untuk materiTable dan index topik materi
+     */
+    private final ReentrantReadWriteLock materiLock = new ReentrantReadWriteLock();
 
     /**
-     * User yang sedang login
-     * Null jika belum ada yang login
+     * Lock untuk modulTable dan index topik modul
      */
-    private User currentUser;
+    private final ReentrantReadWriteLock modulLock = new ReentrantReadWriteLock();
 
     /**
      * Counter untuk auto-increment ID
      */
-    private int nextProyekId = 1;
-    private int nextTesId = 1;
-    private int nextMateriId = 1;
-    private int nextModulId = 1;
-    private int nextSoalId = 1;
+    private final AtomicInteger nextProyekId = new AtomicInteger(1);
+    private final AtomicInteger nextTesId = new AtomicInteger(1);
+    private final AtomicInteger nextMateriId = new AtomicInteger(1);
+    private final AtomicInteger nextModulId = new AtomicInteger(1);
+    private final AtomicInteger nextSoalId = new AtomicInteger(1);
+
+    // ==================== PERSISTENCE ====================
+
+    /**
+     * Write-ahead log, null jika persistence tidak aktif
+     * (juga null selama sample data dibuat dan log di-replay,
+     * sehingga perubahan tersebut tidak dicatat ulang)
+     */
+    private volatile WriteAheadLog wal;
+
+    /**
+     * Jenis record di write-ahead log.
+     * Semua record bersifat "put" (idempotent), sehingga aman di-replay
+     * walaupun datanya sudah ada. Record pengerjaan tes (append) membawa
+     * nomor percobaan dan dilewati jika nomor tersebut sudah ada.
+     */
+    private static final byte OP_PUT_SISWA = 1;
+    private static final byte OP_PUT_GURU = 2;
+    private static final byte OP_PUT_PROYEK = 3;
+    private static final byte OP_DELETE_PROYEK = 4;
+    private static final byte OP_PUT_TES = 5;
+    private static final byte OP_SAVE_HASIL_TES = 6; // Format lama (tanpa riwayat), hanya dibaca saat replay
+    private static final byte OP_PUT_MATERI = 7;
+    private static final byte OP_PUT_MODUL = 8;
+    private static final byte OP_SAVE_PROYEK_CODE = 9;
+    private static final byte OP_ADD_PENGERJAAN_TES = 10;
+    private static final byte OP_SAVE_TEST_CASES = 11;
+    private static final byte OP_SAVE_LAPORAN = 12;
+    private static final byte OP_SAVE_PENILAIAN_ULANG = 13;
+    private static final byte OP_SAVE_RUBRIK = 14;
+
+    /**
+     * Menulis isi record (setelah byte jenis record)
+     */
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Snapshot yang di-load saat start (null jika tidak ada).
+     * Proyek, materi, modul dan code proyek dari snapshot baru dibuat
+     * object-nya saat pertama kali diakses (lazy), dan saat checkpoint
+     * row yang belum diakses di-copy langsung dari image ini.
+     */
+    private SnapshotImage snapshotImage;
+
+    /**
+     * proyekId -> row code di snapshotImage (read-only setelah start)
+     */
+    private IntHashMap<Integer> snapshotCodeRows;
+
+    /**
+     * Proyek yang dihapus setelah start: code-nya di snapshotImage tidak
+     * boleh di-decode lagi. Diubah dan dibaca di bawah proyekCodeLock
+     */
+    private final Set<Integer> deletedProyekIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Thread background untuk checkpoint, null jika tidak aktif
+     */
+    private ScheduledExecutorService checkpointer;
+
+    /**
+     * Agar hanya 1 checkpoint yang berjalan pada satu waktu
+     */
+    private final Object checkpointLock = new Object();
+
+    /**
+     * true jika ada record log yang belum tercakup snapshot dari sesi sebelumnya
+     */
+    private volatile boolean checkpointNeeded;
 
     // ==================== CONSTRUCTOR ====================
 
@@ -108,65 +312,89 @@ public class DataStore {
      * Hanya bisa di-instantiate dari dalam class sendiri (via getInstance())
      */
     private DataStore() {
-        // Initialize all lists
-        siswaList = new ArrayList<>();
-        guruList = new ArrayList<>();
-        proyekList = new ArrayList<>();
-        tesKognitifList = new ArrayList<>();
-        materiList = new ArrayList<>();
-        modulList = new ArrayList<>();
-        hasilTesMap = new HashMap<>();
-        proyekCodeMap = new HashMap<>();
+        this(getDataDirectory(), System.getProperty("goop.wal.durability", "group"),
+                Long.getLong("goop.checkpoint.intervalSec", 60L));
+    }
 
-        // Initialize with sample data
-        // Data dummy untuk testing dan demo
-        initializeSampleData();
+    /**
+     * DataStore dengan folder data tertentu (bukan instance singleton).
+     * Dipakai test untuk membuka ulang folder yang sama seperti restart
+     *
+     * @param dataDir               Folder snapshot dan write-ahead log
+     * @param durability            Mode durability (lihat goop.wal.durability)
+     * @param checkpointIntervalSec Interval checkpoint berkala, 0 = mati
+     */
+    DataStore(Path dataDir, String durability, long checkpointIntervalSec) {
+        // Initialize all tables
+        siswaTable = new EntityTable<>(Siswa::getId);
+        guruTable = new EntityTable<>(Guru::getId);
+        proyekTable = new EntityTable<>(Proyek::getId);
+        tesKognitifTable = new EntityTable<>(TesKognitif::getId);
+        materiTable = new EntityTable<>(Materi::getId);
+        modulTable = new EntityTable<>(Modul::getId);
+        proyekBySiswa = new IntPostingIndex();
+        materiByTopik = new TopikIndex();
+        modulByTopik = new TopikIndex();
+        userByUsername = new HashMap<>();
+        indexedUsername = new IdentityHashMap<>();
+        hasilTesTable = new HasilTesTable();
+        riwayatTesTable = new RiwayatTesTable();
+        skorTesBySiswa = new IntHashMap<>();
+        skorProyekBySiswa = new IntHashMap<>();
+        skorProyekTercatat = new IntHashMap<>();
+        proyekCodeMap = new ConcurrentHashMap<>();
+        testCaseMap = new ConcurrentHashMap<>();
+        rubrikMap = new ConcurrentHashMap<>();
+        laporanMap = new ConcurrentHashMap<>();
+
+        // Load data tersimpan (snapshot + sisa log)
+        // Sample data untuk testing dan demo dibuat jika belum ada snapshot
+        openPersistence(dataDir, durability, checkpointIntervalSec);
     }
 
     /**
      * Method untuk mendapatkan instance DataStore (Singleton pattern)
      * 
      * Cara kerja:
-     * - Jika instance belum ada (null), buat instance baru
-     * - Jika sudah ada, return instance yang sudah ada
-     * - Dengan begitu, selalu hanya ada 1 instance di seluruh aplikasi
+     * - Instance dibuat oleh class Holder saat method ini pertama kali dipanggil
+     * - Pemanggilan berikutnya langsung return instance yang sama
+     * - Aman dipanggil dari banyak thread sekaligus
      * 
      * @return Instance tunggal dari DataStore
      */
     public static DataStore getInstance() {
-        if (instance == null) {
-            instance = new DataStore();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
     // ==================== AUTHENTICATION METHODS ====================
 
     /**
      * Method untuk login
-     * Memeriksa username dan password di list siswa dan guru
+     * Mencari user lewat index username (1 hash lookup untuk siswa dan guru),
+     * lalu memvalidasi password terhadap hash (di luar lock, karena lambat)
      * 
      * @param username Username yang diinput
      * @param password Password yang diinput
      * @return User object jika berhasil login, null jika gagal
      */
+    @Override
     public User login(String username, String password) {
-        // Cek di list siswa
-        for (Siswa siswa : siswaList) {
-            if (siswa.validateLogin(username, password)) {
-                currentUser = siswa;
-                System.out.println("Login berhasil sebagai Siswa: " + siswa.getNamaLengkap());
-                return siswa;
-            }
+        User user;
+        userLock.readLock().lock();
+        try {
+            user = userByUsername.get(username);
+        } finally {
+            userLock.readLock().unlock();
         }
 
-        // Cek di list guru
-        for (Guru guru : guruList) {
-            if (guru.validateLogin(username, password)) {
-                currentUser = guru;
-                System.out.println("Login berhasil sebagai Guru: " + guru.getNamaLengkap());
-                return guru;
-            }
+        if (user == null) {
+            // Username tidak ada: tetap hitung hash agar waktu respon sama
+            PasswordHasher.verify(password, null);
+        } else if (user.validateLogin(username, password)) {
+            upgradePassword(user, password);
+            System.out.println("Login berhasil sebagai " + (user instanceof Guru ? "Guru" : "Siswa") + ": "
+                    + user.getNamaLengkap());
+            return user;
         }
 
         // Login gagal
@@ -175,31 +403,82 @@ public class DataStore {
     }
 
     /**
-     * Method untuk logout
+     * Hash ulang password setelah login berhasil jika masih plaintext (data
+     * lama) atau iterasi hash berbeda dengan konfigurasi saat ini
      */
-    public void logout() {
-        if (currentUser != null) {
-            System.out.println("Logout: " + currentUser.getNamaLengkap());
-            currentUser = null;
+    private void upgradePassword(User user, String password) {
+        String stored = user.getPassword();
+        if (!PasswordHasher.needsRehash(stored)) {
+            return;
+        }
+        String hash = PasswordHasher.hash(password);
+
+        long seq;
+        userLock.writeLock().lock();
+        try {
+            // Lewati jika password sudah diganti atau object user sudah diganti sejak dibaca
+            if (!stored.equals(user.getPassword())) {
+                return;
+            }
+            if (user instanceof Siswa && siswaTable.get(user.getId()) == user) {
+                user.setPassword(hash);
+                seq = log(OP_PUT_SISWA, out -> EntityCodec.writeSiswa(out, (Siswa) user));
+            } else if (user instanceof Guru && guruTable.get(user.getId()) == user) {
+                user.setPassword(hash);
+                seq = log(OP_PUT_GURU, out -> EntityCodec.writeGuru(out, (Guru) user));
+            } else {
+                return;
+            }
+        } catch (DataAccessException e) {
+            // Hash ulang hanya perbaikan format: login tetap berhasil, hash lama tetap valid
+            System.err.println("WARNING: Hash password baru tidak tersimpan: " + e.getMessage());
+            return;
+        } finally {
+            userLock.writeLock().unlock();
+        }
+        try {
+            commit(seq);
+        } catch (DataAccessException e) {
+            System.err.println("WARNING: Hash password baru tidak tersimpan: " + e.getMessage());
         }
     }
 
     /**
-     * Mendapatkan user yang sedang login
+     * Cek apakah username sudah dipakai user lain (siswa maupun guru)
      * 
-     * @return User yang sedang login, null jika belum login
+     * @param username Username yang dicek
+     * @param except   User yang dikecualikan (user yang sedang diedit), boleh null
+     * @return true jika username sudah dipakai user lain
      */
-    public User getCurrentUser() {
-        return currentUser;
+    @Override
+    public boolean isUsernameTaken(String username, User except) {
+        userLock.readLock().lock();
+        try {
+            User owner = userByUsername.get(username);
+            return owner != null && owner != except;
+        } finally {
+            userLock.readLock().unlock();
+        }
     }
 
     /**
-     * Cek apakah ada user yang sedang login
+     * Daftarkan username user ke index
+     * Harus dipanggil dengan userLock write lock
      * 
-     * @return true jika ada user login
+     * @return false jika username sudah dipakai user lain
      */
-    public boolean isLoggedIn() {
-        return currentUser != null;
+    private boolean indexUsername(User user) {
+        String username = user.getUsername();
+        User owner = userByUsername.get(username);
+        if (owner != null && owner != user) {
+            return false;
+        }
+        String oldUsername = indexedUsername.put(user, username);
+        if (oldUsername != null && !oldUsername.equals(username)) {
+            userByUsername.remove(oldUsername);
+        }
+        userByUsername.put(username, user);
+        return true;
     }
 
     // ==================== SISWA METHODS ====================
@@ -207,48 +486,139 @@ public class DataStore {
     /**
      * Mendapatkan semua siswa
      * 
-     * @return List of all Siswa
+     * @return List of all Siswa (read-only)
      */
+    @Override
     public List<Siswa> getAllSiswa() {
-        return new ArrayList<>(siswaList); // Return copy untuk encapsulation
+        userLock.readLock().lock();
+        try {
+            return siswaTable.view(); // List read-only, di-cache sampai ada perubahan
+        } finally {
+            userLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah siswa tanpa membuat list
+     */
+    @Override
+    public int countSiswa() {
+        userLock.readLock().lock();
+        try {
+            return siswaTable.size();
+        } finally {
+            userLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Iterasi semua siswa terurut berdasarkan ID tanpa membuat list
+     * Action dijalankan di dalam read lock, jadi tidak boleh mengubah data
+     */
+    @Override
+    public void forEachSiswa(Consumer<? super Siswa> action) {
+        userLock.readLock().lock();
+        try {
+            siswaTable.forEach(action);
+        } finally {
+            userLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset paging siswa berdasarkan ID
+     *
+     * @param afterId ID terakhir halaman sebelumnya (0 untuk halaman pertama)
+     * @param limit   Jumlah maksimal siswa di halaman
+     */
+    @Override
+    public List<Siswa> getSiswaPage(int afterId, int limit) {
+        userLock.readLock().lock();
+        try {
+            return siswaTable.page(afterId, limit);
+        } finally {
+            userLock.readLock().unlock();
+        }
     }
 
     /**
      * Mendapatkan siswa berdasarkan ID
+     * Lookup via index primary key (O(1))
      * 
      * @param id ID siswa
      * @return Siswa object atau null jika tidak ditemukan
      */
+    @Override
     public Siswa getSiswaById(int id) {
-        for (Siswa siswa : siswaList) {
-            if (siswa.getId() == id) {
-                return siswa;
-            }
+        userLock.readLock().lock();
+        try {
+            return siswaTable.get(id);
+        } finally {
+            userLock.readLock().unlock();
         }
-        return null;
     }
 
     /**
      * Menambah siswa baru
      * 
      * @param siswa Siswa object yang akan ditambahkan
+     * @return false jika username atau ID sudah dipakai (siswa tidak ditambahkan)
      */
-    public void addSiswa(Siswa siswa) {
-        siswaList.add(siswa);
+    @Override
+    public boolean addSiswa(Siswa siswa) {
+        long seq;
+        userLock.writeLock().lock();
+        try {
+            if (userByUsername.containsKey(siswa.getUsername()) || siswaTable.contains(siswa.getId())) {
+                return false;
+            }
+            siswaTable.add(siswa);
+            indexUsername(siswa);
+            seq = log(OP_PUT_SISWA, out -> EntityCodec.writeSiswa(out, siswa));
+        } finally {
+            userLock.writeLock().unlock();
+        }
+        commit(seq);
+        return true;
     }
 
     /**
      * Update siswa yang sudah ada
+     * Jika username baru sudah dipakai user lain, update ditolak dan
+     * username di object dikembalikan ke username lama
      * 
      * @param siswa Siswa object dengan data terbaru
+     * @return true jika berhasil diupdate
      */
-    public void updateSiswa(Siswa siswa) {
-        for (int i = 0; i < siswaList.size(); i++) {
-            if (siswaList.get(i).getId() == siswa.getId()) {
-                siswaList.set(i, siswa);
-                break;
+    @Override
+    public boolean updateSiswa(Siswa siswa) {
+        long seq;
+        userLock.writeLock().lock();
+        try {
+            Siswa old = siswaTable.get(siswa.getId());
+            if (old == null) {
+                return false;
             }
+            User owner = userByUsername.get(siswa.getUsername());
+            if (owner != null && owner != old) {
+                String oldUsername = indexedUsername.get(siswa);
+                if (oldUsername != null) {
+                    siswa.setUsername(oldUsername);
+                }
+                return false;
+            }
+            if (old != siswa) {
+                userByUsername.remove(indexedUsername.remove(old));
+                siswa.setRataSkorProyek(old.hitungRataSkorProyek());
+            }
+            siswaTable.replace(siswa);
+            indexUsername(siswa);
+            seq = log(OP_PUT_SISWA, out -> EntityCodec.writeSiswa(out, siswa));
+        } finally {
+            userLock.writeLock().unlock();
         }
+        commit(seq);
+        return true;
     }
 
     // ==================== GURU METHODS ====================
@@ -256,19 +626,40 @@ public class DataStore {
     /**
      * Mendapatkan semua guru
      * 
-     * @return List of all Guru
+     * @return List of all Guru (read-only)
      */
+    @Override
     public List<Guru> getAllGuru() {
-        return new ArrayList<>(guruList);
+        userLock.readLock().lock();
+        try {
+            return guruTable.view();
+        } finally {
+            userLock.readLock().unlock();
+        }
     }
 
     /**
      * Menambah guru baru
      * 
      * @param guru Guru object yang akan ditambahkan
+     * @return false jika username atau ID sudah dipakai (guru tidak ditambahkan)
      */
-    public void addGuru(Guru guru) {
-        guruList.add(guru);
+    @Override
+    public boolean addGuru(Guru guru) {
+        long seq;
+        userLock.writeLock().lock();
+        try {
+            if (userByUsername.containsKey(guru.getUsername()) || guruTable.contains(guru.getId())) {
+                return false;
+            }
+            guruTable.add(guru);
+            indexUsername(guru);
+            seq = log(OP_PUT_GURU, out -> EntityCodec.writeGuru(out, guru));
+        } finally {
+            userLock.writeLock().unlock();
+        }
+        commit(seq);
+        return true;
     }
 
     // ==================== PROYEK METHODS ====================
@@ -276,27 +667,112 @@ public class DataStore {
     /**
      * Mendapatkan semua proyek
      * 
-     * @return List of all Proyek
+     * @return List of all Proyek (read-only)
      */
+    @Override
     public List<Proyek> getAllProyek() {
-        return new ArrayList<>(proyekList);
+        proyekLock.readLock().lock();
+        try {
+            return proyekTable.view();
+        } finally {
+            proyekLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah proyek tanpa membuat list
+     */
+    @Override
+    public int countProyek() {
+        proyekLock.readLock().lock();
+        try {
+            return proyekTable.size();
+        } finally {
+            proyekLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Iterasi semua proyek terurut berdasarkan ID tanpa membuat list
+     * Action dijalankan di dalam read lock, jadi tidak boleh mengubah data
+     */
+    @Override
+    public void forEachProyek(Consumer<? super Proyek> action) {
+        proyekLock.readLock().lock();
+        try {
+            proyekTable.forEach(action);
+        } finally {
+            proyekLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset paging proyek berdasarkan ID
+     *
+     * @param afterId ID terakhir halaman sebelumnya (0 untuk halaman pertama)
+     * @param limit   Jumlah maksimal proyek di halaman
+     */
+    @Override
+    public List<Proyek> getProyekPage(int afterId, int limit) {
+        proyekLock.readLock().lock();
+        try {
+            return proyekTable.page(afterId, limit);
+        } finally {
+            proyekLock.readLock().unlock();
+        }
     }
 
     /**
      * Mendapatkan proyek berdasarkan siswa ID
-     * Filter proyek yang dimiliki oleh siswa tertentu
+     * Memakai index siswaId -> proyek, sehingga biayanya sebanding dengan
+     * jumlah proyek siswa tersebut (bukan jumlah semua proyek)
      * 
      * @param siswaId ID siswa
      * @return List of Proyek milik siswa tersebut
      */
+    @Override
     public List<Proyek> getProyekBySiswaId(int siswaId) {
-        List<Proyek> result = new ArrayList<>();
-        for (Proyek proyek : proyekList) {
-            if (proyek.getSiswaId() == siswaId) {
-                result.add(proyek);
+        proyekLock.readLock().lock();
+        try {
+            SortedIntSet proyekIds = proyekBySiswa.get(siswaId);
+            List<Proyek> result = new ArrayList<>(proyekIds.size());
+            for (int i = 0; i < proyekIds.size(); i++) {
+                result.add(proyekTable.get(proyekIds.get(i)));
             }
+            return result;
+        } finally {
+            proyekLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah proyek milik siswa (dari index, tanpa membuat list)
+     */
+    @Override
+    public int countProyekBySiswaId(int siswaId) {
+        proyekLock.readLock().lock();
+        try {
+            return proyekBySiswa.get(siswaId).size();
+        } finally {
+            proyekLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ringkasan skor proyek tervalidasi milik siswa
+     *
+     * @param siswaId ID siswa
+     * @return Salinan ringkasan, kosong (jumlah 0) jika belum ada proyek tervalidasi
+     */
+    @Override
+    public SkorAggregate getSkorProyekSiswa(int siswaId) {
+        proyekLock.readLock().lock();
+        try {
+            SkorAggregate aggregate = skorProyekBySiswa.get(siswaId);
+            return aggregate != null ? aggregate.copy() : new SkorAggregate();
+        } finally {
+            proyekLock.readLock().unlock();
         }
-        return result;
     }
 
     /**
@@ -305,13 +781,14 @@ public class DataStore {
      * @param id ID proyek
      * @return Proyek object atau null
      */
+    @Override
     public Proyek getProyekById(int id) {
-        for (Proyek proyek : proyekList) {
-            if (proyek.getId() == id) {
-                return proyek;
-            }
+        proyekLock.readLock().lock();
+        try {
+            return proyekTable.get(id);
+        } finally {
+            proyekLock.readLock().unlock();
         }
-        return null;
     }
 
     /**
@@ -319,29 +796,43 @@ public class DataStore {
      * 
      * @param proyek Proyek object yang akan ditambahkan
      */
+    @Override
     public void addProyek(Proyek proyek) {
-        proyek.setId(nextProyekId++);
-        proyekList.add(proyek);
-
-        // Tambahkan ke list proyek siswa
-        Siswa siswa = getSiswaById(proyek.getSiswaId());
-        if (siswa != null) {
-            siswa.addProyek(proyek.getId());
+        long seq;
+        proyekLock.writeLock().lock();
+        try {
+            proyek.setId(nextProyekId.getAndIncrement());
+            insertProyek(proyek);
+            updateSkorProyek(proyek, LocalDateTime.now());
+            seq = log(OP_PUT_PROYEK, out -> EntityCodec.writeProyek(out, proyek));
+        } finally {
+            proyekLock.writeLock().unlock();
         }
+        commit(seq);
     }
 
     /**
      * Update proyek yang sudah ada
+     * Jika proyek di-assign ke siswa lain, index dan list proyek
+     * kedua siswa ikut diperbarui
      * 
      * @param proyek Proyek object dengan data terbaru
      */
+    @Override
     public void updateProyek(Proyek proyek) {
-        for (int i = 0; i < proyekList.size(); i++) {
-            if (proyekList.get(i).getId() == proyek.getId()) {
-                proyekList.set(i, proyek);
-                break;
+        long seq;
+        proyekLock.writeLock().lock();
+        try {
+            if (proyekTable.replace(proyek) == null) {
+                return;
             }
+            indexProyekSiswa(proyek);
+            updateSkorProyek(proyek, LocalDateTime.now());
+            seq = log(OP_PUT_PROYEK, out -> EntityCodec.writeProyek(out, proyek));
+        } finally {
+            proyekLock.writeLock().unlock();
         }
+        commit(seq);
     }
 
     /**
@@ -350,230 +841,767 @@ public class DataStore {
      * @param id ID proyek yang akan dihapus
      * @return true jika berhasil dihapus
      */
+    @Override
     public boolean deleteProyek(int id) {
-        for (int i = 0; i < proyekList.size(); i++) {
-            if (proyekList.get(i).getId() == id) {
-                proyekList.remove(i);
-                return true;
+        long seq;
+        proyekLock.writeLock().lock();
+        try {
+            if (proyekTable.remove(id) == null) {
+                return false;
+            }
+            Integer siswaId = proyekBySiswa.remove(id);
+            hapusSkorProyek(id);
+            if (siswaId != null) {
+                updateSiswaState(siswaId, siswa -> siswa.removeProyek(id));
             }
+            seq = log(OP_DELETE_PROYEK, out -> out.writeInt(id));
+        } finally {
+            proyekLock.writeLock().unlock();
         }
-        return false;
+        // Code, test case, rubrik dan laporan ikut terhapus, juga saat record
+        // ini di-replay di atas snapshot yang masih berisi data proyek tersebut
+        synchronized (proyekCodeLock(id)) {
+            proyekCodeMap.remove(id);
+            testCaseMap.remove(id);
+            rubrikMap.remove(id);
+            laporanMap.remove(id);
+            deletedProyekIds.add(id);
+        }
+        commit(seq);
+        return true;
     }
 
-    // ==================== TES KOGNITIF METHODS ====================
-
     /**
-     * Mendapatkan semua tes kognitif
-     * 
-     * @return List of all TesKognitif
+     * Simpan proyek (ID sudah di-set) ke table dan index siswa
+     * Harus dipanggil dengan proyekLock write lock
      */
-    public List<TesKognitif> getAllTesKognitif() {
-        return new ArrayList<>(tesKognitifList);
+    private void insertProyek(Proyek proyek) {
+        proyekTable.add(proyek);
+        indexProyekSiswa(proyek);
     }
 
     /**
-     * Mendapatkan tes kognitif yang aktif saja
-     * 
-     * @return List of active TesKognitif
+     * Sinkronkan index siswaId -> proyek dan Siswa.proyekIds untuk satu proyek
+     * Harus dipanggil dengan proyekLock write lock
      */
-    public List<TesKognitif> getActiveTesKognitif() {
-        List<TesKognitif> result = new ArrayList<>();
-        for (TesKognitif tes : tesKognitifList) {
-            if (tes.isAktif()) {
-                result.add(tes);
-            }
+    private void indexProyekSiswa(Proyek proyek) {
+        Integer oldSiswaId = proyekBySiswa.put(proyek.getSiswaId(), proyek.getId());
+        if (oldSiswaId != null) {
+            updateSiswaState(oldSiswaId, oldSiswa -> oldSiswa.removeProyek(proyek.getId()));
         }
-        return result;
+
+        // Tambahkan ke list proyek siswa
+        updateSiswaState(proyek.getSiswaId(), siswa -> siswa.addProyek(proyek.getId()));
     }
 
     /**
-     * Mendapatkan tes kognitif berdasarkan ID
-     * 
-     * @param id ID tes
-     * @return TesKognitif object atau null
+     * Ubah state Siswa (list proyek, rata-rata skor) yang diturunkan dari
+     * proyek atau tes. Dijalankan di bawah userLock write lock karena reader
+     * dan checkpoint membaca Siswa di bawah userLock.
+     * Dipanggil dengan proyekLock/tesLock write lock (urutan lock: proyek/tes -> user)
      */
-    public TesKognitif getTesKognitifById(int id) {
-        for (TesKognitif tes : tesKognitifList) {
-            if (tes.getId() == id) {
-                return tes;
+    private void updateSiswaState(int siswaId, Consumer<Siswa> change) {
+        userLock.writeLock().lock();
+        try {
+            Siswa siswa = siswaTable.get(siswaId);
+            if (siswa != null) {
+                change.accept(siswa);
             }
+        } finally {
+            userLock.writeLock().unlock();
         }
-        return null;
     }
 
     /**
-     * Menambah tes kognitif baru
-     * 
-     * @param tes TesKognitif object
+     * Sinkronkan ringkasan skor proyek dengan status/skor/siswa proyek saat ini
+     * Skor yang tidak berubah tidak dicatat ulang (waktu terakhir tetap)
+     * Harus dipanggil dengan proyekLock write lock
+     *
+     * @param waktu Waktu perubahan, null saat restore (waktu asli tidak tersimpan)
      */
-    public void addTesKognitif(TesKognitif tes) {
-        tes.setId(nextTesId++);
-        tesKognitifList.add(tes);
+    private void updateSkorProyek(Proyek proyek, LocalDateTime waktu) {
+        boolean tervalidasi = Proyek.STATUS_TERVALIDASI.equals(proyek.getStatus());
+        SkorProyek lama = skorProyekTercatat.get(proyek.getId());
+        if (tervalidasi && lama != null && lama.siswaId == proyek.getSiswaId() && lama.skor == proyek.getSkor()) {
+            return;
+        }
+        hapusSkorProyek(proyek.getId());
+        if (tervalidasi) {
+            catatSkorProyek(proyek.getId(), proyek.getSiswaId(), proyek.getSkor(), waktu);
+        }
     }
 
     /**
-     * Menyimpan hasil tes siswa
-     * 
-     * @param siswaId ID siswa
-     * @param tesId   ID tes
-     * @param skor    Skor yang didapat
+     * Tambahkan skor proyek tervalidasi ke ringkasan skor proyek siswa
+     * Harus dipanggil dengan proyekLock write lock
+     *
+     * @param waktu Waktu validasi, null jika tidak diketahui
      */
-    public void saveHasilTes(int siswaId, int tesId, double skor) {
-        // Inisialisasi map jika belum ada
-        if (!hasilTesMap.containsKey(siswaId)) {
-            hasilTesMap.put(siswaId, new HashMap<>());
+    private void catatSkorProyek(int proyekId, int siswaId, double skor, LocalDateTime waktu) {
+        skorProyekTercatat.put(proyekId, new SkorProyek(siswaId, skor));
+        SkorAggregate aggregate = skorProyekBySiswa.get(siswaId);
+        if (aggregate == null) {
+            aggregate = new SkorAggregate();
+            skorProyekBySiswa.put(siswaId, aggregate);
         }
+        aggregate.add(skor, waktu);
+        refreshRataSkorProyek(siswaId, aggregate);
+    }
 
-        // Simpan skor
-        hasilTesMap.get(siswaId).put(tesId, skor);
-
-        // Update skor kognitif siswa (ambil rata-rata semua tes)
-        Siswa siswa = getSiswaById(siswaId);
-        if (siswa != null) {
-            double totalSkor = 0;
+    /**
+     * Keluarkan skor proyek (jika tercatat) dari ringkasan skor proyek siswa
+     * Harus dipanggil dengan proyekLock write lock
+     */
+    private void hapusSkorProyek(int proyekId) {
+        SkorProyek lama = skorProyekTercatat.remove(proyekId);
+        if (lama == null) {
+            return;
+        }
+        SkorAggregate aggregate = skorProyekBySiswa.get(lama.siswaId);
+        aggregate.remove(lama.skor);
+        if (aggregate.isBoundsStale()) {
+            SortedIntSet proyekIds = proyekBySiswa.get(lama.siswaId);
+            double[] skorList = new double[proyekIds.size()];
             int count = 0;
-            for (double skorTes : hasilTesMap.get(siswaId).values()) {
-                totalSkor += skorTes;
-                count++;
+            for (int i = 0; i < proyekIds.size(); i++) {
+                SkorProyek tercatat = skorProyekTercatat.get(proyekIds.get(i));
+                if (tercatat != null && tercatat.siswaId == lama.siswaId) {
+                    skorList[count++] = tercatat.skor;
+                }
             }
-            double rataSkor = totalSkor / count;
-            siswa.setSkorKognitif(rataSkor);
+            aggregate.rescan(Arrays.copyOf(skorList, count));
         }
+        refreshRataSkorProyek(lama.siswaId, aggregate);
+    }
+
+    private void refreshRataSkorProyek(int siswaId, SkorAggregate aggregate) {
+        updateSiswaState(siswaId, siswa -> siswa.setRataSkorProyek(aggregate.getRataRata()));
     }
 
+    // ==================== TES KOGNITIF METHODS ====================
+
     /**
-     * Mendapatkan hasil tes siswa
+     * Mendapatkan semua tes kognitif
      * 
-     * @param siswaId ID siswa
-     * @param tesId   ID tes
-     * @return Skor atau 0 jika belum pernah mengerjakan
+     * @return List of all TesKognitif (read-only)
      */
-    public double getHasilTes(int siswaId, int tesId) {
-        if (hasilTesMap.containsKey(siswaId)) {
-            return hasilTesMap.get(siswaId).getOrDefault(tesId, 0.0);
+    @Override
+    public List<TesKognitif> getAllTesKognitif() {
+        tesLock.readLock().lock();
+        try {
+            return tesKognitifTable.view();
+        } finally {
+            tesLock.readLock().unlock();
         }
-        return 0.0;
     }
 
-    // ==================== MATERI METHODS ====================
+    /**
+     * Jumlah tes tanpa membuat list
+     */
+    @Override
+    public int countTesKognitif() {
+        tesLock.readLock().lock();
+        try {
+            return tesKognitifTable.size();
+        } finally {
+            tesLock.readLock().unlock();
+        }
+    }
 
     /**
-     * Mendapatkan semua materi
-     * 
-     * @return List of all Materi
+     * Iterasi semua tes terurut berdasarkan ID tanpa membuat list
+     * Action dijalankan di dalam read lock, jadi tidak boleh mengubah data
      */
-    public List<Materi> getAllMateri() {
-        return new ArrayList<>(materiList);
+    @Override
+    public void forEachTesKognitif(Consumer<? super TesKognitif> action) {
+        tesLock.readLock().lock();
+        try {
+            tesKognitifTable.forEach(action);
+        } finally {
+            tesLock.readLock().unlock();
+        }
     }
 
     /**
-     * Mendapatkan materi berdasarkan topik
-     * 
-     * @param topik Topik materi
-     * @return List of Materi dengan topik tersebut
+     * Keyset paging tes berdasarkan ID
+     *
+     * @param afterId ID terakhir halaman sebelumnya (0 untuk halaman pertama)
+     * @param limit   Jumlah maksimal tes di halaman
      */
-    public List<Materi> getMateriByTopik(String topik) {
-        List<Materi> result = new ArrayList<>();
-        for (Materi materi : materiList) {
-            if (materi.getTopik().equalsIgnoreCase(topik)) {
-                result.add(materi);
-            }
+    @Override
+    public List<TesKognitif> getTesKognitifPage(int afterId, int limit) {
+        tesLock.readLock().lock();
+        try {
+            return tesKognitifTable.page(afterId, limit);
+        } finally {
+            tesLock.readLock().unlock();
         }
-        return result;
     }
 
     /**
-     * Mendapatkan materi berdasarkan ID
+     * Mendapatkan tes kognitif yang aktif saja
      * 
-     * @param id ID materi
-     * @return Materi object atau null
+     * @return List of active TesKognitif
      */
-    public Materi getMateriById(int id) {
-        for (Materi materi : materiList) {
-            if (materi.getId() == id) {
-                return materi;
+    @Override
+    public List<TesKognitif> getActiveTesKognitif() {
+        tesLock.readLock().lock();
+        try {
+            List<TesKognitif> result = new ArrayList<>();
+            for (TesKognitif tes : tesKognitifTable.rows()) {
+                if (tes.isAktif()) {
+                    result.add(tes);
+                }
             }
+            return result;
+        } finally {
+            tesLock.readLock().unlock();
         }
-        return null;
     }
 
-    // ==================== MODUL METHODS ====================
-
     /**
-     * Membuat modul pembelajaran baru
-     * 
-     * @param judul     Judul modul
-     * @param konten    Konten modul
-     * @param topik     Topik modul
-     * @param idPembuat ID Guru yang membuat
-     * @return ID modul yang dibuat
+     * Jumlah tes kognitif yang aktif (tanpa membuat list)
      */
-    public int createModul(String judul, String konten, String topik, int idPembuat) {
-        Modul modul = new Modul(nextModulId, judul, konten, topik, idPembuat);
-        modulList.add(modul);
-        return nextModulId++;
+    @Override
+    public int countActiveTesKognitif() {
+        tesLock.readLock().lock();
+        try {
+            int count = 0;
+            for (TesKognitif tes : tesKognitifTable.rows()) {
+                if (tes.isAktif()) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            tesLock.readLock().unlock();
+        }
     }
 
     /**
-     * Mendapatkan semua modul
+     * Mendapatkan tes kognitif berdasarkan ID
      * 
-     * @return List of all Modul
+     * @param id ID tes
+     * @return TesKognitif object atau null
      */
-    public List<Modul> getAllModul() {
-        return new ArrayList<>(modulList);
+    @Override
+    public TesKognitif getTesKognitifById(int id) {
+        tesLock.readLock().lock();
+        try {
+            return tesKognitifTable.get(id);
+        } finally {
+            tesLock.readLock().unlock();
+        }
     }
 
     /**
-     * Mendapatkan modul berdasarkan topik
+     * Menambah tes kognitif baru
      * 
-     * @param topik Topik modul
-     * @return List of Modul dengan topik tersebut
+     * @param tes TesKognitif object
      */
-    public List<Modul> getModulByTopik(String topik) {
-        List<Modul> result = new ArrayList<>();
-        for (Modul modul : modulList) {
-            if (modul.getTopik().equalsIgnoreCase(topik)) {
-                result.add(modul);
-            }
+    @Override
+    public void addTesKognitif(TesKognitif tes) {
+        long seq;
+        tesLock.writeLock().lock();
+        try {
+            tes.setId(nextTesId.getAndIncrement());
+            tesKognitifTable.add(tes);
+            seq = log(OP_PUT_TES, out -> EntityCodec.writeTes(out, tes));
+        } finally {
+            tesLock.writeLock().unlock();
         }
-        return result;
+        commit(seq);
     }
 
     /**
-     * Mendapatkan modul berdasarkan ID
+     * Menyimpan hasil tes siswa
      * 
-     * @param id ID modul
-     * @return Modul object atau null
+     * @param siswaId ID siswa
+     * @param tesId   ID tes
+     * @param skor    Skor yang didapat
      */
-    public Modul getModulById(int id) {
-        for (Modul modul : modulList) {
-            if (modul.getId() == id) {
-                return modul;
-            }
+    @Override
+    public void saveHasilTes(int siswaId, int tesId, double skor, int durasiDetik, String[] jawaban) {
+        long seq;
+        tesLock.writeLock().lock();
+        try {
+            PengerjaanTes pengerjaan = new PengerjaanTes(riwayatTesTable.size(), siswaId, tesId,
+                    LocalDateTime.now(), skor, durasiDetik, jawaban);
+            addPengerjaanTes(pengerjaan);
+            seq = log(OP_ADD_PENGERJAAN_TES, out -> EntityCodec.writePengerjaanTes(out, pengerjaan));
+        } finally {
+            tesLock.writeLock().unlock();
         }
-        return null;
+        commit(seq);
     }
 
     /**
-     * Menambah materi baru
-     * 
-     * @param materi Materi object
+     * Catat percobaan di riwayat, jadikan skornya skor terakhir untuk tes
+     * tersebut, lalu update skor kognitif siswa
+     * Harus dipanggil dengan tesLock write lock
      */
-    public void addMateri(Materi materi) {
-        materi.setId(nextMateriId++);
-        materiList.add(materi);
+    private void addPengerjaanTes(PengerjaanTes pengerjaan) {
+        riwayatTesTable.append(pengerjaan.getSiswaId(), pengerjaan.getTesId(),
+                RiwayatTesTable.toMillis(pengerjaan.getWaktu()), pengerjaan.getSkor(), pengerjaan.getDurasiDetik(),
+                PengerjaanTes.encodeJawaban(pengerjaan.getJawaban()));
+        SkorAggregate aggregate = putHasilTes(pengerjaan.getSiswaId(), pengerjaan.getTesId(), pengerjaan.getSkor(),
+                pengerjaan.getWaktu());
+        updateSkorKognitif(pengerjaan.getSiswaId(), aggregate);
     }
 
-    // ==================== PROYEK CODE METHODS ====================
-
+    /**
+     * Skor kognitif = rata-rata semua tes, langsung dari ringkasan
+     */
+    private void updateSkorKognitif(int siswaId, SkorAggregate aggregate) {
+        updateSiswaState(siswaId, siswa -> siswa.setSkorKognitif(aggregate.getRataRata()));
+    }
+
+    /**
+     * Hasil semua tes yang sudah dikerjakan siswa beserta data percobaannya
+     * Biayanya sebanding dengan jumlah percobaan siswa (bukan jumlah tes),
+     * dan skor 0 tetap muncul karena yang dibaca adalah hasil yang tersimpan
+     *
+     * @param siswaId ID siswa
+     * @return List hasil terurut berdasarkan ID tes (list baru)
+     */
+    @Override
+    public List<HasilTesSiswa> getHasilTesSiswa(int siswaId) {
+        tesLock.readLock().lock();
+        try {
+            IntHashMap<RingkasanPercobaan> percobaanByTes = new IntHashMap<>();
+            riwayatTesTable.forEachRowBySiswa(siswaId, row -> {
+                RingkasanPercobaan ringkasan = percobaanByTes.get(riwayatTesTable.tesId(row));
+                if (ringkasan == null) {
+                    ringkasan = new RingkasanPercobaan();
+                    percobaanByTes.put(riwayatTesTable.tesId(row), ringkasan);
+                }
+                ringkasan.jumlah++;
+                ringkasan.skorTertinggi = Math.max(ringkasan.skorTertinggi, riwayatTesTable.skor(row));
+                ringkasan.waktuMillis = riwayatTesTable.waktuMillis(row);
+                ringkasan.durasiDetik = riwayatTesTable.durasiDetik(row);
+            });
+
+            List<HasilTesSiswa> result = new ArrayList<>(hasilTesTable.countBySiswa(siswaId));
+            hasilTesTable.forEachBySiswa(siswaId, (id, tesId, skor) -> {
+                TesKognitif tes = tesKognitifTable.get(tesId);
+                if (tes == null) {
+                    return;
+                }
+                RingkasanPercobaan ringkasan = percobaanByTes.get(tesId);
+                if (ringkasan == null) {
+                    // Hasil dari sebelum ada riwayat percobaan
+                    result.add(new HasilTesSiswa(tes, skor, skor, 1, null, 0));
+                } else {
+                    result.add(new HasilTesSiswa(tes, skor, Math.max(ringkasan.skorTertinggi, skor),
+                            ringkasan.jumlah, RiwayatTesTable.toDateTime(ringkasan.waktuMillis),
+                            ringkasan.durasiDetik));
+                }
+            });
+            return result;
+        } finally {
+            tesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Riwayat semua percobaan tes siswa, urut sesuai waktu submit
+     *
+     * @param siswaId ID siswa
+     * @return List percobaan (list baru)
+     */
+    @Override
+    public List<PengerjaanTes> getRiwayatTesSiswa(int siswaId) {
+        tesLock.readLock().lock();
+        try {
+            return riwayatTesTable.bySiswa(siswaId);
+        } finally {
+            tesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Riwayat semua percobaan untuk satu tes (semua siswa), urut sesuai waktu submit
+     *
+     * @param tesId ID tes
+     * @return List percobaan (list baru)
+     */
+    @Override
+    public List<PengerjaanTes> getRiwayatTes(int tesId) {
+        tesLock.readLock().lock();
+        try {
+            return riwayatTesTable.byTes(tesId);
+        } finally {
+            tesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mendapatkan hasil tes siswa
+     * 
+     * @param siswaId ID siswa
+     * @param tesId   ID tes
+     * @return Skor percobaan terakhir atau 0 jika belum pernah mengerjakan
+     */
+    @Override
+    public double getHasilTes(int siswaId, int tesId) {
+        tesLock.readLock().lock();
+        try {
+            double skor = hasilTesTable.get(siswaId, tesId);
+            return Double.isNaN(skor) ? 0.0 : skor;
+        } finally {
+            tesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ringkasan skor tes siswa (jumlah tes, rata-rata, min, max, waktu terakhir)
+     *
+     * @param siswaId ID siswa
+     * @return Salinan ringkasan, kosong (jumlah 0) jika belum pernah mengerjakan tes
+     */
+    @Override
+    public SkorAggregate getSkorTesSiswa(int siswaId) {
+        tesLock.readLock().lock();
+        try {
+            SkorAggregate aggregate = skorTesBySiswa.get(siswaId);
+            return aggregate != null ? aggregate.copy() : new SkorAggregate();
+        } finally {
+            tesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Simpan skor ke hasilTesTable dan ringkasan skor tes siswa
+     * Jika siswa sudah pernah mengerjakan tes ini, skor lama dikurangi dulu
+     * Harus dipanggil dengan tesLock write lock
+     *
+     * @return Ringkasan skor tes siswa setelah update
+     */
+    private SkorAggregate putHasilTes(int siswaId, int tesId, double skor, LocalDateTime waktu) {
+        double skorLama = hasilTesTable.put(siswaId, tesId, skor);
+
+        SkorAggregate aggregate = skorTesBySiswa.get(siswaId);
+        if (aggregate == null) {
+            aggregate = new SkorAggregate();
+            skorTesBySiswa.put(siswaId, aggregate);
+        }
+        if (!Double.isNaN(skorLama)) {
+            aggregate.remove(skorLama);
+        }
+        aggregate.add(skor, waktu);
+        if (aggregate.isBoundsStale()) {
+            aggregate.rescan(hasilTesTable.skorBySiswa(siswaId));
+        }
+        return aggregate;
+    }
+
+    // ==================== MATERI METHODS ====================
+
+    /**
+     * Mendapatkan semua materi
+     * 
+     * @return List of all Materi (read-only)
+     */
+    @Override
+    public List<Materi> getAllMateri() {
+        materiLock.readLock().lock();
+        try {
+            return materiTable.view();
+        } finally {
+            materiLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah materi tanpa membuat list
+     */
+    @Override
+    public int countMateri() {
+        materiLock.readLock().lock();
+        try {
+            return materiTable.size();
+        } finally {
+            materiLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Iterasi semua materi terurut berdasarkan ID tanpa membuat list
+     * Action dijalankan di dalam read lock, jadi tidak boleh mengubah data
+     */
+    @Override
+    public void forEachMateri(Consumer<? super Materi> action) {
+        materiLock.readLock().lock();
+        try {
+            materiTable.forEach(action);
+        } finally {
+            materiLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset paging materi berdasarkan ID
+     *
+     * @param afterId ID terakhir halaman sebelumnya (0 untuk halaman pertama)
+     * @param limit   Jumlah maksimal materi di halaman
+     */
+    @Override
+    public List<Materi> getMateriPage(int afterId, int limit) {
+        materiLock.readLock().lock();
+        try {
+            return materiTable.page(afterId, limit);
+        } finally {
+            materiLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mendapatkan materi berdasarkan topik (case-insensitive)
+     * 
+     * @param topik Topik materi
+     * @return List of Materi dengan topik tersebut
+     */
+    @Override
+    public List<Materi> getMateriByTopik(String topik) {
+        materiLock.readLock().lock();
+        try {
+            SortedIntSet materiIds = materiByTopik.get(topik);
+            List<Materi> result = new ArrayList<>(materiIds.size());
+            for (int i = 0; i < materiIds.size(); i++) {
+                result.add(materiTable.get(materiIds.get(i)));
+            }
+            return result;
+        } finally {
+            materiLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mendapatkan daftar topik materi beserta jumlah materinya
+     * Untuk menu topik, tanpa perlu scan semua materi
+     * 
+     * @return Map topik -> jumlah materi, terurut berdasarkan nama topik
+     */
+    @Override
+    public Map<String, Integer> getMateriTopikCounts() {
+        materiLock.readLock().lock();
+        try {
+            return materiByTopik.counts();
+        } finally {
+            materiLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mendapatkan materi berdasarkan ID
+     * 
+     * @param id ID materi
+     * @return Materi object atau null
+     */
+    @Override
+    public Materi getMateriById(int id) {
+        materiLock.readLock().lock();
+        try {
+            return materiTable.get(id);
+        } finally {
+            materiLock.readLock().unlock();
+        }
+    }
+
+    // ==================== MODUL METHODS ====================
+
+    /**
+     * Membuat modul pembelajaran baru
+     * 
+     * @param judul     Judul modul
+     * @param konten    Konten modul
+     * @param topik     Topik modul
+     * @param idPembuat ID Guru yang membuat
+     * @return ID modul yang dibuat
+     */
+    @Override
+    public int createModul(String judul, String konten, String topik, int idPembuat) {
+        long seq;
+        Modul modul;
+        modulLock.writeLock().lock();
+        try {
+            modul = new Modul(nextModulId.getAndIncrement(), judul, konten, topik, idPembuat);
+            modul.setTopik(modulByTopik.put(topik, modul.getId()));
+            modulTable.add(modul);
+            seq = log(OP_PUT_MODUL, out -> EntityCodec.writeModul(out, modul));
+        } finally {
+            modulLock.writeLock().unlock();
+        }
+        commit(seq);
+        return modul.getId();
+    }
+
+    /**
+     * Mendapatkan semua modul
+     * 
+     * @return List of all Modul (read-only)
+     */
+    @Override
+    public List<Modul> getAllModul() {
+        modulLock.readLock().lock();
+        try {
+            return modulTable.view();
+        } finally {
+            modulLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Jumlah modul tanpa membuat list
+     */
+    @Override
+    public int countModul() {
+        modulLock.readLock().lock();
+        try {
+            return modulTable.size();
+        } finally {
+            modulLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Iterasi semua modul terurut berdasarkan ID tanpa membuat list
+     * Action dijalankan di dalam read lock, jadi tidak boleh mengubah data
+     */
+    @Override
+    public void forEachModul(Consumer<? super Modul> action) {
+        modulLock.readLock().lock();
+        try {
+            modulTable.forEach(action);
+        } finally {
+            modulLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Keyset paging modul berdasarkan ID
+     *
+     * @param afterId ID terakhir halaman sebelumnya (0 untuk halaman pertama)
+     * @param limit   Jumlah maksimal modul di halaman
+     */
+    @Override
+    public List<Modul> getModulPage(int afterId, int limit) {
+        modulLock.readLock().lock();
+        try {
+            return modulTable.page(afterId, limit);
+        } finally {
+            modulLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mendapatkan modul berdasarkan topik (case-insensitive)
+     * 
+     * @param topik Topik modul
+     * @return List of Modul dengan topik tersebut
+     */
+    @Override
+    public List<Modul> getModulByTopik(String topik) {
+        modulLock.readLock().lock();
+        try {
+            SortedIntSet modulIds = modulByTopik.get(topik);
+            List<Modul> result = new ArrayList<>(modulIds.size());
+            for (int i = 0; i < modulIds.size(); i++) {
+                result.add(modulTable.get(modulIds.get(i)));
+            }
+            return result;
+        } finally {
+            modulLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mendapatkan daftar topik modul beserta jumlah modulnya
+     * 
+     * @return Map topik -> jumlah modul, terurut berdasarkan nama topik
+     */
+    @Override
+    public Map<String, Integer> getModulTopikCounts() {
+        modulLock.readLock().lock();
+        try {
+            return modulByTopik.counts();
+        } finally {
+            modulLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Mendapatkan modul berdasarkan ID
+     * 
+     * @param id ID modul
+     * @return Modul object atau null
+     */
+    @Override
+    public Modul getModulById(int id) {
+        modulLock.readLock().lock();
+        try {
+            return modulTable.get(id);
+        } finally {
+            modulLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Menambah materi baru
+     * 
+     * @param materi Materi object
+     */
+    @Override
+    public void addMateri(Materi materi) {
+        long seq;
+        materiLock.writeLock().lock();
+        try {
+            materi.setId(nextMateriId.getAndIncrement());
+            insertMateri(materi);
+            seq = log(OP_PUT_MATERI, out -> EntityCodec.writeMateri(out, materi));
+        } finally {
+            materiLock.writeLock().unlock();
+        }
+        commit(seq);
+    }
+
+    /**
+     * Simpan materi (ID sudah di-set) ke table dan index topik
+     * Topik materi diganti dengan label kanonik dari index
+     * Harus dipanggil dengan materiLock write lock
+     */
+    private void insertMateri(Materi materi) {
+        materi.setTopik(materiByTopik.put(materi.getTopik(), materi.getId()));
+        materiTable.add(materi);
+    }
+
+    // ==================== PROYEK CODE METHODS ====================
+
     /**
      * Get code yang disimpan untuk proyek tertentu
      * 
      * @param proyekId ID proyek
      * @return Code string atau null jika belum ada
      */
+    @Override
     public String getProyekCode(int proyekId) {
-        return proyekCodeMap.getOrDefault(proyekId, null);
+        String code = proyekCodeMap.get(proyekId);
+        if (code == null && snapshotCodeRows != null) {
+            // Code dari snapshot di-decode saat pertama kali dibuka, kecuali
+            // proyeknya sudah dihapus setelah snapshot dimuat
+            Integer row = snapshotCodeRows.get(proyekId);
+            if (row != null) {
+                synchronized (proyekCodeLock(proyekId)) {
+                    if (deletedProyekIds.contains(proyekId)) {
+                        return proyekCodeMap.get(proyekId);
+                    }
+                    proyekCodeMap.putIfAbsent(proyekId,
+                            snapshotImage.section(SnapshotFile.Table.PROYEK_CODE).getString(1, row));
+                    code = proyekCodeMap.get(proyekId);
+                }
+            }
+        }
+        return code;
     }
 
     /**
@@ -582,8 +1610,879 @@ public class DataStore {
      * @param proyekId ID proyek
      * @param code     Code yang ditulis siswa
      */
+    @Override
     public void saveProyekCode(int proyekId, String code) {
-        proyekCodeMap.put(proyekId, code);
+        long seq;
+        // Lock per proyekId agar urutan di log sama dengan urutan di map
+        synchronized (proyekCodeLock(proyekId)) {
+            proyekCodeMap.put(proyekId, code);
+            seq = log(OP_SAVE_PROYEK_CODE, out -> {
+                out.writeInt(proyekId);
+                EntityCodec.writeString(out, code);
+            });
+        }
+        commit(seq);
+    }
+
+    // ==================== PENILAIAN METHODS ====================
+
+    /**
+     * Test case penilaian otomatis proyek
+     *
+     * @param proyekId ID proyek
+     * @return List read-only terurut berdasarkan urutan, kosong jika belum ada
+     */
+    @Override
+    public List<TestCase> getTestCases(int proyekId) {
+        return testCaseMap.getOrDefault(proyekId, Collections.emptyList());
+    }
+
+    /**
+     * Mengganti semua test case proyek, urutan di-set ulang mulai 1
+     *
+     * @param proyekId  ID proyek
+     * @param testCases Test case baru (kosong = hapus semua)
+     */
+    @Override
+    public void saveTestCases(int proyekId, List<TestCase> testCases) {
+        List<TestCase> copy = new ArrayList<>(testCases);
+        for (int i = 0; i < copy.size(); i++) {
+            copy.get(i).setUrutan(i + 1);
+        }
+        List<TestCase> stored = Collections.unmodifiableList(copy);
+        long seq;
+        synchronized (proyekCodeLock(proyekId)) {
+            if (stored.isEmpty()) {
+                testCaseMap.remove(proyekId);
+            } else {
+                testCaseMap.put(proyekId, stored);
+            }
+            seq = log(OP_SAVE_TEST_CASES, out -> {
+                out.writeInt(proyekId);
+                EntityCodec.writeTestCases(out, stored);
+            });
+        }
+        commit(seq);
+    }
+
+    /**
+     * @param proyekId ID proyek
+     * @return List read-only terurut berdasarkan urutan, kosong jika belum ada
+     */
+    @Override
+    public List<KriteriaRubrik> getRubrik(int proyekId) {
+        return rubrikMap.getOrDefault(proyekId, Collections.emptyList());
+    }
+
+    /**
+     * Mengganti semua kriteria rubrik proyek, urutan di-set ulang mulai 1
+     *
+     * @param proyekId ID proyek
+     * @param rubrik   Kriteria baru (kosong = hapus semua)
+     */
+    @Override
+    public void saveRubrik(int proyekId, List<KriteriaRubrik> rubrik) {
+        List<KriteriaRubrik> copy = new ArrayList<>(rubrik);
+        for (int i = 0; i < copy.size(); i++) {
+            copy.get(i).setUrutan(i + 1);
+        }
+        List<KriteriaRubrik> stored = Collections.unmodifiableList(copy);
+        long seq;
+        synchronized (proyekCodeLock(proyekId)) {
+            if (stored.isEmpty()) {
+                rubrikMap.remove(proyekId);
+            } else {
+                rubrikMap.put(proyekId, stored);
+            }
+            seq = log(OP_SAVE_RUBRIK, out -> {
+                out.writeInt(proyekId);
+                EntityCodec.writeRubrik(out, stored);
+            });
+        }
+        commit(seq);
+    }
+
+    /**
+     * @return Laporan penilaian submission terakhir, null jika belum pernah dinilai
+     */
+    @Override
+    public LaporanPenilaian getLaporanPenilaian(int proyekId) {
+        return laporanMap.get(proyekId);
+    }
+
+    /**
+     * Simpan laporan penilaian, mengganti laporan sebelumnya
+     */
+    @Override
+    public void saveLaporanPenilaian(LaporanPenilaian laporan) {
+        int proyekId = laporan.getProyekId();
+        long seq;
+        synchronized (proyekCodeLock(proyekId)) {
+            laporanMap.put(proyekId, laporan);
+            seq = log(OP_SAVE_LAPORAN, out -> EntityCodec.writeLaporan(out, laporan));
+        }
+        commit(seq);
+    }
+
+    /**
+     * Simpan hasil penilaian ulang: skor proyek dan laporan semua submission
+     * diperbarui di bawah 1 write lock dan dicatat sebagai 1 record log
+     * (1 fsync untuk seluruh batch). Code dicek di bawah lock code proyek,
+     * jadi saveProyekCode tidak bisa menyelip di antara cek dan simpan.
+     */
+    @Override
+    public int savePenilaianUlang(List<LaporanPenilaian> laporan) {
+        if (laporan.isEmpty()) {
+            return 0;
+        }
+        List<LaporanPenilaian> stored = new ArrayList<>(laporan.size());
+        LocalDateTime waktu = LocalDateTime.now();
+        long seq;
+        proyekLock.writeLock().lock();
+        try {
+            for (LaporanPenilaian item : laporan) {
+                Proyek proyek = proyekTable.get(item.getProyekId());
+                if (proyek == null) {
+                    continue;
+                }
+                synchronized (proyekCodeLock(proyek.getId())) {
+                    if (!item.isUntukKode(getProyekCode(proyek.getId()))) {
+                        System.err.println("WARNING: Penilaian ulang proyek " + proyek.getId()
+                                + " dilewati: code sudah di-submit ulang");
+                        continue;
+                    }
+                    laporanMap.put(proyek.getId(), item);
+                }
+                proyek.setSkor(item.getSkor());
+                updateSkorProyek(proyek, waktu);
+                stored.add(item);
+            }
+            if (stored.isEmpty()) {
+                return 0;
+            }
+            seq = log(OP_SAVE_PENILAIAN_ULANG, out -> {
+                out.writeInt(stored.size());
+                for (LaporanPenilaian item : stored) {
+                    EntityCodec.writeLaporan(out, item);
+                }
+            });
+        } finally {
+            proyekLock.writeLock().unlock();
+        }
+        commit(seq);
+        return stored.size();
+    }
+
+    /**
+     * Striped lock untuk saveProyekCode dan data penilaian (16 stripe berdasarkan proyekId)
+     */
+    private final Object[] proyekCodeLocks = createLockStripes(16);
+
+    private Object proyekCodeLock(int proyekId) {
+        return proyekCodeLocks[proyekId & (proyekCodeLocks.length - 1)];
+    }
+
+    private static Object[] createLockStripes(int count) {
+        Object[] stripes = new Object[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Object();
+        }
+        return stripes;
+    }
+
+    // ==================== PERSISTENCE METHODS ====================
+
+    /**
+     * Load snapshot terbaru, replay sisa write-ahead log, lalu
+     * menjalankan checkpoint berkala.
+     * Jika file tidak bisa dibuka, aplikasi tetap jalan tanpa persistence
+     */
+    private void openPersistence(Path dataDir, String mode, long checkpointIntervalSec) {
+        if ("off".equalsIgnoreCase(mode.trim())) {
+            initializeSampleData();
+            System.out.println("✓ Persistence dimatikan (goop.wal.durability=off)");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long fromSegment = loadLatestSnapshot(dataDir);
+        long snapshotMs = (System.nanoTime() - start) / 1_000_000;
+        if (fromSegment < 0) {
+            initializeSampleData();
+            fromSegment = 0;
+        }
+
+        try {
+            long replayStart = System.nanoTime();
+            WriteAheadLog log = new WriteAheadLog(dataDir, WriteAheadLog.parseDurability(mode),
+                    Long.getLong("goop.wal.groupCommitMs", 10L));
+            int count = log.replay(fromSegment, this::applyRecord);
+            checkpointNeeded = count > 0;
+            wal = log;
+            System.out.printf("✓ Data dimuat: snapshot %d ms + replay %d record log %d ms%n",
+                    snapshotMs, count, (System.nanoTime() - replayStart) / 1_000_000);
+        } catch (IOException e) {
+            System.err.println("WARNING: Write-ahead log tidak bisa dibuka, data tidak akan disimpan: "
+                    + e.getMessage());
+            return;
+        }
+
+        startCheckpointer(checkpointIntervalSec);
+    }
+
+    /**
+     * Load snapshot terbaru (jika ada)
+     *
+     * @return Segment log pertama yang harus di-replay, -1 jika tidak ada snapshot
+     */
+    private long loadLatestSnapshot(Path dataDir) {
+        try {
+            Path file = SnapshotFile.findLatest(dataDir);
+            if (file == null) {
+                return -1;
+            }
+            if (SnapshotFile.readVersion(file) == SnapshotFile.VERSION_STREAM) {
+                return SnapshotFile.readStream(file, this::readSnapshot);
+            }
+            SnapshotImage image = SnapshotImage.open(file);
+            loadSnapshotImage(image);
+            return image.getSegment();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("WARNING: Snapshot tidak bisa dibaca, hanya memakai write-ahead log: "
+                    + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Load snapshot format kolom ke DataStore yang masih kosong
+     * User dan tes dibuat langsung (dibutuhkan index username dan
+     * Siswa.proyekIds), sisanya hanya index-nya yang dibangun dari kolom
+     */
+    private void loadSnapshotImage(SnapshotImage image) throws IOException {
+        nextProyekId.accumulateAndGet(image.getCounter(0), Math::max);
+        nextTesId.accumulateAndGet(image.getCounter(1), Math::max);
+        nextMateriId.accumulateAndGet(image.getCounter(2), Math::max);
+        nextModulId.accumulateAndGet(image.getCounter(3), Math::max);
+        nextSoalId.accumulateAndGet(image.getCounter(4), Math::max);
+
+        SnapshotImage.Section siswa = image.section(SnapshotFile.Table.SISWA);
+        for (int row = 0; row < siswa.rows(); row++) {
+            addSiswa(EntityCodec.loadSiswa(siswa, row));
+        }
+        SnapshotImage.Section guru = image.section(SnapshotFile.Table.GURU);
+        for (int row = 0; row < guru.rows(); row++) {
+            addGuru(EntityCodec.loadGuru(guru, row));
+        }
+
+        SnapshotImage.Section tes = image.section(SnapshotFile.Table.TES);
+        for (int row = 0; row < tes.rows(); row++) {
+            restoreTes(EntityCodec.loadTes(tes, row));
+        }
+        SnapshotImage.Section hasil = image.section(SnapshotFile.Table.HASIL_TES);
+        tesLock.writeLock().lock();
+        try {
+            for (int row = 0; row < hasil.rows(); row++) {
+                putHasilTes(hasil.getInt(0, row), hasil.getInt(1, row), hasil.getDouble(2, row), null);
+            }
+            // Skor terakhir sudah ada di HASIL_TES, riwayat hanya ditambahkan
+            SnapshotImage.Section pengerjaan = image.section(SnapshotFile.Table.PENGERJAAN_TES);
+            for (int row = 0; row < pengerjaan.rows(); row++) {
+                int siswaId = pengerjaan.getInt(0, row);
+                long waktu = pengerjaan.getLong(2, row);
+                riwayatTesTable.append(siswaId, pengerjaan.getInt(1, row), waktu, pengerjaan.getDouble(3, row),
+                        pengerjaan.getInt(4, row), pengerjaan.getString(5, row));
+                SkorAggregate aggregate = skorTesBySiswa.get(siswaId);
+                if (aggregate != null) {
+                    aggregate.updateTerakhir(RiwayatTesTable.toDateTime(waktu));
+                }
+            }
+        } finally {
+            tesLock.writeLock().unlock();
+        }
+
+        SnapshotImage.Section proyek = image.section(SnapshotFile.Table.PROYEK);
+        proyekLock.writeLock().lock();
+        try {
+            proyekTable.attachLazy(proyek.getIntColumn(0), row -> EntityCodec.loadProyek(proyek, row));
+            for (int row = 0; row < proyek.rows(); row++) {
+                int proyekId = proyek.getInt(0, row);
+                int siswaId = proyek.getInt(6, row);
+                proyekBySiswa.put(siswaId, proyekId);
+                updateSiswaState(siswaId, owner -> owner.addProyek(proyekId));
+                if (Proyek.STATUS_TERVALIDASI.equals(proyek.getString(4, row))) {
+                    catatSkorProyek(proyekId, siswaId, proyek.getDouble(5, row), null);
+                }
+            }
+        } finally {
+            proyekLock.writeLock().unlock();
+        }
+
+        SnapshotImage.Section materi = image.section(SnapshotFile.Table.MATERI);
+        materiLock.writeLock().lock();
+        try {
+            materiTable.attachLazy(materi.getIntColumn(0), row -> EntityCodec.loadMateri(materi, row));
+            for (int row = 0; row < materi.rows(); row++) {
+                materiByTopik.put(materi.getString(3, row), materi.getInt(0, row));
+            }
+        } finally {
+            materiLock.writeLock().unlock();
+        }
+
+        SnapshotImage.Section modul = image.section(SnapshotFile.Table.MODUL);
+        modulLock.writeLock().lock();
+        try {
+            modulTable.attachLazy(modul.getIntColumn(0), row -> EntityCodec.loadModul(modul, row));
+            for (int row = 0; row < modul.rows(); row++) {
+                modulByTopik.put(modul.getString(3, row), modul.getInt(0, row));
+            }
+        } finally {
+            modulLock.writeLock().unlock();
+        }
+
+        SnapshotImage.Section code = image.section(SnapshotFile.Table.PROYEK_CODE);
+        IntHashMap<Integer> codeRows = new IntHashMap<>();
+        for (int row = 0; row < code.rows(); row++) {
+            codeRows.put(code.getInt(0, row), row);
+        }
+        snapshotCodeRows = codeRows;
+
+        SnapshotImage.Section testCase = image.section(SnapshotFile.Table.TEST_CASE);
+        for (int row = 0; row < testCase.rows(); row++) {
+            testCaseMap.put(testCase.getInt(0, row),
+                    Collections.unmodifiableList(EntityCodec.loadTestCases(testCase, row)));
+        }
+        SnapshotImage.Section laporan = image.section(SnapshotFile.Table.LAPORAN_PENILAIAN);
+        for (int row = 0; row < laporan.rows(); row++) {
+            laporanMap.put(laporan.getInt(0, row), EntityCodec.loadLaporan(laporan, row));
+        }
+        SnapshotImage.Section rubrik = image.section(SnapshotFile.Table.RUBRIK);
+        for (int row = 0; row < rubrik.rows(); row++) {
+            rubrikMap.put(rubrik.getInt(0, row), Collections.unmodifiableList(EntityCodec.loadRubrik(rubrik, row)));
+        }
+        snapshotImage = image;
+    }
+
+    private void startCheckpointer(long intervalSec) {
+        if (intervalSec <= 0) {
+            return;
+        }
+        checkpointer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "goop-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checkpointer.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+            } catch (IOException e) {
+                System.err.println("ERROR: Checkpoint gagal: " + e.getMessage());
+            }
+        }, intervalSec, intervalSec, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Checkpoint: mulai segment log baru, tulis snapshot seluruh data,
+     * lalu hapus segment lama.
+     *
+     * Writer TIDAK diblok selama snapshot ditulis: setiap table hanya
+     * di-copy sebentar di bawah read lock. Perubahan yang terjadi selama
+     * snapshot berjalan tetap tercatat di segment baru, dan karena semua
+     * record log idempotent, replay segment tersebut di atas snapshot
+     * menghasilkan data yang benar.
+     */
+    void checkpoint() throws IOException {
+        synchronized (checkpointLock) {
+            WriteAheadLog log = wal;
+            if (log == null || !(checkpointNeeded || log.hasRecordsInSegment())) {
+                return;
+            }
+            long start = System.nanoTime();
+            long segment = log.rollover();
+            Path file = SnapshotFile.write(log.getDirectory(), buildSnapshot(segment));
+            log.deleteSegmentsBefore(segment);
+            checkpointNeeded = false;
+            System.out.printf("✓ Checkpoint %s dalam %.1f ms%n", file.getFileName(),
+                    (System.nanoTime() - start) / 1e6);
+        }
+    }
+
+    /**
+     * Menyusun snapshot seluruh isi DataStore
+     * Row lazy yang belum pernah diakses di-copy dari snapshot lama
+     */
+    private SnapshotBuilder buildSnapshot(long segment) throws IOException {
+        SnapshotBuilder builder = new SnapshotBuilder(segment, nextProyekId.get(), nextTesId.get(),
+                nextMateriId.get(), nextModulId.get(), nextSoalId.get());
+
+        List<Siswa> siswa;
+        List<Guru> guru;
+        userLock.readLock().lock();
+        try {
+            siswa = siswaTable.copy();
+            guru = guruTable.copy();
+        } finally {
+            userLock.readLock().unlock();
+        }
+        SnapshotBuilder.Section siswaSection = builder.section(SnapshotFile.Table.SISWA);
+        for (Siswa item : siswa) {
+            EntityCodec.putSiswa(siswaSection, item);
+        }
+        SnapshotBuilder.Section guruSection = builder.section(SnapshotFile.Table.GURU);
+        for (Guru item : guru) {
+            EntityCodec.putGuru(guruSection, item);
+        }
+
+        List<TesKognitif> tes;
+        SnapshotBuilder.Section hasilSection = builder.section(SnapshotFile.Table.HASIL_TES);
+        SnapshotBuilder.Section pengerjaanSection = builder.section(SnapshotFile.Table.PENGERJAAN_TES);
+        tesLock.readLock().lock();
+        try {
+            tes = tesKognitifTable.copy();
+            hasilTesTable.forEach((siswaId, tesId, skor) ->
+                    hasilSection.putInt(siswaId).putInt(tesId).putDouble(skor).endRow());
+            // Diambil di lock yang sama dengan HASIL_TES agar skor terakhir dan riwayat konsisten
+            for (int row = 0; row < riwayatTesTable.size(); row++) {
+                pengerjaanSection.putInt(riwayatTesTable.siswaId(row)).putInt(riwayatTesTable.tesId(row))
+                        .putLong(riwayatTesTable.waktuMillis(row)).putDouble(riwayatTesTable.skor(row))
+                        .putInt(riwayatTesTable.durasiDetik(row)).putString(riwayatTesTable.jawaban(row))
+                        .endRow();
+            }
+        } finally {
+            tesLock.readLock().unlock();
+        }
+        SnapshotBuilder.Section tesSection = builder.section(SnapshotFile.Table.TES);
+        for (TesKognitif item : tes) {
+            EntityCodec.putTes(tesSection, item);
+        }
+
+        List<Object> proyek;
+        proyekLock.readLock().lock();
+        try {
+            proyek = proyekTable.snapshotRows();
+        } finally {
+            proyekLock.readLock().unlock();
+        }
+        SnapshotBuilder.Section proyekSection = builder.section(SnapshotFile.Table.PROYEK);
+        Set<Integer> proyekIds = new HashSet<>(proyek.size() * 2);
+        for (Object row : proyek) {
+            if (row instanceof Integer) {
+                SnapshotImage.Section old = snapshotImage.section(SnapshotFile.Table.PROYEK);
+                proyekSection.copyRow(old, (Integer) row);
+                proyekIds.add(old.getInt(0, (Integer) row));
+            } else {
+                EntityCodec.putProyek(proyekSection, (Proyek) row);
+                proyekIds.add(((Proyek) row).getId());
+            }
+        }
+
+        List<Object> materi;
+        materiLock.readLock().lock();
+        try {
+            materi = materiTable.snapshotRows();
+        } finally {
+            materiLock.readLock().unlock();
+        }
+        SnapshotBuilder.Section materiSection = builder.section(SnapshotFile.Table.MATERI);
+        for (Object row : materi) {
+            if (row instanceof Integer) {
+                materiSection.copyRow(snapshotImage.section(SnapshotFile.Table.MATERI), (Integer) row);
+            } else {
+                EntityCodec.putMateri(materiSection, (Materi) row);
+            }
+        }
+
+        List<Object> modul;
+        modulLock.readLock().lock();
+        try {
+            modul = modulTable.snapshotRows();
+        } finally {
+            modulLock.readLock().unlock();
+        }
+        SnapshotBuilder.Section modulSection = builder.section(SnapshotFile.Table.MODUL);
+        for (Object row : modul) {
+            if (row instanceof Integer) {
+                modulSection.copyRow(snapshotImage.section(SnapshotFile.Table.MODUL), (Integer) row);
+            } else {
+                EntityCodec.putModul(modulSection, (Modul) row);
+            }
+        }
+
+        // getProyekCode() bisa menambah code dari snapshot lama ke map selama
+        // checkpoint berjalan, jadi row snapshot lama di-copy berdasarkan key
+        // yang benar-benar sudah ditulis, bukan isi map saat ini.
+        // Code proyek yang sudah dihapus tidak ikut ditulis.
+        SnapshotBuilder.Section codeSection = builder.section(SnapshotFile.Table.PROYEK_CODE);
+        Set<Integer> codeWritten = new HashSet<>();
+        for (Map.Entry<Integer, String> entry : proyekCodeMap.entrySet()) {
+            if (proyekIds.contains(entry.getKey())) {
+                codeSection.putInt(entry.getKey()).putString(entry.getValue()).endRow();
+                codeWritten.add(entry.getKey());
+            }
+        }
+        if (snapshotImage != null) {
+            SnapshotImage.Section code = snapshotImage.section(SnapshotFile.Table.PROYEK_CODE);
+            for (int row = 0; row < code.rows(); row++) {
+                int proyekId = code.getInt(0, row);
+                if (proyekIds.contains(proyekId) && !codeWritten.contains(proyekId)) {
+                    codeSection.copyRow(code, row);
+                }
+            }
+        }
+
+        SnapshotBuilder.Section testCaseSection = builder.section(SnapshotFile.Table.TEST_CASE);
+        for (Map.Entry<Integer, List<TestCase>> entry : testCaseMap.entrySet()) {
+            EntityCodec.putTestCases(testCaseSection, entry.getKey(), entry.getValue());
+        }
+        SnapshotBuilder.Section laporanSection = builder.section(SnapshotFile.Table.LAPORAN_PENILAIAN);
+        for (LaporanPenilaian laporan : laporanMap.values()) {
+            EntityCodec.putLaporan(laporanSection, laporan);
+        }
+        SnapshotBuilder.Section rubrikSection = builder.section(SnapshotFile.Table.RUBRIK);
+        for (Map.Entry<Integer, List<KriteriaRubrik>> entry : rubrikMap.entrySet()) {
+            EntityCodec.putRubrik(rubrikSection, entry.getKey(), entry.getValue());
+        }
+        return builder;
+    }
+
+    /**
+     * Load isi snapshot ke DataStore yang masih kosong
+     */
+    private void readSnapshot(DataInputStream in) throws IOException {
+        nextProyekId.accumulateAndGet(in.readInt(), Math::max);
+        nextTesId.accumulateAndGet(in.readInt(), Math::max);
+        nextMateriId.accumulateAndGet(in.readInt(), Math::max);
+        nextModulId.accumulateAndGet(in.readInt(), Math::max);
+        nextSoalId.accumulateAndGet(in.readInt(), Math::max);
+
+        for (int i = in.readInt(); i > 0; i--) {
+            addSiswa(EntityCodec.readSiswa(in));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            addGuru(EntityCodec.readGuru(in));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            restoreTes(EntityCodec.readTes(in));
+        }
+        tesLock.writeLock().lock();
+        try {
+            for (int i = in.readInt(); i > 0; i--) {
+                int siswaId = in.readInt();
+                int tesId = in.readInt();
+                putHasilTes(siswaId, tesId, in.readDouble(), null);
+            }
+        } finally {
+            tesLock.writeLock().unlock();
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            restoreProyek(EntityCodec.readProyek(in));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            restoreMateri(EntityCodec.readMateri(in));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            restoreModul(EntityCodec.readModul(in));
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            int proyekId = in.readInt();
+            proyekCodeMap.put(proyekId, EntityCodec.readString(in));
+        }
+    }
+
+    /**
+     * Folder penyimpanan data aplikasi
+     */
+    public static Path getDataDirectory() {
+        String dir = System.getProperty("goop.data.dir");
+        if (dir != null && !dir.isBlank()) {
+            return Paths.get(dir);
+        }
+        return Paths.get(System.getProperty("user.home"), ".goop");
+    }
+
+    /**
+     * Checkpoint terakhir lalu menutup write-ahead log
+     * (agar start berikutnya cukup load snapshot)
+     * Dipanggil dari Main.stop()
+     */
+    public void shutdown() {
+        if (checkpointer != null) {
+            checkpointer.shutdown();
+        }
+        WriteAheadLog log = wal;
+        if (log == null) {
+            return;
+        }
+        try {
+            checkpoint();
+        } catch (IOException e) {
+            System.err.println("ERROR: Checkpoint gagal: " + e.getMessage());
+        }
+        wal = null;
+        try {
+            log.close();
+            System.out.println("✓ Write-ahead log ditutup");
+        } catch (IOException e) {
+            System.err.println("ERROR: Gagal menutup write-ahead log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tutup write-ahead log TANPA checkpoint, seperti aplikasi yang crash
+     * (record yang sudah di-commit tetap ada di log). Untuk test restart
+     */
+    void closeWithoutCheckpoint() throws IOException {
+        if (checkpointer != null) {
+            checkpointer.shutdownNow();
+        }
+        WriteAheadLog log = wal;
+        wal = null;
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    /**
+     * Encode 1 record dan append ke log
+     * Dipanggil di dalam write lock entity agar urutan log = urutan perubahan
+     *
+     * @return Nomor urut record, 0 jika tidak dicatat
+     * @throws DataAccessException Jika record tidak bisa di-append (misal log
+     *                             sudah rusak karena write/fsync sebelumnya gagal)
+     */
+    private long log(byte op, RecordWriter writer) {
+        WriteAheadLog log = wal;
+        if (log == null) {
+            return 0;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(op);
+            writer.write(out);
+            out.flush();
+            return log.append(bytes.toByteArray());
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("ERROR: Gagal mencatat perubahan ke write-ahead log: " + e.getMessage());
+            throw new DataAccessException("Perubahan tidak tersimpan: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Menunggu record durable sesuai mode durability
+     * Dipanggil SETELAH write lock dilepas
+     *
+     * @throws DataAccessException Jika record gagal ditulis ke disk
+     */
+    private void commit(long seq) {
+        WriteAheadLog log = wal;
+        if (seq == 0 || log == null) {
+            return;
+        }
+        try {
+            log.commit(seq);
+        } catch (IOException e) {
+            System.err.println("ERROR: Gagal menyimpan perubahan ke disk: " + e.getMessage());
+            throw new DataAccessException("Perubahan tidak tersimpan: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Menerapkan 1 record log ke DataStore (saat replay)
+     * wal masih null saat replay, jadi method public di bawah tidak mencatat ulang
+     */
+    private void applyRecord(DataInputStream in) throws IOException {
+        byte op = in.readByte();
+        switch (op) {
+            case OP_PUT_SISWA:
+                restoreSiswa(EntityCodec.readSiswa(in));
+                break;
+            case OP_PUT_GURU:
+                restoreGuru(EntityCodec.readGuru(in));
+                break;
+            case OP_PUT_PROYEK:
+                restoreProyek(EntityCodec.readProyek(in));
+                break;
+            case OP_DELETE_PROYEK:
+                deleteProyek(in.readInt());
+                break;
+            case OP_PUT_TES:
+                restoreTes(EntityCodec.readTes(in));
+                break;
+            case OP_SAVE_HASIL_TES:
+                restoreHasilTes(in.readInt(), in.readInt(), in.readDouble());
+                break;
+            case OP_ADD_PENGERJAAN_TES:
+                restorePengerjaanTes(EntityCodec.readPengerjaanTes(in));
+                break;
+            case OP_PUT_MATERI:
+                restoreMateri(EntityCodec.readMateri(in));
+                break;
+            case OP_PUT_MODUL:
+                restoreModul(EntityCodec.readModul(in));
+                break;
+            case OP_SAVE_PROYEK_CODE:
+                int proyekId = in.readInt();
+                saveProyekCode(proyekId, EntityCodec.readString(in));
+                break;
+            case OP_SAVE_TEST_CASES:
+                int testCaseProyekId = in.readInt();
+                saveTestCases(testCaseProyekId, EntityCodec.readTestCases(in));
+                break;
+            case OP_SAVE_LAPORAN:
+                saveLaporanPenilaian(EntityCodec.readLaporan(in));
+                break;
+            case OP_SAVE_PENILAIAN_ULANG:
+                int laporanCount = in.readInt();
+                List<LaporanPenilaian> laporan = new ArrayList<>(laporanCount);
+                for (int i = 0; i < laporanCount; i++) {
+                    laporan.add(EntityCodec.readLaporan(in));
+                }
+                savePenilaianUlang(laporan);
+                break;
+            case OP_SAVE_RUBRIK:
+                int rubrikProyekId = in.readInt();
+                saveRubrik(rubrikProyekId, EntityCodec.readRubrik(in));
+                break;
+            default:
+                throw new IOException("Jenis record WAL tidak dikenal: " + op);
+        }
+    }
+
+    /**
+     * Put siswa dari log: tambah jika belum ada, atau salin data ke object
+     * yang sudah ada (agar referensi Siswa di tempat lain tetap valid)
+     */
+    private void restoreSiswa(Siswa siswa) {
+        Siswa existing = getSiswaById(siswa.getId());
+        if (existing == null) {
+            addSiswa(siswa);
+            return;
+        }
+        existing.setUsername(siswa.getUsername());
+        existing.setPassword(siswa.getPassword());
+        existing.setEmail(siswa.getEmail());
+        existing.setNamaLengkap(siswa.getNamaLengkap());
+        existing.setSkorKognitif(siswa.getSkorKognitif());
+        updateSiswa(existing);
+    }
+
+    /**
+     * Put guru dari log: tambah jika belum ada, atau salin data ke object
+     * yang sudah ada (password yang di-hash ulang saat login)
+     */
+    private void restoreGuru(Guru guru) {
+        userLock.writeLock().lock();
+        try {
+            Guru existing = guruTable.get(guru.getId());
+            if (existing != null) {
+                existing.setPassword(guru.getPassword());
+                existing.setEmail(guru.getEmail());
+                existing.setNamaLengkap(guru.getNamaLengkap());
+                return;
+            }
+        } finally {
+            userLock.writeLock().unlock();
+        }
+        addGuru(guru);
+    }
+
+    /**
+     * Hasil tes dari log format lama: hanya skor terakhir, tanpa riwayat
+     */
+    private void restoreHasilTes(int siswaId, int tesId, double skor) {
+        tesLock.writeLock().lock();
+        try {
+            updateSkorKognitif(siswaId, putHasilTes(siswaId, tesId, skor, null));
+        } finally {
+            tesLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Percobaan dari log: dilewati jika nomornya sudah tercakup snapshot
+     * (checkpoint berjalan sambil penulisan baru masuk ke segment berikutnya)
+     */
+    private void restorePengerjaanTes(PengerjaanTes pengerjaan) {
+        tesLock.writeLock().lock();
+        try {
+            if (pengerjaan.getId() < riwayatTesTable.size()) {
+                return;
+            }
+            if (pengerjaan.getId() > riwayatTesTable.size()) {
+                System.err.println("WARNING: Riwayat tes melompat dari " + riwayatTesTable.size() + " ke "
+                        + pengerjaan.getId() + " (segment log hilang?)");
+            }
+            addPengerjaanTes(pengerjaan);
+        } finally {
+            tesLock.writeLock().unlock();
+        }
+    }
+
+    private void restoreProyek(Proyek proyek) {
+        proyekLock.writeLock().lock();
+        try {
+            nextProyekId.accumulateAndGet(proyek.getId() + 1, Math::max);
+            Proyek existing = proyekTable.get(proyek.getId());
+            if (existing == null) {
+                insertProyek(proyek);
+                updateSkorProyek(proyek, null);
+                return;
+            }
+            existing.setJudul(proyek.getJudul());
+            existing.setDeskripsi(proyek.getDeskripsi());
+            existing.setDeadline(proyek.getDeadline());
+            existing.setStatus(proyek.getStatus());
+            existing.setSkor(proyek.getSkor());
+            existing.setSiswaId(proyek.getSiswaId());
+            existing.setGuruId(proyek.getGuruId());
+            existing.setFilePath(proyek.getFilePath());
+            indexProyekSiswa(existing);
+            updateSkorProyek(existing, null);
+        } finally {
+            proyekLock.writeLock().unlock();
+        }
+    }
+
+    private void restoreTes(TesKognitif tes) {
+        tesLock.writeLock().lock();
+        try {
+            nextTesId.accumulateAndGet(tes.getId() + 1, Math::max);
+            for (Soal soal : tes.getDaftarSoal()) {
+                nextSoalId.accumulateAndGet(soal.getId() + 1, Math::max);
+            }
+            if (tesKognitifTable.replace(tes) == null) {
+                tesKognitifTable.add(tes);
+            }
+        } finally {
+            tesLock.writeLock().unlock();
+        }
+    }
+
+    private void restoreMateri(Materi materi) {
+        materiLock.writeLock().lock();
+        try {
+            nextMateriId.accumulateAndGet(materi.getId() + 1, Math::max);
+            materi.setTopik(materiByTopik.put(materi.getTopik(), materi.getId()));
+            if (materiTable.replace(materi) == null) {
+                materiTable.add(materi);
+            }
+        } finally {
+            materiLock.writeLock().unlock();
+        }
+    }
+
+    private void restoreModul(Modul modul) {
+        modulLock.writeLock().lock();
+        try {
+            nextModulId.accumulateAndGet(modul.getId() + 1, Math::max);
+            modul.setTopik(modulByTopik.put(modul.getTopik(), modul.getId()));
+            if (modulTable.replace(modul) == null) {
+                modulTable.add(modul);
+            }
+        } finally {
+            modulLock.writeLock().unlock();
+        }
     }
 
     // ==================== INITIALIZE SAMPLE DATA ====================
@@ -599,226 +2498,50 @@ public class DataStore {
         System.out.println("Initializing Sample Data...");
         System.out.println("============================================");
 
-        // ===== SAMPLE USERS =====
-
-        // Siswa 1 - Sandy Putra (sesuai dengan jurnal)
-        Siswa siswa1 = new Siswa(1, "sandy", "123", "sandy@email.com", "Sandy Putra Pratama");
-        siswaList.add(siswa1);
-
-        // Siswa 2 - Budi
-        Siswa siswa2 = new Siswa(2, "budi", "123", "budi@email.com", "Budi Santoso");
-        siswaList.add(siswa2);
-
-        // Siswa 3 - Ani
-        Siswa siswa3 = new Siswa(3, "ani", "123", "ani@email.com", "Ani Wijaya");
-        siswaList.add(siswa3);
-
-        // Guru 1 - Bambang Sujatmiko (sesuai dengan jurnal)
-        Guru guru1 = new Guru(4, "bambang", "123", "bambang@email.com", "Bambang Sujatmiko");
-        guruList.add(guru1);
-
-        System.out.println("✓ Created " + siswaList.size() + " siswa and " + guruList.size() + " guru");
-
-        // ===== SAMPLE PROYEK =====
-        // Proyek sederhana untuk pemula
-
-        // Proyek 1 - Hello World (untuk Sandy, siswa1 id=1, created by Bambang guru
-        // id=2)
-        Proyek proyek1 = new Proyek(nextProyekId++, "Hello World - Program Pertama",
-                "Buat program Java sederhana yang menampilkan teks 'Hello, World!' ke console.\n\n" +
-                        "Instruksi:\n" +
-                        "1. Buat class bernama HelloWorld\n" +
-                        "2. Tambahkan method main\n" +
-                        "3. Gunakan System.out.println() untuk print 'Hello, World!'\n\n" +
-                        "Contoh output:\n" +
-                        "Hello, World!",
-                LocalDate.now().plusDays(7), Proyek.STATUS_BELUM_DIKERJAKAN, 0, 1, 2);
-        proyekList.add(proyek1);
-        siswa1.addProyek(proyek1.getId());
-
-        // Proyek 2 - Kalkulator Sederhana (untuk Sandy, siswa1 id=1, created by Bambang
-        // guru id=2)
-        Proyek proyek2 = new Proyek(nextProyekId++, "Kalkulator Sederhana",
-                "Buat program kalkulator yang bisa menjumlahkan dua angka.\n\n" +
-                        "Instruksi:\n" +
-                        "1. Buat class Calculator\n" +
-                        "2. Buat method tambah(int a, int b) yang return hasil penjumlahan\n" +
-                        "3. Test di method main dengan beberapa angka\n\n" +
-                        "Contoh output:\n" +
-                        "5 + 3 = 8",
-                LocalDate.now().plusDays(14), Proyek.STATUS_BELUM_DIKERJAKAN, 0, 1, 2);
-        proyekList.add(proyek2);
-        siswa1.addProyek(proyek2.getId());
-
-        // Proyek 3 - Sapa Nama (untuk Budi, siswa2 id=2, created by Bambang guru id=2)
-        Proyek proyek3 = new Proyek(nextProyekId++, "Program Sapa Nama",
-                "Buat program yang menyapa pengguna dengan nama mereka.\n\n" +
-                        "Instruksi:\n" +
-                        "1. Buat class Sapa\n" +
-                        "2. Buat method sapaNama(String nama)\n" +
-                        "3. Method harus print 'Halo, [nama]! Selamat datang!'\n\n" +
-                        "Contoh output:\n" +
-                        "Halo, Budi! Selamat datang!",
-                LocalDate.now().plusDays(10), Proyek.STATUS_BELUM_DIKERJAKAN, 0, 2, 2);
-        proyekList.add(proyek3);
-        siswa2.addProyek(proyek3.getId());
-
-        System.out.println("✓ Created " + proyekList.size() + " proyek");
-
-        // ===== SAMPLE TES KOGNITIF =====
-
-        TesKognitif tes1 = new TesKognitif(nextTesId++, "Tes Pemahaman OOP Dasar", 30);
-
-        // Tambahkan soal-soal ke tes
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Apa yang dimaksud dengan Class dalam OOP?",
-                "Template atau blueprint untuk membuat object",
-                "Variable untuk menyimpan data",
-                "Function untuk menjalankan program",
-                "Looping untuk mengulang proses",
-                "A"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Apa yang dimaksud dengan Object?",
-                "Looping statement",
-                "Instance atau realisasi dari sebuah class",
-                "Method dalam class",
-                "Variable global",
-                "B"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Apa itu Encapsulation?",
-                "Pewarisan properties dari parent class",
-                "Polymorphisme dalam OOP",
-                "Pembungkusan data dan method dalam satu unit (class)",
-                "Abstraksi dari object",
-                "C"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Keyword untuk inheritance di Java adalah?",
-                "implements",
-                "inherits",
-                "extends",
-                "inherit",
-                "C"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Apa keuntungan menggunakan Inheritance?",
-                "Code lebih lambat",
-                "Code reusability dan hierarki class",
-                "Memerlukan lebih banyak memory",
-                "Susah di-maintain",
-                "B"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Apa itu Polymorphism?",
-                "Kemampuan object untuk mengambil banyak bentuk",
-                "Membuat banyak class",
-                "Menggunakan banyak variable",
-                "Inheritance dari multiple class",
-                "A"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Manakah yang bukan pilar OOP?",
-                "Encapsulation",
-                "Inheritance",
-                "Compilation",
-                "Polymorphism",
-                "C"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Access modifier 'private' artinya?",
-                "Bisa diakses dari mana saja",
-                "Hanya bisa diakses dalam class yang sama",
-                "Bisa diakses dari package yang sama",
-                "Bisa diakses dari subclass",
-                "B"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Method yang memiliki nama sama dengan class disebut?",
-                "Destructor",
-                "Getter",
-                "Constructor",
-                "Setter",
-                "C"));
-
-        tes1.addSoal(new Soal(nextSoalId++, tes1.getId(),
-                "Apa fungsi keyword 'super' dalam Java?",
-                "Membuat variable super besar",
-                "Memanggil constructor atau method dari parent class",
-                "Membuat class menjadi abstract",
-                "Mengakses static method",
-                "B"));
-
-        tesKognitifList.add(tes1);
-
-        System.out.println("✓ Created " + tesKognitifList.size() + " tes with " + tes1.getJumlahSoal() + " soal");
-
-        // ===== SAMPLE MATERI =====
-        // All materi created by guru "Bambang Sujatmiko" (id=2)
-
-        Materi materi1 = new Materi(nextMateriId++, "Pengenalan OOP",
-                "Object-Oriented Programming (OOP) adalah paradigma pemrograman yang berfokus pada konsep object. " +
-                        "Object adalah instance dari class yang memiliki attributes (data) dan methods (behavior). " +
-                        "OOP memiliki 4 pilar utama: Encapsulation, Inheritance, Polymorphism, dan Abstraction. " +
-                        "Dengan OOP, kita bisa membuat program yang lebih modular, terstruktur, dan mudah di-maintain.",
-                "Dasar OOP", 2);
-        materiList.add(materi1);
-
-        Materi materi2 = new Materi(nextMateriId++, "Class dan Object",
-                "Class adalah template atau blueprint untuk membuat object. Class mendefinisikan attributes " +
-                        "(properties/fields) dan methods (functions) yang akan dimiliki object. " +
-                        "Object adalah instance atau realisasi konkret dari class. Satu class bisa digunakan untuk " +
-                        "membuat banyak object. Contoh: Class 'Mobil' bisa membuat object mobil1, mobil2, dst.",
-                "Dasar OOP", 2);
-        materiList.add(materi2);
-
-        Materi materi3 = new Materi(nextMateriId++, "Encapsulation",
-                "Encapsulation adalah pembungkusan data (attributes) dan methods yang bekerja pada data tersebut " +
-                        "dalam satu unit (class). Tujuannya adalah untuk menyembunyikan implementasi internal dan hanya "
-                        +
-                        "mengekspos yang perlu diakses dari luar. Implementasi: menggunakan access modifiers (private, protected, public) "
-                        +
-                        "dan getter/setter methods.",
-                "Dasar OOP", 2);
-        materiList.add(materi3);
-
-        Materi materi4 = new Materi(nextMateriId++, "Inheritance (Pewarisan)",
-                "Inheritance adalah mekanisme dimana sebuah class (child/subclass) dapat mewarisi attributes dan methods "
-                        +
-                        "dari class lain (parent/superclass). Keuntungan: code reusability, hierarki class yang jelas, dan "
-                        +
-                        "memudahkan maintenance. Di Java, menggunakan keyword 'extends'. Contoh: class Siswa extends User.",
-                "Advanced OOP", 2);
-        materiList.add(materi4);
-
-        Materi materi5 = new Materi(nextMateriId++, "Polymorphism",
-                "Polymorphism berarti 'banyak bentuk'. Dalam OOP, polymorphism memungkinkan satu interface untuk " +
-                        "digunakan dengan berbagai tipe data atau object yang berbeda. Ada 2 jenis: Compile-time polymorphism "
-                        +
-                        "method overloading) dan Runtime polymorphism (method overriding). Contoh: method toString() yang "
-                        +
-                        "di-override di setiap class.",
-                "Advanced OOP", 2);
-        materiList.add(materi5);
-
-        Materi materi6 = new Materi(nextMateriId++, "Abstraction",
-                "Abstraction adalah proses menyembunyikan detail implementasi dan hanya menampilkan fungsionalitas " +
-                        "kepada user. Fokus pada 'apa yang dilakukan' bukan 'bagaimana melakukannya'. Implementasi menggunakan "
-                        +
-                        "abstract class atau interface. Contoh: kita tahu mobil bisa jalan, tapi tidak perlu tahu detail mesin.",
-                "Advanced OOP", 2);
-        materiList.add(materi6);
-
-        System.out.println("✓ Created " + materiList.size() + " materi pembelajaran");
+        for (Siswa siswa : SampleData.siswa()) {
+            addSiswa(siswa);
+        }
+        for (Guru guru : SampleData.guru()) {
+            addGuru(guru);
+        }
 
-        System.out.println("============================================");
-        System.out.println("Sample Data Initialization Complete!");
-        System.out.println("============================================\n");
-        System.out.println("Login Credentials:");
-        System.out.println("Siswa  - Username: sandy | Password: 123");
-        System.out.println("Siswa  - Username: budi  | Password: 123");
-        System.out.println("Guru   - Username: bambang | Password: 123");
-        System.out.println("============================================\n");
+        // restoreXxx menyimpan dengan ID dari SampleData dan menyesuaikan counter ID
+        for (Proyek proyek : SampleData.proyek()) {
+            restoreProyek(proyek);
+        }
+        int jumlahSoal = 0;
+        for (TesKognitif tes : SampleData.tes()) {
+            restoreTes(tes);
+            jumlahSoal += tes.getJumlahSoal();
+        }
+        for (Materi materi : SampleData.materi()) {
+            restoreMateri(materi);
+        }
+
+        SampleData.printSummary(siswaTable.size(), guruTable.size(), proyekTable.size(),
+                tesKognitifTable.size(), jumlahSoal, materiTable.size());
+    }
+
+    /**
+     * Data percobaan 1 tes milik siswa (dipakai getHasilTesSiswa)
+     */
+    private static final class RingkasanPercobaan {
+        private int jumlah;
+        private double skorTertinggi = Double.NEGATIVE_INFINITY;
+        private long waktuMillis;
+        private int durasiDetik;
+    }
+
+    /**
+     * Skor proyek tervalidasi yang sudah masuk ke ringkasan siswa
+     */
+    private static final class SkorProyek {
+        private final int siswaId;
+        private final double skor;
+
+        SkorProyek(int siswaId, double skor) {
+            this.siswaId = siswaId;
+            this.skor = skor;
+        }
     }
 }
@@ -0,0 +1,519 @@
+package com.goop.data;
+
+import com.goop.models.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class EntityCodec - Encode/decode model ke format binary yang ringkas
+ *
+ * Dipakai oleh write-ahead log (dan snapshot) untuk menyimpan data
+ * DataStore ke file. Format tiap field:
+ * - int/double/long: big-endian (DataOutput standar)
+ * - String: panjang byte UTF-8 (int, -1 untuk null) + isi byte.
+ *   Tidak memakai writeUTF karena writeUTF dibatasi 64KB, sedangkan
+ *   code proyek siswa bisa lebih panjang
+ * - LocalDate: epoch day (long, Long.MIN_VALUE untuk null)
+ *
+ * Urutan field HARUS sama antara write dan read untuk setiap entity.
+ *
+ * Method putXxx / loadXxx dipakai untuk snapshot format kolom
+ * (SnapshotBuilder / SnapshotImage). Urutan kolom mengikuti
+ * SnapshotFile.Table.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class EntityCodec {
+
+    private static final long NULL_DATE = Long.MIN_VALUE;
+
+    private EntityCodec() {
+    }
+
+    // ==================== PRIMITIVE HELPERS ====================
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        out.writeLong(date != null ? date.toEpochDay() : NULL_DATE);
+    }
+
+    static LocalDate readDate(DataInput in) throws IOException {
+        long epochDay = in.readLong();
+        return epochDay != NULL_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+        out.writeBoolean(dateTime != null);
+        if (dateTime != null) {
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dateTime.getNano());
+        }
+    }
+
+    static LocalDateTime readDateTime(DataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    // ==================== USER ====================
+
+    static void writeSiswa(DataOutput out, Siswa siswa) throws IOException {
+        writeUser(out, siswa);
+        out.writeDouble(siswa.getSkorKognitif());
+    }
+
+    static Siswa readSiswa(DataInput in) throws IOException {
+        Siswa siswa = new Siswa();
+        readUser(in, siswa);
+        siswa.setRole("SISWA");
+        siswa.setSkorKognitif(in.readDouble());
+        return siswa;
+    }
+
+    static void writeGuru(DataOutput out, Guru guru) throws IOException {
+        writeUser(out, guru);
+    }
+
+    static Guru readGuru(DataInput in) throws IOException {
+        Guru guru = new Guru();
+        readUser(in, guru);
+        guru.setRole("GURU");
+        return guru;
+    }
+
+    private static void writeUser(DataOutput out, User user) throws IOException {
+        out.writeInt(user.getId());
+        writeString(out, user.getUsername());
+        writeString(out, user.getPassword());
+        writeString(out, user.getEmail());
+        writeString(out, user.getNamaLengkap());
+    }
+
+    private static void readUser(DataInput in, User user) throws IOException {
+        user.setId(in.readInt());
+        user.setUsername(readString(in));
+        user.setPassword(readString(in));
+        user.setEmail(readString(in));
+        user.setNamaLengkap(readString(in));
+    }
+
+    // ==================== PROYEK ====================
+
+    static void writeProyek(DataOutput out, Proyek proyek) throws IOException {
+        out.writeInt(proyek.getId());
+        writeString(out, proyek.getJudul());
+        writeString(out, proyek.getDeskripsi());
+        writeDate(out, proyek.getDeadline());
+        writeString(out, proyek.getStatus());
+        out.writeDouble(proyek.getSkor());
+        out.writeInt(proyek.getSiswaId());
+        out.writeInt(proyek.getGuruId());
+        writeString(out, proyek.getFilePath());
+    }
+
+    static Proyek readProyek(DataInput in) throws IOException {
+        Proyek proyek = new Proyek();
+        proyek.setId(in.readInt());
+        proyek.setJudul(readString(in));
+        proyek.setDeskripsi(readString(in));
+        proyek.setDeadline(readDate(in));
+        proyek.setStatus(readString(in));
+        proyek.setSkor(in.readDouble());
+        proyek.setSiswaId(in.readInt());
+        proyek.setGuruId(in.readInt());
+        proyek.setFilePath(readString(in));
+        return proyek;
+    }
+
+    // ==================== TES KOGNITIF ====================
+
+    static void writeTes(DataOutput out, TesKognitif tes) throws IOException {
+        out.writeInt(tes.getId());
+        writeString(out, tes.getJudul());
+        out.writeInt(tes.getDurasiMenit());
+        writeString(out, tes.getStatus());
+
+        List<Soal> daftarSoal = tes.getDaftarSoal();
+        out.writeInt(daftarSoal.size());
+        for (Soal soal : daftarSoal) {
+            out.writeInt(soal.getId());
+            writeString(out, soal.getPertanyaan());
+            writeString(out, soal.getPilihanA());
+            writeString(out, soal.getPilihanB());
+            writeString(out, soal.getPilihanC());
+            writeString(out, soal.getPilihanD());
+            writeString(out, soal.getJawabanBenar());
+        }
+    }
+
+    static TesKognitif readTes(DataInput in) throws IOException {
+        TesKognitif tes = new TesKognitif();
+        tes.setId(in.readInt());
+        tes.setJudul(readString(in));
+        tes.setDurasiMenit(in.readInt());
+        tes.setStatus(readString(in));
+
+        int jumlahSoal = in.readInt();
+        List<Soal> daftarSoal = new ArrayList<>(jumlahSoal);
+        for (int i = 0; i < jumlahSoal; i++) {
+            int id = in.readInt();
+            String pertanyaan = readString(in);
+            String pilihanA = readString(in);
+            String pilihanB = readString(in);
+            String pilihanC = readString(in);
+            String pilihanD = readString(in);
+            String jawabanBenar = readString(in);
+            daftarSoal.add(new Soal(id, tes.getId(), pertanyaan, pilihanA, pilihanB, pilihanC, pilihanD,
+                    jawabanBenar));
+        }
+        tes.setDaftarSoal(daftarSoal);
+        return tes;
+    }
+
+    /**
+     * Waktu ditulis sebagai epoch millisecond UTC (sama dengan RiwayatTesTable)
+     */
+    static void writePengerjaanTes(DataOutput out, PengerjaanTes pengerjaan) throws IOException {
+        out.writeInt(pengerjaan.getId());
+        out.writeInt(pengerjaan.getSiswaId());
+        out.writeInt(pengerjaan.getTesId());
+        out.writeLong(RiwayatTesTable.toMillis(pengerjaan.getWaktu()));
+        out.writeDouble(pengerjaan.getSkor());
+        out.writeInt(pengerjaan.getDurasiDetik());
+        writeString(out, PengerjaanTes.encodeJawaban(pengerjaan.getJawaban()));
+    }
+
+    static PengerjaanTes readPengerjaanTes(DataInput in) throws IOException {
+        int id = in.readInt();
+        int siswaId = in.readInt();
+        int tesId = in.readInt();
+        LocalDateTime waktu = RiwayatTesTable.toDateTime(in.readLong());
+        double skor = in.readDouble();
+        int durasiDetik = in.readInt();
+        String[] jawaban = PengerjaanTes.decodeJawaban(readString(in));
+        return new PengerjaanTes(id, siswaId, tesId, waktu, skor, durasiDetik, jawaban);
+    }
+
+    // ==================== MATERI & MODUL ====================
+
+    static void writeMateri(DataOutput out, Materi materi) throws IOException {
+        out.writeInt(materi.getId());
+        writeString(out, materi.getJudul());
+        writeString(out, materi.getKonten());
+        writeString(out, materi.getTopik());
+        out.writeInt(materi.getGuruId());
+        writeString(out, materi.getUrlResource());
+    }
+
+    static Materi readMateri(DataInput in) throws IOException {
+        int id = in.readInt();
+        String judul = readString(in);
+        String konten = readString(in);
+        String topik = readString(in);
+        int guruId = in.readInt();
+        String urlResource = readString(in);
+        return new Materi(id, judul, konten, topik, guruId, urlResource);
+    }
+
+    static void writeModul(DataOutput out, Modul modul) throws IOException {
+        out.writeInt(modul.getId());
+        writeString(out, modul.getJudul());
+        writeString(out, modul.getKonten());
+        writeString(out, modul.getTopik());
+        out.writeInt(modul.getGuruId());
+        writeDateTime(out, modul.getTanggalDibuat());
+    }
+
+    static Modul readModul(DataInput in) throws IOException {
+        int id = in.readInt();
+        String judul = readString(in);
+        String konten = readString(in);
+        String topik = readString(in);
+        int guruId = in.readInt();
+        Modul modul = new Modul(id, judul, konten, topik, guruId);
+        modul.setTanggalDibuat(readDateTime(in));
+        return modul;
+    }
+
+    // ==================== PENILAIAN ====================
+
+    static void writeTestCases(DataOutput out, List<TestCase> testCases) throws IOException {
+        out.writeInt(testCases.size());
+        for (TestCase testCase : testCases) {
+            out.writeInt(testCase.getUrutan());
+            writeString(out, testCase.getNama());
+            writeString(out, testCase.getInput());
+            writeString(out, testCase.getExpectedOutput());
+            writeString(out, testCase.getKodeCek());
+            out.writeInt(testCase.getBobot());
+            out.writeInt(testCase.getTimeoutMs());
+        }
+    }
+
+    static List<TestCase> readTestCases(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<TestCase> testCases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int urutan = in.readInt();
+            String nama = readString(in);
+            String input = readString(in);
+            String expectedOutput = readString(in);
+            String kodeCek = readString(in);
+            int bobot = in.readInt();
+            int timeoutMs = in.readInt();
+            testCases.add(new TestCase(urutan, nama, input, expectedOutput, kodeCek, bobot, timeoutMs));
+        }
+        return testCases;
+    }
+
+    static void writeRubrik(DataOutput out, List<KriteriaRubrik> rubrik) throws IOException {
+        out.writeInt(rubrik.size());
+        for (KriteriaRubrik kriteria : rubrik) {
+            out.writeInt(kriteria.getUrutan());
+            writeString(out, kriteria.getJenis());
+            out.writeInt(kriteria.getMinimal());
+            out.writeInt(kriteria.getBobot());
+        }
+    }
+
+    static List<KriteriaRubrik> readRubrik(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<KriteriaRubrik> rubrik = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int urutan = in.readInt();
+            String jenis = readString(in);
+            int minimal = in.readInt();
+            int bobot = in.readInt();
+            rubrik.add(new KriteriaRubrik(urutan, jenis, minimal, bobot));
+        }
+        return rubrik;
+    }
+
+    static void writeLaporan(DataOutput out, LaporanPenilaian laporan) throws IOException {
+        out.writeInt(laporan.getProyekId());
+        writeDateTime(out, laporan.getWaktu());
+        out.writeDouble(laporan.getSkor());
+        out.writeBoolean(laporan.isCompileBerhasil());
+        writeString(out, laporan.getPesan());
+        out.writeInt(laporan.getHasil().size());
+        for (HasilTestCase hasil : laporan.getHasil()) {
+            out.writeInt(hasil.getUrutan());
+            writeString(out, hasil.getNama());
+            writeString(out, hasil.getStatus());
+            writeString(out, hasil.getPesan());
+            writeString(out, hasil.getOutput());
+            out.writeLong(hasil.getDurasiMillis());
+            out.writeInt(hasil.getBobot());
+        }
+    }
+
+    static LaporanPenilaian readLaporan(DataInput in) throws IOException {
+        int proyekId = in.readInt();
+        LocalDateTime waktu = readDateTime(in);
+        double skor = in.readDouble();
+        boolean compileBerhasil = in.readBoolean();
+        String pesan = readString(in);
+        int count = in.readInt();
+        List<HasilTestCase> hasil = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int urutan = in.readInt();
+            String nama = readString(in);
+            String status = readString(in);
+            String pesanHasil = readString(in);
+            String output = readString(in);
+            long durasiMillis = in.readLong();
+            int bobot = in.readInt();
+            hasil.add(new HasilTestCase(urutan, nama, status, pesanHasil, output, durasiMillis, bobot));
+        }
+        return new LaporanPenilaian(proyekId, waktu, skor, compileBerhasil, pesan, hasil);
+    }
+
+    // ==================== SNAPSHOT (KOLOM) ====================
+
+    static void putSiswa(SnapshotBuilder.Section section, Siswa siswa) {
+        section.putInt(siswa.getId())
+                .putString(siswa.getUsername())
+                .putString(siswa.getPassword())
+                .putString(siswa.getEmail())
+                .putString(siswa.getNamaLengkap())
+                .putDouble(siswa.getSkorKognitif())
+                .endRow();
+    }
+
+    static Siswa loadSiswa(SnapshotImage.Section section, int row) {
+        Siswa siswa = new Siswa(section.getInt(0, row), section.getString(1, row), section.getString(2, row),
+                section.getString(3, row), section.getString(4, row));
+        siswa.setSkorKognitif(section.getDouble(5, row));
+        return siswa;
+    }
+
+    static void putGuru(SnapshotBuilder.Section section, Guru guru) {
+        section.putInt(guru.getId())
+                .putString(guru.getUsername())
+                .putString(guru.getPassword())
+                .putString(guru.getEmail())
+                .putString(guru.getNamaLengkap())
+                .endRow();
+    }
+
+    static Guru loadGuru(SnapshotImage.Section section, int row) {
+        return new Guru(section.getInt(0, row), section.getString(1, row), section.getString(2, row),
+                section.getString(3, row), section.getString(4, row));
+    }
+
+    /**
+     * Tes beserta daftar soal disimpan sebagai 1 blob (format writeTes),
+     * karena jumlahnya sedikit dan selalu dibaca utuh
+     */
+    static void putTes(SnapshotBuilder.Section section, TesKognitif tes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeTes(out, tes);
+        out.flush();
+        section.putInt(tes.getId()).putBytes(bytes.toByteArray()).endRow();
+    }
+
+    static TesKognitif loadTes(SnapshotImage.Section section, int row) throws IOException {
+        return readTes(new DataInputStream(new ByteArrayInputStream(section.getBytes(1, row))));
+    }
+
+    static void putProyek(SnapshotBuilder.Section section, Proyek proyek) {
+        LocalDate deadline = proyek.getDeadline();
+        section.putInt(proyek.getId())
+                .putString(proyek.getJudul())
+                .putString(proyek.getDeskripsi())
+                .putLong(deadline != null ? deadline.toEpochDay() : NULL_DATE)
+                .putString(proyek.getStatus())
+                .putDouble(proyek.getSkor())
+                .putInt(proyek.getSiswaId())
+                .putInt(proyek.getGuruId())
+                .putString(proyek.getFilePath())
+                .endRow();
+    }
+
+    static Proyek loadProyek(SnapshotImage.Section section, int row) {
+        Proyek proyek = new Proyek();
+        proyek.setId(section.getInt(0, row));
+        proyek.setJudul(section.getString(1, row));
+        proyek.setDeskripsi(section.getString(2, row));
+        long epochDay = section.getLong(3, row);
+        proyek.setDeadline(epochDay != NULL_DATE ? LocalDate.ofEpochDay(epochDay) : null);
+        proyek.setStatus(section.getString(4, row));
+        proyek.setSkor(section.getDouble(5, row));
+        proyek.setSiswaId(section.getInt(6, row));
+        proyek.setGuruId(section.getInt(7, row));
+        proyek.setFilePath(section.getString(8, row));
+        return proyek;
+    }
+
+    static void putMateri(SnapshotBuilder.Section section, Materi materi) {
+        section.putInt(materi.getId())
+                .putString(materi.getJudul())
+                .putString(materi.getKonten())
+                .putString(materi.getTopik())
+                .putInt(materi.getGuruId())
+                .putString(materi.getUrlResource())
+                .endRow();
+    }
+
+    static Materi loadMateri(SnapshotImage.Section section, int row) {
+        return new Materi(section.getInt(0, row), section.getString(1, row), section.getString(2, row),
+                section.getString(3, row), section.getInt(4, row), section.getString(5, row));
+    }
+
+    static void putModul(SnapshotBuilder.Section section, Modul modul) {
+        LocalDateTime tanggal = modul.getTanggalDibuat();
+        section.putInt(modul.getId())
+                .putString(modul.getJudul())
+                .putString(modul.getKonten())
+                .putString(modul.getTopik())
+                .putInt(modul.getGuruId())
+                .putLong(tanggal != null ? tanggal.toEpochSecond(ZoneOffset.UTC) : NULL_DATE)
+                .putInt(tanggal != null ? tanggal.getNano() : 0)
+                .endRow();
+    }
+
+    static Modul loadModul(SnapshotImage.Section section, int row) {
+        Modul modul = new Modul(section.getInt(0, row), section.getString(1, row), section.getString(2, row),
+                section.getString(3, row), section.getInt(4, row));
+        long epochSecond = section.getLong(5, row);
+        modul.setTanggalDibuat(epochSecond != NULL_DATE
+                ? LocalDateTime.ofEpochSecond(epochSecond, section.getInt(6, row), ZoneOffset.UTC)
+                : null);
+        return modul;
+    }
+
+    static void putTestCases(SnapshotBuilder.Section section, int proyekId, List<TestCase> testCases)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeTestCases(out, testCases);
+        out.flush();
+        section.putInt(proyekId).putBytes(bytes.toByteArray()).endRow();
+    }
+
+    static List<TestCase> loadTestCases(SnapshotImage.Section section, int row) throws IOException {
+        return readTestCases(new DataInputStream(new ByteArrayInputStream(section.getBytes(1, row))));
+    }
+
+    static void putRubrik(SnapshotBuilder.Section section, int proyekId, List<KriteriaRubrik> rubrik)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeRubrik(out, rubrik);
+        out.flush();
+        section.putInt(proyekId).putBytes(bytes.toByteArray()).endRow();
+    }
+
+    static List<KriteriaRubrik> loadRubrik(SnapshotImage.Section section, int row) throws IOException {
+        return readRubrik(new DataInputStream(new ByteArrayInputStream(section.getBytes(1, row))));
+    }
+
+    static void putLaporan(SnapshotBuilder.Section section, LaporanPenilaian laporan) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeLaporan(out, laporan);
+        out.flush();
+        section.putInt(laporan.getProyekId()).putBytes(bytes.toByteArray()).endRow();
+    }
+
+    static LaporanPenilaian loadLaporan(SnapshotImage.Section section, int row) throws IOException {
+        return readLaporan(new DataInputStream(new ByteArrayInputStream(section.getBytes(1, row))));
+    }
+}
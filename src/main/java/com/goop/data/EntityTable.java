@@ -0,0 +1,365 @@
+package com.goop.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Class EntityTable - Penyimpanan satu jenis entity beserta index primary key
+ *
+ * Setiap entity di DataStore (Siswa, Proyek, TesKognitif, dll) disimpan
+ * di table ini. Ada 2 struktur yang selalu di-sync:
+ * - rows: ArrayList yang terurut berdasarkan ID (untuk getAll dan urutan tampilan)
+ * - byId: IntHashMap ID -> entity (lookup O(1))
+ *
+ * Karena ID baru hampir selalu lebih besar dari ID terakhir, insert biasanya
+ * hanya append di akhir list. Posisi untuk update/delete dicari dengan
+ * binary search (O(log n)), bukan linear scan.
+ *
+ * LAZY ROWS (dari snapshot):
+ * Saat start, entity dari snapshot tidak langsung dibuat object-nya.
+ * Table hanya menyimpan kolom ID (terurut) dan membuat object saat
+ * entity tersebut pertama kali diakses (get/copy). Entity lazy yang
+ * di-update/di-hapus dipindahkan dulu ke rows/byId (di bawah write lock).
+ *
+ * READ TANPA COPY:
+ * - view(): list read-only yang di-cache sampai ada perubahan, sehingga
+ *   getAll berulang tanpa perubahan data tidak membuat list baru
+ * - forEach() dan page(): iterasi langsung di rows + row lazy
+ *
+ * Class ini TIDAK thread-safe, sinkronisasi dilakukan oleh DataStore.
+ *
+ * @param <T> Tipe entity
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class EntityTable<T> {
+
+    private final ToIntFunction<T> idOf;
+    private final List<T> rows;
+    private final IntHashMap<T> byId;
+
+    /**
+     * Bagian lazy: ID dari snapshot (terurut), object yang sudah dibuat,
+     * tanda sudah dipindahkan/dihapus, dan loader (index row -> entity).
+     * Semua null jika tidak ada row lazy.
+     */
+    private int[] lazyIds;
+    private AtomicReferenceArray<T> lazyLoaded;
+    private boolean[] lazyMoved;
+    private IntFunction<T> lazyLoader;
+    private int lazyLive;
+
+    /**
+     * Cache view() (null jika ada perubahan sejak view terakhir dibuat).
+     * Volatile karena bisa diisi oleh beberapa reader bersamaan
+     */
+    private volatile List<T> view;
+
+    /**
+     * @param idOf Function untuk mengambil ID dari entity (contoh: Siswa::getId)
+     */
+    EntityTable(ToIntFunction<T> idOf) {
+        this.idOf = idOf;
+        this.rows = new ArrayList<>();
+        this.byId = new IntHashMap<>();
+    }
+
+    /**
+     * Mendapatkan entity berdasarkan ID (O(1))
+     *
+     * @param id ID entity
+     * @return Entity atau null jika tidak ditemukan
+     */
+    T get(int id) {
+        T entity = byId.get(id);
+        if (entity != null || lazyIds == null) {
+            return entity;
+        }
+        int row = lazyIndexOf(id);
+        return row >= 0 ? loadLazy(row) : null;
+    }
+
+    boolean contains(int id) {
+        return byId.containsKey(id) || lazyIndexOf(id) >= 0;
+    }
+
+    /**
+     * Mengisi table kosong dengan row lazy dari snapshot
+     *
+     * @param ids    ID setiap row, terurut naik (index array = index row snapshot)
+     * @param loader Membuat entity dari index row, dipanggil maksimal 1x per row
+     */
+    void attachLazy(int[] ids, IntFunction<T> loader) {
+        if (!rows.isEmpty() || lazyIds != null) {
+            throw new IllegalStateException("attachLazy hanya untuk table kosong");
+        }
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i - 1] >= ids[i]) {
+                throw new IllegalArgumentException("ID row lazy harus terurut dan unik");
+            }
+        }
+        if (ids.length == 0) {
+            return;
+        }
+        lazyIds = ids;
+        lazyLoaded = new AtomicReferenceArray<>(ids.length);
+        lazyMoved = new boolean[ids.length];
+        lazyLoader = loader;
+        lazyLive = ids.length;
+        view = null;
+    }
+
+    /**
+     * Menambah entity baru
+     *
+     * @param entity Entity yang ditambahkan
+     * @return false jika ID sudah dipakai entity lain (entity tidak ditambahkan)
+     */
+    boolean add(T entity) {
+        int id = idOf.applyAsInt(entity);
+        if (contains(id)) {
+            return false;
+        }
+        insert(id, entity);
+        view = null;
+        return true;
+    }
+
+    private void insert(int id, T entity) {
+        byId.put(id, entity);
+
+        int last = rows.size() - 1;
+        if (last < 0 || idOf.applyAsInt(rows.get(last)) < id) {
+            rows.add(entity);
+        } else {
+            rows.add(-indexOf(id) - 1, entity);
+        }
+    }
+
+    /**
+     * Mengganti entity dengan ID yang sama
+     *
+     * @param entity Entity dengan data terbaru
+     * @return Entity lama, atau null jika ID tidak ditemukan (tidak ada perubahan)
+     */
+    T replace(T entity) {
+        int id = idOf.applyAsInt(entity);
+        T old = byId.get(id);
+        if (old == null) {
+            old = promote(id);
+        }
+        if (old == null) {
+            return null;
+        }
+        if (old != entity) {
+            byId.put(id, entity);
+            rows.set(indexOf(id), entity);
+            view = null;
+        }
+        return old;
+    }
+
+    /**
+     * Menghapus entity berdasarkan ID
+     *
+     * @param id ID entity
+     * @return Entity yang dihapus atau null jika tidak ditemukan
+     */
+    T remove(int id) {
+        promote(id);
+        T old = byId.remove(id);
+        if (old != null) {
+            rows.remove(indexOf(id));
+            view = null;
+        }
+        return old;
+    }
+
+    int size() {
+        return rows.size() + lazyLive;
+    }
+
+    /**
+     * Copy dari semua entity, terurut berdasarkan ID
+     * (membuat object untuk semua row lazy)
+     */
+    @SuppressWarnings("unchecked")
+    List<T> copy() {
+        if (lazyIds == null) {
+            return new ArrayList<>(rows);
+        }
+        return (List<T>) (List<?>) mergeRows(this::loadLazy);
+    }
+
+    /**
+     * List read-only semua entity, terurut berdasarkan ID
+     * List yang sama dikembalikan sampai ada add/replace/remove,
+     * jadi aman dibagikan ke banyak caller tanpa copy
+     */
+    List<T> view() {
+        List<T> result = view;
+        if (result == null) {
+            result = Collections.unmodifiableList(copy());
+            view = result;
+        }
+        return result;
+    }
+
+    /**
+     * Akses langsung ke list internal (read-only, hanya untuk iterasi di DataStore)
+     * Jika masih ada row lazy, yang dikembalikan adalah view()
+     */
+    List<T> rows() {
+        return lazyIds == null ? rows : view();
+    }
+
+    /**
+     * Memanggil action untuk setiap entity, terurut berdasarkan ID (tanpa copy)
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(Consumer<? super T> action) {
+        merge(Integer.MIN_VALUE, Integer.MAX_VALUE, this::loadLazy, row -> action.accept((T) row));
+    }
+
+    /**
+     * Keyset paging: maksimal limit entity dengan ID > afterId, terurut berdasarkan ID
+     */
+    @SuppressWarnings("unchecked")
+    List<T> page(int afterId, int limit) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(limit, size())));
+        merge(afterId, limit, this::loadLazy, row -> result.add((T) row));
+        return result;
+    }
+
+    /**
+     * Semua row terurut berdasarkan ID untuk ditulis ke snapshot:
+     * entity (T) untuk row biasa, atau Integer index row snapshot untuk
+     * row lazy (di-copy langsung dari snapshot lama tanpa membuat object)
+     */
+    List<Object> snapshotRows() {
+        return mergeRows(Integer::valueOf);
+    }
+
+    /**
+     * Gabungan rows dan row lazy, terurut berdasarkan ID
+     */
+    private List<Object> mergeRows(IntFunction<Object> lazyRow) {
+        List<Object> result = new ArrayList<>(size());
+        merge(Integer.MIN_VALUE, Integer.MAX_VALUE, lazyRow, result::add);
+        return result;
+    }
+
+    /**
+     * Mengirim rows dan row lazy (terurut berdasarkan ID) ke sink,
+     * mulai dari ID > afterId, maksimal limit row
+     */
+    private void merge(int afterId, int limit, IntFunction<?> lazyRow, Consumer<Object> sink) {
+        int found = indexOf(afterId);
+        int i = found >= 0 ? found + 1 : -found - 1;
+        int row = 0;
+        if (lazyIds != null) {
+            found = Arrays.binarySearch(lazyIds, afterId);
+            row = found >= 0 ? found + 1 : -found - 1;
+        }
+
+        int count = 0;
+        for (; lazyIds != null && row < lazyIds.length && count < limit; row++) {
+            if (lazyMoved[row]) {
+                continue;
+            }
+            while (i < rows.size() && count < limit && idOf.applyAsInt(rows.get(i)) < lazyIds[row]) {
+                sink.accept(rows.get(i++));
+                count++;
+            }
+            if (count < limit) {
+                sink.accept(lazyRow.apply(row));
+                count++;
+            }
+        }
+        while (i < rows.size() && count < limit) {
+            sink.accept(rows.get(i++));
+            count++;
+        }
+    }
+
+    /**
+     * Posisi row lazy untuk ID, atau -1 jika bukan row lazy
+     */
+    private int lazyIndexOf(int id) {
+        if (lazyIds == null) {
+            return -1;
+        }
+        int row = Arrays.binarySearch(lazyIds, id);
+        return row >= 0 && !lazyMoved[row] ? row : -1;
+    }
+
+    /**
+     * Membuat object untuk row lazy (sekali saja, aman dipanggil
+     * bersamaan oleh beberapa reader)
+     */
+    private T loadLazy(int row) {
+        T entity = lazyLoaded.get(row);
+        if (entity == null) {
+            synchronized (lazyLoaded) {
+                entity = lazyLoaded.get(row);
+                if (entity == null) {
+                    entity = lazyLoader.apply(row);
+                    lazyLoaded.set(row, entity);
+                }
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Memindahkan row lazy ke rows/byId sebelum diubah
+     * Harus dipanggil dengan write lock
+     *
+     * @return Entity yang dipindahkan, atau null jika ID bukan row lazy
+     */
+    private T promote(int id) {
+        int row = lazyIndexOf(id);
+        if (row < 0) {
+            return null;
+        }
+        T entity = loadLazy(row);
+        lazyMoved[row] = true;
+        lazyLoaded.set(row, null);
+        insert(id, entity);
+        if (--lazyLive == 0) {
+            lazyIds = null;
+            lazyLoaded = null;
+            lazyMoved = null;
+            lazyLoader = null;
+        }
+        return entity;
+    }
+
+    /**
+     * Binary search posisi ID di rows
+     *
+     * @return index jika ditemukan, atau -(insertion point) - 1
+     */
+    private int indexOf(int id) {
+        int low = 0;
+        int high = rows.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = idOf.applyAsInt(rows.get(mid));
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
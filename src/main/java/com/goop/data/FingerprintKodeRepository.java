@@ -0,0 +1,35 @@
+package com.goop.data;
+
+import com.goop.similarity.SimilarityIndex;
+
+/**
+ * Class FingerprintKodeRepository - KodeRepository yang ikut memperbarui
+ * fingerprint plagiarisme setiap code disimpan
+ *
+ * Membungkus backend mana pun (DataStore atau JDBC), sehingga
+ * SimilarityIndex selalu berisi fingerprint code terbaru tanpa perlu
+ * menghitung ulang semua submission saat Guru memeriksa plagiarisme.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class FingerprintKodeRepository implements KodeRepository {
+
+    private final KodeRepository delegate;
+    private final SimilarityIndex index = SimilarityIndex.getInstance();
+
+    FingerprintKodeRepository(KodeRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getProyekCode(int proyekId) {
+        return delegate.getProyekCode(proyekId);
+    }
+
+    @Override
+    public void saveProyekCode(int proyekId, String code) {
+        delegate.saveProyekCode(proyekId, code);
+        index.update(proyekId, code);
+    }
+}
@@ -0,0 +1,216 @@
+package com.goop.data;
+
+import java.util.Arrays;
+
+/**
+ * Class HasilTesTable - Table skor tes (siswaId, tesId) -> skor tanpa boxing
+ *
+ * Pengganti Map<Integer, Map<Integer, Double>>. Key (siswaId, tesId)
+ * digabung menjadi satu long dan skor disimpan di double[], sehingga tidak
+ * ada Integer/Double/Entry per hasil dan tidak ada HashMap per siswa.
+ *
+ * Cara kerja (open addressing + linear probing, sama seperti IntHashMap):
+ * - keys[] dan values[] berukuran pangkat 2
+ * - Slot kosong ditandai dengan values[i] NaN (skor tidak boleh NaN)
+ * - Hasil tes tidak pernah dihapus, jadi tidak perlu tombstone/backward-shift
+ *
+ * Untuk iterasi per siswa dan per tes, ID pasangannya dicatat di posting
+ * list terurut (SortedIntSet). Perkiraan memori per hasil: sekitar
+ * 16 byte / 0.7 load factor di table + 2 x 4 byte di posting list,
+ * dibanding sekitar 80-100 byte (Entry + Integer + Double) di HashMap.
+ *
+ * Class ini TIDAK thread-safe, sinkronisasi dilakukan oleh pemakainya.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class HasilTesTable {
+
+    /**
+     * Callback untuk iterasi hasil tes tanpa membuat object per hasil
+     */
+    interface Visitor {
+        void visit(int siswaId, int tesId, double skor);
+    }
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Load factor maksimum sebelum table di-resize (dalam persen)
+     */
+    private static final int MAX_LOAD_PERCENT = 70;
+
+    private long[] keys;
+    private double[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    /**
+     * siswaId -> ID tes yang sudah dikerjakan, tesId -> ID siswa yang sudah mengerjakan
+     */
+    private final IntHashMap<SortedIntSet> tesBySiswa = new IntHashMap<>();
+    private final IntHashMap<SortedIntSet> siswaByTes = new IntHashMap<>();
+
+    HasilTesTable() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new double[capacity];
+        Arrays.fill(values, Double.NaN);
+        mask = capacity - 1;
+        resizeAt = capacity * MAX_LOAD_PERCENT / 100;
+    }
+
+    private static long key(int siswaId, int tesId) {
+        return ((long) siswaId << 32) | (tesId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Mengacak bit key agar pasangan ID berurutan tidak menumpuk di slot yang berdekatan
+     */
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * @return index slot jika key ada, atau -(slot kosong) - 1 jika tidak ada
+     */
+    private int findSlot(long key) {
+        int slot = hash(key) & mask;
+        while (!Double.isNaN(values[slot])) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * @return Skor siswa untuk tes, atau NaN jika belum pernah mengerjakan
+     */
+    double get(int siswaId, int tesId) {
+        int slot = findSlot(key(siswaId, tesId));
+        return slot >= 0 ? values[slot] : Double.NaN;
+    }
+
+    /**
+     * Menyimpan skor (menimpa skor lama jika ada)
+     *
+     * @param skor Skor, tidak boleh NaN
+     * @return Skor lama, atau NaN jika sebelumnya belum ada
+     */
+    double put(int siswaId, int tesId, double skor) {
+        if (Double.isNaN(skor)) {
+            throw new IllegalArgumentException("HasilTesTable tidak menerima skor NaN");
+        }
+        long key = key(siswaId, tesId);
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            double old = values[slot];
+            values[slot] = skor;
+            return old;
+        }
+        slot = -slot - 1;
+        keys[slot] = key;
+        values[slot] = skor;
+        posting(tesBySiswa, siswaId).add(tesId);
+        posting(siswaByTes, tesId).add(siswaId);
+        if (++size > resizeAt) {
+            resize();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Jumlah tes yang sudah dikerjakan siswa
+     */
+    int countBySiswa(int siswaId) {
+        SortedIntSet tesIds = tesBySiswa.get(siswaId);
+        return tesIds != null ? tesIds.size() : 0;
+    }
+
+    /**
+     * Semua skor siswa (urutan berdasarkan ID tes)
+     */
+    double[] skorBySiswa(int siswaId) {
+        SortedIntSet tesIds = tesBySiswa.get(siswaId);
+        if (tesIds == null) {
+            return new double[0];
+        }
+        double[] result = new double[tesIds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(siswaId, tesIds.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Iterasi hasil tes satu siswa, terurut berdasarkan ID tes
+     */
+    void forEachBySiswa(int siswaId, Visitor visitor) {
+        SortedIntSet tesIds = tesBySiswa.get(siswaId);
+        if (tesIds == null) {
+            return;
+        }
+        for (int i = 0; i < tesIds.size(); i++) {
+            int tesId = tesIds.get(i);
+            visitor.visit(siswaId, tesId, get(siswaId, tesId));
+        }
+    }
+
+    /**
+     * Iterasi hasil satu tes, terurut berdasarkan ID siswa
+     */
+    void forEachByTes(int tesId, Visitor visitor) {
+        SortedIntSet siswaIds = siswaByTes.get(tesId);
+        if (siswaIds == null) {
+            return;
+        }
+        for (int i = 0; i < siswaIds.size(); i++) {
+            int siswaId = siswaIds.get(i);
+            visitor.visit(siswaId, tesId, get(siswaId, tesId));
+        }
+    }
+
+    /**
+     * Iterasi semua hasil tes (urutan slot, tidak terurut)
+     */
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                visitor.visit((int) (keys[i] >> 32), (int) keys[i], values[i]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static SortedIntSet posting(IntHashMap<SortedIntSet> index, int id) {
+        SortedIntSet ids = index.get(id);
+        if (ids == null) {
+            ids = new SortedIntSet();
+            index.put(id, ids);
+        }
+        return ids;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!Double.isNaN(oldValues[i])) {
+                int slot = -findSlot(oldKeys[i]) - 1;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.goop.data;
+
+import java.util.Arrays;
+
+/**
+ * Class IntHashMap - Hash map dengan key primitive int
+ *
+ * Dipakai sebagai index primary key di DataStore. Berbeda dengan
+ * HashMap<Integer, V>, key disimpan di array int[] sehingga tidak ada
+ * boxing Integer dan tidak ada object Entry per data.
+ *
+ * Cara kerja (open addressing + linear probing):
+ * - keys[] dan values[] berukuran pangkat 2
+ * - Slot kosong ditandai dengan values[i] == null (value tidak boleh null)
+ * - Remove memakai backward-shift sehingga tidak perlu tombstone
+ *
+ * Class ini TIDAK thread-safe, sinkronisasi dilakukan oleh pemakainya.
+ *
+ * @param <V> Tipe value yang disimpan
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public class IntHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Load factor maksimum sebelum table di-resize (dalam persen)
+     */
+    private static final int MAX_LOAD_PERCENT = 70;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    public IntHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Perkiraan jumlah data, untuk menghindari resize berulang
+     */
+    public IntHashMap(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * MAX_LOAD_PERCENT / 100 < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity * MAX_LOAD_PERCENT / 100;
+    }
+
+    /**
+     * Mengacak bit key agar id berurutan tidak menumpuk di slot yang berdekatan
+     */
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Mencari slot untuk key
+     *
+     * @return index slot jika key ada, atau -(slot kosong) - 1 jika tidak ada
+     */
+    private int findSlot(int key) {
+        int slot = hash(key) & mask;
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    /**
+     * Mendapatkan value berdasarkan key
+     *
+     * @param key Key yang dicari
+     * @return Value atau null jika tidak ada
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = findSlot(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    public boolean containsKey(int key) {
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * Menyimpan value untuk key (menimpa value lama jika ada)
+     *
+     * @param key   Key
+     * @param value Value, tidak boleh null
+     * @return Value lama atau null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("IntHashMap tidak menerima value null");
+        }
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            V old = (V) values[slot];
+            values[slot] = value;
+            return old;
+        }
+        slot = -slot - 1;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Menghapus key dari map
+     *
+     * @param key Key yang dihapus
+     * @return Value yang dihapus atau null jika key tidak ada
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        V old = (V) values[slot];
+        values[slot] = null;
+        size--;
+
+        // Backward-shift: geser entry setelahnya yang probe-nya melewati slot ini
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(keys[next]) & mask;
+            boolean movable = hole <= next
+                    ? (home <= hole || home > next)
+                    : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                values[next] = null;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return old;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = -findSlot(oldKeys[i]) - 1;
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.goop.data;
+
+/**
+ * Class IntPostingIndex - Secondary index many-to-one dengan key int
+ *
+ * Menyimpan relasi "key -> daftar ID entity" (posting list), contoh:
+ * siswaId -> ID semua proyek milik siswa tersebut. Index juga mengingat
+ * key terakhir yang tercatat untuk setiap entity, sehingga saat entity
+ * pindah key (misal proyek di-assign ulang ke siswa lain) posting lama
+ * tetap bisa dihapus walaupun object entity sudah diubah oleh caller.
+ *
+ * Semua operasi O(1) hash probe + O(log k) di dalam posting list,
+ * dimana k adalah jumlah entity untuk key tersebut.
+ *
+ * Class ini TIDAK thread-safe, sinkronisasi dilakukan oleh pemakainya.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class IntPostingIndex {
+
+    private static final SortedIntSet EMPTY = new SortedIntSet();
+
+    /**
+     * key -> posting list ID entity
+     */
+    private final IntHashMap<SortedIntSet> postings = new IntHashMap<>();
+
+    /**
+     * ID entity -> key yang sedang tercatat di index
+     */
+    private final IntHashMap<Integer> keyOf = new IntHashMap<>();
+
+    /**
+     * Mencatat (atau memindahkan) entity ke key tertentu
+     *
+     * @param key      Key baru (contoh: siswaId)
+     * @param entityId ID entity (contoh: proyekId)
+     * @return Key lama jika entity pindah key, atau null jika tidak pindah
+     */
+    Integer put(int key, int entityId) {
+        Integer oldKey = keyOf.put(entityId, key);
+        if (oldKey != null) {
+            if (oldKey == key) {
+                return null;
+            }
+            removePosting(oldKey, entityId);
+        }
+        SortedIntSet posting = postings.get(key);
+        if (posting == null) {
+            posting = new SortedIntSet();
+            postings.put(key, posting);
+        }
+        posting.add(entityId);
+        return oldKey;
+    }
+
+    /**
+     * Menghapus entity dari index
+     *
+     * @param entityId ID entity
+     * @return Key tempat entity sebelumnya tercatat, atau null
+     */
+    Integer remove(int entityId) {
+        Integer oldKey = keyOf.remove(entityId);
+        if (oldKey != null) {
+            removePosting(oldKey, entityId);
+        }
+        return oldKey;
+    }
+
+    /**
+     * Mendapatkan posting list untuk key (read-only, jangan diubah)
+     */
+    SortedIntSet get(int key) {
+        SortedIntSet posting = postings.get(key);
+        return posting != null ? posting : EMPTY;
+    }
+
+    private void removePosting(int key, int entityId) {
+        SortedIntSet posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(entityId);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.goop.data;
+
+/**
+ * Interface KodeRepository - Penyimpanan code yang ditulis siswa per proyek
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public interface KodeRepository {
+
+    /**
+     * @return Code atau null jika belum pernah disimpan
+     */
+    String getProyekCode(int proyekId);
+
+    void saveProyekCode(int proyekId, String code);
+}
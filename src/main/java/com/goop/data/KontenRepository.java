@@ -0,0 +1,73 @@
+package com.goop.data;
+
+import com.goop.models.Materi;
+import com.goop.models.Modul;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Interface KontenRepository - Akses konten pembelajaran (Materi dan Modul)
+ *
+ * Topik dicari secara case-insensitive dan disimpan dengan penulisan
+ * kanonik (penulisan pertama dari topik tersebut).
+ * Aturan method baca list: lihat UserRepository.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public interface KontenRepository {
+
+    List<Materi> getAllMateri();
+
+    int countMateri();
+
+    void forEachMateri(Consumer<? super Materi> action);
+
+    List<Materi> getMateriPage(int afterId, int limit);
+
+    List<Materi> getMateriByTopik(String topik);
+
+    /**
+     * @return Map topik -> jumlah materi, terurut berdasarkan topik
+     */
+    Map<String, Integer> getMateriTopikCounts();
+
+    /**
+     * @return Materi atau null jika tidak ditemukan
+     */
+    Materi getMateriById(int id);
+
+    /**
+     * Menambah materi baru, ID di-generate otomatis
+     */
+    void addMateri(Materi materi);
+
+    /**
+     * Membuat modul baru
+     *
+     * @return ID modul yang dibuat
+     */
+    int createModul(String judul, String konten, String topik, int idPembuat);
+
+    List<Modul> getAllModul();
+
+    int countModul();
+
+    void forEachModul(Consumer<? super Modul> action);
+
+    List<Modul> getModulPage(int afterId, int limit);
+
+    List<Modul> getModulByTopik(String topik);
+
+    /**
+     * @return Map topik -> jumlah modul, terurut berdasarkan topik
+     */
+    Map<String, Integer> getModulTopikCounts();
+
+    /**
+     * @return Modul atau null jika tidak ditemukan
+     */
+    Modul getModulById(int id);
+}
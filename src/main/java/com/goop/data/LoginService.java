@@ -0,0 +1,117 @@
+package com.goop.data;
+
+import com.goop.models.User;
+import com.goop.utils.PasswordHasher;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class LoginService - Login di thread pool terpisah dari FX thread
+ *
+ * Verifikasi password (PasswordHasher) sengaja lambat, sehingga login
+ * tidak boleh dijalankan di FX thread, dan saat banyak siswa login
+ * bersamaan jumlah hashing paralel dibatasi:
+ * - goop.login.threads Jumlah worker (default jumlah CPU)
+ * - goop.login.queue   Maksimal login yang menunggu (default 1024). Jika
+ *   antrian penuh, login langsung gagal dengan RejectedExecutionException
+ *   (server sibuk) daripada menumpuk tanpa batas.
+ *
+ * Login berhasil menghasilkan Session di SessionRegistry. Request
+ * berikutnya cukup membawa token session (SessionRegistry.get()), tanpa
+ * hashing ulang.
+ *
+ * Hashing password baru (guru menambah / mengubah siswa) juga lewat pool
+ * yang sama (hashPassword()), sehingga ikut dibatasi dan tidak memblok FX
+ * thread.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class LoginService {
+
+    private final UserRepository users;
+    private final SessionRegistry sessions;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param threads       Jumlah worker hashing
+     * @param queueCapacity Maksimal login yang menunggu worker
+     */
+    public LoginService(UserRepository users, SessionRegistry sessions, int threads, int queueCapacity) {
+        this.users = users;
+        this.sessions = sessions;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "goop-login-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Autentikasi di worker pool dan buat session jika berhasil
+     *
+     * @return Future berisi Session, atau null jika username/password salah.
+     *         Future gagal dengan RejectedExecutionException jika antrian login penuh
+     */
+    public CompletableFuture<Session> login(String username, String password) {
+        CompletableFuture<Session> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    User user = users.login(username, password);
+                    result.complete(user != null ? sessions.create(user) : null);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            System.err.println("WARNING: Antrian login penuh (" + executor.getQueue().size() + " menunggu)");
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Hash password baru (PasswordHasher.hash) di worker pool
+     *
+     * @return Future berisi hash. Future gagal dengan RejectedExecutionException
+     *         jika antrian penuh
+     */
+    public CompletableFuture<String> hashPassword(String password) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(PasswordHasher.hash(password));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            System.err.println("WARNING: Antrian login penuh (" + executor.getQueue().size() + " menunggu)");
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * @return Jumlah login yang sedang menunggu worker
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Menghentikan worker, login yang masih di antrian dibatalkan
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,60 @@
+package com.goop.data;
+
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.TestCase;
+
+import java.util.List;
+
+/**
+ * Interface PenilaianRepository - Test case dan rubrik penilaian otomatis
+ * proyek, dan laporan penilaian submission terakhir
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public interface PenilaianRepository {
+
+    /**
+     * @return Test case proyek terurut berdasarkan urutan, kosong jika belum ada
+     */
+    List<TestCase> getTestCases(int proyekId);
+
+    /**
+     * Mengganti semua test case proyek (urutan di-set ulang mulai 1)
+     */
+    void saveTestCases(int proyekId, List<TestCase> testCases);
+
+    /**
+     * @return Kriteria rubrik proyek terurut berdasarkan urutan, kosong jika belum ada
+     */
+    List<KriteriaRubrik> getRubrik(int proyekId);
+
+    /**
+     * Mengganti semua kriteria rubrik proyek (urutan di-set ulang mulai 1)
+     */
+    void saveRubrik(int proyekId, List<KriteriaRubrik> rubrik);
+
+    /**
+     * @return Laporan penilaian submission terakhir, null jika belum pernah dinilai
+     */
+    LaporanPenilaian getLaporanPenilaian(int proyekId);
+
+    /**
+     * Simpan laporan penilaian (mengganti laporan sebelumnya untuk proyek yang sama)
+     */
+    void saveLaporanPenilaian(LaporanPenilaian laporan);
+
+    /**
+     * Simpan hasil penilaian ulang banyak submission sekaligus: laporan
+     * disimpan dan skor proyek di-set ke skor laporan dalam 1 update
+     * (status proyek tidak berubah, laporan proyek yang sudah dihapus diabaikan)
+     *
+     * Laporan yang code-nya sudah diganti sejak dinilai (siswa submit ulang
+     * selama penilaian ulang, lihat LaporanPenilaian.isUntukKode) juga
+     * diabaikan, agar penilaian submission baru tidak tertimpa.
+     *
+     * @return Jumlah laporan yang disimpan
+     */
+    int savePenilaianUlang(List<LaporanPenilaian> laporan);
+}
@@ -0,0 +1,55 @@
+package com.goop.data;
+
+import com.goop.models.Proyek;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Interface ProyekRepository - Akses data proyek siswa
+ * (aturan method baca list: lihat UserRepository)
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public interface ProyekRepository {
+
+    List<Proyek> getAllProyek();
+
+    int countProyek();
+
+    void forEachProyek(Consumer<? super Proyek> action);
+
+    List<Proyek> getProyekPage(int afterId, int limit);
+
+    /**
+     * @return Proyek milik siswa, terurut berdasarkan ID proyek
+     */
+    List<Proyek> getProyekBySiswaId(int siswaId);
+
+    int countProyekBySiswaId(int siswaId);
+
+    /**
+     * Ringkasan skor proyek tervalidasi milik siswa
+     *
+     * @return Salinan ringkasan, jumlah 0 jika belum ada proyek tervalidasi
+     */
+    SkorAggregate getSkorProyekSiswa(int siswaId);
+
+    /**
+     * @return Proyek atau null jika tidak ditemukan
+     */
+    Proyek getProyekById(int id);
+
+    /**
+     * Menambah proyek baru, ID di-generate otomatis dan di-set ke object
+     */
+    void addProyek(Proyek proyek);
+
+    void updateProyek(Proyek proyek);
+
+    /**
+     * @return true jika proyek ditemukan dan dihapus
+     */
+    boolean deleteProyek(int id);
+}
@@ -0,0 +1,183 @@
+package com.goop.data;
+
+import com.goop.data.jdbc.JdbcDatabase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Class Repositories - Titik akses repository untuk controller
+ *
+ * Backend penyimpanan dipilih sekali saat aplikasi start lewat system property:
+ * - goop.storage=memory (default): DataStore in-memory + write-ahead log
+ * - goop.storage=jdbc: database SQL embedded (H2), lihat JdbcDatabase
+ *   - goop.jdbc.url      JDBC URL (default: file goop-db di folder data)
+ *   - goop.jdbc.poolSize Jumlah koneksi di pool (default 4)
+ * Jika backend yang dipilih tidak bisa dibuka, aplikasi berhenti dengan
+ * error (data tidak boleh terpecah ke penyimpanan lain), kecuali
+ * goop.storage.fallback=memory di-set secara eksplisit.
+ *
+ * Session login (sessions()) tidak tergantung backend:
+ * - goop.session.idleMinutes Batas idle sebelum session expired (default 30)
+ * - goop.session.tickMs      Interval timer wheel expiry (default 1000)
+ *
+ * Login dijalankan di worker pool (login(), lihat LoginService):
+ * - goop.login.threads Jumlah worker hashing password (default jumlah CPU)
+ * - goop.login.queue   Maksimal login yang menunggu (default 1024)
+ *
+ * kode() juga memperbarui fingerprint plagiarisme (SimilarityIndex) setiap
+ * code disimpan, untuk kedua backend.
+ *
+ * Controller hanya memakai interface (UserRepository, ProyekRepository, dll),
+ * sehingga tidak tahu backend mana yang dipakai.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class Repositories {
+
+    /**
+     * Backend dibuat saat Repositories pertama kali dipakai (lazy, thread-safe)
+     */
+    private static class Holder {
+        private static final Repositories INSTANCE = create();
+
+        static {
+            started = INSTANCE;
+        }
+    }
+
+    /**
+     * Instance yang berhasil dibuat, null jika backend belum/tidak berhasil dibuka
+     */
+    private static volatile Repositories started;
+
+    private final UserRepository users;
+    private final ProyekRepository proyek;
+    private final TesRepository tes;
+    private final KontenRepository konten;
+    private final KodeRepository kode;
+    private final PenilaianRepository penilaian;
+    private final SessionRegistry sessions;
+    private final LoginService login;
+    private final Runnable shutdownHook;
+
+    private Repositories(UserRepository users, ProyekRepository proyek, TesRepository tes,
+            KontenRepository konten, KodeRepository kode, PenilaianRepository penilaian, Runnable shutdownHook) {
+        this.users = users;
+        this.proyek = proyek;
+        this.tes = tes;
+        this.konten = konten;
+        this.kode = new FingerprintKodeRepository(kode);
+        this.penilaian = penilaian;
+        this.sessions = createSessions();
+        this.login = new LoginService(users, sessions,
+                Math.max(1, Integer.getInteger("goop.login.threads", Runtime.getRuntime().availableProcessors())),
+                Math.max(1, Integer.getInteger("goop.login.queue", 1024)));
+        this.shutdownHook = shutdownHook;
+    }
+
+    /**
+     * @throws IllegalStateException jika backend yang dipilih tidak bisa dibuka
+     *                               dan fallback ke memory tidak diizinkan
+     */
+    private static Repositories create() {
+        String storage = System.getProperty("goop.storage", "memory").trim();
+        if ("memory".equalsIgnoreCase(storage)) {
+            return memory();
+        }
+        String error;
+        Exception cause = null;
+        if ("jdbc".equalsIgnoreCase(storage)) {
+            try {
+                return jdbc();
+            } catch (IOException | RuntimeException e) {
+                error = "Database (goop.storage=jdbc) tidak bisa dibuka: " + e.getMessage();
+                cause = e;
+            }
+        } else {
+            error = "goop.storage tidak dikenal: " + storage;
+        }
+        if (!"memory".equalsIgnoreCase(System.getProperty("goop.storage.fallback", "").trim())) {
+            throw new IllegalStateException(error
+                    + ". Perbaiki konfigurasi, atau set goop.storage.fallback=memory untuk memakai penyimpanan in-memory",
+                    cause);
+        }
+        System.err.println("WARNING: " + error + " (goop.storage.fallback=memory, memakai penyimpanan in-memory)");
+        return memory();
+    }
+
+    private static SessionRegistry createSessions() {
+        long idleMinutes = Math.max(1, Long.getLong("goop.session.idleMinutes", 30));
+        long tickMs = Math.max(1, Long.getLong("goop.session.tickMs", 1000));
+        return new SessionRegistry(idleMinutes * 60_000L, tickMs);
+    }
+
+    private static Repositories memory() {
+        DataStore dataStore = DataStore.getInstance();
+        return new Repositories(dataStore, dataStore, dataStore, dataStore, dataStore, dataStore,
+                dataStore::shutdown);
+    }
+
+    private static Repositories jdbc() throws IOException {
+        String url = System.getProperty("goop.jdbc.url");
+        if (url == null || url.isBlank()) {
+            Path dataDir = DataStore.getDataDirectory();
+            Files.createDirectories(dataDir);
+            url = JdbcDatabase.defaultUrl(dataDir);
+        }
+        int poolSize = Math.max(1, Integer.getInteger("goop.jdbc.poolSize", 4));
+        JdbcDatabase database = JdbcDatabase.open(url, poolSize);
+        return new Repositories(database.getUserRepository(), database.getProyekRepository(),
+                database.getTesRepository(), database.getKontenRepository(), database.getKodeRepository(),
+                database.getPenilaianRepository(), database::close);
+    }
+
+    public static UserRepository users() {
+        return Holder.INSTANCE.users;
+    }
+
+    public static ProyekRepository proyek() {
+        return Holder.INSTANCE.proyek;
+    }
+
+    public static TesRepository tes() {
+        return Holder.INSTANCE.tes;
+    }
+
+    public static KontenRepository konten() {
+        return Holder.INSTANCE.konten;
+    }
+
+    public static KodeRepository kode() {
+        return Holder.INSTANCE.kode;
+    }
+
+    public static PenilaianRepository penilaian() {
+        return Holder.INSTANCE.penilaian;
+    }
+
+    public static SessionRegistry sessions() {
+        return Holder.INSTANCE.sessions;
+    }
+
+    public static LoginService login() {
+        return Holder.INSTANCE.login;
+    }
+
+    /**
+     * Menutup login worker, semua session dan backend penyimpanan (checkpoint / tutup koneksi database)
+     * Tidak melakukan apa-apa jika backend tidak pernah berhasil dibuka.
+     * Dipanggil dari Main.stop()
+     */
+    public static void shutdown() {
+        Repositories repositories = started;
+        if (repositories == null) {
+            return;
+        }
+        repositories.login.shutdown();
+        repositories.sessions.shutdown();
+        repositories.shutdownHook.run();
+    }
+}
@@ -0,0 +1,202 @@
+package com.goop.data;
+
+import com.goop.models.PengerjaanTes;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Class RiwayatTesTable - Riwayat semua percobaan tes (append-only, kolom per field)
+ *
+ * Setiap percobaan adalah 1 row yang tidak pernah diubah/dihapus. Field
+ * disimpan per kolom di array primitive (siswaId, tesId, waktu, skor,
+ * durasi), dan jawaban semua percobaan disimpan berurutan di 1 byte[]
+ * (1 byte per soal), sehingga tidak ada object per percobaan.
+ *
+ * Row siswa dan row tes dicatat di posting list (SortedIntSet). Karena row
+ * selalu ditambahkan di akhir, posting list otomatis terurut sesuai urutan
+ * submit: query progres siswa dan tren tes cukup membaca row miliknya.
+ *
+ * Nomor row juga menjadi ID percobaan (PengerjaanTes.getId()). Waktu
+ * disimpan sebagai epoch millisecond UTC (NO_TIME jika tidak diketahui).
+ *
+ * Class ini TIDAK thread-safe, sinkronisasi dilakukan oleh pemakainya.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class RiwayatTesTable {
+
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] siswaIds = new int[INITIAL_CAPACITY];
+    private int[] tesIds = new int[INITIAL_CAPACITY];
+    private long[] waktu = new long[INITIAL_CAPACITY];
+    private double[] skor = new double[INITIAL_CAPACITY];
+    private int[] durasiDetik = new int[INITIAL_CAPACITY];
+
+    /**
+     * Posisi awal dan panjang jawaban row di jawabanBytes (panjang -1 = tidak tersimpan)
+     */
+    private int[] jawabanStart = new int[INITIAL_CAPACITY];
+    private int[] jawabanLength = new int[INITIAL_CAPACITY];
+    private byte[] jawabanBytes = new byte[INITIAL_CAPACITY * 16];
+    private int jawabanSize;
+
+    private int size;
+
+    private final IntHashMap<SortedIntSet> rowsBySiswa = new IntHashMap<>();
+    private final IntHashMap<SortedIntSet> rowsByTes = new IntHashMap<>();
+
+    /**
+     * Tambah 1 percobaan di akhir riwayat
+     *
+     * @param waktuMillis Epoch millisecond UTC atau NO_TIME
+     * @param jawaban     Jawaban ter-encode (PengerjaanTes.encodeJawaban), null jika tidak tersimpan
+     * @return Nomor row percobaan
+     */
+    int append(int siswaId, int tesId, long waktuMillis, double nilai, int durasi, String jawaban) {
+        if (size == siswaIds.length) {
+            grow();
+        }
+        int row = size;
+        siswaIds[row] = siswaId;
+        tesIds[row] = tesId;
+        waktu[row] = waktuMillis;
+        skor[row] = nilai;
+        durasiDetik[row] = durasi;
+
+        if (jawaban == null) {
+            jawabanLength[row] = -1;
+        } else {
+            byte[] bytes = jawaban.getBytes(StandardCharsets.US_ASCII);
+            if (jawabanSize + bytes.length > jawabanBytes.length) {
+                jawabanBytes = Arrays.copyOf(jawabanBytes,
+                        Math.max(jawabanBytes.length << 1, jawabanSize + bytes.length));
+            }
+            System.arraycopy(bytes, 0, jawabanBytes, jawabanSize, bytes.length);
+            jawabanStart[row] = jawabanSize;
+            jawabanLength[row] = bytes.length;
+            jawabanSize += bytes.length;
+        }
+
+        posting(rowsBySiswa, siswaId).add(row);
+        posting(rowsByTes, tesId).add(row);
+        size++;
+        return row;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int siswaId(int row) {
+        return siswaIds[row];
+    }
+
+    int tesId(int row) {
+        return tesIds[row];
+    }
+
+    long waktuMillis(int row) {
+        return waktu[row];
+    }
+
+    double skor(int row) {
+        return skor[row];
+    }
+
+    int durasiDetik(int row) {
+        return durasiDetik[row];
+    }
+
+    /**
+     * @return Jawaban ter-encode, null jika tidak tersimpan
+     */
+    String jawaban(int row) {
+        int length = jawabanLength[row];
+        return length >= 0 ? new String(jawabanBytes, jawabanStart[row], length, StandardCharsets.US_ASCII) : null;
+    }
+
+    /**
+     * Percobaan pada row sebagai object model
+     */
+    PengerjaanTes get(int row) {
+        return new PengerjaanTes(row, siswaIds[row], tesIds[row], toDateTime(waktu[row]), skor[row],
+                durasiDetik[row], PengerjaanTes.decodeJawaban(jawaban(row)));
+    }
+
+    /**
+     * Semua percobaan siswa, urut sesuai waktu submit
+     */
+    List<PengerjaanTes> bySiswa(int siswaId) {
+        return read(rowsBySiswa.get(siswaId));
+    }
+
+    /**
+     * Semua percobaan untuk satu tes, urut sesuai waktu submit
+     */
+    List<PengerjaanTes> byTes(int tesId) {
+        return read(rowsByTes.get(tesId));
+    }
+
+    /**
+     * Iterasi nomor row percobaan siswa (urut sesuai waktu submit) tanpa membuat object
+     */
+    void forEachRowBySiswa(int siswaId, IntConsumer action) {
+        SortedIntSet rows = rowsBySiswa.get(siswaId);
+        if (rows == null) {
+            return;
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            action.accept(rows.get(i));
+        }
+    }
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_TIME;
+    }
+
+    static LocalDateTime toDateTime(long millis) {
+        return millis != NO_TIME ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC) : null;
+    }
+
+    private List<PengerjaanTes> read(SortedIntSet rows) {
+        if (rows == null) {
+            return new ArrayList<>();
+        }
+        List<PengerjaanTes> result = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            result.add(get(rows.get(i)));
+        }
+        return result;
+    }
+
+    private static SortedIntSet posting(IntHashMap<SortedIntSet> index, int id) {
+        SortedIntSet rows = index.get(id);
+        if (rows == null) {
+            rows = new SortedIntSet();
+            index.put(id, rows);
+        }
+        return rows;
+    }
+
+    private void grow() {
+        int capacity = siswaIds.length << 1;
+        siswaIds = Arrays.copyOf(siswaIds, capacity);
+        tesIds = Arrays.copyOf(tesIds, capacity);
+        waktu = Arrays.copyOf(waktu, capacity);
+        skor = Arrays.copyOf(skor, capacity);
+        durasiDetik = Arrays.copyOf(durasiDetik, capacity);
+        jawabanStart = Arrays.copyOf(jawabanStart, capacity);
+        jawabanLength = Arrays.copyOf(jawabanLength, capacity);
+    }
+}
@@ -0,0 +1,276 @@
+package com.goop.data;
+
+import com.goop.models.*;
+import com.goop.utils.PasswordHasher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class SampleData - Data dummy untuk testing dan demo
+ *
+ * Dipakai oleh semua backend penyimpanan (DataStore in-memory dan JDBC)
+ * saat penyimpanan masih kosong. Setiap method membuat object baru dengan
+ * ID tetap (mulai dari 1), sehingga data awal sama di semua backend.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class SampleData {
+
+    private SampleData() {
+    }
+
+    // ===== SAMPLE USERS =====
+
+    public static List<Siswa> siswa() {
+        List<Siswa> siswa = new ArrayList<>();
+
+        // Siswa 1 - Sandy Putra (sesuai dengan jurnal)
+        Siswa siswa1 = new Siswa(1, "sandy", PasswordHasher.hash("123"), "sandy@email.com", "Sandy Putra Pratama");
+        siswa.add(siswa1);
+
+        // Siswa 2 - Budi
+        Siswa siswa2 = new Siswa(2, "budi", PasswordHasher.hash("123"), "budi@email.com", "Budi Santoso");
+        siswa.add(siswa2);
+
+        // Siswa 3 - Ani
+        Siswa siswa3 = new Siswa(3, "ani", PasswordHasher.hash("123"), "ani@email.com", "Ani Wijaya");
+        siswa.add(siswa3);
+        return siswa;
+    }
+
+    public static List<Guru> guru() {
+        List<Guru> guru = new ArrayList<>();
+
+        // Guru 1 - Bambang Sujatmiko (sesuai dengan jurnal)
+        Guru guru1 = new Guru(4, "bambang", PasswordHasher.hash("123"), "bambang@email.com", "Bambang Sujatmiko");
+        guru.add(guru1);
+        return guru;
+    }
+
+    // ===== SAMPLE PROYEK =====
+
+    public static List<Proyek> proyek() {
+        List<Proyek> proyek = new ArrayList<>();
+        int proyekId = 1;
+
+        // Proyek sederhana untuk pemula
+
+        // Proyek 1 - Hello World (untuk Sandy, siswa1 id=1, created by Bambang guru
+        // id=2)
+        Proyek proyek1 = new Proyek(proyekId++, "Hello World - Program Pertama",
+                "Buat program Java sederhana yang menampilkan teks 'Hello, World!' ke console.\n\n" +
+                        "Instruksi:\n" +
+                        "1. Buat class bernama HelloWorld\n" +
+                        "2. Tambahkan method main\n" +
+                        "3. Gunakan System.out.println() untuk print 'Hello, World!'\n\n" +
+                        "Contoh output:\n" +
+                        "Hello, World!",
+                LocalDate.now().plusDays(7), Proyek.STATUS_BELUM_DIKERJAKAN, 0, 1, 2);
+        proyek.add(proyek1);
+
+        // Proyek 2 - Kalkulator Sederhana (untuk Sandy, siswa1 id=1, created by Bambang
+        // guru id=2)
+        Proyek proyek2 = new Proyek(proyekId++, "Kalkulator Sederhana",
+                "Buat program kalkulator yang bisa menjumlahkan dua angka.\n\n" +
+                        "Instruksi:\n" +
+                        "1. Buat class Calculator\n" +
+                        "2. Buat method tambah(int a, int b) yang return hasil penjumlahan\n" +
+                        "3. Test di method main dengan beberapa angka\n\n" +
+                        "Contoh output:\n" +
+                        "5 + 3 = 8",
+                LocalDate.now().plusDays(14), Proyek.STATUS_BELUM_DIKERJAKAN, 0, 1, 2);
+        proyek.add(proyek2);
+
+        // Proyek 3 - Sapa Nama (untuk Budi, siswa2 id=2, created by Bambang guru id=2)
+        Proyek proyek3 = new Proyek(proyekId++, "Program Sapa Nama",
+                "Buat program yang menyapa pengguna dengan nama mereka.\n\n" +
+                        "Instruksi:\n" +
+                        "1. Buat class Sapa\n" +
+                        "2. Buat method sapaNama(String nama)\n" +
+                        "3. Method harus print 'Halo, [nama]! Selamat datang!'\n\n" +
+                        "Contoh output:\n" +
+                        "Halo, Budi! Selamat datang!",
+                LocalDate.now().plusDays(10), Proyek.STATUS_BELUM_DIKERJAKAN, 0, 2, 2);
+        proyek.add(proyek3);
+        return proyek;
+    }
+
+    // ===== SAMPLE TES KOGNITIF =====
+
+    public static List<TesKognitif> tes() {
+        List<TesKognitif> tes = new ArrayList<>();
+        int tesId = 1;
+        int soalId = 1;
+
+        TesKognitif tes1 = new TesKognitif(tesId++, "Tes Pemahaman OOP Dasar", 30);
+
+        // Tambahkan soal-soal ke tes
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Apa yang dimaksud dengan Class dalam OOP?",
+                "Template atau blueprint untuk membuat object",
+                "Variable untuk menyimpan data",
+                "Function untuk menjalankan program",
+                "Looping untuk mengulang proses",
+                "A"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Apa yang dimaksud dengan Object?",
+                "Looping statement",
+                "Instance atau realisasi dari sebuah class",
+                "Method dalam class",
+                "Variable global",
+                "B"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Apa itu Encapsulation?",
+                "Pewarisan properties dari parent class",
+                "Polymorphisme dalam OOP",
+                "Pembungkusan data dan method dalam satu unit (class)",
+                "Abstraksi dari object",
+                "C"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Keyword untuk inheritance di Java adalah?",
+                "implements",
+                "inherits",
+                "extends",
+                "inherit",
+                "C"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Apa keuntungan menggunakan Inheritance?",
+                "Code lebih lambat",
+                "Code reusability dan hierarki class",
+                "Memerlukan lebih banyak memory",
+                "Susah di-maintain",
+                "B"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Apa itu Polymorphism?",
+                "Kemampuan object untuk mengambil banyak bentuk",
+                "Membuat banyak class",
+                "Menggunakan banyak variable",
+                "Inheritance dari multiple class",
+                "A"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Manakah yang bukan pilar OOP?",
+                "Encapsulation",
+                "Inheritance",
+                "Compilation",
+                "Polymorphism",
+                "C"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Access modifier 'private' artinya?",
+                "Bisa diakses dari mana saja",
+                "Hanya bisa diakses dalam class yang sama",
+                "Bisa diakses dari package yang sama",
+                "Bisa diakses dari subclass",
+                "B"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Method yang memiliki nama sama dengan class disebut?",
+                "Destructor",
+                "Getter",
+                "Constructor",
+                "Setter",
+                "C"));
+
+        tes1.addSoal(new Soal(soalId++, tes1.getId(),
+                "Apa fungsi keyword 'super' dalam Java?",
+                "Membuat variable super besar",
+                "Memanggil constructor atau method dari parent class",
+                "Membuat class menjadi abstract",
+                "Mengakses static method",
+                "B"));
+
+        tes.add(tes1);
+        return tes;
+    }
+
+    // ===== SAMPLE MATERI =====
+
+    public static List<Materi> materi() {
+        List<Materi> materi = new ArrayList<>();
+        int materiId = 1;
+
+        // All materi created by guru "Bambang Sujatmiko" (id=2)
+
+        Materi materi1 = new Materi(materiId++, "Pengenalan OOP",
+                "Object-Oriented Programming (OOP) adalah paradigma pemrograman yang berfokus pada konsep object. " +
+                        "Object adalah instance dari class yang memiliki attributes (data) dan methods (behavior). " +
+                        "OOP memiliki 4 pilar utama: Encapsulation, Inheritance, Polymorphism, dan Abstraction. " +
+                        "Dengan OOP, kita bisa membuat program yang lebih modular, terstruktur, dan mudah di-maintain.",
+                "Dasar OOP", 2);
+        materi.add(materi1);
+
+        Materi materi2 = new Materi(materiId++, "Class dan Object",
+                "Class adalah template atau blueprint untuk membuat object. Class mendefinisikan attributes " +
+                        "(properties/fields) dan methods (functions) yang akan dimiliki object. " +
+                        "Object adalah instance atau realisasi konkret dari class. Satu class bisa digunakan untuk " +
+                        "membuat banyak object. Contoh: Class 'Mobil' bisa membuat object mobil1, mobil2, dst.",
+                "Dasar OOP", 2);
+        materi.add(materi2);
+
+        Materi materi3 = new Materi(materiId++, "Encapsulation",
+                "Encapsulation adalah pembungkusan data (attributes) dan methods yang bekerja pada data tersebut " +
+                        "dalam satu unit (class). Tujuannya adalah untuk menyembunyikan implementasi internal dan hanya "
+                        +
+                        "mengekspos yang perlu diakses dari luar. Implementasi: menggunakan access modifiers (private, protected, public) "
+                        +
+                        "dan getter/setter methods.",
+                "Dasar OOP", 2);
+        materi.add(materi3);
+
+        Materi materi4 = new Materi(materiId++, "Inheritance (Pewarisan)",
+                "Inheritance adalah mekanisme dimana sebuah class (child/subclass) dapat mewarisi attributes dan methods "
+                        +
+                        "dari class lain (parent/superclass). Keuntungan: code reusability, hierarki class yang jelas, dan "
+                        +
+                        "memudahkan maintenance. Di Java, menggunakan keyword 'extends'. Contoh: class Siswa extends User.",
+                "Advanced OOP", 2);
+        materi.add(materi4);
+
+        Materi materi5 = new Materi(materiId++, "Polymorphism",
+                "Polymorphism berarti 'banyak bentuk'. Dalam OOP, polymorphism memungkinkan satu interface untuk " +
+                        "digunakan dengan berbagai tipe data atau object yang berbeda. Ada 2 jenis: Compile-time polymorphism "
+                        +
+                        "method overloading) dan Runtime polymorphism (method overriding). Contoh: method toString() yang "
+                        +
+                        "di-override di setiap class.",
+                "Advanced OOP", 2);
+        materi.add(materi5);
+
+        Materi materi6 = new Materi(materiId++, "Abstraction",
+                "Abstraction adalah proses menyembunyikan detail implementasi dan hanya menampilkan fungsionalitas " +
+                        "kepada user. Fokus pada 'apa yang dilakukan' bukan 'bagaimana melakukannya'. Implementasi menggunakan "
+                        +
+                        "abstract class atau interface. Contoh: kita tahu mobil bisa jalan, tapi tidak perlu tahu detail mesin.",
+                "Advanced OOP", 2);
+        materi.add(materi6);
+        return materi;
+    }
+
+    /**
+     * Print ringkasan sample data dan akun untuk login
+     */
+    public static void printSummary(int siswa, int guru, int proyek, int tes, int soal, int materi) {
+        System.out.println("✓ Created " + siswa + " siswa and " + guru + " guru");
+        System.out.println("✓ Created " + proyek + " proyek");
+        System.out.println("✓ Created " + tes + " tes with " + soal + " soal");
+        System.out.println("✓ Created " + materi + " materi pembelajaran");
+
+        System.out.println("============================================");
+        System.out.println("Sample Data Initialization Complete!");
+        System.out.println("============================================\n");
+        System.out.println("Login Credentials:");
+        System.out.println("Siswa  - Username: sandy | Password: 123");
+        System.out.println("Siswa  - Username: budi  | Password: 123");
+        System.out.println("Guru   - Username: bambang | Password: 123");
+        System.out.println("============================================\n");
+    }
+}
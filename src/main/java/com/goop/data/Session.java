@@ -0,0 +1,85 @@
+package com.goop.data;
+
+import com.goop.models.User;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class Session - Satu user yang sedang login
+ *
+ * Dibuat oleh SessionRegistry saat login dan dicari kembali lewat token.
+ * Context per session (misal tes yang sedang dikerjakan) disimpan sebagai
+ * attribute. Semua field aman dibaca dari banyak thread.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class Session {
+
+    private final String token;
+    private final User user;
+    private final LocalDateTime dibuat;
+    private final ConcurrentMap<String, Object> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Waktu akses terakhir menurut jam SessionRegistry (millisecond)
+     */
+    private volatile long lastAccessMillis;
+    private volatile boolean closed;
+
+    Session(String token, User user, long nowMillis) {
+        this.token = token;
+        this.user = user;
+        this.dibuat = LocalDateTime.now();
+        this.lastAccessMillis = nowMillis;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public LocalDateTime getDibuat() {
+        return dibuat;
+    }
+
+    /**
+     * @return true jika session sudah logout atau expired
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    /**
+     * @param value Value attribute, null untuk menghapus attribute
+     */
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    void touch(long nowMillis) {
+        lastAccessMillis = nowMillis;
+    }
+
+    void close() {
+        closed = true;
+        attributes.clear();
+    }
+}
@@ -0,0 +1,214 @@
+package com.goop.data;
+
+import com.goop.models.User;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Class SessionRegistry - Daftar session login yang aktif
+ *
+ * - Token: 128 bit acak (SecureRandom), base64url tanpa padding
+ * - Lookup: ConcurrentHashMap token -> Session, get() tanpa lock
+ * - Idle expiry: timer wheel (hashed wheel) dengan WHEEL_SIZE slot, setiap
+ *   tick 1 slot diproses oleh 1 thread daemon
+ *
+ * Akses session cukup meng-update waktu akses terakhir (O(1), tanpa
+ * memindahkan session di wheel). Saat slot session diproses, session yang
+ * ternyata masih dipakai dijadwalkan ulang ke slot deadline barunya, dan
+ * yang sudah idle melewati batas dihapus. get() juga mengecek deadline,
+ * sehingga session expired tidak pernah dikembalikan walaupun wheel
+ * belum sampai di slotnya.
+ *
+ * Konfigurasi (system property, dibaca Repositories):
+ * - goop.session.idleMinutes Batas idle sebelum session expired (default 30)
+ * - goop.session.tickMs      Interval tick wheel (default 1000)
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class SessionRegistry {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int TOKEN_BYTES = 16;
+
+    private final ConcurrentMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final List<Queue<Session>> wheel;
+    private final long idleTimeoutMillis;
+    private final long tickMillis;
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService ticker;
+
+    /**
+     * Tick terakhir yang sudah diproses (hanya ditulis oleh thread ticker)
+     */
+    private volatile long currentTick;
+
+    /**
+     * @param idleTimeoutMillis Batas idle sebelum session expired
+     * @param tickMillis        Interval tick wheel, 0 = tanpa thread (tick() dipanggil manual)
+     */
+    public SessionRegistry(long idleTimeoutMillis, long tickMillis) {
+        this(idleTimeoutMillis, tickMillis, monotonicClock());
+    }
+
+    /**
+     * @param clock Jam registry dalam millisecond (untuk test: jam yang dimajukan manual)
+     */
+    SessionRegistry(long idleTimeoutMillis, long tickMillis, LongSupplier clock) {
+        if (idleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("idleTimeoutMillis harus > 0");
+        }
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.tickMillis = Math.max(1, tickMillis);
+        this.clock = clock;
+        this.wheel = new ArrayList<>(WHEEL_SIZE);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+
+        if (tickMillis > 0) {
+            ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "goop-session-wheel");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        } else {
+            ticker = null;
+        }
+    }
+
+    /**
+     * Membuat session baru untuk user yang berhasil login
+     */
+    public Session create(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Session session = new Session(token, user, now());
+        sessions.put(token, session);
+        schedule(session);
+        return session;
+    }
+
+    /**
+     * Mencari session berdasarkan token dan mencatat aksesnya
+     *
+     * @return Session, atau null jika token tidak dikenal / sudah logout / expired
+     */
+    public Session get(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+        long now = now();
+        if (now - session.getLastAccessMillis() >= idleTimeoutMillis) {
+            expire(session);
+            return null;
+        }
+        session.touch(now);
+        return session;
+    }
+
+    /**
+     * Logout: hapus session
+     *
+     * @return Session yang dihapus, atau null jika token tidak dikenal
+     */
+    public Session invalidate(String token) {
+        if (token == null) {
+            return null;
+        }
+        Session session = sessions.remove(token);
+        if (session != null) {
+            session.close();
+        }
+        return session;
+    }
+
+    /**
+     * @return Jumlah session aktif (termasuk yang expired tapi belum diproses wheel)
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Menghentikan thread wheel dan menghapus semua session
+     */
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        for (String token : sessions.keySet()) {
+            invalidate(token);
+        }
+    }
+
+    /**
+     * Memproses 1 slot wheel: session idle dihapus, session yang masih
+     * dipakai dijadwalkan ulang ke slot deadline barunya
+     */
+    void tick() {
+        long tick = currentTick + 1;
+        currentTick = tick;
+        long now = now();
+        Queue<Session> slot = wheel.get((int) (tick & (WHEEL_SIZE - 1)));
+
+        // Batasi jumlah poll: session yang dijadwalkan ulang ke slot yang
+        // sama (deadline tepat 1 putaran lagi) diproses di putaran berikutnya
+        for (int remaining = slot.size(); remaining > 0; remaining--) {
+            Session session = slot.poll();
+            if (session == null) {
+                break;
+            }
+            if (session.isClosed()) {
+                continue;
+            }
+            if (now - session.getLastAccessMillis() >= idleTimeoutMillis) {
+                expire(session);
+            } else {
+                schedule(session);
+            }
+        }
+    }
+
+    private void schedule(Session session) {
+        long deadline = session.getLastAccessMillis() + idleTimeoutMillis;
+        long tick = Math.max(deadline / tickMillis + 1, currentTick + 1);
+        wheel.get((int) (tick & (WHEEL_SIZE - 1))).add(session);
+    }
+
+    private void expire(Session session) {
+        if (sessions.remove(session.getToken(), session)) {
+            session.close();
+        }
+    }
+
+    private long now() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Jam default: millisecond sejak registry dibuat, monotonic
+     */
+    private static LongSupplier monotonicClock() {
+        long startNanos = System.nanoTime();
+        return () -> (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+}
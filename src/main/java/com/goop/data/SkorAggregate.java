@@ -0,0 +1,190 @@
+package com.goop.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Class SkorAggregate - Ringkasan skor satu siswa (jumlah, total, min, max,
+ * waktu terakhir)
+ *
+ * Dipakai DataStore untuk skor tes dan skor proyek tervalidasi. Setiap
+ * penulisan skor cukup memanggil add() (dan remove() untuk skor lama jika
+ * skor ditimpa), sehingga rata-rata tidak perlu dihitung ulang dari semua
+ * skor siswa.
+ *
+ * Min/max tidak bisa dikurangi secara O(1): jika skor yang dihapus sama
+ * dengan min atau max, batas ditandai stale dan pemiliknya memanggil
+ * rescan() dengan skor yang tersisa. Jumlah dan total selalu tepat.
+ *
+ * Object yang dikembalikan ke luar package adalah salinan (copy()),
+ * sehingga aman dibaca tanpa lock. Class ini TIDAK thread-safe,
+ * sinkronisasi dilakukan oleh pemakainya.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class SkorAggregate {
+
+    private int jumlah;
+    private double total;
+    private double min;
+    private double max;
+    private LocalDateTime terakhir;
+    private boolean boundsStale;
+
+    SkorAggregate() {
+    }
+
+    /**
+     * Ringkasan dari nilai yang sudah dihitung (misal hasil query SQL)
+     *
+     * @param terakhir Waktu skor terakhir, null jika tidak diketahui
+     */
+    public static SkorAggregate of(int jumlah, double total, double min, double max, LocalDateTime terakhir) {
+        SkorAggregate aggregate = new SkorAggregate();
+        if (jumlah > 0) {
+            aggregate.jumlah = jumlah;
+            aggregate.total = total;
+            aggregate.min = min;
+            aggregate.max = max;
+            aggregate.terakhir = terakhir;
+        }
+        return aggregate;
+    }
+
+    // ==================== GETTERS ====================
+
+    /**
+     * @return Jumlah skor yang tercatat
+     */
+    public int getJumlah() {
+        return jumlah;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    /**
+     * @return Skor terendah, 0 jika belum ada skor
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return Skor tertinggi, 0 jika belum ada skor
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return Rata-rata skor, 0 jika belum ada skor
+     */
+    public double getRataRata() {
+        return jumlah > 0 ? total / jumlah : 0.0;
+    }
+
+    /**
+     * @return Waktu skor terakhir ditulis, null jika belum ada atau tidak diketahui
+     */
+    public LocalDateTime getTerakhir() {
+        return terakhir;
+    }
+
+    // ==================== UPDATE ====================
+
+    /**
+     * Tambah satu skor
+     *
+     * @param waktu Waktu penulisan, null jika tidak diketahui (misal saat load snapshot)
+     */
+    void add(double skor, LocalDateTime waktu) {
+        if (jumlah == 0) {
+            min = skor;
+            max = skor;
+        } else if (!boundsStale) {
+            min = Math.min(min, skor);
+            max = Math.max(max, skor);
+        }
+        jumlah++;
+        total += skor;
+        updateTerakhir(waktu);
+    }
+
+    /**
+     * Catat waktu penulisan skor tanpa mengubah skor (misal dari riwayat
+     * yang di-load setelah skornya)
+     */
+    void updateTerakhir(LocalDateTime waktu) {
+        if (waktu != null && (terakhir == null || waktu.isAfter(terakhir))) {
+            terakhir = waktu;
+        }
+    }
+
+    /**
+     * Hapus satu skor yang sebelumnya ditambahkan dengan add()
+     */
+    void remove(double skor) {
+        jumlah--;
+        if (jumlah <= 0) {
+            jumlah = 0;
+            total = 0;
+            min = 0;
+            max = 0;
+            boundsStale = false;
+            return;
+        }
+        total -= skor;
+        if (skor <= min || skor >= max) {
+            boundsStale = true;
+        }
+    }
+
+    /**
+     * @return true jika min/max perlu dihitung ulang dengan rescan()
+     */
+    boolean isBoundsStale() {
+        return boundsStale;
+    }
+
+    /**
+     * Hitung ulang min/max (dan total, untuk membuang error pembulatan)
+     * dari semua skor yang tersisa
+     */
+    void rescan(double[] skorList) {
+        int count = 0;
+        double sum = 0;
+        double low = 0;
+        double high = 0;
+        for (double skor : skorList) {
+            low = count == 0 ? skor : Math.min(low, skor);
+            high = count == 0 ? skor : Math.max(high, skor);
+            sum += skor;
+            count++;
+        }
+        jumlah = count;
+        total = sum;
+        min = low;
+        max = high;
+        boundsStale = false;
+    }
+
+    /**
+     * @return Salinan ringkasan untuk dikembalikan ke luar lock
+     */
+    SkorAggregate copy() {
+        return of(jumlah, total, min, max, terakhir);
+    }
+
+    @Override
+    public String toString() {
+        return "SkorAggregate{" +
+                "jumlah=" + jumlah +
+                ", rataRata=" + getRataRata() +
+                ", min=" + min +
+                ", max=" + max +
+                ", terakhir=" + terakhir +
+                '}';
+    }
+}
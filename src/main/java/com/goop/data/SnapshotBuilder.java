@@ -0,0 +1,289 @@
+package com.goop.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.goop.data.SnapshotFile.Table;
+
+/**
+ * Class SnapshotBuilder - Menyusun snapshot format kolom (versi 2) di memory
+ *
+ * Pemakaian:
+ *   builder.section(Table.PROYEK).putInt(id).putString(judul)...endRow();
+ * lalu SnapshotFile.write() untuk menulis ke file.
+ *
+ * String yang sama (status, topik, password default, dll) hanya disimpan
+ * 1x di heap. Row yang masih lazy di snapshot lama bisa di-copy langsung
+ * (copyRow) tanpa decode string dan tanpa membuat object model.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class SnapshotBuilder {
+
+    /**
+     * Kolom-kolom 1 table. Setiap nilai disimpan sebagai long
+     * (double lewat doubleToRawLongBits, string sebagai nomor heap)
+     */
+    final class Section {
+        private final Table table;
+        private long[][] cells;
+        private int rows;
+        private int column;
+
+        private Section(Table table) {
+            this.table = table;
+            this.cells = new long[table.columns.length][16];
+        }
+
+        Section putInt(int value) {
+            return put(SnapshotFile.INT, value);
+        }
+
+        Section putLong(long value) {
+            return put(SnapshotFile.LONG, value);
+        }
+
+        Section putDouble(double value) {
+            return put(SnapshotFile.DOUBLE, Double.doubleToRawLongBits(value));
+        }
+
+        Section putString(String value) {
+            return put(SnapshotFile.STRING, internString(value));
+        }
+
+        Section putBytes(byte[] value) {
+            return put(SnapshotFile.STRING, addHeapEntry(value));
+        }
+
+        /**
+         * Mengakhiri 1 row, semua kolom harus sudah diisi
+         */
+        void endRow() {
+            if (column != cells.length) {
+                throw new IllegalStateException(table + ": row belum lengkap");
+            }
+            column = 0;
+            rows++;
+        }
+
+        /**
+         * Copy 1 row dari snapshot lama (table yang sama) tanpa decode
+         */
+        void copyRow(SnapshotImage.Section source, int row) {
+            byte[] types = table.columns;
+            for (int i = 0; i < types.length; i++) {
+                switch (types[i]) {
+                    case SnapshotFile.INT:
+                        putInt(source.getInt(i, row));
+                        break;
+                    case SnapshotFile.LONG:
+                        putLong(source.getLong(i, row));
+                        break;
+                    case SnapshotFile.DOUBLE:
+                        putDouble(source.getDouble(i, row));
+                        break;
+                    default:
+                        put(SnapshotFile.STRING, copyString(source.getImage(), source.getStringRef(i, row)));
+                        break;
+                }
+            }
+            endRow();
+        }
+
+        private Section put(byte type, long value) {
+            if (column >= cells.length || table.columns[column] != type) {
+                throw new IllegalStateException(table + ": tipe kolom " + column + " tidak sesuai");
+            }
+            long[] values = cells[column];
+            if (rows == values.length) {
+                values = Arrays.copyOf(values, rows * 2);
+                cells[column] = values;
+            }
+            values[rows] = value;
+            column++;
+            return this;
+        }
+    }
+
+    private final long segment;
+    private final int[] counters;
+    private final Section[] sections;
+
+    /**
+     * String heap: byte UTF-8 semua string dan offset awal setiap string
+     */
+    private final ByteArrayOutputStream heap = new ByteArrayOutputStream(64 * 1024);
+    private int[] heapOffsets = new int[256];
+    private int heapCount;
+    private final Map<String, Integer> stringRefs = new HashMap<>();
+
+    /**
+     * Nomor string di snapshot lama -> nomor string di builder ini
+     */
+    private final Map<SnapshotImage, IntHashMap<Integer>> copiedRefs = new IdentityHashMap<>();
+
+    /**
+     * @param segment  Segment log pertama yang belum tercakup snapshot
+     * @param counters Counter ID (proyek, tes, materi, modul, soal)
+     */
+    SnapshotBuilder(long segment, int... counters) {
+        if (counters.length != SnapshotFile.COUNTER_COUNT) {
+            throw new IllegalArgumentException("Jumlah counter harus " + SnapshotFile.COUNTER_COUNT);
+        }
+        this.segment = segment;
+        this.counters = counters.clone();
+        Table[] tables = Table.values();
+        this.sections = new Section[tables.length];
+        for (Table table : tables) {
+            sections[table.ordinal()] = new Section(table);
+        }
+    }
+
+    long getSegment() {
+        return segment;
+    }
+
+    Section section(Table table) {
+        return sections[table.ordinal()];
+    }
+
+    private int internString(String value) {
+        if (value == null) {
+            return -1;
+        }
+        Integer ref = stringRefs.get(value);
+        if (ref == null) {
+            ref = addHeapEntry(value.getBytes(StandardCharsets.UTF_8));
+            stringRefs.put(value, ref);
+        }
+        return ref;
+    }
+
+    private int copyString(SnapshotImage source, int sourceRef) {
+        if (sourceRef < 0) {
+            return -1;
+        }
+        IntHashMap<Integer> refs = copiedRefs.computeIfAbsent(source, k -> new IntHashMap<>());
+        Integer ref = refs.get(sourceRef);
+        if (ref == null) {
+            ref = addHeapEntry(source.bytes(sourceRef));
+            refs.put(sourceRef, ref);
+        }
+        return ref;
+    }
+
+    private int addHeapEntry(byte[] bytes) {
+        if (heapCount == heapOffsets.length) {
+            heapOffsets = Arrays.copyOf(heapOffsets, heapCount * 2);
+        }
+        heapOffsets[heapCount] = heap.size();
+        heap.write(bytes, 0, bytes.length);
+        return heapCount++;
+    }
+
+    /**
+     * Menulis snapshot lengkap (termasuk CRC di akhir) ke stream
+     */
+    void writeTo(OutputStream target) throws IOException {
+        for (Section section : sections) {
+            if (section.column != 0) {
+                throw new IllegalStateException(section.table + ": row terakhir belum endRow()");
+            }
+        }
+
+        // Hitung posisi setiap kolom dan heap
+        long position = SnapshotFile.HEADER_SIZE;
+        for (Section section : sections) {
+            position += 4 + 8L * section.cells.length;
+        }
+        long[][] offsets = new long[sections.length][];
+        for (int t = 0; t < sections.length; t++) {
+            byte[] types = sections[t].table.columns;
+            offsets[t] = new long[types.length];
+            for (int c = 0; c < types.length; c++) {
+                position = SnapshotFile.align8(position);
+                offsets[t][c] = position;
+                position += (long) sections[t].rows * SnapshotFile.widthOf(types[c]);
+            }
+        }
+        long heapOffset = SnapshotFile.align8(position);
+
+        CRC32 crc = new CRC32();
+        CountingOutput out = new CountingOutput(new CheckedOutputStream(target, crc));
+
+        out.writeLong(SnapshotFile.MAGIC);
+        out.writeInt(SnapshotFile.VERSION_COLUMNAR);
+        out.writeLong(segment);
+        for (int counter : counters) {
+            out.writeInt(counter);
+        }
+        out.writeLong(heapOffset);
+        out.writeInt(sections.length);
+
+        for (int t = 0; t < sections.length; t++) {
+            out.writeInt(sections[t].rows);
+            for (long offset : offsets[t]) {
+                out.writeLong(offset);
+            }
+        }
+
+        for (int t = 0; t < sections.length; t++) {
+            Section section = sections[t];
+            byte[] types = section.table.columns;
+            for (int c = 0; c < types.length; c++) {
+                out.padTo(offsets[t][c]);
+                long[] values = section.cells[c];
+                for (int row = 0; row < section.rows; row++) {
+                    if (SnapshotFile.widthOf(types[c]) == 4) {
+                        out.writeInt((int) values[row]);
+                    } else {
+                        out.writeLong(values[row]);
+                    }
+                }
+            }
+        }
+
+        out.padTo(heapOffset);
+        out.writeInt(heapCount);
+        out.writeInt(0);
+        for (int i = 0; i < heapCount; i++) {
+            out.writeInt(heapOffsets[i]);
+        }
+        out.writeInt(heap.size());
+        heap.writeTo(out);
+        out.flush();
+
+        // CRC ditulis di luar CheckedOutputStream
+        DataOutputStream trailer = new DataOutputStream(target);
+        trailer.writeInt((int) crc.getValue());
+        trailer.flush();
+    }
+
+    /**
+     * DataOutputStream yang bisa menambah padding sampai posisi tertentu
+     */
+    private static final class CountingOutput extends DataOutputStream {
+        CountingOutput(OutputStream out) {
+            super(out);
+        }
+
+        void padTo(long position) throws IOException {
+            if (written > position) {
+                throw new IllegalStateException("Layout snapshot tidak konsisten");
+            }
+            while (written < position) {
+                write(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.goop.data;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Class SnapshotFile - File checkpoint berisi seluruh isi DataStore
+ *
+ * Snapshot dibuat di background (checkpoint) agar saat start aplikasi
+ * tidak perlu me-replay seluruh write-ahead log dari awal, cukup:
+ *   snapshot terbaru + segment log SESUDAH snapshot tersebut
+ *
+ * Nama file: snapshot-<segment>.snap, dengan <segment> = segment log
+ * pertama yang harus di-replay setelah snapshot di-load.
+ *
+ * Format versi 2 (ditulis SnapshotBuilder, dibaca SnapshotImage via mmap):
+ *   [header 52 byte][directory table][kolom-kolom][string heap][int CRC32]
+ * - Header: magic "GOOPSNAP", versi, segment, 5 counter ID, offset heap,
+ *   jumlah table
+ * - Directory: untuk setiap Table (urutan enum): jumlah row + offset
+ *   setiap kolom
+ * - Kolom: array flat (int/long/double, big-endian), 1 nilai per row,
+ *   setiap kolom dimulai di offset kelipatan 8
+ * - Kolom STRING berisi nomor string di heap (-1 untuk null). Heap berisi
+ *   jumlah string, offset awal setiap string, lalu byte UTF-8 semua string
+ *
+ * Format versi 1 (stream DataOutput dari EntityCodec) masih bisa dibaca
+ * lewat readStream() untuk snapshot lama.
+ *
+ * File ditulis ke .tmp, di-fsync, lalu di-rename (atomic), sehingga
+ * snapshot yang setengah jadi tidak pernah terbaca.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class SnapshotFile {
+
+    static final long MAGIC = 0x474F4F50534E4150L; // "GOOPSNAP"
+    static final int VERSION_STREAM = 1;
+    static final int VERSION_COLUMNAR = 2;
+
+    /**
+     * Tipe kolom dan ukurannya di file
+     */
+    static final byte INT = 0;
+    static final byte LONG = 1;
+    static final byte DOUBLE = 2;
+    static final byte STRING = 3;
+
+    static final int HEADER_SIZE = 52;
+    static final int COUNTER_COUNT = 5;
+
+    /**
+     * Table di snapshot beserta tipe setiap kolomnya
+     * Urutan kolom HARUS sama dengan EntityCodec.putXxx / loadXxx
+     * Table baru HARUS ditambahkan di akhir (snapshot lama tetap bisa dibaca)
+     */
+    enum Table {
+        // id, username, password, email, namaLengkap, skorKognitif
+        SISWA(INT, STRING, STRING, STRING, STRING, DOUBLE),
+        // id, username, password, email, namaLengkap
+        GURU(INT, STRING, STRING, STRING, STRING),
+        // id, tes + daftar soal (encode EntityCodec.writeTes)
+        TES(INT, STRING),
+        // siswaId, tesId, skor
+        HASIL_TES(INT, INT, DOUBLE),
+        // id, judul, deskripsi, deadline (epoch day), status, skor, siswaId, guruId, filePath
+        PROYEK(INT, STRING, STRING, LONG, STRING, DOUBLE, INT, INT, STRING),
+        // id, judul, konten, topik, guruId, urlResource
+        MATERI(INT, STRING, STRING, STRING, INT, STRING),
+        // id, judul, konten, topik, guruId, tanggalDibuat (epoch second UTC), nano
+        MODUL(INT, STRING, STRING, STRING, INT, LONG, INT),
+        // proyekId, code
+        PROYEK_CODE(INT, STRING),
+        // siswaId, tesId, waktu (epoch millisecond UTC), skor, durasiDetik, jawaban (1 karakter per soal)
+        PENGERJAAN_TES(INT, INT, LONG, DOUBLE, INT, STRING),
+        // proyekId, daftar test case (encode EntityCodec.writeTestCases)
+        TEST_CASE(INT, STRING),
+        // proyekId, laporan penilaian terakhir (encode EntityCodec.writeLaporan)
+        LAPORAN_PENILAIAN(INT, STRING),
+        // proyekId, daftar kriteria rubrik (encode EntityCodec.writeRubrik)
+        RUBRIK(INT, STRING);
+
+        final byte[] columns;
+
+        Table(byte... columns) {
+            this.columns = columns;
+        }
+    }
+
+    static int widthOf(byte type) {
+        return type == INT || type == STRING ? 4 : 8;
+    }
+
+    static long align8(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+
+    private SnapshotFile() {
+    }
+
+    /**
+     * Menulis snapshot baru lalu menghapus snapshot yang lebih lama
+     *
+     * @param directory Folder data
+     * @param builder   Isi snapshot (segment ada di builder)
+     * @return Path file snapshot
+     */
+    static Path write(Path directory, SnapshotBuilder builder) throws IOException {
+        Path target = pathOf(directory, builder.getSegment());
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+            builder.writeTo(file);
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        deleteOlderThan(directory, builder.getSegment());
+        return target;
+    }
+
+    /**
+     * Mencari snapshot terbaru di folder data
+     *
+     * @return Path snapshot atau null jika belum ada
+     */
+    static Path findLatest(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+        Path latest = null;
+        long latestSegment = -1;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path path : files) {
+                long segment = segmentOf(path);
+                if (segment > latestSegment) {
+                    latestSegment = segment;
+                    latest = path;
+                }
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Membaca versi format snapshot dari header
+     */
+    static int readVersion(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            DataInputStream data = new DataInputStream(in);
+            if (data.readLong() != MAGIC) {
+                throw new IOException("Bukan file snapshot GOOP: " + file);
+            }
+            return data.readInt();
+        }
+    }
+
+    /**
+     * Membaca snapshot format versi 1 (stream) setelah CRC dicek
+     *
+     * @param file   File snapshot
+     * @param reader Pembaca isi snapshot (dipanggil hanya jika file valid)
+     * @return Segment log pertama yang harus di-replay
+     */
+    static long readStream(Path file, WriteAheadLog.RecordHandler reader) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length < 24) {
+            throw new IOException("Snapshot terlalu pendek: " + file);
+        }
+        int bodyLength = bytes.length - 4;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bodyLength);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.skipBytes(bodyLength);
+        if (in.readInt() != (int) crc.getValue()) {
+            throw new IOException("CRC snapshot tidak cocok: " + file);
+        }
+
+        in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bodyLength));
+        if (in.readLong() != MAGIC) {
+            throw new IOException("Bukan file snapshot GOOP: " + file);
+        }
+        int version = in.readInt();
+        if (version != VERSION_STREAM) {
+            throw new IOException("Versi snapshot tidak didukung: " + version);
+        }
+        long segment = in.readLong();
+        reader.apply(in);
+        return segment;
+    }
+
+    private static void deleteOlderThan(Path directory, long segment) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*")) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(".tmp") || segmentOf(path) < segment) {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException e) {
+                        // Di Windows, snapshot yang masih di-mmap tidak bisa dihapus.
+                        // Dicoba lagi di checkpoint berikutnya
+                        System.err.println("WARNING: Snapshot lama belum bisa dihapus: " + path);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Path pathOf(Path directory, long segment) {
+        return directory.resolve(String.format("%s%010d%s", PREFIX, segment, SUFFIX));
+    }
+
+    private static long segmentOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.goop.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import com.goop.data.SnapshotFile.Table;
+
+/**
+ * Class SnapshotImage - Akses read-only ke snapshot format kolom (versi 2)
+ *
+ * File di-map ke memory (FileChannel.map), sehingga membuka snapshot
+ * tidak membaca/men-decode seluruh isi file:
+ * - Nilai int/long/double dibaca langsung dari kolom (absolute get)
+ * - String di-decode dari heap saat pertama kali diminta, lalu di-cache
+ *
+ * Object ini immutable setelah dibuka dan aman dipakai banyak thread
+ * (semua akses buffer memakai absolute get, tidak mengubah position).
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class SnapshotImage {
+
+    /**
+     * Kolom-kolom 1 table di snapshot
+     */
+    final class Section {
+        private final Table table;
+        private final int rows;
+        private final long[] offsets;
+
+        private Section(Table table, int rows, long[] offsets) {
+            this.table = table;
+            this.rows = rows;
+            this.offsets = offsets;
+        }
+
+        int rows() {
+            return rows;
+        }
+
+        SnapshotImage getImage() {
+            return SnapshotImage.this;
+        }
+
+        int getInt(int column, int row) {
+            return buffer.getInt(position(column, row, 4));
+        }
+
+        long getLong(int column, int row) {
+            return buffer.getLong(position(column, row, 8));
+        }
+
+        double getDouble(int column, int row) {
+            return buffer.getDouble(position(column, row, 8));
+        }
+
+        int getStringRef(int column, int row) {
+            return getInt(column, row);
+        }
+
+        String getString(int column, int row) {
+            return string(getStringRef(column, row));
+        }
+
+        byte[] getBytes(int column, int row) {
+            int ref = getStringRef(column, row);
+            return ref >= 0 ? bytes(ref) : null;
+        }
+
+        /**
+         * Semua nilai kolom int (misal kolom ID) sebagai array
+         */
+        int[] getIntColumn(int column) {
+            int[] values = new int[rows];
+            for (int row = 0; row < rows; row++) {
+                values[row] = getInt(column, row);
+            }
+            return values;
+        }
+
+        private int position(int column, int row, int width) {
+            if (row < 0 || row >= rows) {
+                throw new IndexOutOfBoundsException(table + " row " + row);
+            }
+            return (int) (offsets[column] + (long) row * width);
+        }
+    }
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final long segment;
+    private final int[] counters = new int[SnapshotFile.COUNTER_COUNT];
+    private final Section[] sections;
+
+    /**
+     * String heap: jumlah string, posisi tabel offset, posisi awal byte
+     */
+    private final int heapCount;
+    private final int heapOffsetsPosition;
+    private final int heapBytesPosition;
+
+    /**
+     * String yang sudah di-decode (race saat mengisi cache tidak masalah,
+     * String immutable dan hasil decode selalu sama)
+     */
+    private final String[] stringCache;
+
+    private SnapshotImage(Path file, MappedByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+
+        if (buffer.capacity() < SnapshotFile.HEADER_SIZE + 4 || buffer.getLong(0) != SnapshotFile.MAGIC) {
+            throw new IOException("Bukan file snapshot GOOP: " + file);
+        }
+        int version = buffer.getInt(8);
+        if (version != SnapshotFile.VERSION_COLUMNAR) {
+            throw new IOException("Versi snapshot tidak didukung: " + version);
+        }
+        verifyChecksum();
+
+        segment = buffer.getLong(12);
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = buffer.getInt(20 + 4 * i);
+        }
+        long heapOffset = buffer.getLong(40);
+        int tableCount = buffer.getInt(48);
+        Table[] tables = Table.values();
+        if (tableCount <= 0 || tableCount > tables.length) {
+            throw new IOException("Jumlah table snapshot tidak sesuai: " + tableCount);
+        }
+
+        // Table baru selalu ditambahkan di akhir enum: table yang belum ada
+        // di snapshot lama dibaca sebagai table kosong
+        sections = new Section[tables.length];
+        int position = SnapshotFile.HEADER_SIZE;
+        for (Table table : tables) {
+            if (table.ordinal() >= tableCount) {
+                sections[table.ordinal()] = new Section(table, 0, new long[table.columns.length]);
+                continue;
+            }
+            int rows = buffer.getInt(position);
+            position += 4;
+            long[] offsets = new long[table.columns.length];
+            for (int c = 0; c < offsets.length; c++) {
+                offsets[c] = buffer.getLong(position);
+                position += 8;
+                long end = offsets[c] + (long) rows * SnapshotFile.widthOf(table.columns[c]);
+                if (offsets[c] < position || end > heapOffset) {
+                    throw new IOException("Offset kolom snapshot tidak valid: " + table);
+                }
+            }
+            sections[table.ordinal()] = new Section(table, rows, offsets);
+        }
+
+        heapCount = buffer.getInt((int) heapOffset);
+        heapOffsetsPosition = (int) heapOffset + 8;
+        heapBytesPosition = heapOffsetsPosition + 4 * (heapCount + 1);
+        if (heapCount < 0 || heapBytesPosition > buffer.capacity() - 4) {
+            throw new IOException("String heap snapshot tidak valid: " + file);
+        }
+        stringCache = new String[heapCount];
+    }
+
+    /**
+     * Membuka snapshot dengan memory-mapped file
+     */
+    static SnapshotImage open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot terlalu besar: " + file);
+            }
+            // Mapping tetap valid setelah channel ditutup
+            return new SnapshotImage(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    private void verifyChecksum() throws IOException {
+        int bodyLength = buffer.capacity() - 4;
+        ByteBuffer body = buffer.duplicate();
+        body.position(0).limit(bodyLength);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if (buffer.getInt(bodyLength) != (int) crc.getValue()) {
+            throw new IOException("CRC snapshot tidak cocok: " + file);
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    long getSegment() {
+        return segment;
+    }
+
+    /**
+     * Counter ID: 0 proyek, 1 tes, 2 materi, 3 modul, 4 soal
+     */
+    int getCounter(int index) {
+        return counters[index];
+    }
+
+    Section section(Table table) {
+        return sections[table.ordinal()];
+    }
+
+    /**
+     * Decode string dari heap (di-cache)
+     *
+     * @param ref Nomor string, -1 untuk null
+     */
+    String string(int ref) {
+        if (ref < 0) {
+            return null;
+        }
+        String value = stringCache[ref];
+        if (value == null) {
+            value = new String(bytes(ref), StandardCharsets.UTF_8);
+            stringCache[ref] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Byte mentah 1 entry heap (tanpa decode)
+     */
+    byte[] bytes(int ref) {
+        if (ref < 0 || ref >= heapCount) {
+            throw new IndexOutOfBoundsException("String heap " + ref);
+        }
+        int start = buffer.getInt(heapOffsetsPosition + 4 * ref);
+        int end = buffer.getInt(heapOffsetsPosition + 4 * (ref + 1));
+        byte[] bytes = new byte[end - start];
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(heapBytesPosition + start);
+        slice.get(bytes);
+        return bytes;
+    }
+}
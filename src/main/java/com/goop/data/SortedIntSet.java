@@ -0,0 +1,78 @@
+package com.goop.data;
+
+import java.util.Arrays;
+
+/**
+ * Class SortedIntSet - Himpunan int terurut yang disimpan di array primitive
+ *
+ * Dipakai sebagai posting list pada secondary index (contoh: daftar ID
+ * proyek milik satu siswa). Data selalu terurut naik sehingga:
+ * - contains/remove memakai binary search (O(log k))
+ * - add biasanya append di akhir karena ID baru selalu lebih besar
+ *
+ * Class ini TIDAK thread-safe, sinkronisasi dilakukan oleh pemakainya.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class SortedIntSet {
+
+    private int[] values;
+    private int size;
+
+    SortedIntSet() {
+        this.values = new int[4];
+    }
+
+    /**
+     * @return true jika value baru ditambahkan, false jika sudah ada
+     */
+    boolean add(int value) {
+        int pos;
+        if (size == 0 || values[size - 1] < value) {
+            pos = size;
+        } else {
+            pos = Arrays.binarySearch(values, 0, size, value);
+            if (pos >= 0) {
+                return false;
+            }
+            pos = -pos - 1;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        System.arraycopy(values, pos, values, pos + 1, size - pos);
+        values[pos] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * @return true jika value ditemukan dan dihapus
+     */
+    boolean remove(int value) {
+        int pos = Arrays.binarySearch(values, 0, size, value);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,88 @@
+package com.goop.data;
+
+import com.goop.models.HasilTesSiswa;
+import com.goop.models.PengerjaanTes;
+import com.goop.models.TesKognitif;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Interface TesRepository - Akses data tes kognitif dan hasil tes siswa
+ * (aturan method baca list: lihat UserRepository)
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public interface TesRepository {
+
+    List<TesKognitif> getAllTesKognitif();
+
+    int countTesKognitif();
+
+    void forEachTesKognitif(Consumer<? super TesKognitif> action);
+
+    List<TesKognitif> getTesKognitifPage(int afterId, int limit);
+
+    List<TesKognitif> getActiveTesKognitif();
+
+    int countActiveTesKognitif();
+
+    /**
+     * @return TesKognitif atau null jika tidak ditemukan
+     */
+    TesKognitif getTesKognitifById(int id);
+
+    /**
+     * Menambah tes baru beserta daftar soalnya, ID di-generate otomatis
+     */
+    void addTesKognitif(TesKognitif tes);
+
+    /**
+     * Mencatat 1 percobaan tes di riwayat, menjadikan skornya skor terakhir
+     * untuk tes tersebut, dan meng-update skor kognitif siswa
+     * (rata-rata skor terakhir semua tes yang sudah dikerjakan)
+     *
+     * @param durasiDetik Lama pengerjaan dalam detik
+     * @param jawaban     Jawaban per soal (A/B/C/D, null = tidak dijawab), boleh null
+     */
+    void saveHasilTes(int siswaId, int tesId, double skor, int durasiDetik, String[] jawaban);
+
+    /**
+     * Seperti saveHasilTes di atas, tanpa durasi dan jawaban
+     */
+    default void saveHasilTes(int siswaId, int tesId, double skor) {
+        saveHasilTes(siswaId, tesId, skor, 0, null);
+    }
+
+    /**
+     * @return Skor percobaan terakhir atau 0 jika belum pernah mengerjakan
+     */
+    double getHasilTes(int siswaId, int tesId);
+
+    /**
+     * Hasil semua tes yang sudah dikerjakan siswa (skor terakhir, skor
+     * tertinggi, jumlah percobaan, waktu dan durasi percobaan terakhir).
+     * Tes yang belum dikerjakan tidak ada di list, skor 0 tetap ada.
+     *
+     * @return List hasil terurut berdasarkan ID tes
+     */
+    List<HasilTesSiswa> getHasilTesSiswa(int siswaId);
+
+    /**
+     * @return Semua percobaan tes siswa, urut sesuai waktu submit
+     */
+    List<PengerjaanTes> getRiwayatTesSiswa(int siswaId);
+
+    /**
+     * @return Semua percobaan untuk satu tes (semua siswa), urut sesuai waktu submit
+     */
+    List<PengerjaanTes> getRiwayatTes(int tesId);
+
+    /**
+     * Ringkasan skor tes siswa (jumlah tes, rata-rata, min, max, waktu terakhir)
+     *
+     * @return Salinan ringkasan, jumlah 0 jika belum pernah mengerjakan tes
+     */
+    SkorAggregate getSkorTesSiswa(int siswaId);
+}
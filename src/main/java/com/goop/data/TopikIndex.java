@@ -0,0 +1,140 @@
+package com.goop.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class TopikIndex - Secondary index topik -> ID entity (case-insensitive)
+ *
+ * Dipakai untuk Materi dan Modul. Topik dinormalisasi SEKALI saat data
+ * ditulis:
+ * - Spasi di awal/akhir dibuang dan spasi berulang dijadikan satu
+ * - Key index = topik dalam huruf kecil (Locale.ROOT), di-intern
+ * - Label tampilan = penulisan pertama dari topik tersebut, di-intern
+ *
+ * Semua entity dengan topik yang sama akan memakai String label yang sama,
+ * sehingga query per topik cukup 1 hash lookup tanpa equalsIgnoreCase
+ * terhadap setiap data.
+ *
+ * Class ini TIDAK thread-safe, sinkronisasi dilakukan oleh pemakainya.
+ * normalize() dan keyOf() juga dipakai backend JDBC agar aturan topik sama.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public class TopikIndex {
+
+    /**
+     * Data per topik: key, label tampilan dan posting list ID entity
+     */
+    private static class Bucket {
+        final String key;
+        final String label;
+        final SortedIntSet ids = new SortedIntSet();
+
+        Bucket(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+    }
+
+    private static final SortedIntSet EMPTY = new SortedIntSet();
+
+    /**
+     * Key topik (lowercase) -> bucket
+     */
+    private final Map<String, Bucket> buckets = new HashMap<>();
+
+    /**
+     * ID entity -> key topik yang sedang tercatat
+     */
+    private final IntHashMap<String> keyById = new IntHashMap<>();
+
+    /**
+     * Normalisasi penulisan topik (trim + rapikan spasi)
+     */
+    public static String normalize(String topik) {
+        if (topik == null) {
+            return "";
+        }
+        return topik.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Key index untuk topik (case-insensitive)
+     */
+    public static String keyOf(String topik) {
+        return normalize(topik).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Mencatat entity ke topik tertentu (memindahkan jika topik berubah)
+     *
+     * @param topik    Topik seperti yang diinput user
+     * @param entityId ID entity
+     * @return Label kanonik topik, untuk disimpan kembali ke entity
+     */
+    String put(String topik, int entityId) {
+        String key = keyOf(topik);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket(key.intern(), normalize(topik).intern());
+            buckets.put(bucket.key, bucket);
+        }
+
+        String oldKey = keyById.put(entityId, bucket.key);
+        if (oldKey != null && oldKey != bucket.key) {
+            removeFrom(oldKey, entityId);
+        }
+        bucket.ids.add(entityId);
+        return bucket.label;
+    }
+
+    /**
+     * Menghapus entity dari index
+     */
+    void remove(int entityId) {
+        String oldKey = keyById.remove(entityId);
+        if (oldKey != null) {
+            removeFrom(oldKey, entityId);
+        }
+    }
+
+    /**
+     * Mendapatkan ID entity dengan topik tertentu (read-only, jangan diubah)
+     */
+    SortedIntSet get(String topik) {
+        Bucket bucket = buckets.get(keyOf(topik));
+        return bucket != null ? bucket.ids : EMPTY;
+    }
+
+    /**
+     * Daftar topik beserta jumlah entity, terurut berdasarkan label
+     *
+     * @return Map label topik -> jumlah entity
+     */
+    Map<String, Integer> counts() {
+        List<Bucket> sorted = new ArrayList<>(buckets.values());
+        sorted.sort((a, b) -> a.label.compareToIgnoreCase(b.label));
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Bucket bucket : sorted) {
+            result.put(bucket.label, bucket.ids.size());
+        }
+        return result;
+    }
+
+    private void removeFrom(String key, int entityId) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.ids.remove(entityId);
+            if (bucket.ids.isEmpty()) {
+                buckets.remove(key);
+            }
+        }
+    }
+}
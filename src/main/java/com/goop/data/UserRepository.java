@@ -0,0 +1,76 @@
+package com.goop.data;
+
+import com.goop.models.Guru;
+import com.goop.models.Siswa;
+import com.goop.models.User;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Interface UserRepository - Akses data user (Siswa dan Guru) beserta autentikasi
+ *
+ * Siswa dan Guru berbagi 1 namespace username (username unik untuk
+ * keduanya). Implementasi: DataStore (in-memory) dan
+ * jdbc.JdbcUserRepository (database embedded).
+ *
+ * Repository tidak menyimpan user yang sedang login: login() hanya
+ * memeriksa username/password, session dibuat lewat SessionRegistry.
+ *
+ * Method baca list di semua repository:
+ * - getAllXxx(): list READ-ONLY (jangan diubah), boleh dibagikan antar caller
+ * - countXxx(): jumlah data tanpa membuat list
+ * - forEachXxx(): iterasi terurut berdasarkan ID tanpa membuat list.
+ *   Action tidak boleh memanggil method tulis repository yang sama
+ * - getXxxPage(afterId, limit): keyset paging, halaman pertama afterId = 0,
+ *   halaman berikutnya afterId = ID terakhir halaman sebelumnya
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public interface UserRepository {
+
+    /**
+     * Autentikasi dengan username dan password
+     *
+     * @return User pemilik username, atau null jika username/password salah
+     */
+    User login(String username, String password);
+
+    /**
+     * Cek apakah username sudah dipakai user lain (siswa maupun guru)
+     *
+     * @param except User yang dikecualikan (user yang sedang diedit), boleh null
+     */
+    boolean isUsernameTaken(String username, User except);
+
+    List<Siswa> getAllSiswa();
+
+    int countSiswa();
+
+    void forEachSiswa(Consumer<? super Siswa> action);
+
+    List<Siswa> getSiswaPage(int afterId, int limit);
+
+    /**
+     * @return Siswa atau null jika tidak ditemukan
+     */
+    Siswa getSiswaById(int id);
+
+    /**
+     * @return false jika username atau ID sudah dipakai (siswa tidak ditambahkan)
+     */
+    boolean addSiswa(Siswa siswa);
+
+    /**
+     * @return false jika siswa tidak ditemukan atau username sudah dipakai user lain
+     */
+    boolean updateSiswa(Siswa siswa);
+
+    List<Guru> getAllGuru();
+
+    /**
+     * @return false jika username atau ID sudah dipakai (guru tidak ditambahkan)
+     */
+    boolean addGuru(Guru guru);
+}
@@ -0,0 +1,543 @@
+package com.goop.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Class WriteAheadLog - Log append-only untuk setiap perubahan data DataStore
+ *
+ * Setiap mutation (addSiswa, addProyek, saveHasilTes, dll) ditulis sebagai
+ * 1 record binary ke file log. Saat aplikasi start, semua record di-replay
+ * sehingga data tidak hilang saat aplikasi ditutup.
+ *
+ * Log dibagi menjadi beberapa segment (wal-0000000001.log, wal-0000000002.log,
+ * dst). Setiap checkpoint memulai segment baru (rollover), sehingga segment
+ * lama yang sudah tercakup snapshot bisa dihapus tanpa menyentuh file
+ * yang sedang ditulis.
+ *
+ * Format record di file:
+ *   [int panjang payload][int CRC32 payload][payload]
+ * Record terakhir yang terpotong (misal karena listrik mati saat menulis)
+ * terdeteksi lewat panjang/CRC yang tidak cocok, lalu dibuang saat replay.
+ *
+ * Mode durability:
+ * - SYNC: setiap commit langsung di-write dan di-fsync sebelum method return
+ * - GROUP_COMMIT: record dikumpulkan, thread flusher menulis + fsync setiap
+ *   N ms; writer menunggu sampai record-nya durable (banyak write, 1 fsync)
+ * - ASYNC: sama seperti GROUP_COMMIT tetapi writer tidak menunggu.
+ *   Paling cepat, tetapi perubahan N ms terakhir bisa hilang saat crash
+ *
+ * Jika write atau fsync gagal, bagian batch yang sempat tertulis di-truncate
+ * dan log ditandai rusak: tidak ada record yang dinyatakan durable lagi,
+ * writer yang menunggu dan commit berikutnya mendapat IOException.
+ * fsync yang gagal tidak diulang karena tidak aman (page yang gagal ditulis
+ * bisa sudah dibuang oleh OS, sehingga fsync berikutnya tampak berhasil).
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class WriteAheadLog implements Closeable {
+
+    /**
+     * Mode durability write-ahead log
+     */
+    enum Durability {
+        SYNC, GROUP_COMMIT, ASYNC
+    }
+
+    /**
+     * Callback untuk setiap record saat replay
+     */
+    interface RecordHandler {
+        void apply(DataInputStream payload) throws IOException;
+    }
+
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * Batas ukuran 1 record, untuk mendeteksi header yang rusak
+     */
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * Nama file log lama (sebelum ada segment), dipindahkan ke segment 0
+     */
+    private static final String LEGACY_FILE = "goop.wal";
+
+    private final Path directory;
+    private final Durability durability;
+
+    /**
+     * Segment yang sedang ditulis (null sebelum replay)
+     */
+    private FileChannel channel;
+    private long segment;
+
+    /**
+     * Nomor urut record terakhir sebelum segment saat ini dimulai
+     */
+    private long segmentStartSeq;
+
+    /**
+     * Record yang sudah di-append tetapi belum durable. Batch yang sedang
+     * ditulis baru dibuang dari sini setelah write + fsync berhasil
+     */
+    private final PendingBuffer pending = new PendingBuffer();
+
+    /**
+     * Nomor urut record terakhir yang di-append dan yang sudah durable
+     */
+    private long appendedSeq;
+    private long durableSeq;
+
+    /**
+     * Lock agar hanya 1 thread yang menulis ke file pada satu waktu
+     */
+    private final Object writeLock = new Object();
+
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    /**
+     * Error write/fsync pertama, null jika log sehat
+     */
+    private IOException failure;
+
+    /**
+     * Membuka folder log. File segment baru dibuat saat replay()
+     *
+     * @param directory     Folder tempat file segment
+     * @param durability    Mode durability
+     * @param groupCommitMs Interval flush untuk GROUP_COMMIT dan ASYNC
+     */
+    WriteAheadLog(Path directory, Durability durability, long groupCommitMs) throws IOException {
+        this.directory = directory;
+        this.durability = durability;
+        Files.createDirectories(directory);
+
+        Path legacy = directory.resolve(LEGACY_FILE);
+        if (Files.exists(legacy) && listSegments().isEmpty()) {
+            Files.move(legacy, segmentPath(0));
+        }
+
+        if (durability == Durability.SYNC) {
+            this.flusher = null;
+        } else {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "goop-wal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushQuietly, groupCommitMs, groupCommitMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Segment yang sedang ditulis
+     */
+    synchronized long getSegment() {
+        return segment;
+    }
+
+    /**
+     * Replay semua record yang valid dari segment fromSegment dan sesudahnya,
+     * lalu membuka segment baru untuk append.
+     * Harus dipanggil sekali, sebelum append pertama. Record terpotong/rusak
+     * di akhir sebuah segment akan di-truncate.
+     *
+     * @param fromSegment Segment pertama yang di-replay (dari snapshot)
+     * @param handler     Callback untuk setiap payload record
+     * @return Jumlah record yang di-replay
+     */
+    int replay(long fromSegment, RecordHandler handler) throws IOException {
+        synchronized (writeLock) {
+            int count = 0;
+            long lastSegment = fromSegment - 1;
+            boolean lastSegmentEmpty = false;
+            for (long number : listSegments()) {
+                lastSegment = Math.max(lastSegment, number);
+                if (number >= fromSegment) {
+                    int replayed = replaySegment(segmentPath(number), handler);
+                    lastSegmentEmpty = replayed == 0 && Files.size(segmentPath(number)) == 0;
+                    count += replayed;
+                }
+            }
+
+            // Segment terakhir yang masih kosong dipakai lagi, agar tidak
+            // menumpuk file kosong jika aplikasi dibuka tanpa perubahan data
+            long nextSegment = lastSegmentEmpty ? lastSegment : lastSegment + 1;
+            FileChannel next = openSegment(nextSegment);
+            synchronized (this) {
+                segment = nextSegment;
+                segmentStartSeq = appendedSeq;
+                channel = next;
+            }
+            return count;
+        }
+    }
+
+    private int replaySegment(Path file, RecordHandler handler) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long validEnd = 0;
+            int count = 0;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            CRC32 crc = new CRC32();
+
+            while (true) {
+                header.clear();
+                if (!readFully(in, header)) {
+                    break;
+                }
+                header.flip();
+                int length = header.getInt();
+                int checksum = header.getInt();
+                if (length < 0 || length > MAX_RECORD_SIZE) {
+                    break;
+                }
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                if (!readFully(in, payload)) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload.array(), 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                handler.apply(new DataInputStream(new ByteArrayInputStream(payload.array())));
+                validEnd = in.position();
+                count++;
+            }
+
+            if (validEnd < in.size()) {
+                System.err.println("WAL: membuang " + (in.size() - validEnd)
+                        + " byte record rusak di akhir " + file);
+                in.truncate(validEnd);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Memulai segment baru. Semua record yang di-append setelah method ini
+     * return pasti berada di segment baru atau sesudahnya, sehingga snapshot
+     * yang dibuat setelahnya cukup digabung dengan segment baru tersebut.
+     *
+     * @return Nomor segment baru
+     */
+    long rollover() throws IOException {
+        synchronized (writeLock) {
+            flush();
+            FileChannel next;
+            long nextSegment;
+            synchronized (this) {
+                nextSegment = segment + 1;
+                next = openSegment(nextSegment);
+                // Record yang masuk setelah ini akan di-flush ke segment baru
+                FileChannel old = channel;
+                channel = next;
+                segment = nextSegment;
+                // Record yang di-append di antara flush() dan swap ikut ke segment baru
+                segmentStartSeq = durableSeq;
+                old.close();
+            }
+            return nextSegment;
+        }
+    }
+
+    /**
+     * Apakah sudah ada record baru sejak segment saat ini dimulai
+     */
+    synchronized boolean hasRecordsInSegment() {
+        return appendedSeq > segmentStartSeq;
+    }
+
+    /**
+     * Menghapus segment yang lebih lama dari segment tertentu
+     * (sudah tercakup snapshot)
+     */
+    void deleteSegmentsBefore(long beforeSegment) throws IOException {
+        for (long number : listSegments()) {
+            if (number < beforeSegment) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Nomor semua segment di folder, terurut naik
+     */
+    private List<Long> listSegments() throws IOException {
+        List<Long> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : files) {
+                String name = path.getFileName().toString();
+                try {
+                    numbers.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    // Bukan file segment, abaikan
+                }
+            }
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    private static boolean readFully(FileChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Menambahkan 1 record ke log (belum tentu durable)
+     * Urutan append = urutan replay, jadi panggil di dalam lock entity
+     * yang sedang diubah. replay() harus sudah dipanggil.
+     *
+     * @param payload Isi record
+     * @return Nomor urut record, untuk dipakai di commit()
+     */
+    synchronized long append(byte[] payload) {
+        if (closed || channel == null) {
+            throw new IllegalStateException("WAL sudah ditutup");
+        }
+        if (failure != null) {
+            throw new IllegalStateException("WAL rusak sejak error sebelumnya: " + failure.getMessage());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        writeInt(pending, payload.length);
+        writeInt(pending, (int) crc.getValue());
+        pending.write(payload, 0, payload.length);
+        return ++appendedSeq;
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /**
+     * Menunggu sampai record dengan nomor urut seq durable, sesuai mode
+     * Sebaiknya dipanggil SETELAH lock entity dilepas, agar writer lain
+     * bisa ikut masuk ke group commit yang sama.
+     *
+     * @param seq Nomor urut dari append()
+     */
+    void commit(long seq) throws IOException {
+        switch (durability) {
+            case SYNC:
+                if (!isDurable(seq)) {
+                    flush();
+                }
+                break;
+            case GROUP_COMMIT:
+                awaitDurable(seq);
+                break;
+            default:
+                // ASYNC: tidak menunggu
+                break;
+        }
+    }
+
+    private synchronized boolean isDurable(long seq) {
+        return durableSeq >= seq;
+    }
+
+    private synchronized void awaitDurable(long seq) throws IOException {
+        while (durableSeq < seq) {
+            if (failure != null) {
+                throw new IOException("WAL rusak, record tidak durable: " + failure.getMessage(), failure);
+            }
+            if (closed) {
+                throw new IOException("WAL ditutup sebelum record durable");
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted saat menunggu group commit", e);
+            }
+        }
+    }
+
+    /**
+     * Menulis semua record pending ke file lalu fsync
+     *
+     * @throws IOException jika write/fsync gagal (log menjadi rusak) atau log sudah rusak
+     */
+    void flush() throws IOException {
+        synchronized (writeLock) {
+            byte[] batch;
+            long batchSeq;
+            synchronized (this) {
+                if (failure != null) {
+                    throw new IOException("WAL rusak sejak error sebelumnya: " + failure.getMessage(), failure);
+                }
+                if (pending.size() == 0) {
+                    return;
+                }
+                batch = pending.toByteArray();
+                batchSeq = appendedSeq;
+            }
+
+            long start = -1;
+            try {
+                start = channel.size();
+                ByteBuffer buffer = ByteBuffer.wrap(batch);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                fail(e, start);
+                throw e;
+            }
+
+            synchronized (this) {
+                // Record yang di-append selama batch ditulis tetap pending
+                pending.discardFirst(batch.length);
+                durableSeq = Math.max(durableSeq, batchSeq);
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Tandai log rusak setelah write/fsync gagal. Bagian batch yang sempat
+     * tertulis di-truncate agar segment tidak berisi record terpotong di
+     * tengah (replay berhenti di record rusak pertama).
+     * Harus dipanggil dengan writeLock.
+     *
+     * @param start Ukuran segment sebelum batch ditulis, -1 jika tidak diketahui
+     */
+    private void fail(IOException error, long start) {
+        if (start >= 0) {
+            try {
+                channel.truncate(start);
+                channel.force(false);
+            } catch (IOException e) {
+                error.addSuppressed(e);
+            }
+        }
+        System.err.println("ERROR: WAL rusak, perubahan berikutnya tidak disimpan ke disk: " + error.getMessage());
+        synchronized (this) {
+            failure = error;
+            notifyAll();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("ERROR: WAL flush gagal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ukuran segment saat ini (tidak termasuk record pending)
+     */
+    long size() throws IOException {
+        synchronized (writeLock) {
+            return channel != null ? channel.size() : 0;
+        }
+    }
+
+    /**
+     * Flush record terakhir lalu tutup file
+     */
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                closed = true;
+                notifyAll();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Buffer record pending yang bisa membuang batch yang sudah ditulis
+     * tanpa membuat buffer baru
+     */
+    private static final class PendingBuffer extends ByteArrayOutputStream {
+
+        void discardFirst(int length) {
+            System.arraycopy(buf, length, buf, 0, count - length);
+            count -= length;
+        }
+    }
+
+    /**
+     * Membaca mode durability dari System property
+     * Nilai: "sync", "group" (default) atau "async"
+     */
+    static Durability parseDurability(String value) {
+        if (value == null) {
+            return Durability.GROUP_COMMIT;
+        }
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "sync":
+                return Durability.SYNC;
+            case "async":
+                return Durability.ASYNC;
+            default:
+                return Durability.GROUP_COMMIT;
+        }
+    }
+}
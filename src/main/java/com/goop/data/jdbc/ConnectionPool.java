@@ -0,0 +1,169 @@
+package com.goop.data.jdbc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class ConnectionPool - Pool koneksi JDBC dengan ukuran tetap
+ *
+ * Semua koneksi dibuka sekali saat pool dibuat, lalu dipinjam/dikembalikan
+ * oleh repository. Setiap koneksi punya cache PreparedStatement sendiri
+ * (key = SQL), sehingga query yang sama tidak di-parse ulang oleh database.
+ *
+ * 1 koneksi hanya dipakai 1 thread pada satu waktu, jadi cache statement
+ * tidak perlu sinkronisasi.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Koneksi di dalam pool beserta cache PreparedStatement-nya
+     */
+    static final class PooledConnection {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private final Map<String, PreparedStatement> insertStatements = new HashMap<>();
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        Connection getConnection() {
+            return connection;
+        }
+
+        /**
+         * PreparedStatement dari cache (parameter lama sudah di-clear)
+         * Jangan di-close oleh pemanggil, cukup close ResultSet-nya.
+         */
+        PreparedStatement prepare(String sql) throws SQLException {
+            return prepare(statements, sql, Statement.NO_GENERATED_KEYS);
+        }
+
+        /**
+         * Seperti prepare(), untuk INSERT yang membutuhkan generated key
+         */
+        PreparedStatement prepareInsert(String sql) throws SQLException {
+            return prepare(insertStatements, sql, Statement.RETURN_GENERATED_KEYS);
+        }
+
+        private PreparedStatement prepare(Map<String, PreparedStatement> cache, String sql, int generatedKeys)
+                throws SQLException {
+            PreparedStatement statement = cache.get(sql);
+            if (statement == null || statement.isClosed()) {
+                statement = connection.prepareStatement(sql, generatedKeys);
+                cache.put(sql, statement);
+            } else {
+                statement.clearParameters();
+                statement.clearBatch();
+            }
+            return statement;
+        }
+
+        private void close() {
+            for (PreparedStatement statement : statements.values()) {
+                closeQuietly(statement);
+            }
+            for (PreparedStatement statement : insertStatements.values()) {
+                closeQuietly(statement);
+            }
+            statements.clear();
+            insertStatements.clear();
+            closeQuietly(connection);
+        }
+    }
+
+    private static final long BORROW_TIMEOUT_SECONDS = 30;
+
+    private final BlockingQueue<PooledConnection> idle;
+    private final List<PooledConnection> all = new ArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * Membuka semua koneksi
+     *
+     * @param url  JDBC URL
+     * @param size Jumlah koneksi
+     */
+    ConnectionPool(String url, int size) throws SQLException {
+        idle = new ArrayBlockingQueue<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                PooledConnection pooled = new PooledConnection(DriverManager.getConnection(url));
+                all.add(pooled);
+                idle.add(pooled);
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Meminjam koneksi, menunggu jika semua sedang dipakai
+     */
+    PooledConnection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool sudah ditutup");
+        }
+        try {
+            PooledConnection pooled = idle.poll(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (pooled == null) {
+                throw new SQLException("Timeout menunggu koneksi database");
+            }
+            return pooled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted saat menunggu koneksi database", e);
+        }
+    }
+
+    /**
+     * Mengembalikan koneksi ke pool
+     * Transaksi yang belum selesai di-rollback terlebih dulu
+     */
+    void release(PooledConnection pooled) {
+        try {
+            if (!pooled.connection.getAutoCommit()) {
+                pooled.connection.rollback();
+                pooled.connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            System.err.println("WARNING: Gagal reset koneksi database: " + e.getMessage());
+        }
+        if (closed) {
+            pooled.close();
+        } else {
+            idle.offer(pooled);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (PooledConnection pooled : all) {
+            pooled.close();
+        }
+        idle.clear();
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // Diabaikan saat menutup pool
+        }
+    }
+}
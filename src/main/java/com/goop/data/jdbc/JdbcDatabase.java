@@ -0,0 +1,347 @@
+package com.goop.data.jdbc;
+
+import com.goop.data.DataAccessException;
+import com.goop.data.SampleData;
+import com.goop.data.TopikIndex;
+import com.goop.models.*;
+
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Class JdbcDatabase - Backend penyimpanan di database SQL embedded (H2)
+ *
+ * Database berupa file di folder data (tanpa server). Class ini:
+ * - Membuka ConnectionPool dan membuat schema jika belum ada
+ * - Mengisi sample data (batch insert) jika database masih kosong
+ * - Menyediakan helper query()/transaction() untuk repository JDBC
+ *
+ * Semua SQLException dibungkus menjadi DataAccessException.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public class JdbcDatabase implements AutoCloseable {
+
+    /**
+     * Pekerjaan dengan 1 koneksi dari pool
+     */
+    interface Work<T> {
+        T run(ConnectionPool.PooledConnection connection) throws SQLException;
+    }
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS users ("
+                    + "role VARCHAR(10) NOT NULL, id INT NOT NULL, username VARCHAR(100) NOT NULL, "
+                    + "password VARCHAR(255), email VARCHAR(255), nama_lengkap VARCHAR(255), "
+                    + "skor_kognitif DOUBLE DEFAULT 0 NOT NULL, "
+                    + "PRIMARY KEY (role, id), CONSTRAINT uq_users_username UNIQUE (username))",
+            "CREATE TABLE IF NOT EXISTS proyek ("
+                    + "id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, judul VARCHAR(255), "
+                    + "deskripsi CLOB, deadline DATE, status VARCHAR(30), skor DOUBLE DEFAULT 0 NOT NULL, "
+                    + "siswa_id INT, guru_id INT, file_path VARCHAR(1024))",
+            "CREATE INDEX IF NOT EXISTS idx_proyek_siswa ON proyek (siswa_id, id)",
+            "CREATE TABLE IF NOT EXISTS tes_kognitif ("
+                    + "id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, judul VARCHAR(255), "
+                    + "durasi_menit INT, status VARCHAR(20))",
+            "CREATE TABLE IF NOT EXISTS soal ("
+                    + "tes_id INT NOT NULL, urutan INT NOT NULL, id INT, pertanyaan CLOB, "
+                    + "pilihan_a CLOB, pilihan_b CLOB, pilihan_c CLOB, pilihan_d CLOB, jawaban_benar VARCHAR(1), "
+                    + "PRIMARY KEY (tes_id, urutan))",
+            "CREATE TABLE IF NOT EXISTS hasil_tes ("
+                    + "siswa_id INT NOT NULL, tes_id INT NOT NULL, skor DOUBLE NOT NULL, "
+                    + "PRIMARY KEY (siswa_id, tes_id))",
+            "ALTER TABLE hasil_tes ADD COLUMN IF NOT EXISTS waktu TIMESTAMP",
+            "CREATE TABLE IF NOT EXISTS pengerjaan_tes ("
+                    + "id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, siswa_id INT NOT NULL, "
+                    + "tes_id INT NOT NULL, waktu TIMESTAMP, skor DOUBLE NOT NULL, durasi_detik INT, "
+                    + "jawaban VARCHAR(1000))",
+            "CREATE INDEX IF NOT EXISTS idx_pengerjaan_siswa ON pengerjaan_tes (siswa_id, id)",
+            "CREATE INDEX IF NOT EXISTS idx_pengerjaan_tes ON pengerjaan_tes (tes_id, id)",
+            "CREATE TABLE IF NOT EXISTS materi ("
+                    + "id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, judul VARCHAR(255), konten CLOB, "
+                    + "topik VARCHAR(255), topik_key VARCHAR(255), guru_id INT, url_resource VARCHAR(1024))",
+            "CREATE INDEX IF NOT EXISTS idx_materi_topik ON materi (topik_key, id)",
+            "CREATE TABLE IF NOT EXISTS modul ("
+                    + "id INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, judul VARCHAR(255), konten CLOB, "
+                    + "topik VARCHAR(255), topik_key VARCHAR(255), guru_id INT, tanggal_dibuat TIMESTAMP)",
+            "CREATE INDEX IF NOT EXISTS idx_modul_topik ON modul (topik_key, id)",
+            "CREATE TABLE IF NOT EXISTS proyek_code (proyek_id INT PRIMARY KEY, code CLOB)",
+            "CREATE TABLE IF NOT EXISTS test_case ("
+                    + "proyek_id INT NOT NULL, urutan INT NOT NULL, nama VARCHAR(255), input CLOB, "
+                    + "expected_output CLOB, kode_cek CLOB, bobot INT NOT NULL, timeout_ms INT NOT NULL, "
+                    + "PRIMARY KEY (proyek_id, urutan))",
+            "CREATE TABLE IF NOT EXISTS laporan_penilaian ("
+                    + "proyek_id INT PRIMARY KEY, waktu TIMESTAMP, skor DOUBLE NOT NULL, "
+                    + "compile_berhasil BOOLEAN NOT NULL, pesan CLOB)",
+            "CREATE TABLE IF NOT EXISTS hasil_test_case ("
+                    + "proyek_id INT NOT NULL, urutan INT NOT NULL, nama VARCHAR(255), status VARCHAR(20), "
+                    + "pesan CLOB, output CLOB, durasi_ms BIGINT NOT NULL, bobot INT NOT NULL, "
+                    + "PRIMARY KEY (proyek_id, urutan))",
+            "CREATE TABLE IF NOT EXISTS rubrik ("
+                    + "proyek_id INT NOT NULL, urutan INT NOT NULL, jenis VARCHAR(40) NOT NULL, "
+                    + "minimal INT NOT NULL, bobot INT NOT NULL, PRIMARY KEY (proyek_id, urutan))"
+    };
+
+    /**
+     * Akhiran query untuk keyset paging: parameter afterId dan limit
+     */
+    static final String KEYSET_PAGE = " WHERE id > ? ORDER BY id FETCH FIRST ? ROWS ONLY";
+
+    private final ConnectionPool pool;
+
+    private final JdbcUserRepository userRepository;
+    private final JdbcProyekRepository proyekRepository;
+    private final JdbcTesRepository tesRepository;
+    private final JdbcKontenRepository kontenRepository;
+    private final JdbcKodeRepository kodeRepository;
+    private final JdbcPenilaianRepository penilaianRepository;
+
+    private JdbcDatabase(ConnectionPool pool) {
+        this.pool = pool;
+        this.userRepository = new JdbcUserRepository(this);
+        this.proyekRepository = new JdbcProyekRepository(this);
+        this.tesRepository = new JdbcTesRepository(this);
+        this.kontenRepository = new JdbcKontenRepository(this);
+        this.kodeRepository = new JdbcKodeRepository(this);
+        this.penilaianRepository = new JdbcPenilaianRepository(this);
+    }
+
+    /**
+     * Membuka database, membuat schema dan sample data jika belum ada
+     *
+     * @param url      JDBC URL (lihat defaultUrl)
+     * @param poolSize Jumlah koneksi di pool
+     */
+    public static JdbcDatabase open(String url, int poolSize) {
+        long start = System.nanoTime();
+        ConnectionPool pool;
+        try {
+            pool = new ConnectionPool(url, poolSize);
+        } catch (SQLException e) {
+            throw new DataAccessException("Database tidak bisa dibuka: " + url, e);
+        }
+        JdbcDatabase database = new JdbcDatabase(pool);
+        try {
+            database.transaction("Gagal membuat schema database", connection -> {
+                try (Statement statement = connection.getConnection().createStatement()) {
+                    for (String sql : SCHEMA) {
+                        statement.execute(sql);
+                    }
+                }
+                return null;
+            });
+            database.seedIfEmpty();
+        } catch (RuntimeException e) {
+            pool.close();
+            throw e;
+        }
+        System.out.printf("✓ Database %s dibuka dalam %d ms (%d koneksi)%n", url,
+                (System.nanoTime() - start) / 1_000_000, poolSize);
+        return database;
+    }
+
+    /**
+     * URL database H2 berbasis file di folder data
+     */
+    public static String defaultUrl(Path dataDir) {
+        return "jdbc:h2:file:" + dataDir.resolve("goop-db").toAbsolutePath();
+    }
+
+    public JdbcUserRepository getUserRepository() {
+        return userRepository;
+    }
+
+    public JdbcProyekRepository getProyekRepository() {
+        return proyekRepository;
+    }
+
+    public JdbcTesRepository getTesRepository() {
+        return tesRepository;
+    }
+
+    public JdbcKontenRepository getKontenRepository() {
+        return kontenRepository;
+    }
+
+    public JdbcKodeRepository getKodeRepository() {
+        return kodeRepository;
+    }
+
+    public JdbcPenilaianRepository getPenilaianRepository() {
+        return penilaianRepository;
+    }
+
+    /**
+     * Menjalankan query dengan 1 koneksi (auto-commit)
+     */
+    <T> T query(String errorMessage, Work<T> work) {
+        ConnectionPool.PooledConnection connection = null;
+        try {
+            connection = pool.borrow();
+            return work.run(connection);
+        } catch (SQLException e) {
+            throw new DataAccessException(errorMessage, e);
+        } finally {
+            if (connection != null) {
+                pool.release(connection);
+            }
+        }
+    }
+
+    /**
+     * Menjalankan beberapa statement dalam 1 transaksi
+     * Commit jika berhasil, rollback jika ada exception
+     */
+    <T> T transaction(String errorMessage, Work<T> work) {
+        return query(errorMessage, connection -> {
+            connection.getConnection().setAutoCommit(false);
+            T result = work.run(connection);
+            connection.getConnection().commit();
+            connection.getConnection().setAutoCommit(true);
+            return result;
+        });
+    }
+
+    /**
+     * Mengisi sample data jika tabel users masih kosong
+     * Semua insert memakai JDBC batch (1 round-trip per tabel)
+     */
+    private void seedIfEmpty() {
+        transaction("Gagal mengisi sample data", connection -> {
+            try (ResultSet rs = connection.prepare("SELECT COUNT(*) FROM users").executeQuery()) {
+                rs.next();
+                if (rs.getInt(1) > 0) {
+                    return null;
+                }
+            }
+
+            System.out.println("============================================");
+            System.out.println("Initializing Sample Data (database)...");
+            System.out.println("============================================");
+
+            List<Siswa> siswa = SampleData.siswa();
+            List<Guru> guru = SampleData.guru();
+            PreparedStatement insertUser = connection.prepare(JdbcUserRepository.INSERT_USER);
+            for (Siswa item : siswa) {
+                JdbcUserRepository.bindUser(insertUser, item, "SISWA", item.getSkorKognitif());
+                insertUser.addBatch();
+            }
+            for (Guru item : guru) {
+                JdbcUserRepository.bindUser(insertUser, item, "GURU", 0);
+                insertUser.addBatch();
+            }
+            insertUser.executeBatch();
+
+            List<Proyek> proyek = SampleData.proyek();
+            PreparedStatement insertProyek = connection.prepare(JdbcProyekRepository.INSERT_PROYEK_WITH_ID);
+            for (Proyek item : proyek) {
+                insertProyek.setInt(1, item.getId());
+                JdbcProyekRepository.bindProyek(insertProyek, item, 2);
+                insertProyek.addBatch();
+            }
+            insertProyek.executeBatch();
+
+            List<TesKognitif> tes = SampleData.tes();
+            PreparedStatement insertTes = connection.prepare(JdbcTesRepository.INSERT_TES_WITH_ID);
+            int jumlahSoal = 0;
+            for (TesKognitif item : tes) {
+                insertTes.setInt(1, item.getId());
+                JdbcTesRepository.bindTes(insertTes, item, 2);
+                insertTes.addBatch();
+                jumlahSoal += item.getJumlahSoal();
+            }
+            insertTes.executeBatch();
+            for (TesKognitif item : tes) {
+                JdbcTesRepository.insertSoal(connection, item);
+            }
+
+            List<Materi> materi = SampleData.materi();
+            PreparedStatement insertMateri = connection.prepare(JdbcKontenRepository.INSERT_MATERI_WITH_ID);
+            for (Materi item : materi) {
+                item.setTopik(TopikIndex.normalize(item.getTopik()));
+                insertMateri.setInt(1, item.getId());
+                JdbcKontenRepository.bindMateri(insertMateri, item, 2);
+                insertMateri.addBatch();
+            }
+            insertMateri.executeBatch();
+
+            // Identity column tidak ikut maju saat ID diisi manual
+            try (Statement statement = connection.getConnection().createStatement()) {
+                restartIdentity(statement, "proyek", proyek.size() + 1);
+                restartIdentity(statement, "tes_kognitif", tes.size() + 1);
+                restartIdentity(statement, "materi", materi.size() + 1);
+            }
+
+            SampleData.printSummary(siswa.size(), guru.size(), proyek.size(), tes.size(), jumlahSoal,
+                    materi.size());
+            return null;
+        });
+    }
+
+    private static void restartIdentity(Statement statement, String table, int next) throws SQLException {
+        statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    // ==================== HELPER MAPPING ====================
+
+    static void setNullableString(PreparedStatement statement, int index, String value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.VARCHAR);
+        } else {
+            statement.setString(index, value);
+        }
+    }
+
+    static void setNullableDate(PreparedStatement statement, int index, java.time.LocalDate value)
+            throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.DATE);
+        } else {
+            statement.setDate(index, Date.valueOf(value));
+        }
+    }
+
+    static void setNullableTimestamp(PreparedStatement statement, int index, java.time.LocalDateTime value)
+            throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.TIMESTAMP);
+        } else {
+            statement.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+
+    /**
+     * Hasil query SELECT COUNT(*)
+     */
+    static int count(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    /**
+     * ID yang di-generate oleh INSERT terakhir di statement
+     */
+    static int generatedId(PreparedStatement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            if (!keys.next()) {
+                throw new SQLException("INSERT tidak menghasilkan ID");
+            }
+            return keys.getInt(1);
+        }
+    }
+}
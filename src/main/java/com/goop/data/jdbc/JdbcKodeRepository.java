@@ -0,0 +1,44 @@
+package com.goop.data.jdbc;
+
+import com.goop.data.KodeRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Class JdbcKodeRepository - KodeRepository (code proyek siswa) di database SQL
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class JdbcKodeRepository implements KodeRepository {
+
+    private final JdbcDatabase database;
+
+    JdbcKodeRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public String getProyekCode(int proyekId) {
+        return database.query("Gagal membaca code proyek", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT code FROM proyek_code WHERE proyek_id = ?");
+            statement.setInt(1, proyekId);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        });
+    }
+
+    @Override
+    public void saveProyekCode(int proyekId, String code) {
+        database.query("Gagal menyimpan code proyek", connection -> {
+            PreparedStatement statement = connection.prepare(
+                    "MERGE INTO proyek_code (proyek_id, code) KEY (proyek_id) VALUES (?, ?)");
+            statement.setInt(1, proyekId);
+            JdbcDatabase.setNullableString(statement, 2, code);
+            statement.executeUpdate();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,276 @@
+package com.goop.data.jdbc;
+
+import com.goop.data.KontenRepository;
+import com.goop.data.TopikIndex;
+import com.goop.models.Materi;
+import com.goop.models.Modul;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Class JdbcKontenRepository - KontenRepository (materi dan modul) di database SQL
+ *
+ * Aturan topik sama dengan TopikIndex: kolom topik_key (huruf kecil, spasi
+ * dirapikan) dipakai untuk pencarian case-insensitive lewat index, dan
+ * entity baru memakai label topik yang sudah ada untuk key yang sama.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class JdbcKontenRepository implements KontenRepository {
+
+    private static final String MATERI_COLUMNS = "judul, konten, topik, topik_key, guru_id, url_resource";
+    private static final String MODUL_COLUMNS = "judul, konten, topik, topik_key, guru_id, tanggal_dibuat";
+
+    static final String INSERT_MATERI = "INSERT INTO materi (" + MATERI_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+    static final String INSERT_MATERI_WITH_ID = "INSERT INTO materi (id, " + MATERI_COLUMNS
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MODUL = "INSERT INTO modul (" + MODUL_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_MATERI = "SELECT id, " + MATERI_COLUMNS + " FROM materi";
+    private static final String SELECT_MODUL = "SELECT id, " + MODUL_COLUMNS + " FROM modul";
+
+    private final JdbcDatabase database;
+
+    JdbcKontenRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    // ==================== MATERI ====================
+
+    @Override
+    public List<Materi> getAllMateri() {
+        return Collections.unmodifiableList(database.query("Gagal membaca data materi", connection ->
+                readMateri(connection.prepare(SELECT_MATERI + " ORDER BY id"))));
+    }
+
+    @Override
+    public int countMateri() {
+        return database.query("Gagal menghitung materi", connection ->
+                JdbcDatabase.count(connection.prepare("SELECT COUNT(*) FROM materi")));
+    }
+
+    @Override
+    public void forEachMateri(Consumer<? super Materi> action) {
+        database.query("Gagal membaca data materi", connection -> {
+            readMateri(connection.prepare(SELECT_MATERI + " ORDER BY id"), action);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Materi> getMateriPage(int afterId, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        return database.query("Gagal membaca data materi", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_MATERI + JdbcDatabase.KEYSET_PAGE);
+            statement.setInt(1, afterId);
+            statement.setInt(2, limit);
+            return readMateri(statement);
+        });
+    }
+
+    @Override
+    public List<Materi> getMateriByTopik(String topik) {
+        return database.query("Gagal membaca data materi", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_MATERI + " WHERE topik_key = ? ORDER BY id");
+            statement.setString(1, TopikIndex.keyOf(topik));
+            return readMateri(statement);
+        });
+    }
+
+    @Override
+    public Map<String, Integer> getMateriTopikCounts() {
+        return database.query("Gagal membaca topik materi", connection -> topikCounts(connection, "materi"));
+    }
+
+    @Override
+    public Materi getMateriById(int id) {
+        return database.query("Gagal membaca data materi", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_MATERI + " WHERE id = ?");
+            statement.setInt(1, id);
+            List<Materi> result = readMateri(statement);
+            return result.isEmpty() ? null : result.get(0);
+        });
+    }
+
+    @Override
+    public void addMateri(Materi materi) {
+        database.query("Gagal menambah materi", connection -> {
+            materi.setTopik(canonicalTopik(connection, "materi", materi.getTopik()));
+            PreparedStatement statement = connection.prepareInsert(INSERT_MATERI);
+            bindMateri(statement, materi, 1);
+            statement.executeUpdate();
+            materi.setId(JdbcDatabase.generatedId(statement));
+            return null;
+        });
+    }
+
+    // ==================== MODUL ====================
+
+    @Override
+    public int createModul(String judul, String konten, String topik, int idPembuat) {
+        return database.query("Gagal membuat modul", connection -> {
+            PreparedStatement statement = connection.prepareInsert(INSERT_MODUL);
+            String label = canonicalTopik(connection, "modul", topik);
+            JdbcDatabase.setNullableString(statement, 1, judul);
+            JdbcDatabase.setNullableString(statement, 2, konten);
+            statement.setString(3, label);
+            statement.setString(4, TopikIndex.keyOf(label));
+            statement.setInt(5, idPembuat);
+            JdbcDatabase.setNullableTimestamp(statement, 6, LocalDateTime.now());
+            statement.executeUpdate();
+            return JdbcDatabase.generatedId(statement);
+        });
+    }
+
+    @Override
+    public List<Modul> getAllModul() {
+        return Collections.unmodifiableList(database.query("Gagal membaca data modul", connection ->
+                readModul(connection.prepare(SELECT_MODUL + " ORDER BY id"))));
+    }
+
+    @Override
+    public int countModul() {
+        return database.query("Gagal menghitung modul", connection ->
+                JdbcDatabase.count(connection.prepare("SELECT COUNT(*) FROM modul")));
+    }
+
+    @Override
+    public void forEachModul(Consumer<? super Modul> action) {
+        database.query("Gagal membaca data modul", connection -> {
+            readModul(connection.prepare(SELECT_MODUL + " ORDER BY id"), action);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Modul> getModulPage(int afterId, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        return database.query("Gagal membaca data modul", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_MODUL + JdbcDatabase.KEYSET_PAGE);
+            statement.setInt(1, afterId);
+            statement.setInt(2, limit);
+            return readModul(statement);
+        });
+    }
+
+    @Override
+    public List<Modul> getModulByTopik(String topik) {
+        return database.query("Gagal membaca data modul", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_MODUL + " WHERE topik_key = ? ORDER BY id");
+            statement.setString(1, TopikIndex.keyOf(topik));
+            return readModul(statement);
+        });
+    }
+
+    @Override
+    public Map<String, Integer> getModulTopikCounts() {
+        return database.query("Gagal membaca topik modul", connection -> topikCounts(connection, "modul"));
+    }
+
+    @Override
+    public Modul getModulById(int id) {
+        return database.query("Gagal membaca data modul", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_MODUL + " WHERE id = ?");
+            statement.setInt(1, id);
+            List<Modul> result = readModul(statement);
+            return result.isEmpty() ? null : result.get(0);
+        });
+    }
+
+    // ==================== HELPER ====================
+
+    /**
+     * Isi parameter kolom materi (tanpa ID) mulai dari index tertentu
+     * Topik materi harus sudah dinormalisasi
+     */
+    static void bindMateri(PreparedStatement statement, Materi materi, int first) throws SQLException {
+        JdbcDatabase.setNullableString(statement, first, materi.getJudul());
+        JdbcDatabase.setNullableString(statement, first + 1, materi.getKonten());
+        statement.setString(first + 2, materi.getTopik());
+        statement.setString(first + 3, TopikIndex.keyOf(materi.getTopik()));
+        statement.setInt(first + 4, materi.getGuruId());
+        JdbcDatabase.setNullableString(statement, first + 5, materi.getUrlResource());
+    }
+
+    /**
+     * Label topik yang sudah dipakai untuk key yang sama, atau topik yang
+     * dinormalisasi jika topik tersebut masih baru
+     *
+     * @param table Nama table (materi/modul), bukan input user
+     */
+    private static String canonicalTopik(ConnectionPool.PooledConnection connection, String table, String topik)
+            throws SQLException {
+        PreparedStatement statement = connection.prepare(
+                "SELECT topik FROM " + table + " WHERE topik_key = ? FETCH FIRST 1 ROWS ONLY");
+        statement.setString(1, TopikIndex.keyOf(topik));
+        try (ResultSet rs = statement.executeQuery()) {
+            return rs.next() ? rs.getString(1) : TopikIndex.normalize(topik);
+        }
+    }
+
+    /**
+     * Topik -> jumlah entity, terurut berdasarkan nama topik
+     *
+     * @param table Nama table (materi/modul), bukan input user
+     */
+    private static Map<String, Integer> topikCounts(ConnectionPool.PooledConnection connection, String table)
+            throws SQLException {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        try (ResultSet rs = connection.prepare("SELECT MIN(topik), COUNT(*) FROM " + table
+                + " GROUP BY topik_key ORDER BY topik_key").executeQuery()) {
+            while (rs.next()) {
+                result.put(rs.getString(1), rs.getInt(2));
+            }
+        }
+        return result;
+    }
+
+    private static List<Materi> readMateri(PreparedStatement statement) throws SQLException {
+        List<Materi> result = new ArrayList<>();
+        readMateri(statement, result::add);
+        return result;
+    }
+
+    private static void readMateri(PreparedStatement statement, Consumer<? super Materi> action)
+            throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                action.accept(new Materi(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getInt(6), rs.getString(7)));
+            }
+        }
+    }
+
+    private static List<Modul> readModul(PreparedStatement statement) throws SQLException {
+        List<Modul> result = new ArrayList<>();
+        readModul(statement, result::add);
+        return result;
+    }
+
+    private static void readModul(PreparedStatement statement, Consumer<? super Modul> action)
+            throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                Modul modul = new Modul(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getInt(6));
+                Timestamp tanggalDibuat = rs.getTimestamp(7);
+                modul.setTanggalDibuat(tanggalDibuat != null ? tanggalDibuat.toLocalDateTime() : null);
+                action.accept(modul);
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.goop.data.jdbc;
+
+import com.goop.data.PenilaianRepository;
+import com.goop.models.HasilTestCase;
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.TestCase;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class JdbcPenilaianRepository - PenilaianRepository di database SQL
+ *
+ * Test case disimpan di table test_case dan kriteria rubrik di table
+ * rubrik, keduanya dengan key (proyek_id, urutan).
+ * Laporan penilaian terakhir disimpan di laporan_penilaian (1 row per
+ * proyek) dan hasil per test case di hasil_test_case; keduanya diganti
+ * dalam 1 transaksi saat laporan baru disimpan.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class JdbcPenilaianRepository implements PenilaianRepository {
+
+    private static final String INSERT_TEST_CASE = "INSERT INTO test_case (proyek_id, urutan, nama, input, "
+            + "expected_output, kode_cek, bobot, timeout_ms) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_HASIL = "INSERT INTO hasil_test_case (proyek_id, urutan, nama, status, "
+            + "pesan, output, durasi_ms, bobot) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcDatabase database;
+
+    JdbcPenilaianRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public List<TestCase> getTestCases(int proyekId) {
+        return Collections.unmodifiableList(database.query("Gagal membaca test case", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT urutan, nama, input, expected_output, "
+                    + "kode_cek, bobot, timeout_ms FROM test_case WHERE proyek_id = ? ORDER BY urutan");
+            statement.setInt(1, proyekId);
+            List<TestCase> result = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    result.add(new TestCase(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                            rs.getString(5), rs.getInt(6), rs.getInt(7)));
+                }
+            }
+            return result;
+        }));
+    }
+
+    @Override
+    public void saveTestCases(int proyekId, List<TestCase> testCases) {
+        database.transaction("Gagal menyimpan test case", connection -> {
+            PreparedStatement delete = connection.prepare("DELETE FROM test_case WHERE proyek_id = ?");
+            delete.setInt(1, proyekId);
+            delete.executeUpdate();
+            if (testCases.isEmpty()) {
+                return null;
+            }
+            PreparedStatement insert = connection.prepare(INSERT_TEST_CASE);
+            for (int i = 0; i < testCases.size(); i++) {
+                TestCase testCase = testCases.get(i);
+                testCase.setUrutan(i + 1);
+                insert.setInt(1, proyekId);
+                insert.setInt(2, testCase.getUrutan());
+                JdbcDatabase.setNullableString(insert, 3, testCase.getNama());
+                JdbcDatabase.setNullableString(insert, 4, testCase.getInput());
+                JdbcDatabase.setNullableString(insert, 5, testCase.getExpectedOutput());
+                JdbcDatabase.setNullableString(insert, 6, testCase.getKodeCek());
+                insert.setInt(7, testCase.getBobot());
+                insert.setInt(8, testCase.getTimeoutMs());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            return null;
+        });
+    }
+
+    @Override
+    public List<KriteriaRubrik> getRubrik(int proyekId) {
+        return Collections.unmodifiableList(database.query("Gagal membaca rubrik", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT urutan, jenis, minimal, bobot FROM rubrik "
+                    + "WHERE proyek_id = ? ORDER BY urutan");
+            statement.setInt(1, proyekId);
+            List<KriteriaRubrik> result = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    result.add(new KriteriaRubrik(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getInt(4)));
+                }
+            }
+            return result;
+        }));
+    }
+
+    @Override
+    public void saveRubrik(int proyekId, List<KriteriaRubrik> rubrik) {
+        database.transaction("Gagal menyimpan rubrik", connection -> {
+            PreparedStatement delete = connection.prepare("DELETE FROM rubrik WHERE proyek_id = ?");
+            delete.setInt(1, proyekId);
+            delete.executeUpdate();
+            if (rubrik.isEmpty()) {
+                return null;
+            }
+            PreparedStatement insert = connection.prepare("INSERT INTO rubrik (proyek_id, urutan, jenis, minimal, "
+                    + "bobot) VALUES (?, ?, ?, ?, ?)");
+            for (int i = 0; i < rubrik.size(); i++) {
+                KriteriaRubrik kriteria = rubrik.get(i);
+                kriteria.setUrutan(i + 1);
+                insert.setInt(1, proyekId);
+                insert.setInt(2, kriteria.getUrutan());
+                insert.setString(3, kriteria.getJenis());
+                insert.setInt(4, kriteria.getMinimal());
+                insert.setInt(5, kriteria.getBobot());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            return null;
+        });
+    }
+
+    @Override
+    public LaporanPenilaian getLaporanPenilaian(int proyekId) {
+        return database.query("Gagal membaca laporan penilaian", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT waktu, skor, compile_berhasil, pesan "
+                    + "FROM laporan_penilaian WHERE proyek_id = ?");
+            statement.setInt(1, proyekId);
+            Timestamp waktu;
+            double skor;
+            boolean compileBerhasil;
+            String pesan;
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                waktu = rs.getTimestamp(1);
+                skor = rs.getDouble(2);
+                compileBerhasil = rs.getBoolean(3);
+                pesan = rs.getString(4);
+            }
+            return new LaporanPenilaian(proyekId, waktu != null ? waktu.toLocalDateTime() : null, skor,
+                    compileBerhasil, pesan, readHasil(connection, proyekId));
+        });
+    }
+
+    @Override
+    public void saveLaporanPenilaian(LaporanPenilaian laporan) {
+        database.transaction("Gagal menyimpan laporan penilaian", connection -> {
+            writeLaporan(connection, laporan);
+            return null;
+        });
+    }
+
+    @Override
+    public int savePenilaianUlang(List<LaporanPenilaian> laporan) {
+        if (laporan.isEmpty()) {
+            return 0;
+        }
+        return database.transaction("Gagal menyimpan penilaian ulang", connection -> {
+            PreparedStatement exists = connection.prepare("SELECT COUNT(*) FROM proyek WHERE id = ?");
+            // FOR UPDATE: saveProyekCode menunggu sampai transaksi ini selesai
+            PreparedStatement code = connection.prepare(
+                    "SELECT code FROM proyek_code WHERE proyek_id = ? FOR UPDATE");
+            PreparedStatement update = connection.prepare("UPDATE proyek SET skor = ? WHERE id = ?");
+            int stored = 0;
+            for (LaporanPenilaian item : laporan) {
+                exists.setInt(1, item.getProyekId());
+                try (ResultSet rs = exists.executeQuery()) {
+                    if (!rs.next() || rs.getInt(1) == 0) {
+                        continue;
+                    }
+                }
+                code.setInt(1, item.getProyekId());
+                try (ResultSet rs = code.executeQuery()) {
+                    if (!item.isUntukKode(rs.next() ? rs.getString(1) : null)) {
+                        System.err.println("WARNING: Penilaian ulang proyek " + item.getProyekId()
+                                + " dilewati: code sudah di-submit ulang");
+                        continue;
+                    }
+                }
+                update.setDouble(1, item.getSkor());
+                update.setInt(2, item.getProyekId());
+                update.addBatch();
+                writeLaporan(connection, item);
+                stored++;
+            }
+            update.executeBatch();
+            return stored;
+        });
+    }
+
+    /**
+     * Ganti laporan dan hasil test case proyek (dipanggil di dalam transaksi)
+     */
+    private static void writeLaporan(ConnectionPool.PooledConnection connection, LaporanPenilaian laporan)
+            throws SQLException {
+        int proyekId = laporan.getProyekId();
+        PreparedStatement merge = connection.prepare("MERGE INTO laporan_penilaian (proyek_id, waktu, skor, "
+                + "compile_berhasil, pesan) KEY (proyek_id) VALUES (?, ?, ?, ?, ?)");
+        merge.setInt(1, proyekId);
+        JdbcDatabase.setNullableTimestamp(merge, 2, laporan.getWaktu());
+        merge.setDouble(3, laporan.getSkor());
+        merge.setBoolean(4, laporan.isCompileBerhasil());
+        JdbcDatabase.setNullableString(merge, 5, laporan.getPesan());
+        merge.executeUpdate();
+
+        PreparedStatement delete = connection.prepare("DELETE FROM hasil_test_case WHERE proyek_id = ?");
+        delete.setInt(1, proyekId);
+        delete.executeUpdate();
+        if (laporan.getHasil().isEmpty()) {
+            return;
+        }
+        PreparedStatement insert = connection.prepare(INSERT_HASIL);
+        for (HasilTestCase hasil : laporan.getHasil()) {
+            insert.setInt(1, proyekId);
+            insert.setInt(2, hasil.getUrutan());
+            JdbcDatabase.setNullableString(insert, 3, hasil.getNama());
+            JdbcDatabase.setNullableString(insert, 4, hasil.getStatus());
+            JdbcDatabase.setNullableString(insert, 5, hasil.getPesan());
+            JdbcDatabase.setNullableString(insert, 6, hasil.getOutput());
+            insert.setLong(7, hasil.getDurasiMillis());
+            insert.setInt(8, hasil.getBobot());
+            insert.addBatch();
+        }
+        insert.executeBatch();
+    }
+
+    private static List<HasilTestCase> readHasil(ConnectionPool.PooledConnection connection, int proyekId)
+            throws SQLException {
+        PreparedStatement statement = connection.prepare("SELECT urutan, nama, status, pesan, output, durasi_ms, "
+                + "bobot FROM hasil_test_case WHERE proyek_id = ? ORDER BY urutan");
+        statement.setInt(1, proyekId);
+        List<HasilTestCase> result = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                result.add(new HasilTestCase(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5), rs.getLong(6), rs.getInt(7)));
+            }
+        }
+        return result;
+    }
+}
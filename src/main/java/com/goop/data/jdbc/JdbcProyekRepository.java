@@ -0,0 +1,182 @@
+package com.goop.data.jdbc;
+
+import com.goop.data.ProyekRepository;
+import com.goop.data.SkorAggregate;
+import com.goop.models.Proyek;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Class JdbcProyekRepository - ProyekRepository di database SQL
+ *
+ * Query proyek per siswa memakai index (siswa_id, id).
+ * ID proyek baru di-generate oleh identity column.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class JdbcProyekRepository implements ProyekRepository {
+
+    private static final String COLUMNS = "judul, deskripsi, deadline, status, skor, siswa_id, guru_id, file_path";
+
+    static final String INSERT_PROYEK = "INSERT INTO proyek (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String INSERT_PROYEK_WITH_ID = "INSERT INTO proyek (id, " + COLUMNS
+            + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_PROYEK = "SELECT id, " + COLUMNS + " FROM proyek";
+
+    private final JdbcDatabase database;
+
+    JdbcProyekRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public List<Proyek> getAllProyek() {
+        return Collections.unmodifiableList(database.query("Gagal membaca data proyek", connection ->
+                readAll(connection.prepare(SELECT_PROYEK + " ORDER BY id"))));
+    }
+
+    @Override
+    public int countProyek() {
+        return database.query("Gagal menghitung proyek", connection ->
+                JdbcDatabase.count(connection.prepare("SELECT COUNT(*) FROM proyek")));
+    }
+
+    @Override
+    public void forEachProyek(Consumer<? super Proyek> action) {
+        database.query("Gagal membaca data proyek", connection -> {
+            read(connection.prepare(SELECT_PROYEK + " ORDER BY id"), action);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Proyek> getProyekPage(int afterId, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        return database.query("Gagal membaca data proyek", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_PROYEK + JdbcDatabase.KEYSET_PAGE);
+            statement.setInt(1, afterId);
+            statement.setInt(2, limit);
+            return readAll(statement);
+        });
+    }
+
+    @Override
+    public List<Proyek> getProyekBySiswaId(int siswaId) {
+        return database.query("Gagal membaca data proyek", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_PROYEK + " WHERE siswa_id = ? ORDER BY id");
+            statement.setInt(1, siswaId);
+            return readAll(statement);
+        });
+    }
+
+    @Override
+    public int countProyekBySiswaId(int siswaId) {
+        return database.query("Gagal menghitung proyek", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT COUNT(*) FROM proyek WHERE siswa_id = ?");
+            statement.setInt(1, siswaId);
+            return JdbcDatabase.count(statement);
+        });
+    }
+
+    /**
+     * Waktu validasi tidak disimpan di table proyek, jadi getTerakhir() selalu null
+     */
+    @Override
+    public SkorAggregate getSkorProyekSiswa(int siswaId) {
+        return database.query("Gagal membaca ringkasan skor proyek", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT COUNT(*), SUM(skor), MIN(skor), MAX(skor) "
+                    + "FROM proyek WHERE siswa_id = ? AND status = ?");
+            statement.setInt(1, siswaId);
+            statement.setString(2, Proyek.STATUS_TERVALIDASI);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return SkorAggregate.of(rs.getInt(1), rs.getDouble(2), rs.getDouble(3), rs.getDouble(4), null);
+            }
+        });
+    }
+
+    @Override
+    public Proyek getProyekById(int id) {
+        return database.query("Gagal membaca data proyek", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_PROYEK + " WHERE id = ?");
+            statement.setInt(1, id);
+            List<Proyek> result = readAll(statement);
+            return result.isEmpty() ? null : result.get(0);
+        });
+    }
+
+    @Override
+    public void addProyek(Proyek proyek) {
+        database.query("Gagal menambah proyek", connection -> {
+            PreparedStatement statement = connection.prepareInsert(INSERT_PROYEK);
+            bindProyek(statement, proyek, 1);
+            statement.executeUpdate();
+            proyek.setId(JdbcDatabase.generatedId(statement));
+            return null;
+        });
+    }
+
+    @Override
+    public void updateProyek(Proyek proyek) {
+        database.query("Gagal mengupdate proyek", connection -> {
+            PreparedStatement statement = connection.prepare("UPDATE proyek SET judul = ?, deskripsi = ?, "
+                    + "deadline = ?, status = ?, skor = ?, siswa_id = ?, guru_id = ?, file_path = ? WHERE id = ?");
+            bindProyek(statement, proyek, 1);
+            statement.setInt(9, proyek.getId());
+            statement.executeUpdate();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean deleteProyek(int id) {
+        return database.query("Gagal menghapus proyek", connection -> {
+            PreparedStatement statement = connection.prepare("DELETE FROM proyek WHERE id = ?");
+            statement.setInt(1, id);
+            return statement.executeUpdate() > 0;
+        });
+    }
+
+    /**
+     * Isi parameter kolom proyek (tanpa ID) mulai dari index tertentu
+     */
+    static void bindProyek(PreparedStatement statement, Proyek proyek, int first) throws SQLException {
+        JdbcDatabase.setNullableString(statement, first, proyek.getJudul());
+        JdbcDatabase.setNullableString(statement, first + 1, proyek.getDeskripsi());
+        JdbcDatabase.setNullableDate(statement, first + 2, proyek.getDeadline());
+        JdbcDatabase.setNullableString(statement, first + 3, proyek.getStatus());
+        statement.setDouble(first + 4, proyek.getSkor());
+        statement.setInt(first + 5, proyek.getSiswaId());
+        statement.setInt(first + 6, proyek.getGuruId());
+        JdbcDatabase.setNullableString(statement, first + 7, proyek.getFilePath());
+    }
+
+    private static List<Proyek> readAll(PreparedStatement statement) throws SQLException {
+        List<Proyek> result = new ArrayList<>();
+        read(statement, result::add);
+        return result;
+    }
+
+    private static void read(PreparedStatement statement, Consumer<? super Proyek> action) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                Date deadline = rs.getDate(4);
+                Proyek proyek = new Proyek(rs.getInt(1), rs.getString(2), rs.getString(3),
+                        deadline != null ? deadline.toLocalDate() : null, rs.getString(5), rs.getDouble(6),
+                        rs.getInt(7), rs.getInt(8));
+                proyek.setFilePath(rs.getString(9));
+                action.accept(proyek);
+            }
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package com.goop.data.jdbc;
+
+import com.goop.data.SkorAggregate;
+import com.goop.data.TesRepository;
+import com.goop.models.HasilTesSiswa;
+import com.goop.models.PengerjaanTes;
+import com.goop.models.Soal;
+import com.goop.models.TesKognitif;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Class JdbcTesRepository - TesRepository di database SQL
+ *
+ * Soal disimpan di table soal dengan key (tes_id, urutan) sehingga urutan
+ * soal di tes tetap sama. Setiap percobaan tes disimpan di pengerjaan_tes
+ * (append), skor terakhir di hasil_tes (1 row per siswa dan tes), dan skor
+ * kognitif siswa (rata-rata semua hasil tes) diupdate di transaksi yang sama.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class JdbcTesRepository implements TesRepository {
+
+    private static final String COLUMNS = "judul, durasi_menit, status";
+
+    static final String INSERT_TES = "INSERT INTO tes_kognitif (" + COLUMNS + ") VALUES (?, ?, ?)";
+    static final String INSERT_TES_WITH_ID = "INSERT INTO tes_kognitif (id, " + COLUMNS + ") VALUES (?, ?, ?, ?)";
+    private static final String INSERT_SOAL = "INSERT INTO soal (tes_id, urutan, id, pertanyaan, pilihan_a, "
+            + "pilihan_b, pilihan_c, pilihan_d, jawaban_benar) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_TES = "SELECT id, " + COLUMNS + " FROM tes_kognitif";
+    private static final String SELECT_PENGERJAAN = "SELECT id, siswa_id, tes_id, waktu, skor, durasi_detik, "
+            + "jawaban FROM pengerjaan_tes";
+    private static final String SELECT_SOAL = "SELECT tes_id, id, pertanyaan, pilihan_a, pilihan_b, pilihan_c, "
+            + "pilihan_d, jawaban_benar FROM soal";
+
+    private final JdbcDatabase database;
+
+    JdbcTesRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public List<TesKognitif> getAllTesKognitif() {
+        return Collections.unmodifiableList(database.query("Gagal membaca data tes", connection ->
+                readAll(connection, connection.prepare(SELECT_TES + " ORDER BY id"))));
+    }
+
+    @Override
+    public int countTesKognitif() {
+        return database.query("Gagal menghitung tes", connection ->
+                JdbcDatabase.count(connection.prepare("SELECT COUNT(*) FROM tes_kognitif")));
+    }
+
+    /**
+     * Jumlah tes biasanya kecil, jadi tes dibaca sekaligus (2 query)
+     * lalu dikirim ke action satu per satu
+     */
+    @Override
+    public void forEachTesKognitif(Consumer<? super TesKognitif> action) {
+        getAllTesKognitif().forEach(action);
+    }
+
+    @Override
+    public List<TesKognitif> getTesKognitifPage(int afterId, int limit) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        return database.query("Gagal membaca data tes", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_TES + JdbcDatabase.KEYSET_PAGE);
+            statement.setInt(1, afterId);
+            statement.setInt(2, limit);
+            return readAll(connection, statement);
+        });
+    }
+
+    @Override
+    public List<TesKognitif> getActiveTesKognitif() {
+        return database.query("Gagal membaca data tes", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_TES + " WHERE status = ? ORDER BY id");
+            statement.setString(1, "AKTIF");
+            return readAll(connection, statement);
+        });
+    }
+
+    @Override
+    public int countActiveTesKognitif() {
+        return database.query("Gagal menghitung tes", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT COUNT(*) FROM tes_kognitif WHERE status = ?");
+            statement.setString(1, "AKTIF");
+            return JdbcDatabase.count(statement);
+        });
+    }
+
+    @Override
+    public TesKognitif getTesKognitifById(int id) {
+        return database.query("Gagal membaca data tes", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_TES + " WHERE id = ?");
+            statement.setInt(1, id);
+            List<TesKognitif> result = readAll(connection, statement);
+            return result.isEmpty() ? null : result.get(0);
+        });
+    }
+
+    @Override
+    public void addTesKognitif(TesKognitif tes) {
+        database.transaction("Gagal menambah tes", connection -> {
+            PreparedStatement statement = connection.prepareInsert(INSERT_TES);
+            bindTes(statement, tes, 1);
+            statement.executeUpdate();
+            tes.setId(JdbcDatabase.generatedId(statement));
+            insertSoal(connection, tes);
+            return null;
+        });
+    }
+
+    @Override
+    public void saveHasilTes(int siswaId, int tesId, double skor, int durasiDetik, String[] jawaban) {
+        LocalDateTime waktu = LocalDateTime.now();
+        database.transaction("Gagal menyimpan hasil tes", connection -> {
+            PreparedStatement insert = connection.prepare("INSERT INTO pengerjaan_tes (siswa_id, tes_id, waktu, "
+                    + "skor, durasi_detik, jawaban) VALUES (?, ?, ?, ?, ?, ?)");
+            insert.setInt(1, siswaId);
+            insert.setInt(2, tesId);
+            JdbcDatabase.setNullableTimestamp(insert, 3, waktu);
+            insert.setDouble(4, skor);
+            insert.setInt(5, durasiDetik);
+            JdbcDatabase.setNullableString(insert, 6, PengerjaanTes.encodeJawaban(jawaban));
+            insert.executeUpdate();
+
+            PreparedStatement merge = connection.prepare(
+                    "MERGE INTO hasil_tes (siswa_id, tes_id, skor, waktu) KEY (siswa_id, tes_id) VALUES (?, ?, ?, ?)");
+            merge.setInt(1, siswaId);
+            merge.setInt(2, tesId);
+            merge.setDouble(3, skor);
+            JdbcDatabase.setNullableTimestamp(merge, 4, waktu);
+            merge.executeUpdate();
+
+            // Update skor kognitif siswa (rata-rata semua tes)
+            PreparedStatement average = connection.prepare("SELECT AVG(skor) FROM hasil_tes WHERE siswa_id = ?");
+            average.setInt(1, siswaId);
+            double rata;
+            try (ResultSet rs = average.executeQuery()) {
+                rs.next();
+                rata = rs.getDouble(1);
+            }
+            PreparedStatement update = connection.prepare(
+                    "UPDATE users SET skor_kognitif = ? WHERE role = ? AND id = ?");
+            update.setDouble(1, rata);
+            update.setString(2, JdbcUserRepository.ROLE_SISWA);
+            update.setInt(3, siswaId);
+            update.executeUpdate();
+            return null;
+        });
+    }
+
+    @Override
+    public double getHasilTes(int siswaId, int tesId) {
+        return database.query("Gagal membaca hasil tes", connection -> {
+            PreparedStatement statement = connection.prepare(
+                    "SELECT skor FROM hasil_tes WHERE siswa_id = ? AND tes_id = ?");
+            statement.setInt(1, siswaId);
+            statement.setInt(2, tesId);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getDouble(1) : 0.0;
+            }
+        });
+    }
+
+    /**
+     * 3 query berbasis index siswa_id: tes yang sudah dikerjakan, hasil
+     * terakhirnya, lalu percobaan siswa untuk skor tertinggi dan data
+     * percobaan terakhir
+     */
+    @Override
+    public List<HasilTesSiswa> getHasilTesSiswa(int siswaId) {
+        return database.query("Gagal membaca hasil tes", connection -> {
+            PreparedStatement tesStatement = connection.prepare(SELECT_TES
+                    + " WHERE id IN (SELECT tes_id FROM hasil_tes WHERE siswa_id = ?) ORDER BY id");
+            tesStatement.setInt(1, siswaId);
+            List<TesKognitif> tesList = readAll(connection, tesStatement);
+
+            Map<Integer, Double> skorByTes = new HashMap<>();
+            PreparedStatement hasil = connection.prepare("SELECT tes_id, skor FROM hasil_tes WHERE siswa_id = ?");
+            hasil.setInt(1, siswaId);
+            try (ResultSet rs = hasil.executeQuery()) {
+                while (rs.next()) {
+                    skorByTes.put(rs.getInt(1), rs.getDouble(2));
+                }
+            }
+
+            PreparedStatement riwayat = connection.prepare(SELECT_PENGERJAAN + " WHERE siswa_id = ? ORDER BY id");
+            riwayat.setInt(1, siswaId);
+            Map<Integer, List<PengerjaanTes>> percobaanByTes = new HashMap<>();
+            for (PengerjaanTes pengerjaan : readPengerjaan(riwayat)) {
+                percobaanByTes.computeIfAbsent(pengerjaan.getTesId(), k -> new ArrayList<>()).add(pengerjaan);
+            }
+
+            List<HasilTesSiswa> result = new ArrayList<>(tesList.size());
+            for (TesKognitif tes : tesList) {
+                double skor = skorByTes.get(tes.getId());
+                List<PengerjaanTes> percobaan = percobaanByTes.get(tes.getId());
+                if (percobaan == null) {
+                    // Hasil dari sebelum ada riwayat percobaan
+                    result.add(new HasilTesSiswa(tes, skor, skor, 1, null, 0));
+                    continue;
+                }
+                double skorTertinggi = skor;
+                for (PengerjaanTes pengerjaan : percobaan) {
+                    skorTertinggi = Math.max(skorTertinggi, pengerjaan.getSkor());
+                }
+                PengerjaanTes terakhir = percobaan.get(percobaan.size() - 1);
+                result.add(new HasilTesSiswa(tes, skor, skorTertinggi, percobaan.size(), terakhir.getWaktu(),
+                        terakhir.getDurasiDetik()));
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public List<PengerjaanTes> getRiwayatTesSiswa(int siswaId) {
+        return database.query("Gagal membaca riwayat tes", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_PENGERJAAN + " WHERE siswa_id = ? ORDER BY id");
+            statement.setInt(1, siswaId);
+            return readPengerjaan(statement);
+        });
+    }
+
+    @Override
+    public List<PengerjaanTes> getRiwayatTes(int tesId) {
+        return database.query("Gagal membaca riwayat tes", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_PENGERJAAN + " WHERE tes_id = ? ORDER BY id");
+            statement.setInt(1, tesId);
+            return readPengerjaan(statement);
+        });
+    }
+
+    @Override
+    public SkorAggregate getSkorTesSiswa(int siswaId) {
+        return database.query("Gagal membaca ringkasan skor tes", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT COUNT(*), SUM(skor), MIN(skor), MAX(skor), "
+                    + "MAX(waktu) FROM hasil_tes WHERE siswa_id = ?");
+            statement.setInt(1, siswaId);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                Timestamp terakhir = rs.getTimestamp(5);
+                return SkorAggregate.of(rs.getInt(1), rs.getDouble(2), rs.getDouble(3), rs.getDouble(4),
+                        terakhir != null ? terakhir.toLocalDateTime() : null);
+            }
+        });
+    }
+
+    // ==================== HELPER ====================
+
+    static void bindTes(PreparedStatement statement, TesKognitif tes, int first) throws SQLException {
+        JdbcDatabase.setNullableString(statement, first, tes.getJudul());
+        statement.setInt(first + 1, tes.getDurasiMenit());
+        JdbcDatabase.setNullableString(statement, first + 2, tes.getStatus());
+    }
+
+    /**
+     * Simpan semua soal tes dalam 1 batch
+     */
+    static void insertSoal(ConnectionPool.PooledConnection connection, TesKognitif tes) throws SQLException {
+        List<Soal> daftarSoal = tes.getDaftarSoal();
+        if (daftarSoal.isEmpty()) {
+            return;
+        }
+        PreparedStatement statement = connection.prepare(INSERT_SOAL);
+        for (int i = 0; i < daftarSoal.size(); i++) {
+            Soal soal = daftarSoal.get(i);
+            statement.setInt(1, tes.getId());
+            statement.setInt(2, i);
+            statement.setInt(3, soal.getId());
+            JdbcDatabase.setNullableString(statement, 4, soal.getPertanyaan());
+            JdbcDatabase.setNullableString(statement, 5, soal.getPilihanA());
+            JdbcDatabase.setNullableString(statement, 6, soal.getPilihanB());
+            JdbcDatabase.setNullableString(statement, 7, soal.getPilihanC());
+            JdbcDatabase.setNullableString(statement, 8, soal.getPilihanD());
+            JdbcDatabase.setNullableString(statement, 9, soal.getJawabanBenar());
+            statement.addBatch();
+        }
+        statement.executeBatch();
+    }
+
+    private static List<PengerjaanTes> readPengerjaan(PreparedStatement statement) throws SQLException {
+        List<PengerjaanTes> result = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                Timestamp waktu = rs.getTimestamp(4);
+                result.add(new PengerjaanTes(rs.getInt(1), rs.getInt(2), rs.getInt(3),
+                        waktu != null ? waktu.toLocalDateTime() : null, rs.getDouble(5), rs.getInt(6),
+                        PengerjaanTes.decodeJawaban(rs.getString(7))));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Baca tes dari query (terurut berdasarkan ID) lalu soal-soalnya
+     * dengan 1 query untuk rentang ID tes yang terbaca
+     */
+    private static List<TesKognitif> readAll(ConnectionPool.PooledConnection connection,
+            PreparedStatement statement) throws SQLException {
+        Map<Integer, TesKognitif> byId = new LinkedHashMap<>();
+        int minId = Integer.MAX_VALUE;
+        int maxId = Integer.MIN_VALUE;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                TesKognitif tes = new TesKognitif(rs.getInt(1), rs.getString(2), rs.getInt(3));
+                tes.setStatus(rs.getString(4));
+                byId.put(tes.getId(), tes);
+                minId = Math.min(minId, tes.getId());
+                maxId = Math.max(maxId, tes.getId());
+            }
+        }
+        if (byId.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        PreparedStatement soalStatement = connection.prepare(SELECT_SOAL
+                + " WHERE tes_id BETWEEN ? AND ? ORDER BY tes_id, urutan");
+        soalStatement.setInt(1, minId);
+        soalStatement.setInt(2, maxId);
+        try (ResultSet rs = soalStatement.executeQuery()) {
+            while (rs.next()) {
+                // Tes lain di rentang ID yang sama (misal tes nonaktif) dilewati
+                TesKognitif tes = byId.get(rs.getInt(1));
+                if (tes != null) {
+                    tes.getDaftarSoal().add(new Soal(rs.getInt(2), tes.getId(), rs.getString(3), rs.getString(4),
+                            rs.getString(5), rs.getString(6), rs.getString(7), rs.getString(8)));
+                }
+            }
+        }
+        return new ArrayList<>(byId.values());
+    }
+}
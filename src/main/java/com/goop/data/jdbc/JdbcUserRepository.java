@@ -0,0 +1,364 @@
+package com.goop.data.jdbc;
+
+import com.goop.data.UserRepository;
+import com.goop.models.Guru;
+import com.goop.models.Proyek;
+import com.goop.models.Siswa;
+import com.goop.models.User;
+import com.goop.utils.PasswordHasher;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Class JdbcUserRepository - UserRepository di database SQL
+ *
+ * Siswa dan guru disimpan di 1 table users (kolom role), sehingga
+ * constraint UNIQUE(username) berlaku untuk keduanya. User yang sedang
+ * login disimpan di memory (session aplikasi desktop).
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class JdbcUserRepository implements UserRepository {
+
+    static final String ROLE_SISWA = "SISWA";
+    static final String ROLE_GURU = "GURU";
+
+    static final String INSERT_USER = "INSERT INTO users (role, id, username, password, email, nama_lengkap, "
+            + "skor_kognitif) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_USER = "SELECT role, id, username, password, email, nama_lengkap, "
+            + "skor_kognitif FROM users";
+
+    /**
+     * Siswa (keyset page) beserta ID, status dan skor proyeknya dalam 1 query:
+     * 1 row per proyek, row siswa tanpa proyek memiliki p.id NULL
+     */
+    private static final String SELECT_SISWA_WITH_PROYEK = "SELECT u.role, u.id, u.username, u.password, "
+            + "u.email, u.nama_lengkap, u.skor_kognitif, p.id, p.status, p.skor FROM (SELECT * FROM users "
+            + "WHERE role = 'SISWA' AND id > ? ORDER BY id FETCH FIRST ? ROWS ONLY) u "
+            + "LEFT JOIN proyek p ON p.siswa_id = u.id "
+            + "ORDER BY u.id, p.id";
+
+    private final JdbcDatabase database;
+
+    JdbcUserRepository(JdbcDatabase database) {
+        this.database = database;
+    }
+
+    // ==================== LOGIN ====================
+
+    @Override
+    public User login(String username, String password) {
+        User user = database.query("Gagal membaca data login", connection -> {
+            PreparedStatement statement = connection.prepare(SELECT_USER + " WHERE username = ?");
+            statement.setString(1, username);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? readUser(connection, rs) : null;
+            }
+        });
+
+        if (user == null) {
+            // Username tidak ada: tetap hitung hash agar waktu respon sama
+            PasswordHasher.verify(password, null);
+        } else if (user.validateLogin(username, password)) {
+            upgradePassword(user, password);
+            System.out.println("Login berhasil sebagai " + (user instanceof Guru ? "Guru" : "Siswa") + ": "
+                    + user.getNamaLengkap());
+            return user;
+        }
+
+        System.out.println("Login gagal: Username atau password salah");
+        return null;
+    }
+
+    /**
+     * Hash ulang password setelah login berhasil jika masih plaintext (data
+     * lama) atau iterasi hash berbeda dengan konfigurasi saat ini
+     */
+    private void upgradePassword(User user, String password) {
+        String stored = user.getPassword();
+        if (!PasswordHasher.needsRehash(stored)) {
+            return;
+        }
+        String hash = PasswordHasher.hash(password);
+        database.transaction("Gagal memperbarui hash password", connection -> {
+            // Hanya jika password belum diganti sejak dibaca
+            PreparedStatement update = connection.prepare(
+                    "UPDATE users SET password = ? WHERE role = ? AND id = ? AND password = ?");
+            update.setString(1, hash);
+            update.setString(2, roleOf(user));
+            update.setInt(3, user.getId());
+            update.setString(4, stored);
+            if (update.executeUpdate() > 0) {
+                user.setPassword(hash);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean isUsernameTaken(String username, User except) {
+        return database.query("Gagal mengecek username", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT role, id FROM users WHERE username = ?");
+            statement.setString(1, username);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return false;
+                }
+                return except == null || !roleOf(except).equals(rs.getString(1)) || except.getId() != rs.getInt(2);
+            }
+        });
+    }
+
+    // ==================== SISWA ====================
+
+    @Override
+    public List<Siswa> getAllSiswa() {
+        return Collections.unmodifiableList(getSiswaPage(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public int countSiswa() {
+        return database.query("Gagal menghitung siswa", connection -> {
+            PreparedStatement statement = connection.prepare("SELECT COUNT(*) FROM users WHERE role = ?");
+            statement.setString(1, ROLE_SISWA);
+            return JdbcDatabase.count(statement);
+        });
+    }
+
+    @Override
+    public void forEachSiswa(Consumer<? super Siswa> action) {
+        database.query("Gagal membaca data siswa", connection -> {
+            streamSiswa(connection, Integer.MIN_VALUE, Integer.MAX_VALUE, action);
+            return null;
+        });
+    }
+
+    @Override
+    public List<Siswa> getSiswaPage(int afterId, int limit) {
+        List<Siswa> result = new ArrayList<>();
+        if (limit > 0) {
+            database.query("Gagal membaca data siswa", connection -> {
+                streamSiswa(connection, afterId, limit, result::add);
+                return null;
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public Siswa getSiswaById(int id) {
+        return database.query("Gagal membaca data siswa", connection -> findSiswa(connection, id));
+    }
+
+    @Override
+    public boolean addSiswa(Siswa siswa) {
+        return insertUser(siswa, ROLE_SISWA, siswa.getSkorKognitif());
+    }
+
+    @Override
+    public boolean updateSiswa(Siswa siswa) {
+        return database.transaction("Gagal mengupdate siswa", connection -> {
+            PreparedStatement select = connection.prepare("SELECT username FROM users WHERE role = ? AND id = ?");
+            select.setString(1, ROLE_SISWA);
+            select.setInt(2, siswa.getId());
+            String oldUsername;
+            try (ResultSet rs = select.executeQuery()) {
+                if (!rs.next()) {
+                    return false;
+                }
+                oldUsername = rs.getString(1);
+            }
+
+            PreparedStatement update = connection.prepare("UPDATE users SET username = ?, password = ?, "
+                    + "email = ?, nama_lengkap = ?, skor_kognitif = ? WHERE role = ? AND id = ?");
+            update.setString(1, siswa.getUsername());
+            JdbcDatabase.setNullableString(update, 2, siswa.getPassword());
+            JdbcDatabase.setNullableString(update, 3, siswa.getEmail());
+            JdbcDatabase.setNullableString(update, 4, siswa.getNamaLengkap());
+            update.setDouble(5, siswa.getSkorKognitif());
+            update.setString(6, ROLE_SISWA);
+            update.setInt(7, siswa.getId());
+            try {
+                update.executeUpdate();
+            } catch (SQLIntegrityConstraintViolationException e) {
+                // Username sudah dipakai user lain
+                siswa.setUsername(oldUsername);
+                return false;
+            }
+            return true;
+        });
+    }
+
+    // ==================== GURU ====================
+
+    @Override
+    public List<Guru> getAllGuru() {
+        return Collections.unmodifiableList(database.query("Gagal membaca data guru", connection -> {
+            List<Guru> result = new ArrayList<>();
+            PreparedStatement statement = connection.prepare(SELECT_USER + " WHERE role = ? ORDER BY id");
+            statement.setString(1, ROLE_GURU);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    result.add(readGuru(rs));
+                }
+            }
+            return result;
+        }));
+    }
+
+    @Override
+    public boolean addGuru(Guru guru) {
+        return insertUser(guru, ROLE_GURU, 0);
+    }
+
+    // ==================== HELPER ====================
+
+    /**
+     * INSERT user, false jika username atau ID sudah dipakai
+     */
+    private boolean insertUser(User user, String role, double skorKognitif) {
+        return database.query("Gagal menambah user", connection -> {
+            PreparedStatement statement = connection.prepare(INSERT_USER);
+            bindUser(statement, user, role, skorKognitif);
+            try {
+                statement.executeUpdate();
+                return true;
+            } catch (SQLIntegrityConstraintViolationException e) {
+                return false;
+            }
+        });
+    }
+
+    static void bindUser(PreparedStatement statement, User user, String role, double skorKognitif)
+            throws SQLException {
+        statement.setString(1, role);
+        statement.setInt(2, user.getId());
+        statement.setString(3, user.getUsername());
+        JdbcDatabase.setNullableString(statement, 4, user.getPassword());
+        JdbcDatabase.setNullableString(statement, 5, user.getEmail());
+        JdbcDatabase.setNullableString(statement, 6, user.getNamaLengkap());
+        statement.setDouble(7, skorKognitif);
+    }
+
+    static Siswa findSiswa(ConnectionPool.PooledConnection connection, int id) throws SQLException {
+        PreparedStatement statement = connection.prepare(SELECT_USER + " WHERE role = ? AND id = ?");
+        statement.setString(1, ROLE_SISWA);
+        statement.setInt(2, id);
+        Siswa siswa;
+        try (ResultSet rs = statement.executeQuery()) {
+            if (!rs.next()) {
+                return null;
+            }
+            siswa = readSiswa(rs);
+        }
+        loadProyekIds(connection, siswa);
+        return siswa;
+    }
+
+    /**
+     * Membaca siswa (ID > afterId, maksimal limit) lengkap dengan daftar
+     * proyek dan rata-rata skor proyek tervalidasi, lalu mengirim setiap
+     * siswa ke action saat row-nya selesai
+     */
+    private static void streamSiswa(ConnectionPool.PooledConnection connection, int afterId, int limit,
+            Consumer<? super Siswa> action) throws SQLException {
+        PreparedStatement statement = connection.prepare(SELECT_SISWA_WITH_PROYEK);
+        statement.setInt(1, afterId);
+        statement.setInt(2, limit);
+        try (ResultSet rs = statement.executeQuery()) {
+            Siswa current = null;
+            ProyekReader proyek = new ProyekReader();
+            while (rs.next()) {
+                if (current == null || current.getId() != rs.getInt(2)) {
+                    if (current != null) {
+                        action.accept(proyek.finish(current));
+                    }
+                    current = readSiswa(rs);
+                }
+                proyek.read(current, rs, 8);
+            }
+            if (current != null) {
+                action.accept(proyek.finish(current));
+            }
+        }
+    }
+
+    private static User readUser(ConnectionPool.PooledConnection connection, ResultSet rs) throws SQLException {
+        if (ROLE_GURU.equals(rs.getString(1))) {
+            return readGuru(rs);
+        }
+        Siswa siswa = readSiswa(rs);
+        loadProyekIds(connection, siswa);
+        return siswa;
+    }
+
+    private static Siswa readSiswa(ResultSet rs) throws SQLException {
+        Siswa siswa = new Siswa(rs.getInt(2), rs.getString(3), rs.getString(4), rs.getString(5), rs.getString(6));
+        siswa.setSkorKognitif(rs.getDouble(7));
+        return siswa;
+    }
+
+    private static Guru readGuru(ResultSet rs) throws SQLException {
+        return new Guru(rs.getInt(2), rs.getString(3), rs.getString(4), rs.getString(5), rs.getString(6));
+    }
+
+    private static void loadProyekIds(ConnectionPool.PooledConnection connection, Siswa siswa)
+            throws SQLException {
+        PreparedStatement statement = connection.prepare(
+                "SELECT id, status, skor FROM proyek WHERE siswa_id = ? ORDER BY id");
+        statement.setInt(1, siswa.getId());
+        ProyekReader proyek = new ProyekReader();
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                proyek.read(siswa, rs, 1);
+            }
+        }
+        proyek.finish(siswa);
+    }
+
+    /**
+     * Mengumpulkan ID proyek dan skor proyek tervalidasi dari kolom
+     * (id, status, skor) untuk satu siswa
+     */
+    private static final class ProyekReader {
+        private int jumlahTervalidasi;
+        private double totalSkor;
+
+        /**
+         * @param first Index kolom id proyek (NULL jika siswa tidak punya proyek)
+         */
+        void read(Siswa siswa, ResultSet rs, int first) throws SQLException {
+            int proyekId = rs.getInt(first);
+            if (rs.wasNull()) {
+                return;
+            }
+            siswa.addProyek(proyekId);
+            if (Proyek.STATUS_TERVALIDASI.equals(rs.getString(first + 1))) {
+                jumlahTervalidasi++;
+                totalSkor += rs.getDouble(first + 2);
+            }
+        }
+
+        /**
+         * Set rata-rata skor proyek siswa lalu reset untuk siswa berikutnya
+         */
+        Siswa finish(Siswa siswa) {
+            siswa.setRataSkorProyek(jumlahTervalidasi > 0 ? totalSkor / jumlahTervalidasi : 0.0);
+            jumlahTervalidasi = 0;
+            totalSkor = 0;
+            return siswa;
+        }
+    }
+
+    private static String roleOf(User user) {
+        return user instanceof Guru ? ROLE_GURU : ROLE_SISWA;
+    }
+}
@@ -0,0 +1,23 @@
+package com.goop.grading;
+
+/**
+ * Interface AturanRubrik - 1 jenis kriteria rubrik (lihat RubrikEngine)
+ *
+ * Aturan hanya membaca StrukturKode yang sudah di-parse, tidak membaca
+ * kode siswa sendiri, sehingga banyak aturan cukup memakai 1 kali parse.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public interface AturanRubrik {
+
+    /**
+     * @return Nama kriteria untuk Guru dan laporan, misal "Minimal 2 class"
+     */
+    String deskripsi(int minimal);
+
+    /**
+     * @return null jika kriteria terpenuhi, atau keterangan kenapa tidak terpenuhi
+     */
+    String periksa(StrukturKode struktur, int minimal);
+}
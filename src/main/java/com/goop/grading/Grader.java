@@ -0,0 +1,386 @@
+package com.goop.grading;
+
+import com.goop.compiler.CompileDiagnostic;
+import com.goop.compiler.CompileResult;
+import com.goop.compiler.CompilerService;
+import com.goop.models.HasilTestCase;
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.TestCase;
+import com.goop.runner.RunResult;
+import com.goop.runner.RunnerPool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class Grader - Penilaian otomatis submission proyek dengan test case
+ *
+ * Alur penilaian 1 submission:
+ * 1. Kode siswa di-compile (CompilerService, hasil di-cache)
+ * 2. Jika ada test case jenis CEK: kode siswa di-compile SEKALI bersama
+ *    class pendukung (GoopTest, GoopAssert, GoopTestRunner) dan semua
+ *    kode cek. Hasil compile ini dipakai untuk semua test case.
+ * 3. Semua test case dijalankan sekaligus di RunnerPool (paralel sebanyak
+ *    jumlah worker), masing-masing dengan stdin dan batas waktu sendiri
+ *    - OUTPUT: main() siswa dijalankan, output dibandingkan (OutputMatcher)
+ *    - CEK: GoopTestRunner menjalankan method @GoopTest di class cek.
+ *      Cek hanya lulus jika output berisi token hasil dengan nonce acak
+ *      run tersebut (lihat GoopTestRunner), status OK saja tidak cukup
+ * 4. Jika proyek punya rubrik: struktur kode diperiksa RubrikEngine
+ *    bersamaan dengan compile dan test case, hasilnya ditambahkan
+ *    setelah hasil test case
+ * 5. Skor = persentase bobot test case dan kriteria rubrik yang lulus
+ *
+ * Proyek tanpa test case dinilai dengan 1 test case bawaan: program
+ * berjalan tanpa error (output tidak diperiksa).
+ *
+ * Laporan tidak disimpan oleh Grader; pemanggil menyimpannya lewat
+ * PenilaianRepository bersama code yang di-submit.
+ *
+ * Batas keamanan token hasil CEK:
+ * - GoopTestRunner berjalan di JVM dan class loader yang sama dengan kode
+ *   siswa, jadi token hanya sekuat kerahasiaan nonce di JVM worker
+ * - Yang dicegah: lulus dengan keluar lebih awal (System.exit, return dari
+ *   thread), mencetak token tebakan, atau menulis frame palsu ke pipe
+ *   worker (lihat WorkerMain)
+ * - Nonce dihapus dari args sebelum kode cek dimuat, dan worker menolak
+ *   reflection ke field private JDK (default JDK 16+, --illegal-access=deny
+ *   di JDK lebih lama), sehingga nonce tidak bisa dibaca lewat thread main
+ * - Yang TIDAK dicegah: kode siswa yang sengaja membongkar internal worker
+ *   lewat reflection (misal buffer pipe WorkerMain yang masih berisi
+ *   request run). Tanpa Security Manager, JVM yang sama tidak bisa
+ *   menyembunyikan data dari kode yang dijalankannya. Nilai CEK yang
+ *   mencurigakan tetap perlu dilihat Guru (output cek ada di laporan)
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class Grader {
+
+    static final String RUNNER_CLASS = "GoopTestRunner";
+
+    private static final String[] SUPPORT_SOURCES = {"GoopTest", "GoopAssert", RUNNER_CLASS};
+
+    /**
+     * Awalan token hasil yang dicetak GoopTestRunner jika semua cek lulus
+     */
+    private static final String RESULT_TOKEN = "GOOP-HASIL ";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Output yang disimpan di laporan per test case
+     */
+    private static final int MAX_OUTPUT_CHARS = 4000;
+
+    /**
+     * Test case untuk proyek tanpa test case Guru: cukup berjalan tanpa error
+     */
+    private static final TestCase TANPA_ERROR = new TestCase(1, "Program berjalan tanpa error", "", "", null,
+            TestCase.DEFAULT_BOBOT, TestCase.DEFAULT_TIMEOUT_MS);
+
+    private static class Holder {
+        private static final Grader INSTANCE = new Grader();
+    }
+
+    private final CompilerService compiler = CompilerService.getInstance();
+    private final List<String> supportSources;
+
+    private Grader() {
+        List<String> sources = new ArrayList<>();
+        for (String name : SUPPORT_SOURCES) {
+            sources.add(readResource(name + ".java.txt"));
+        }
+        supportSources = Collections.unmodifiableList(sources);
+    }
+
+    public static Grader getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Nilai kode siswa dengan semua test case
+     *
+     * @param proyekId  ID proyek (disimpan di laporan)
+     * @param code      Kode siswa yang di-submit
+     * @param testCases Test case proyek, kosong jika Guru tidak membuat test case
+     * @param rubrik    Kriteria rubrik proyek, boleh kosong
+     * @return Future laporan penilaian, selesai setelah semua test case selesai dijalankan
+     */
+    public CompletableFuture<LaporanPenilaian> grade(int proyekId, String code, List<TestCase> testCases,
+            List<KriteriaRubrik> rubrik) {
+        List<TestCase> cases = testCases.isEmpty() ? List.of(TANPA_ERROR) : List.copyOf(testCases);
+        CompletableFuture<LaporanPenilaian> tested = test(proyekId, code, cases);
+        if (rubrik.isEmpty()) {
+            return tested;
+        }
+        List<KriteriaRubrik> kriteria = List.copyOf(rubrik);
+        // Parse tidak memakai thread compiler, jadi berjalan bersamaan dengan compile dan test case
+        CompletableFuture<List<HasilTestCase>> checked = CompletableFuture.supplyAsync(
+                () -> RubrikEngine.evaluate(code, kriteria, cases.size()));
+        return tested.thenCombine(checked, Grader::withRubrik);
+    }
+
+    private CompletableFuture<LaporanPenilaian> test(int proyekId, String code, List<TestCase> cases) {
+        return compiler.compile(code, null).thenCompose(compiled -> {
+            if (!compiled.isSuccess()) {
+                return CompletableFuture.completedFuture(compileFailed(proyekId, compiled, cases));
+            }
+            if (cases.stream().noneMatch(TestCase::isCek)) {
+                return runAll(proyekId, cases, compiled, null);
+            }
+            return compiler.compile(combinedSources(code, cases), null)
+                    .thenCompose(combined -> runAll(proyekId, cases, compiled, combined));
+        });
+    }
+
+    /**
+     * Kode siswa + class pendukung + kode cek (kode cek yang sama hanya sekali)
+     */
+    private List<String> combinedSources(String code, List<TestCase> cases) {
+        List<String> sources = new ArrayList<>();
+        sources.add(code);
+        sources.addAll(supportSources);
+        Set<String> checks = new LinkedHashSet<>();
+        for (TestCase testCase : cases) {
+            if (testCase.isCek()) {
+                checks.add(testCase.getKodeCek());
+            }
+        }
+        sources.addAll(checks);
+        return sources;
+    }
+
+    /**
+     * Jalankan semua test case sekaligus dengan 1 hasil compile
+     *
+     * @param compiled Hasil compile kode siswa saja
+     * @param combined Hasil compile kode siswa + kode cek, null jika tidak ada test case CEK
+     */
+    private CompletableFuture<LaporanPenilaian> runAll(int proyekId, List<TestCase> cases, CompileResult compiled,
+            CompileResult combined) {
+        boolean combinedOk = combined != null && combined.isSuccess();
+        CompileResult artifact = combinedOk ? combined : compiled;
+
+        RunnerPool pool;
+        try {
+            pool = RunnerPool.getInstance();
+        } catch (IllegalStateException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            List<HasilTestCase> hasil = new ArrayList<>();
+            for (TestCase testCase : cases) {
+                hasil.add(error(testCase, "Runner tidak tersedia: " + e.getMessage()));
+            }
+            return CompletableFuture.completedFuture(laporan(proyekId, true, "Program tidak bisa dijalankan", hasil));
+        }
+
+        List<CompletableFuture<HasilTestCase>> futures = new ArrayList<>(cases.size());
+        for (TestCase testCase : cases) {
+            if (testCase.isCek() && !combinedOk) {
+                futures.add(CompletableFuture.completedFuture(error(testCase,
+                        "Kode cek tidak bisa di-compile bersama kode siswa: " + firstError(combined))));
+                continue;
+            }
+            if (!testCase.isCek() && artifact.getMainClass() == null) {
+                futures.add(CompletableFuture.completedFuture(error(testCase, "Method main tidak ditemukan")));
+                continue;
+            }
+            if (testCase.isCek()) {
+                // Nonce baru per run: hasil cek tidak boleh diambil dari RunCache
+                String nonce = Long.toHexString(RANDOM.nextLong());
+                List<String> args = List.of(CompilerService.primaryClassName(testCase.getKodeCek()), nonce);
+                futures.add(pool.runUncached(artifact.getClasses(), RUNNER_CLASS, args, testCase.getInput(),
+                                testCase.getTimeoutMs(), null)
+                        .handle((result, error) -> toHasil(testCase, nonce, result, error)));
+            } else {
+                futures.add(pool.run(artifact.getClasses(), artifact.getMainClass(), Collections.emptyList(),
+                                testCase.getInput(), testCase.getTimeoutMs(), null)
+                        .handle((result, error) -> toHasil(testCase, null, result, error)));
+            }
+        }
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).thenApply(done -> {
+            List<HasilTestCase> hasil = new ArrayList<>(futures.size());
+            for (CompletableFuture<HasilTestCase> future : futures) {
+                hasil.add(future.join());
+            }
+            return laporan(proyekId, true, "", hasil);
+        });
+    }
+
+    /**
+     * Gabungkan hasil rubrik ke laporan. Jika compile gagal, struktur kode
+     * tidak boleh memberi nilai: semua kriteria rubrik dianggap GAGAL.
+     */
+    private static LaporanPenilaian withRubrik(LaporanPenilaian laporan, List<HasilTestCase> rubrik) {
+        List<HasilTestCase> hasil = new ArrayList<>(laporan.getHasil());
+        if (laporan.isCompileBerhasil()) {
+            hasil.addAll(rubrik);
+        } else {
+            for (HasilTestCase kriteria : rubrik) {
+                hasil.add(new HasilTestCase(kriteria.getUrutan(), kriteria.getNama(), HasilTestCase.STATUS_GAGAL,
+                        "Kode tidak bisa di-compile", "", kriteria.getDurasiMillis(), kriteria.getBobot()));
+            }
+        }
+        return new LaporanPenilaian(laporan.getProyekId(), laporan.getWaktu(), LaporanPenilaian.hitungSkor(hasil),
+                laporan.isCompileBerhasil(), laporan.getPesan(), hasil);
+    }
+
+    private static LaporanPenilaian compileFailed(int proyekId, CompileResult compiled, List<TestCase> cases) {
+        List<HasilTestCase> hasil = new ArrayList<>(cases.size());
+        for (TestCase testCase : cases) {
+            hasil.add(error(testCase, "Kode tidak bisa di-compile"));
+        }
+        return laporan(proyekId, false,
+                "Compile error (" + compiled.getErrorCount() + " error): " + firstError(compiled), hasil);
+    }
+
+    /**
+     * @param nonce Nonce run GoopTestRunner untuk test case CEK, null untuk test case OUTPUT
+     */
+    private static HasilTestCase toHasil(TestCase testCase, String nonce, RunResult result, Throwable error) {
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            return error(testCase, "Program tidak bisa dijalankan: " + cause.getMessage());
+        }
+
+        String withoutToken = nonce != null ? removeToken(result.getOutput(), nonce) : null;
+        String output = withoutToken != null ? withoutToken : result.getOutput();
+        String status;
+        String pesan;
+        switch (result.getStatus()) {
+            case OK:
+            case EXIT:
+                if (!result.isSuccess()) {
+                    status = HasilTestCase.STATUS_ERROR;
+                    pesan = result.getMessage();
+                } else if (testCase.isCek()) {
+                    // System.exit(0) di tengah cek menghentikan cek berikutnya
+                    if (result.getStatus() != RunResult.Status.OK) {
+                        status = HasilTestCase.STATUS_ERROR;
+                        pesan = result.getMessage();
+                    } else if (withoutToken == null) {
+                        // Runner berhenti tanpa mencetak token: cek tidak selesai dijalankan
+                        status = HasilTestCase.STATUS_ERROR;
+                        pesan = "Cek tidak selesai dijalankan (token hasil tidak ditemukan)";
+                    } else {
+                        status = HasilTestCase.STATUS_LULUS;
+                        pesan = "";
+                    }
+                } else if (testCase == TANPA_ERROR) {
+                    status = HasilTestCase.STATUS_LULUS;
+                    pesan = "";
+                } else {
+                    pesan = OutputMatcher.compare(testCase.getExpectedOutput(), output);
+                    status = pesan == null ? HasilTestCase.STATUS_LULUS : HasilTestCase.STATUS_GAGAL;
+                }
+                break;
+            case EXCEPTION:
+                if (testCase.isCek() && result.getMessage().startsWith("java.lang.AssertionError")) {
+                    status = HasilTestCase.STATUS_GAGAL;
+                    pesan = failedChecks(output, result.getMessage());
+                } else {
+                    status = HasilTestCase.STATUS_ERROR;
+                    pesan = "Exception: " + result.getMessage();
+                }
+                break;
+            case TIMEOUT:
+            case CPU_LIMIT:
+                status = HasilTestCase.STATUS_TIMEOUT;
+                pesan = result.getMessage();
+                break;
+            default:
+                status = HasilTestCase.STATUS_ERROR;
+                pesan = result.getMessage();
+                break;
+        }
+        return new HasilTestCase(testCase.getUrutan(), testCase.getNama(), status, pesan,
+                truncate(output), result.getDurasiMillis(), testCase.getBobot());
+    }
+
+    /**
+     * Buang baris token hasil GoopTestRunner ("GOOP-HASIL nonce n/n") dari output
+     *
+     * @return Output tanpa token, null jika tidak ada token dengan nonce ini
+     *         yang menyatakan semua cek lulus
+     */
+    static String removeToken(String output, String nonce) {
+        String prefix = RESULT_TOKEN + nonce + " ";
+        int start = output.lastIndexOf(prefix);
+        if (start < 0 || (start > 0 && output.charAt(start - 1) != '\n')) {
+            return null;
+        }
+        int end = output.indexOf('\n', start);
+        String count = output.substring(start + prefix.length(), end < 0 ? output.length() : end).trim();
+        int slash = count.indexOf('/');
+        if (slash <= 0 || !count.substring(0, slash).equals(count.substring(slash + 1))
+                || count.substring(0, slash).equals("0")) {
+            return null;
+        }
+        return output.substring(0, start) + (end < 0 ? "" : output.substring(end + 1));
+    }
+
+    /**
+     * Baris "✗ ..." dari output GoopTestRunner, atau pesan AssertionError jika tidak ada
+     */
+    private static String failedChecks(String output, String message) {
+        List<String> failed = new ArrayList<>();
+        for (String line : output.split("\n")) {
+            if (line.startsWith("✗ ")) {
+                failed.add(line.substring(2).trim());
+            }
+        }
+        if (failed.isEmpty()) {
+            return message.substring(message.indexOf(':') + 1).trim();
+        }
+        return String.join("; ", failed);
+    }
+
+    private static HasilTestCase error(TestCase testCase, String pesan) {
+        return new HasilTestCase(testCase.getUrutan(), testCase.getNama(), HasilTestCase.STATUS_ERROR, pesan, "",
+                0, testCase.getBobot());
+    }
+
+    private static LaporanPenilaian laporan(int proyekId, boolean compileBerhasil, String pesan,
+            List<HasilTestCase> hasil) {
+        return new LaporanPenilaian(proyekId, LocalDateTime.now(), LaporanPenilaian.hitungSkor(hasil),
+                compileBerhasil, pesan, hasil);
+    }
+
+    private static String firstError(CompileResult result) {
+        if (result == null) {
+            return "";
+        }
+        for (CompileDiagnostic diagnostic : result.getDiagnostics()) {
+            if (diagnostic.isError()) {
+                return "baris " + diagnostic.getLine() + ": " + diagnostic.getMessage();
+            }
+        }
+        return "";
+    }
+
+    private static String truncate(String output) {
+        return output.length() > MAX_OUTPUT_CHARS ? output.substring(0, MAX_OUTPUT_CHARS) + "\n..." : output;
+    }
+
+    private static String readResource(String name) {
+        try (InputStream in = Grader.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Resource penilaian tidak ditemukan: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Resource penilaian tidak bisa dibaca: " + name, e);
+        }
+    }
+}
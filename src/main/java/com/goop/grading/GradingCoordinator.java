@@ -0,0 +1,721 @@
+package com.goop.grading;
+
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.TestCase;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class GradingCoordinator - Membagi job penilaian ke banyak GradingNode
+ *
+ * Untuk penilaian ulang ribuan submission sekaligus: setiap job (code +
+ * test case 1 submission) dikirim lewat socket ke node di komputer lain
+ * atau proses lain di komputer yang sama, lalu laporannya dikembalikan.
+ *
+ * Konsep yang diterapkan:
+ * - Work stealing: setiap node punya antrean sendiri (job baru masuk ke
+ *   antrean node yang paling sedikit pekerjaannya). Node yang antreannya
+ *   kosong mengambil job dari ujung belakang antrean node tersibuk, jadi
+ *   node yang lebih cepat otomatis mengerjakan lebih banyak job.
+ * - Backpressure: node hanya menerima job sebanyak slot-nya sekaligus
+ * - Heartbeat dua arah setiap 2 detik; node yang diam lebih dari 10 detik
+ *   dianggap mati dan semua job-nya dikembalikan ke antrean
+ * - Retry: job dicoba ulang di node lain jika node mati, node melaporkan
+ *   gagal, atau job melewati batas waktunya (maksimal MAX_ATTEMPTS kali).
+ *   Job yang melewati batas waktu tetap memakai slot node lama selama
+ *   TIMEOUT_GRACE_MS (hasilnya masih bisa dipakai), lalu dilepas dari node
+ *   tersebut agar slotnya bisa dipakai job lain
+ * - Hasil dari node hanya diterima jika proyekId laporan sama dengan
+ *   proyekId job; hasil lain dianggap gagal dan job dicoba ulang
+ * - Dedup: job yang dikirim ulang bisa selesai 2 kali; hasil pertama yang
+ *   dipakai, hasil berikutnya dibuang (dan job yang sudah selesai tidak
+ *   dikirim lagi)
+ *
+ * Konfigurasi (system property):
+ * - goop.grading.port        Port coordinator; tanpa ini coordinator tidak aktif
+ * - goop.grading.token       Token yang harus dikirim node (default kosong)
+ * - goop.grading.bind        Alamat listen (default 127.0.0.1 jika token
+ *                            kosong, semua interface jika token di-set)
+ * - goop.grading.localNodes  Jumlah node yang dijalankan di komputer ini (default 0)
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class GradingCoordinator {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * Tambahan batas waktu job di atas batas waktu test case (compile, antrean di node)
+     */
+    private static final long JOB_ALLOWANCE_MS = 30_000;
+
+    /**
+     * Lama job yang melewati batas waktu tetap tercatat di node lama sebelum slotnya dilepas
+     */
+    private static final long TIMEOUT_GRACE_MS = 30_000;
+
+    private static volatile GradingCoordinator instance;
+
+    private static final class Job {
+        final long id;
+        final int proyekId;
+        final String code;
+        final List<TestCase> testCases;
+        final List<KriteriaRubrik> rubrik;
+        final long timeoutMillis;
+        final CompletableFuture<LaporanPenilaian> future = new CompletableFuture<>();
+
+        // Diakses dengan lock
+        int attempts;
+        long sentAt;
+        boolean queued;
+
+        Job(long id, int proyekId, String code, List<TestCase> testCases, List<KriteriaRubrik> rubrik) {
+            this.id = id;
+            this.proyekId = proyekId;
+            this.code = code;
+            this.testCases = testCases;
+            this.rubrik = rubrik;
+            long total = 0;
+            for (TestCase testCase : testCases) {
+                total += testCase.getTimeoutMs();
+            }
+            this.timeoutMillis = JOB_ALLOWANCE_MS + 2 * Math.max(total, TestCase.DEFAULT_TIMEOUT_MS);
+        }
+    }
+
+    private static final class Node {
+        final Socket socket;
+        final DataInputStream in;
+        final DataOutputStream out;
+        final String name;
+        final int slots;
+        volatile long lastSeen = System.currentTimeMillis();
+
+        // Diakses dengan lock
+        final Deque<Job> queue = new ArrayDeque<>();
+        final Map<Long, Job> inFlight = new HashMap<>();
+        // Job in-flight yang melewati batas waktu di node ini -> waktu melewati batas
+        final Map<Long, Long> timedOut = new HashMap<>();
+        boolean alive = true;
+
+        Node(Socket socket, DataInputStream in, DataOutputStream out, String name, int slots) {
+            this.socket = socket;
+            this.in = in;
+            this.out = out;
+            this.name = name;
+            this.slots = slots;
+        }
+
+        int load() {
+            return queue.size() + inFlight.size();
+        }
+    }
+
+    private final ServerSocket server;
+    private final String token;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Di-signal saat ada job baru, slot kosong, atau node berubah
+     */
+    private final Condition changed = lock.newCondition();
+    private final List<Node> nodes = new ArrayList<>();
+    private final Deque<Job> pending = new ArrayDeque<>();
+    private long noNodeSince = System.currentTimeMillis();
+
+    private final AtomicLong nextJobId = new AtomicLong(1);
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private final ScheduledExecutorService reaper;
+    private final List<Process> localNodes = new ArrayList<>();
+    private volatile boolean closed;
+
+    private GradingCoordinator(int port) throws IOException {
+        token = System.getProperty("goop.grading.token", "");
+        String bind = System.getProperty("goop.grading.bind", token.isEmpty() ? "127.0.0.1" : "0.0.0.0");
+        if (token.isEmpty() && !InetAddress.getByName(bind).isLoopbackAddress()) {
+            System.err.println("WARNING: Coordinator penilaian listen di " + bind + " tanpa goop.grading.token");
+        }
+        server = new ServerSocket();
+        server.setReuseAddress(true);
+        server.bind(new InetSocketAddress(bind, port));
+
+        startThread("goop-grading-accept", this::acceptLoop);
+        reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "goop-grading-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reaper.scheduleAtFixedRate(this::reap, 1, 1, TimeUnit.SECONDS);
+        System.out.println("✓ Coordinator penilaian listen di " + bind + ":" + server.getLocalPort());
+
+        int local = Integer.getInteger("goop.grading.localNodes", 0);
+        for (int i = 0; i < local; i++) {
+            startLocalNode();
+        }
+    }
+
+    /**
+     * Mendapatkan coordinator jika goop.grading.port di-set (dijalankan saat pertama dipanggil)
+     *
+     * @return Coordinator, null jika tidak dikonfigurasi atau port tidak bisa dibuka
+     */
+    public static GradingCoordinator getIfConfigured() {
+        GradingCoordinator coordinator = instance;
+        if (coordinator != null) {
+            return coordinator;
+        }
+        Integer port = Integer.getInteger("goop.grading.port");
+        if (port == null) {
+            return null;
+        }
+        synchronized (GradingCoordinator.class) {
+            if (instance == null) {
+                try {
+                    instance = new GradingCoordinator(port);
+                } catch (IOException e) {
+                    System.err.println("ERROR: Coordinator penilaian tidak bisa dijalankan di port " + port + ": "
+                            + e.getMessage());
+                    return null;
+                }
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Menghentikan coordinator dan node lokal jika pernah dijalankan
+     * Dipanggil dari Main.stop()
+     */
+    public static void shutdownIfStarted() {
+        GradingCoordinator coordinator;
+        synchronized (GradingCoordinator.class) {
+            coordinator = instance;
+            instance = null;
+        }
+        if (coordinator != null) {
+            coordinator.shutdown();
+        }
+    }
+
+    /**
+     * Kirim 1 submission untuk dinilai di salah satu node
+     *
+     * @return Future laporan; gagal jika semua percobaan gagal atau tidak ada node
+     */
+    public CompletableFuture<LaporanPenilaian> submit(int proyekId, String code, List<TestCase> testCases,
+            List<KriteriaRubrik> rubrik) {
+        Job job = new Job(nextJobId.getAndIncrement(), proyekId, code, List.copyOf(testCases), List.copyOf(rubrik));
+        lock.lock();
+        try {
+            if (closed) {
+                job.future.completeExceptionally(new IllegalStateException("Coordinator penilaian sudah berhenti"));
+                return job.future;
+            }
+            Node target = null;
+            for (Node node : nodes) {
+                if (target == null || node.load() * target.slots < target.load() * node.slots) {
+                    target = node;
+                }
+            }
+            job.queued = true;
+            if (target != null) {
+                target.queue.addLast(job);
+            } else {
+                pending.addLast(job);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        return job.future;
+    }
+
+    /**
+     * @return Jumlah node yang terhubung
+     */
+    public int getNodeCount() {
+        lock.lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Total slot semua node (jumlah job yang bisa dinilai bersamaan)
+     */
+    public int getSlotCount() {
+        lock.lock();
+        try {
+            int total = 0;
+            for (Node node : nodes) {
+                total += node.slots;
+            }
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Jumlah hasil ganda yang dibuang (job yang dikirim ulang selesai 2 kali)
+     */
+    public long getDuplicateCount() {
+        return duplicates.get();
+    }
+
+    /**
+     * @return Port yang dipakai coordinator (goop.grading.port=0 memilih port bebas)
+     */
+    int getPort() {
+        return server.getLocalPort();
+    }
+
+    // ==================== KONEKSI NODE ====================
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = server.accept();
+                startThread("goop-grading-node", () -> handshake(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.println("WARNING: Gagal menerima koneksi node: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Terima HELLO, lalu thread ini menjadi pembaca frame dari node
+     */
+    private void handshake(Socket socket) {
+        Node node;
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout((int) GradingProtocol.HEARTBEAT_TIMEOUT_MS);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 65536));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 65536));
+            if (in.readByte() != GradingProtocol.FRAME_HELLO) {
+                throw new IOException("Frame pertama bukan HELLO");
+            }
+            int version = in.readInt();
+            String nodeToken = GradingProtocol.readString(in);
+            int slots = in.readInt();
+            String name = GradingProtocol.readString(in);
+            String reject = version != GradingProtocol.VERSION ? "Versi protokol " + version + " tidak didukung"
+                    : !token.equals(nodeToken) ? "Token salah"
+                    : slots < 1 ? "Jumlah slot tidak valid" : null;
+            if (reject != null) {
+                out.writeByte(GradingProtocol.FRAME_REJECT);
+                GradingProtocol.writeString(out, reject);
+                out.flush();
+                System.err.println("WARNING: Node " + socket.getRemoteSocketAddress() + " ditolak: " + reject);
+                socket.close();
+                return;
+            }
+            out.writeByte(GradingProtocol.FRAME_WELCOME);
+            out.flush();
+            node = new Node(socket, in, out, name + " (" + socket.getRemoteSocketAddress() + ")", slots);
+        } catch (IOException e) {
+            System.err.println("WARNING: Handshake node " + socket.getRemoteSocketAddress() + " gagal: "
+                    + e.getMessage());
+            closeQuietly(socket);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                closeQuietly(socket);
+                return;
+            }
+            nodes.add(node);
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        System.out.println("✓ Node penilai terhubung: " + node.name + ", " + node.slots + " slot");
+        startThread("goop-grading-dispatch", () -> dispatchLoop(node));
+        readLoop(node);
+    }
+
+    /**
+     * Kirim job ke node selama ada slot kosong, heartbeat saat tidak ada job
+     * Semua penulisan ke socket node dilakukan di thread ini
+     */
+    private void dispatchLoop(Node node) {
+        long lastSent = System.currentTimeMillis();
+        while (true) {
+            Job job = null;
+            lock.lock();
+            try {
+                while (node.alive && !closed) {
+                    if (node.inFlight.size() < node.slots && (job = nextJob(node)) != null) {
+                        break;
+                    }
+                    long wait = lastSent + GradingProtocol.HEARTBEAT_INTERVAL_MS - System.currentTimeMillis();
+                    if (wait <= 0) {
+                        break;
+                    }
+                    changed.await(wait, TimeUnit.MILLISECONDS);
+                }
+                if (!node.alive || closed) {
+                    return;
+                }
+                if (job != null) {
+                    job.attempts++;
+                    job.sentAt = System.currentTimeMillis();
+                    node.inFlight.put(job.id, job);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                if (job != null) {
+                    node.out.writeByte(GradingProtocol.FRAME_JOB);
+                    node.out.writeLong(job.id);
+                    node.out.writeInt(job.proyekId);
+                    GradingProtocol.writeString(node.out, job.code);
+                    GradingProtocol.writeTestCases(node.out, job.testCases);
+                    GradingProtocol.writeRubrik(node.out, job.rubrik);
+                } else {
+                    node.out.writeByte(GradingProtocol.FRAME_HEARTBEAT);
+                }
+                node.out.flush();
+                lastSent = System.currentTimeMillis();
+            } catch (IOException e) {
+                disconnect(node, "gagal mengirim: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Job berikutnya untuk node: antrean sendiri, antrean umum, lalu curi
+     * dari node tersibuk. Job yang sudah selesai (hasil dari node lain) dilewati.
+     * Harus dipanggil dengan lock
+     */
+    private Job nextJob(Node node) {
+        while (true) {
+            Job job = node.queue.pollFirst();
+            if (job == null) {
+                job = pending.pollFirst();
+            }
+            if (job == null) {
+                job = steal(node);
+            }
+            if (job == null) {
+                return null;
+            }
+            job.queued = false;
+            if (!job.future.isDone()) {
+                return job;
+            }
+        }
+    }
+
+    private Job steal(Node thief) {
+        Node victim = null;
+        for (Node node : nodes) {
+            if (node != thief && !node.queue.isEmpty() && (victim == null || node.queue.size() > victim.queue.size())) {
+                victim = node;
+            }
+        }
+        return victim != null ? victim.queue.pollLast() : null;
+    }
+
+    /**
+     * Baca RESULT / FAILED / HEARTBEAT dari node sampai koneksi putus
+     */
+    private void readLoop(Node node) {
+        try {
+            while (true) {
+                byte frame = node.in.readByte();
+                node.lastSeen = System.currentTimeMillis();
+                if (frame == GradingProtocol.FRAME_RESULT) {
+                    long jobId = node.in.readLong();
+                    complete(node, jobId, GradingProtocol.readLaporan(node.in));
+                } else if (frame == GradingProtocol.FRAME_FAILED) {
+                    long jobId = node.in.readLong();
+                    failed(node, jobId, GradingProtocol.readString(node.in));
+                } else if (frame != GradingProtocol.FRAME_HEARTBEAT) {
+                    throw new IOException("Frame tidak dikenal: " + frame);
+                }
+            }
+        } catch (IOException e) {
+            disconnect(node, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private void complete(Node node, long jobId, LaporanPenilaian laporan) {
+        Job job;
+        lock.lock();
+        try {
+            job = node.inFlight.remove(jobId);
+            node.timedOut.remove(jobId);
+            if (job != null && laporan.getProyekId() != job.proyekId) {
+                // Laporan untuk submission lain (node salah): jangan disimpan sebagai hasil job ini
+                System.err.println("WARNING: Node " + node.name + " mengirim laporan proyek " + laporan.getProyekId()
+                        + " untuk job " + jobId + " (proyek " + job.proyekId + "), hasil ditolak");
+                retry(job, "node " + node.name + ": laporan untuk proyek lain");
+                changed.signalAll();
+                return;
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        // Hasil pertama yang dipakai; job yang dikirim ulang bisa selesai lagi di node lain
+        if (job == null || !job.future.complete(laporan)) {
+            duplicates.incrementAndGet();
+        }
+    }
+
+    private void failed(Node node, long jobId, String pesan) {
+        System.err.println("WARNING: Node " + node.name + " gagal menilai job " + jobId + ": " + pesan);
+        lock.lock();
+        try {
+            Job job = node.inFlight.remove(jobId);
+            node.timedOut.remove(jobId);
+            if (job != null) {
+                retry(job, "node " + node.name + ": " + pesan);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Kembalikan job ke depan antrean umum, atau gagalkan jika percobaan habis
+     * Harus dipanggil dengan lock
+     */
+    private void retry(Job job, String alasan) {
+        if (job.future.isDone() || job.queued) {
+            return;
+        }
+        if (job.attempts >= MAX_ATTEMPTS) {
+            job.future.completeExceptionally(new IllegalStateException(
+                    "Penilaian gagal setelah " + job.attempts + " percobaan (" + alasan + ")"));
+            return;
+        }
+        job.queued = true;
+        pending.addFirst(job);
+    }
+
+    private void disconnect(Node node, String alasan) {
+        lock.lock();
+        try {
+            if (!node.alive) {
+                return;
+            }
+            node.alive = false;
+            nodes.remove(node);
+            if (nodes.isEmpty()) {
+                noNodeSince = System.currentTimeMillis();
+            }
+            for (Job job : node.inFlight.values()) {
+                retry(job, "node " + node.name + " terputus");
+            }
+            node.inFlight.clear();
+            node.timedOut.clear();
+            for (Job job : node.queue) {
+                job.queued = false;
+                if (!job.future.isDone()) {
+                    job.queued = true;
+                    pending.addLast(job);
+                }
+            }
+            node.queue.clear();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        closeQuietly(node.socket);
+        if (!closed) {
+            System.err.println("WARNING: Node penilai " + node.name + " terputus: " + alasan);
+        }
+    }
+
+    /**
+     * Setiap detik: putuskan node tanpa heartbeat, kirim ulang job yang
+     * melewati batas waktu, lepas slot job yang macet lebih dari
+     * TIMEOUT_GRACE_MS, dan gagalkan job jika lama tidak ada node sama sekali
+     */
+    private void reap() {
+        long now = System.currentTimeMillis();
+        List<Node> silent = new ArrayList<>();
+        List<Job> abandoned = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Node node : nodes) {
+                if (now - node.lastSeen > GradingProtocol.HEARTBEAT_TIMEOUT_MS) {
+                    silent.add(node);
+                    continue;
+                }
+                for (Job job : node.inFlight.values()) {
+                    if (!node.timedOut.containsKey(job.id) && !job.future.isDone() && !job.queued
+                            && now - job.sentAt > job.timeoutMillis) {
+                        // Tetap tercatat di node ini selama grace period, hasil mana pun yang lebih dulu dipakai
+                        node.timedOut.put(job.id, now);
+                        retry(job, "melewati batas waktu " + job.timeoutMillis + " ms di " + node.name);
+                        changed.signalAll();
+                    }
+                }
+                node.timedOut.entrySet().removeIf(entry -> {
+                    if (now - entry.getValue() <= TIMEOUT_GRACE_MS) {
+                        return false;
+                    }
+                    node.inFlight.remove(entry.getKey());
+                    System.err.println("WARNING: Job " + entry.getKey() + " dilepas dari node " + node.name
+                            + " (tidak selesai " + TIMEOUT_GRACE_MS + " ms setelah batas waktu)");
+                    changed.signalAll();
+                    return true;
+                });
+            }
+            if (nodes.isEmpty() && !pending.isEmpty()
+                    && now - noNodeSince > GradingProtocol.HEARTBEAT_TIMEOUT_MS) {
+                abandoned.addAll(pending);
+                pending.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Node node : silent) {
+            disconnect(node, "tidak ada heartbeat selama " + GradingProtocol.HEARTBEAT_TIMEOUT_MS + " ms");
+        }
+        for (Job job : abandoned) {
+            job.future.completeExceptionally(new IllegalStateException("Tidak ada node penilai yang terhubung"));
+        }
+    }
+
+    // ==================== NODE LOKAL ====================
+
+    /**
+     * Jalankan GradingNode di komputer ini (berhenti saat koneksi putus)
+     */
+    private void startLocalNode() {
+        Path classPath;
+        try {
+            classPath = Paths.get(GradingNode.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException | RuntimeException e) {
+            System.err.println("ERROR: Lokasi class node tidak diketahui: " + e.getMessage());
+            return;
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Djava.awt.headless=true");
+        command.add("-Dfile.encoding=UTF-8");
+        command.add("-Dgoop.grading.node.once=true");
+        command.add("-Dgoop.grading.token=" + token);
+        command.add("-Duser.home=" + System.getProperty("user.home"));
+        for (String name : new String[]{"goop.data.dir", "goop.runner.workers", "goop.runner.heapMb",
+                "goop.cache.memoryMb", "goop.cache.diskMb"}) {
+            String value = System.getProperty(name);
+            if (value != null) {
+                command.add("-D" + name + "=" + value);
+            }
+        }
+        command.add("-cp");
+        command.add(classPath.toString());
+        command.add(GradingNode.class.getName());
+        command.add("127.0.0.1");
+        command.add(String.valueOf(server.getLocalPort()));
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.INHERIT).start();
+            synchronized (localNodes) {
+                localNodes.add(process);
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR: Node lokal tidak bisa dijalankan: " + e.getMessage());
+        }
+    }
+
+    private void shutdown() {
+        List<Node> connected;
+        List<Job> remaining = new ArrayList<>();
+        lock.lock();
+        try {
+            closed = true;
+            connected = new ArrayList<>(nodes);
+            remaining.addAll(pending);
+            pending.clear();
+            for (Node node : nodes) {
+                remaining.addAll(node.queue);
+                remaining.addAll(node.inFlight.values());
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        reaper.shutdownNow();
+        try {
+            server.close();
+        } catch (IOException e) {
+            // Sudah tertutup
+        }
+        for (Node node : connected) {
+            disconnect(node, "coordinator berhenti");
+        }
+        for (Job job : remaining) {
+            job.future.completeExceptionally(new IllegalStateException("Coordinator penilaian sudah berhenti"));
+        }
+        synchronized (localNodes) {
+            for (Process process : localNodes) {
+                process.destroy();
+            }
+            localNodes.clear();
+        }
+    }
+
+    private void startThread(String prefix, Runnable task) {
+        Thread thread = new Thread(task, prefix + "-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Sudah tertutup
+        }
+    }
+}
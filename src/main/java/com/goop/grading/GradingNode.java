@@ -0,0 +1,186 @@
+package com.goop.grading;
+
+import com.goop.compiler.CompilerService;
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.TestCase;
+import com.goop.runner.RunnerPool;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class GradingNode - Proses penilai yang menerima job dari GradingCoordinator
+ *
+ * Dijalankan di komputer lab lain (atau beberapa kali di 1 komputer):
+ *   java -cp goop.jar com.goop.grading.GradingNode host [port] [slot]
+ * Tanpa JavaFX dan tanpa database; job berisi code dan test case, hasilnya
+ * laporan penilaian. Penilaian memakai Grader lokal (CompilerService +
+ * RunnerPool), jadi setiap node menjalankan worker JVM sendiri.
+ *
+ * - slot: jumlah job yang dinilai bersamaan (default jumlah worker runner)
+ * - -Dgoop.grading.token=...  harus sama dengan token coordinator
+ * - -Dgoop.grading.node.once=true  berhenti saat koneksi putus (dipakai
+ *   untuk node lokal yang dijalankan coordinator); tanpa ini node mencoba
+ *   terhubung ulang setiap 2 detik
+ *
+ * Koneksi dianggap putus jika coordinator tidak mengirim apa pun
+ * (termasuk heartbeat) selama HEARTBEAT_TIMEOUT_MS.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class GradingNode {
+
+    static final int DEFAULT_PORT = 7070;
+
+    private final String host;
+    private final int port;
+    private final int slots;
+    private final String token;
+    private final String name;
+
+    private GradingNode(String host, int port, int slots) {
+        this.host = host;
+        this.port = port;
+        this.slots = slots;
+        this.token = System.getProperty("goop.grading.token", "");
+        this.name = hostName() + "/" + ProcessHandle.current().pid();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : Integer.getInteger("goop.grading.port", DEFAULT_PORT);
+
+        // Siapkan compiler dan worker JVM sebelum menerima job
+        RunnerPool runner = RunnerPool.getInstance();
+        CompilerService.getInstance().warmUp();
+        int slots = args.length > 2 ? Integer.parseInt(args[2]) : runner.getWorkerCount();
+
+        GradingNode node = new GradingNode(host, port, Math.max(1, slots));
+        boolean once = Boolean.getBoolean("goop.grading.node.once");
+        while (true) {
+            try {
+                node.serve();
+            } catch (IOException e) {
+                System.err.println("WARNING: Koneksi ke coordinator " + host + ":" + port + " putus: "
+                        + e.getMessage());
+            }
+            if (once) {
+                break;
+            }
+            Thread.sleep(GradingProtocol.HEARTBEAT_INTERVAL_MS);
+        }
+        RunnerPool.shutdownIfStarted();
+        System.exit(0);
+    }
+
+    /**
+     * 1 koneksi ke coordinator: kirim HELLO, lalu terima job sampai koneksi putus
+     */
+    private void serve() throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), (int) GradingProtocol.HEARTBEAT_TIMEOUT_MS);
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout((int) GradingProtocol.HEARTBEAT_TIMEOUT_MS);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 65536));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 65536));
+
+            synchronized (out) {
+                out.writeByte(GradingProtocol.FRAME_HELLO);
+                out.writeInt(GradingProtocol.VERSION);
+                GradingProtocol.writeString(out, token);
+                out.writeInt(slots);
+                GradingProtocol.writeString(out, name);
+                out.flush();
+            }
+            byte reply = in.readByte();
+            if (reply == GradingProtocol.FRAME_REJECT) {
+                System.err.println("ERROR: Ditolak coordinator: " + GradingProtocol.readString(in));
+                // Token atau versi salah tidak akan berubah dengan mencoba ulang
+                System.exit(1);
+            }
+            if (reply != GradingProtocol.FRAME_WELCOME) {
+                throw new IOException("Balasan coordinator tidak dikenal: " + reply);
+            }
+            System.out.println("✓ Node " + name + " terhubung ke " + host + ":" + port + " (" + slots + " slot)");
+
+            ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "goop-node-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+            heartbeat.scheduleAtFixedRate(() -> send(socket, out, GradingProtocol.FRAME_HEARTBEAT, 0, null, null),
+                    GradingProtocol.HEARTBEAT_INTERVAL_MS, GradingProtocol.HEARTBEAT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            try {
+                while (true) {
+                    byte frame = in.readByte();
+                    if (frame == GradingProtocol.FRAME_JOB) {
+                        long jobId = in.readLong();
+                        int proyekId = in.readInt();
+                        String code = GradingProtocol.readString(in);
+                        List<TestCase> testCases = GradingProtocol.readTestCases(in);
+                        List<KriteriaRubrik> rubrik = GradingProtocol.readRubrik(in);
+                        Grader.getInstance().grade(proyekId, code, testCases, rubrik).whenComplete((laporan, error) -> {
+                            if (error != null) {
+                                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                                send(socket, out, GradingProtocol.FRAME_FAILED, jobId, null, String.valueOf(cause));
+                            } else {
+                                send(socket, out, GradingProtocol.FRAME_RESULT, jobId, laporan, null);
+                            }
+                        });
+                    } else if (frame != GradingProtocol.FRAME_HEARTBEAT) {
+                        throw new IOException("Frame tidak dikenal: " + frame);
+                    }
+                }
+            } finally {
+                heartbeat.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Kirim 1 frame (dari thread Grader atau heartbeat); gagal kirim menutup koneksi
+     */
+    private static void send(Socket socket, DataOutputStream out, byte frame, long jobId, LaporanPenilaian laporan,
+            String pesan) {
+        try {
+            synchronized (out) {
+                out.writeByte(frame);
+                if (frame == GradingProtocol.FRAME_RESULT) {
+                    out.writeLong(jobId);
+                    GradingProtocol.writeLaporan(out, laporan);
+                } else if (frame == GradingProtocol.FRAME_FAILED) {
+                    out.writeLong(jobId);
+                    GradingProtocol.writeString(out, pesan);
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Loop baca di serve() ikut berhenti setelah socket ditutup
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // Sudah tertutup
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.goop.grading;
+
+import com.goop.models.HasilTestCase;
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.TestCase;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class GradingProtocol - Protokol socket antara GradingCoordinator dan GradingNode
+ *
+ * Setiap frame diawali 1 byte jenis. String ditulis sebagai int panjang
+ * (-1 = null) + byte UTF-8, karena code dan output bisa melebihi batas
+ * writeUTF (64 KB).
+ *
+ * Node -> coordinator:
+ *   FRAME_HELLO     int versi, string token, int slot, string nama node
+ *   FRAME_RESULT    long jobId, laporan
+ *   FRAME_FAILED    long jobId, string pesan (node tidak bisa menilai)
+ *   FRAME_HEARTBEAT
+ *
+ * Coordinator -> node:
+ *   FRAME_WELCOME   (setelah HELLO diterima)
+ *   FRAME_REJECT    string alasan, lalu koneksi ditutup
+ *   FRAME_JOB       long jobId, int proyekId, string code, test case, rubrik
+ *   FRAME_HEARTBEAT
+ *
+ * Node tidak pernah menerima lebih dari "slot" job yang belum selesai.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class GradingProtocol {
+
+    static final int VERSION = 2;
+
+    static final byte FRAME_HELLO = 1;
+    static final byte FRAME_WELCOME = 2;
+    static final byte FRAME_REJECT = 3;
+    static final byte FRAME_JOB = 4;
+    static final byte FRAME_RESULT = 5;
+    static final byte FRAME_FAILED = 6;
+    static final byte FRAME_HEARTBEAT = 7;
+
+    /**
+     * Interval heartbeat kedua arah, dan batas diam sebelum koneksi dianggap mati
+     */
+    static final long HEARTBEAT_INTERVAL_MS = 2000;
+    static final long HEARTBEAT_TIMEOUT_MS = 10_000;
+
+    /**
+     * Batas panjang 1 string, agar frame rusak tidak membuat OutOfMemoryError
+     */
+    private static final int MAX_STRING_BYTES = 64 * 1024 * 1024;
+
+    private GradingProtocol() {
+    }
+
+    static void writeTestCases(DataOutput out, List<TestCase> testCases) throws IOException {
+        out.writeInt(testCases.size());
+        for (TestCase testCase : testCases) {
+            out.writeInt(testCase.getUrutan());
+            writeString(out, testCase.getNama());
+            writeString(out, testCase.getInput());
+            writeString(out, testCase.getExpectedOutput());
+            writeString(out, testCase.getKodeCek());
+            out.writeInt(testCase.getBobot());
+            out.writeInt(testCase.getTimeoutMs());
+        }
+    }
+
+    static List<TestCase> readTestCases(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<TestCase> testCases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int urutan = in.readInt();
+            String nama = readString(in);
+            String input = readString(in);
+            String expectedOutput = readString(in);
+            String kodeCek = readString(in);
+            int bobot = in.readInt();
+            int timeoutMs = in.readInt();
+            testCases.add(new TestCase(urutan, nama, input, expectedOutput, kodeCek, bobot, timeoutMs));
+        }
+        return testCases;
+    }
+
+    static void writeRubrik(DataOutput out, List<KriteriaRubrik> rubrik) throws IOException {
+        out.writeInt(rubrik.size());
+        for (KriteriaRubrik kriteria : rubrik) {
+            out.writeInt(kriteria.getUrutan());
+            writeString(out, kriteria.getJenis());
+            out.writeInt(kriteria.getMinimal());
+            out.writeInt(kriteria.getBobot());
+        }
+    }
+
+    static List<KriteriaRubrik> readRubrik(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<KriteriaRubrik> rubrik = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int urutan = in.readInt();
+            String jenis = readString(in);
+            int minimal = in.readInt();
+            int bobot = in.readInt();
+            rubrik.add(new KriteriaRubrik(urutan, jenis, minimal, bobot));
+        }
+        return rubrik;
+    }
+
+    static void writeLaporan(DataOutput out, LaporanPenilaian laporan) throws IOException {
+        out.writeInt(laporan.getProyekId());
+        out.writeLong(laporan.getWaktu() != null ? laporan.getWaktu().toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE);
+        out.writeDouble(laporan.getSkor());
+        out.writeBoolean(laporan.isCompileBerhasil());
+        writeString(out, laporan.getPesan());
+        out.writeInt(laporan.getHasil().size());
+        for (HasilTestCase hasil : laporan.getHasil()) {
+            out.writeInt(hasil.getUrutan());
+            writeString(out, hasil.getNama());
+            writeString(out, hasil.getStatus());
+            writeString(out, hasil.getPesan());
+            writeString(out, hasil.getOutput());
+            out.writeLong(hasil.getDurasiMillis());
+            out.writeInt(hasil.getBobot());
+        }
+    }
+
+    static LaporanPenilaian readLaporan(DataInput in) throws IOException {
+        int proyekId = in.readInt();
+        long epochSecond = in.readLong();
+        LocalDateTime waktu = epochSecond == Long.MIN_VALUE ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+        double skor = in.readDouble();
+        boolean compileBerhasil = in.readBoolean();
+        String pesan = readString(in);
+        int count = in.readInt();
+        List<HasilTestCase> hasil = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int urutan = in.readInt();
+            String nama = readString(in);
+            String status = readString(in);
+            String pesanHasil = readString(in);
+            String output = readString(in);
+            long durasiMillis = in.readLong();
+            int bobot = in.readInt();
+            hasil.add(new HasilTestCase(urutan, nama, status, pesanHasil, output, durasiMillis, bobot));
+        }
+        return new LaporanPenilaian(proyekId, waktu, skor, compileBerhasil, pesan, hasil);
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException("Frame tidak valid: string " + length + " byte");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+package com.goop.grading;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class OutputMatcher - Membandingkan output program dengan output yang diharapkan
+ *
+ * Perbedaan yang diabaikan: akhir baris Windows (\r\n), spasi di akhir
+ * baris, dan baris kosong di akhir output.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class OutputMatcher {
+
+    private static final int MAX_PREVIEW = 60;
+
+    private OutputMatcher() {
+    }
+
+    /**
+     * @return null jika output sama, atau keterangan baris pertama yang berbeda
+     */
+    static String compare(String expected, String actual) {
+        List<String> expectedLines = lines(expected);
+        List<String> actualLines = lines(actual);
+        int common = Math.min(expectedLines.size(), actualLines.size());
+        for (int i = 0; i < common; i++) {
+            if (!expectedLines.get(i).equals(actualLines.get(i))) {
+                return "Baris " + (i + 1) + ": diharapkan \"" + preview(expectedLines.get(i))
+                        + "\", output \"" + preview(actualLines.get(i)) + "\"";
+            }
+        }
+        if (expectedLines.size() > common) {
+            return "Output kurang, baris " + (common + 1) + " diharapkan \""
+                    + preview(expectedLines.get(common)) + "\"";
+        }
+        if (actualLines.size() > common) {
+            return "Output berlebih mulai baris " + (common + 1) + ": \"" + preview(actualLines.get(common)) + "\"";
+        }
+        return null;
+    }
+
+    private static List<String> lines(String text) {
+        List<String> lines = new ArrayList<>();
+        for (String line : text.replace("\r\n", "\n").replace('\r', '\n').split("\n", -1)) {
+            lines.add(line.stripTrailing());
+        }
+        while (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+            lines.remove(lines.size() - 1);
+        }
+        return lines;
+    }
+
+    private static String preview(String line) {
+        return line.length() > MAX_PREVIEW ? line.substring(0, MAX_PREVIEW) + "..." : line;
+    }
+}
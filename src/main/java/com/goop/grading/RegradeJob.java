@@ -0,0 +1,297 @@
+package com.goop.grading;
+
+import com.goop.data.KodeRepository;
+import com.goop.data.PenilaianRepository;
+import com.goop.data.ProyekRepository;
+import com.goop.data.Repositories;
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.Proyek;
+import com.goop.models.TestCase;
+import com.goop.runner.RunnerPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Class RegradeJob - Penilaian ulang semua submission proyek sekaligus
+ *
+ * Dipakai Guru setelah test case, rubrik atau cara penilaian berubah,
+ * agar siswa tidak perlu submit ulang satu per satu.
+ *
+ * Konsep yang diterapkan:
+ * - Fork-join: daftar submission dibagi dua secara rekursif, setiap
+ *   submission dinilai oleh Grader di ForkJoinPool sendiri. Paralelisme
+ *   default = jumlah worker RunnerPool (setiap submission memakai minimal
+ *   1 worker), bisa diatur dengan -Dgoop.regrade.parallelism=N.
+ *   Thread yang menunggu Grader tidak diganti thread baru (pool tidak
+ *   tumbuh melewati paralelisme), jadi antrean RunnerPool tetap pendek dan
+ *   pembatalan cepat berlaku.
+ * - Jika GradingCoordinator aktif dan ada node terhubung, submission
+ *   dinilai di node (paralelisme = total slot node), bukan di komputer ini
+ * - Progress dilaporkan lewat ProgressListener setiap 1 submission selesai
+ * - cancel(): submission yang belum mulai dilewati, yang sedang dinilai
+ *   dibiarkan selesai
+ * - Semua skor dan laporan disimpan dengan 1 update di akhir
+ *   (PenilaianRepository.savePenilaianUlang), termasuk saat dibatalkan
+ *   (hasil yang sudah selesai tetap disimpan)
+ * - Setiap laporan membawa hash code yang dinilai; submission yang
+ *   di-submit ulang siswa selama penilaian ulang dilewati saat disimpan
+ *   (laporan submission baru tidak ditimpa)
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class RegradeJob {
+
+    /**
+     * Dipanggil dari thread job (bukan FX thread)
+     */
+    public interface ProgressListener {
+        void onProgress(int selesai, int total);
+    }
+
+    /**
+     * Ringkasan 1 kali penilaian ulang
+     */
+    public static final class Hasil {
+        private final int total;
+        private final int dinilai;
+        private final int gagal;
+        private final int dilewati;
+        private final boolean dibatalkan;
+        private final long durasiMillis;
+
+        Hasil(int total, int dinilai, int gagal, int dilewati, boolean dibatalkan, long durasiMillis) {
+            this.total = total;
+            this.dinilai = dinilai;
+            this.gagal = gagal;
+            this.dilewati = dilewati;
+            this.dibatalkan = dibatalkan;
+            this.durasiMillis = durasiMillis;
+        }
+
+        /**
+         * @return Jumlah submission yang dipilih
+         */
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * @return Jumlah submission yang dinilai ulang dan disimpan
+         */
+        public int getDinilai() {
+            return dinilai;
+        }
+
+        /**
+         * @return Jumlah submission yang tidak bisa dinilai (skor lama tetap)
+         */
+        public int getGagal() {
+            return gagal;
+        }
+
+        /**
+         * @return Jumlah submission yang sudah dinilai tetapi tidak disimpan
+         *         karena siswa submit ulang selama penilaian ulang
+         */
+        public int getDilewati() {
+            return dilewati;
+        }
+
+        public boolean isDibatalkan() {
+            return dibatalkan;
+        }
+
+        public long getDurasiMillis() {
+            return durasiMillis;
+        }
+
+        /**
+         * @return Submission per detik
+         */
+        public double getThroughput() {
+            return durasiMillis == 0 ? dinilai : dinilai * 1000.0 / durasiMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d dari %d submission dinilai ulang%s%s%s dalam %.1f detik (%.1f submission/detik)",
+                    dinilai, total, gagal > 0 ? ", " + gagal + " gagal" : "",
+                    dilewati > 0 ? ", " + dilewati + " dilewati (di-submit ulang)" : "",
+                    dibatalkan ? " (dibatalkan)" : "", durasiMillis / 1000.0, getThroughput());
+        }
+    }
+
+    private final List<Proyek> submissions;
+    private final ProgressListener listener;
+    private final KodeRepository kodeRepository = Repositories.kode();
+    private final PenilaianRepository penilaianRepository = Repositories.penilaian();
+    private final Grader grader = Grader.getInstance();
+
+    private final LaporanPenilaian[] laporan;
+    private final AtomicInteger selesai = new AtomicInteger();
+    private final AtomicInteger gagal = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    private GradingCoordinator coordinator;
+    private ForkJoinPool pool;
+    private CompletableFuture<Hasil> result;
+
+    private RegradeJob(List<Proyek> submissions, ProgressListener listener) {
+        this.submissions = submissions;
+        this.listener = listener;
+        this.laporan = new LaporanPenilaian[submissions.size()];
+    }
+
+    /**
+     * Mulai menilai ulang semua proyek yang sudah di-submit (status SELESAI
+     * atau TERVALIDASI) dan lolos filter
+     *
+     * @param filter   Pilihan proyek, null = semua submission
+     * @param listener Progress (boleh null)
+     * @throws IllegalStateException jika worker runner tidak bisa dijalankan
+     */
+    public static RegradeJob start(Predicate<Proyek> filter, ProgressListener listener) {
+        ProyekRepository proyekRepository = Repositories.proyek();
+        List<Proyek> submissions = new ArrayList<>();
+        proyekRepository.forEachProyek(proyek -> {
+            boolean submitted = Proyek.STATUS_SELESAI.equals(proyek.getStatus())
+                    || Proyek.STATUS_TERVALIDASI.equals(proyek.getStatus());
+            if (submitted && (filter == null || filter.test(proyek))) {
+                submissions.add(proyek);
+            }
+        });
+
+        RegradeJob job = new RegradeJob(submissions, listener);
+        GradingCoordinator coordinator = GradingCoordinator.getIfConfigured();
+        int remoteSlots = coordinator != null ? coordinator.getSlotCount() : 0;
+        if (remoteSlots > 0) {
+            job.coordinator = coordinator;
+            job.begin(remoteSlots);
+        } else {
+            if (coordinator != null) {
+                System.err.println("WARNING: Belum ada node penilai terhubung, penilaian ulang dijalankan lokal");
+            }
+            job.begin(RunnerPool.getInstance().getWorkerCount());
+        }
+        return job;
+    }
+
+    private void begin(int slots) {
+        int parallelism = Math.max(1, Integer.getInteger("goop.regrade.parallelism", slots));
+        // Saturate = true: thread yang menunggu Grader tidak diganti thread kompensasi
+        pool = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false,
+                0, parallelism, 1, p -> true, 30, TimeUnit.SECONDS);
+        long start = System.nanoTime();
+        result = CompletableFuture.supplyAsync(() -> {
+            if (!submissions.isEmpty()) {
+                new RegradeTask(0, submissions.size()).invoke();
+            }
+            return save((System.nanoTime() - start) / 1_000_000);
+        }, pool);
+        result.whenComplete((hasil, error) -> pool.shutdown());
+    }
+
+    /**
+     * @return Future ringkasan, selesai setelah hasil disimpan
+     */
+    public CompletableFuture<Hasil> getResult() {
+        return result;
+    }
+
+    /**
+     * @return Jumlah submission yang dipilih
+     */
+    public int getTotal() {
+        return submissions.size();
+    }
+
+    /**
+     * Hentikan penilaian: submission yang belum mulai dilewati
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Menilai submission [from, to)
+     */
+    private final class RegradeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        RegradeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled) {
+                return;
+            }
+            if (to - from == 1) {
+                regrade(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RegradeTask(from, mid), new RegradeTask(mid, to));
+        }
+    }
+
+    private void regrade(int index) {
+        Proyek proyek = submissions.get(index);
+        try {
+            String code = kodeRepository.getProyekCode(proyek.getId());
+            if (code == null || code.trim().isEmpty()) {
+                System.err.println("WARNING: Proyek " + proyek.getId() + " tidak punya code, tidak dinilai ulang");
+                gagal.incrementAndGet();
+            } else {
+                List<TestCase> testCases = penilaianRepository.getTestCases(proyek.getId());
+                List<KriteriaRubrik> rubrik = penilaianRepository.getRubrik(proyek.getId());
+                LaporanPenilaian graded = (coordinator != null
+                        ? coordinator.submit(proyek.getId(), code.trim(), testCases, rubrik)
+                        : grader.grade(proyek.getId(), code.trim(), testCases, rubrik)).join();
+                // Hash code asli (bukan hasil trim) agar bisa dibandingkan dengan code tersimpan
+                laporan[index] = graded.withKodeHash(LaporanPenilaian.hashKode(code));
+            }
+        } catch (CompletionException | IllegalStateException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            System.err.println("WARNING: Penilaian ulang proyek " + proyek.getId() + " gagal: " + cause.getMessage());
+            gagal.incrementAndGet();
+        }
+        if (listener != null) {
+            listener.onProgress(selesai.incrementAndGet(), submissions.size());
+        }
+    }
+
+    /**
+     * Simpan semua laporan yang sudah selesai dengan 1 update
+     */
+    private Hasil save(long durasiMillis) {
+        List<LaporanPenilaian> selesaiDinilai = new ArrayList<>(laporan.length);
+        for (LaporanPenilaian item : laporan) {
+            if (item != null) {
+                selesaiDinilai.add(item);
+            }
+        }
+        int disimpan = penilaianRepository.savePenilaianUlang(selesaiDinilai);
+        return new Hasil(submissions.size(), disimpan, gagal.get(), selesaiDinilai.size() - disimpan, cancelled,
+                durasiMillis);
+    }
+}
@@ -0,0 +1,265 @@
+package com.goop.grading;
+
+import com.goop.models.HasilTestCase;
+import com.goop.models.KriteriaRubrik;
+import com.sun.source.tree.Tree;
+
+import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Class RubrikEngine - Penilaian struktur kode dengan kriteria rubrik
+ *
+ * Guru memilih kriteria rubrik per proyek (jenis + jumlah minimal + bobot,
+ * lihat KriteriaRubrik). Saat dinilai, kode siswa di-parse SEKALI menjadi
+ * StrukturKode, lalu setiap kriteria diperiksa oleh AturanRubrik sesuai
+ * jenisnya. Hasilnya menjadi baris laporan penilaian seperti test case,
+ * sehingga ikut menentukan skor sesuai bobotnya.
+ *
+ * Konsep yang diterapkan:
+ * - Registry: jenis -> AturanRubrik. Jenis bawaan didaftarkan di sini;
+ *   aturan baru cukup didaftarkan dengan register(), tanpa mengubah
+ *   Grader atau penyimpanan
+ * - Aturan bawaan hanya menghitung dari StrukturKode, jadi biaya
+ *   bertambah sedikit per kriteria; biaya utama adalah 1 kali parse
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class RubrikEngine {
+
+    /**
+     * Nama yang ditampilkan di keterangan hasil
+     */
+    private static final int MAX_NAMA_DITAMPILKAN = 5;
+
+    private static final Map<String, AturanRubrik> ATURAN = new LinkedHashMap<>();
+
+    static {
+        register(KriteriaRubrik.JENIS_JUMLAH_CLASS, new Hitung("Minimal %d class", "class", struktur -> {
+            List<String> found = new ArrayList<>();
+            for (StrukturKode.Kelas kelas : struktur.getKelas()) {
+                found.add(kelas.getNama());
+            }
+            return found;
+        }));
+        register(KriteriaRubrik.JENIS_JUMLAH_METHOD, new Hitung("Minimal %d method", "method", struktur -> {
+            List<String> found = new ArrayList<>();
+            for (StrukturKode.Kelas kelas : struktur.getKelas()) {
+                for (StrukturKode.Anggota method : kelas.getMethod()) {
+                    if (!method.isConstructor()) {
+                        found.add(kelas.getNama() + "." + method.getNama() + "()");
+                    }
+                }
+            }
+            return found;
+        }));
+        register(KriteriaRubrik.JENIS_MODIFIER_AKSES, new Hitung("Minimal %d field/method private atau protected",
+                "field/method private atau protected", struktur -> {
+                    List<String> found = new ArrayList<>();
+                    for (StrukturKode.Kelas kelas : struktur.getKelas()) {
+                        for (StrukturKode.Anggota anggota : anggota(kelas)) {
+                            if (anggota.isPrivate() || anggota.getModifier().contains(Modifier.PROTECTED)) {
+                                found.add(kelas.getNama() + "." + anggota.getNama());
+                            }
+                        }
+                    }
+                    return found;
+                }));
+        register(KriteriaRubrik.JENIS_ENKAPSULASI, new Enkapsulasi());
+        register(KriteriaRubrik.JENIS_PEWARISAN, new Hitung("Minimal %d class turunan (extends)", "class turunan",
+                struktur -> {
+                    List<String> found = new ArrayList<>();
+                    for (StrukturKode.Kelas kelas : struktur.getKelas()) {
+                        if (kelas.getSuperclass() != null) {
+                            found.add(kelas.getNama() + " extends " + kelas.getSuperclass());
+                        }
+                    }
+                    return found;
+                }));
+        register(KriteriaRubrik.JENIS_OVERRIDE, new Hitung("Minimal %d method @Override", "method @Override",
+                struktur -> {
+                    List<String> found = new ArrayList<>();
+                    for (StrukturKode.Kelas kelas : struktur.getKelas()) {
+                        for (StrukturKode.Anggota method : kelas.getMethod()) {
+                            if (method.isOverride()) {
+                                found.add(kelas.getNama() + "." + method.getNama() + "()");
+                            }
+                        }
+                    }
+                    return found;
+                }));
+        register(KriteriaRubrik.JENIS_ABSTRAKSI, new Hitung("Minimal %d interface atau abstract class",
+                "interface/abstract class", struktur -> {
+                    List<String> found = new ArrayList<>();
+                    for (StrukturKode.Kelas kelas : struktur.getKelas()) {
+                        if (kelas.isInterface() || kelas.isAbstract()) {
+                            found.add(kelas.getNama());
+                        }
+                    }
+                    return found;
+                }));
+    }
+
+    private RubrikEngine() {
+    }
+
+    /**
+     * Daftarkan (atau ganti) aturan untuk 1 jenis kriteria
+     */
+    public static synchronized void register(String jenis, AturanRubrik aturan) {
+        ATURAN.put(jenis, aturan);
+    }
+
+    /**
+     * @return Semua jenis kriteria yang bisa dipilih Guru, urut sesuai pendaftaran
+     */
+    public static synchronized List<String> getJenis() {
+        return new ArrayList<>(ATURAN.keySet());
+    }
+
+    /**
+     * @return Deskripsi kriteria, misal "Minimal 2 class"
+     */
+    public static String deskripsi(KriteriaRubrik kriteria) {
+        AturanRubrik aturan = aturan(kriteria.getJenis());
+        return aturan != null ? aturan.deskripsi(kriteria.getMinimal()) : kriteria.getJenis();
+    }
+
+    /**
+     * Periksa semua kriteria dengan 1 kali parse
+     *
+     * @param urutanAwal Urutan hasil pertama dikurangi 1 (jumlah test case sebelum rubrik)
+     * @return 1 hasil per kriteria, kosong jika rubrik kosong
+     */
+    public static List<HasilTestCase> evaluate(String code, List<KriteriaRubrik> rubrik, int urutanAwal) {
+        List<HasilTestCase> hasil = new ArrayList<>(rubrik.size());
+        if (rubrik.isEmpty()) {
+            return hasil;
+        }
+
+        long start = System.nanoTime();
+        StrukturKode struktur;
+        try {
+            struktur = StrukturKode.parse(code);
+        } catch (IllegalStateException e) {
+            System.err.println("ERROR: " + e.getMessage());
+            for (int i = 0; i < rubrik.size(); i++) {
+                KriteriaRubrik kriteria = rubrik.get(i);
+                hasil.add(new HasilTestCase(urutanAwal + i + 1, "Rubrik: " + deskripsi(kriteria),
+                        HasilTestCase.STATUS_ERROR, e.getMessage(), "", 0, kriteria.getBobot()));
+            }
+            return hasil;
+        }
+        long durasiMillis = (System.nanoTime() - start) / 1_000_000;
+
+        for (int i = 0; i < rubrik.size(); i++) {
+            KriteriaRubrik kriteria = rubrik.get(i);
+            AturanRubrik aturan = aturan(kriteria.getJenis());
+            String status;
+            String pesan;
+            if (aturan == null) {
+                status = HasilTestCase.STATUS_ERROR;
+                pesan = "Jenis rubrik tidak dikenal: " + kriteria.getJenis();
+            } else {
+                pesan = aturan.periksa(struktur, kriteria.getMinimal());
+                status = pesan == null ? HasilTestCase.STATUS_LULUS : HasilTestCase.STATUS_GAGAL;
+            }
+            hasil.add(new HasilTestCase(urutanAwal + i + 1, "Rubrik: " + deskripsi(kriteria), status, pesan, "",
+                    durasiMillis, kriteria.getBobot()));
+        }
+        return hasil;
+    }
+
+    private static synchronized AturanRubrik aturan(String jenis) {
+        return ATURAN.get(jenis);
+    }
+
+    private static List<StrukturKode.Anggota> anggota(StrukturKode.Kelas kelas) {
+        List<StrukturKode.Anggota> anggota = new ArrayList<>(kelas.getField());
+        anggota.addAll(kelas.getMethod());
+        return anggota;
+    }
+
+    private static String daftar(List<String> nama) {
+        if (nama.size() <= MAX_NAMA_DITAMPILKAN) {
+            return String.join(", ", nama);
+        }
+        return String.join(", ", nama.subList(0, MAX_NAMA_DITAMPILKAN)) + ", ...";
+    }
+
+    /**
+     * Aturan "minimal N sesuatu": lulus jika jumlah yang ditemukan >= minimal
+     */
+    private static final class Hitung implements AturanRubrik {
+        private final String format;
+        private final String satuan;
+        private final Function<StrukturKode, List<String>> finder;
+
+        Hitung(String format, String satuan, Function<StrukturKode, List<String>> finder) {
+            this.format = format;
+            this.satuan = satuan;
+            this.finder = finder;
+        }
+
+        @Override
+        public String deskripsi(int minimal) {
+            return String.format(format, minimal);
+        }
+
+        @Override
+        public String periksa(StrukturKode struktur, int minimal) {
+            List<String> found = finder.apply(struktur);
+            if (found.size() >= minimal) {
+                return null;
+            }
+            return "Ditemukan " + found.size() + " " + satuan + (found.isEmpty() ? "" : ": " + daftar(found));
+        }
+    }
+
+    /**
+     * Field instance class harus private: minimal N field private dan tidak
+     * ada field instance yang bukan private (konstanta static diabaikan)
+     */
+    private static final class Enkapsulasi implements AturanRubrik {
+
+        @Override
+        public String deskripsi(int minimal) {
+            return "Enkapsulasi: minimal " + minimal + " field private, semua field instance private";
+        }
+
+        @Override
+        public String periksa(StrukturKode struktur, int minimal) {
+            int privateCount = 0;
+            List<String> terbuka = new ArrayList<>();
+            for (StrukturKode.Kelas kelas : struktur.getKelas()) {
+                if (kelas.isInterface() || "RECORD".equals(kelas.getJenis().name())) {
+                    // Field interface selalu konstanta, field record selalu private final
+                    continue;
+                }
+                for (StrukturKode.Anggota field : kelas.getField()) {
+                    if (field.isStatic()) {
+                        continue;
+                    }
+                    if (field.isPrivate()) {
+                        privateCount++;
+                    } else if (kelas.getJenis() != Tree.Kind.ENUM
+                            || !field.getModifier().contains(Modifier.FINAL)) {
+                        terbuka.add(kelas.getNama() + "." + field.getNama());
+                    }
+                }
+            }
+            if (!terbuka.isEmpty()) {
+                return "Field belum private: " + daftar(terbuka);
+            }
+            if (privateCount < minimal) {
+                return "Ditemukan " + privateCount + " field private";
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.goop.grading;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ModifiersTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TreeScanner;
+
+import javax.lang.model.element.Modifier;
+import javax.tools.Diagnostic;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Class StrukturKode - Struktur class, field dan method dari 1 kode siswa
+ *
+ * Kode di-parse SEKALI dengan javac Tree API (hanya parse, tanpa compile
+ * dan tanpa membaca class JDK), lalu semua aturan rubrik membaca
+ * struktur ini. Kode yang belum bisa di-compile tetap bisa di-parse;
+ * bagian yang rusak dilewati javac.
+ *
+ * Immutable setelah dibuat.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class StrukturKode {
+
+    /**
+     * 1 deklarasi class, interface, enum, record atau annotation (termasuk nested)
+     */
+    public static final class Kelas {
+        private final String nama;
+        private final Tree.Kind jenis;
+        private final Set<Modifier> modifier;
+        private final String superclass;
+        private final List<Anggota> field = new ArrayList<>();
+        private final List<Anggota> method = new ArrayList<>();
+
+        Kelas(String nama, Tree.Kind jenis, Set<Modifier> modifier, String superclass) {
+            this.nama = nama;
+            this.jenis = jenis;
+            this.modifier = modifier;
+            this.superclass = superclass;
+        }
+
+        public String getNama() {
+            return nama;
+        }
+
+        /**
+         * @return CLASS, INTERFACE, ENUM, RECORD atau ANNOTATION_TYPE
+         */
+        public Tree.Kind getJenis() {
+            return jenis;
+        }
+
+        public Set<Modifier> getModifier() {
+            return modifier;
+        }
+
+        /**
+         * @return Nama class di klausa extends (hanya untuk class), null jika tidak ada
+         */
+        public String getSuperclass() {
+            return superclass;
+        }
+
+        public boolean isInterface() {
+            return jenis == Tree.Kind.INTERFACE || jenis == Tree.Kind.ANNOTATION_TYPE;
+        }
+
+        public boolean isAbstract() {
+            return jenis == Tree.Kind.CLASS && modifier.contains(Modifier.ABSTRACT);
+        }
+
+        public List<Anggota> getField() {
+            return Collections.unmodifiableList(field);
+        }
+
+        /**
+         * @return Method dan constructor
+         */
+        public List<Anggota> getMethod() {
+            return Collections.unmodifiableList(method);
+        }
+    }
+
+    /**
+     * 1 field, method atau constructor
+     */
+    public static final class Anggota {
+        private final String nama;
+        private final Set<Modifier> modifier;
+        private final boolean constructor;
+        private final boolean override;
+
+        Anggota(String nama, Set<Modifier> modifier, boolean constructor, boolean override) {
+            this.nama = nama;
+            this.modifier = modifier;
+            this.constructor = constructor;
+            this.override = override;
+        }
+
+        public String getNama() {
+            return nama;
+        }
+
+        public Set<Modifier> getModifier() {
+            return modifier;
+        }
+
+        public boolean isConstructor() {
+            return constructor;
+        }
+
+        /**
+         * @return true jika method diberi annotation @Override
+         */
+        public boolean isOverride() {
+            return override;
+        }
+
+        public boolean isPrivate() {
+            return modifier.contains(Modifier.PRIVATE);
+        }
+
+        public boolean isStatic() {
+            return modifier.contains(Modifier.STATIC);
+        }
+    }
+
+    private static final JavaCompiler COMPILER = ToolProvider.getSystemJavaCompiler();
+
+    /**
+     * File manager dipakai bersama agar tidak dibuat ulang setiap parse.
+     * File manager javac tidak thread-safe, jadi parse dijalankan
+     * bergantian (lock FILE_MANAGER).
+     */
+    private static final StandardJavaFileManager FILE_MANAGER = COMPILER != null
+            ? COMPILER.getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8) : null;
+
+    private final List<Kelas> kelas;
+    private final int parseError;
+
+    private StrukturKode(List<Kelas> kelas, int parseError) {
+        this.kelas = Collections.unmodifiableList(kelas);
+        this.parseError = parseError;
+    }
+
+    /**
+     * Parse kode siswa
+     *
+     * @throws IllegalStateException jika Java compiler tidak tersedia (aplikasi tidak berjalan di JDK)
+     */
+    public static StrukturKode parse(String code) {
+        if (COMPILER == null) {
+            throw new IllegalStateException("Java compiler tidak tersedia (aplikasi tidak berjalan di JDK)");
+        }
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///Main.java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+        int[] parseError = new int[1];
+        List<Kelas> kelas = new ArrayList<>();
+        try {
+            Iterable<? extends CompilationUnitTree> units;
+            synchronized (FILE_MANAGER) {
+                JavacTask task = (JavacTask) COMPILER.getTask(null, FILE_MANAGER, diagnostic -> {
+                    if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                        parseError[0]++;
+                    }
+                }, List.of("-proc:none"), null, List.of(source));
+                units = task.parse();
+            }
+            for (CompilationUnitTree unit : units) {
+                new Collector(kelas).scan(unit, null);
+            }
+        } catch (IOException e) {
+            // Source dari String tidak pernah gagal dibaca
+            throw new IllegalStateException("Kode tidak bisa dibaca: " + e.getMessage(), e);
+        }
+        return new StrukturKode(kelas, parseError[0]);
+    }
+
+    /**
+     * @return Semua class (termasuk nested), urut sesuai posisi di kode
+     */
+    public List<Kelas> getKelas() {
+        return kelas;
+    }
+
+    /**
+     * @return Jumlah syntax error yang ditemukan saat parse
+     */
+    public int getParseError() {
+        return parseError;
+    }
+
+    /**
+     * Mengumpulkan class dan anggotanya dalam 1 kali jalan di syntax tree
+     */
+    private static final class Collector extends TreeScanner<Void, Kelas> {
+        private final List<Kelas> kelas;
+
+        Collector(List<Kelas> kelas) {
+            this.kelas = kelas;
+        }
+
+        @Override
+        public Void visitClass(ClassTree node, Kelas parent) {
+            if (node.getSimpleName().length() == 0) {
+                // Anonymous class tidak dihitung sebagai class, begitu juga anggotanya
+                return super.visitClass(node, null);
+            }
+            Tree extendsClause = node.getKind() == Tree.Kind.CLASS ? node.getExtendsClause() : null;
+            Kelas current = new Kelas(node.getSimpleName().toString(), node.getKind(),
+                    node.getModifiers().getFlags(), extendsClause != null ? extendsClause.toString() : null);
+            kelas.add(current);
+            return super.visitClass(node, current);
+        }
+
+        @Override
+        public Void visitMethod(MethodTree node, Kelas parent) {
+            if (parent != null) {
+                boolean constructor = node.getReturnType() == null;
+                parent.method.add(new Anggota(constructor ? parent.nama : node.getName().toString(),
+                        node.getModifiers().getFlags(), constructor, hasOverride(node.getModifiers())));
+            }
+            // Isi method tidak berisi field; hanya class lokal/anonymous yang perlu di-scan
+            return scan(node.getBody(), null);
+        }
+
+        @Override
+        public Void visitVariable(VariableTree node, Kelas parent) {
+            // Dipanggil untuk field (parent = class); variabel lokal dan parameter
+            // tidak sampai ke sini karena isi method di-scan dengan parent null
+            if (parent != null) {
+                parent.field.add(new Anggota(node.getName().toString(), node.getModifiers().getFlags(), false,
+                        false));
+            }
+            return super.visitVariable(node, null);
+        }
+
+        private static boolean hasOverride(ModifiersTree modifiers) {
+            for (AnnotationTree annotation : modifiers.getAnnotations()) {
+                String name = annotation.getAnnotationType().toString();
+                if (name.equals("Override") || name.equals("java.lang.Override")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
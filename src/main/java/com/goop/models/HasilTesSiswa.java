@@ -0,0 +1,63 @@
+package com.goop.models;
+
+import java.time.LocalDateTime;
+
+public class HasilTesSiswa {
+
+    // Hasil 1 tes yang SUDAH dikerjakan siswa (tes yang belum dikerjakan tidak punya HasilTesSiswa)
+
+    private TesKognitif tes;
+    private double skor; // Skor percobaan terakhir (bisa 0)
+    private double skorTertinggi;
+    private int jumlahPercobaan;
+    private LocalDateTime waktuTerakhir; // null jika tidak diketahui (data sebelum ada riwayat)
+    private int durasiDetikTerakhir;
+
+
+    public HasilTesSiswa(TesKognitif tes, double skor, double skorTertinggi, int jumlahPercobaan,
+            LocalDateTime waktuTerakhir, int durasiDetikTerakhir) {
+        this.tes = tes;
+        this.skor = skor;
+        this.skorTertinggi = skorTertinggi;
+        this.jumlahPercobaan = jumlahPercobaan;
+        this.waktuTerakhir = waktuTerakhir;
+        this.durasiDetikTerakhir = durasiDetikTerakhir;
+    }
+
+    // Getters
+
+    public TesKognitif getTes() {
+        return tes;
+    }
+
+    public double getSkor() {
+        return skor;
+    }
+
+    public double getSkorTertinggi() {
+        return skorTertinggi;
+    }
+
+    public int getJumlahPercobaan() {
+        return jumlahPercobaan;
+    }
+
+    public LocalDateTime getWaktuTerakhir() {
+        return waktuTerakhir;
+    }
+
+    public int getDurasiDetikTerakhir() {
+        return durasiDetikTerakhir;
+    }
+
+    @Override
+    public String toString() {
+        return "HasilTesSiswa{" +
+                "tesId=" + (tes != null ? tes.getId() : 0) +
+                ", skor=" + skor +
+                ", skorTertinggi=" + skorTertinggi +
+                ", jumlahPercobaan=" + jumlahPercobaan +
+                ", waktuTerakhir=" + waktuTerakhir +
+                '}';
+    }
+}
@@ -0,0 +1,71 @@
+package com.goop.models;
+
+public class HasilTestCase {
+
+    // Hasil 1 test case pada laporan penilaian
+
+    public static final String STATUS_LULUS = "LULUS";
+    public static final String STATUS_GAGAL = "GAGAL"; // Output salah atau cek gagal
+    public static final String STATUS_ERROR = "ERROR"; // Exception, System.exit, batas terlampaui, atau tidak bisa dijalankan
+    public static final String STATUS_TIMEOUT = "TIMEOUT";
+
+    private int urutan; // Urutan test case
+    private String nama;
+    private String status;
+    private String pesan; // Keterangan singkat (misal baris pertama yang berbeda), kosong jika lulus
+    private String output; // Output program (dipotong), untuk ditampilkan ke siswa/guru
+    private long durasiMillis;
+    private int bobot;
+
+
+    public HasilTestCase(int urutan, String nama, String status, String pesan, String output, long durasiMillis,
+            int bobot) {
+        this.urutan = urutan;
+        this.nama = nama;
+        this.status = status;
+        this.pesan = pesan != null ? pesan : "";
+        this.output = output != null ? output : "";
+        this.durasiMillis = durasiMillis;
+        this.bobot = bobot;
+    }
+
+    // Getters
+
+    public int getUrutan() {
+        return urutan;
+    }
+
+    public String getNama() {
+        return nama;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getPesan() {
+        return pesan;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public long getDurasiMillis() {
+        return durasiMillis;
+    }
+
+    public int getBobot() {
+        return bobot;
+    }
+
+    public boolean isLulus() {
+        return STATUS_LULUS.equals(status);
+    }
+
+    @Override
+    public String toString() {
+        return (isLulus() ? "✅ " : "❌ ") + "#" + urutan + " " + nama + " - " + status +
+                (pesan.isEmpty() ? "" : ": " + pesan) + " (" + durasiMillis + " ms)";
+    }
+}
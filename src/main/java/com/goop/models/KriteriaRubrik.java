@@ -0,0 +1,64 @@
+package com.goop.models;
+
+public class KriteriaRubrik {
+
+    // Satu kriteria rubrik proyek, dibuat Guru
+    // Diperiksa dari struktur kode siswa tanpa menjalankan program (lihat grading.RubrikEngine)
+    // Lulus jika jumlah yang ditemukan (class, method, dll sesuai jenis) >= minimal
+
+    public static final String JENIS_JUMLAH_CLASS = "JUMLAH_CLASS";
+    public static final String JENIS_JUMLAH_METHOD = "JUMLAH_METHOD";
+    public static final String JENIS_MODIFIER_AKSES = "MODIFIER_AKSES";
+    public static final String JENIS_ENKAPSULASI = "ENKAPSULASI";
+    public static final String JENIS_PEWARISAN = "PEWARISAN";
+    public static final String JENIS_OVERRIDE = "OVERRIDE";
+    public static final String JENIS_ABSTRAKSI = "ABSTRAKSI";
+
+    public static final int DEFAULT_MINIMAL = 1;
+    public static final int DEFAULT_BOBOT = 1;
+
+    private int urutan; // Nomor urut di proyek (mulai 1)
+    private String jenis;
+    private int minimal;
+    private int bobot;
+
+
+    public KriteriaRubrik(int urutan, String jenis, int minimal, int bobot) {
+        this.urutan = urutan;
+        this.jenis = jenis;
+        this.minimal = Math.max(0, minimal);
+        this.bobot = Math.max(1, bobot);
+    }
+
+    // Getters & Setters
+
+    public int getUrutan() {
+        return urutan;
+    }
+
+    public void setUrutan(int urutan) {
+        this.urutan = urutan;
+    }
+
+    public String getJenis() {
+        return jenis;
+    }
+
+    public int getMinimal() {
+        return minimal;
+    }
+
+    public int getBobot() {
+        return bobot;
+    }
+
+    @Override
+    public String toString() {
+        return "KriteriaRubrik{" +
+                "urutan=" + urutan +
+                ", jenis=" + jenis +
+                ", minimal=" + minimal +
+                ", bobot=" + bobot +
+                '}';
+    }
+}
@@ -0,0 +1,145 @@
+package com.goop.models;
+
+import com.goop.utils.BlobCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class LaporanPenilaian {
+
+    // Laporan penilaian otomatis 1 submission proyek (disimpan bersama code yang di-submit)
+
+    private int proyekId;
+    private LocalDateTime waktu; // Waktu dinilai
+    private double skor; // 0 - 100, dari bobot test case yang lulus
+    private boolean compileBerhasil;
+    private String pesan; // Ringkasan (misal pesan compile error), kosong jika tidak ada
+    private List<HasilTestCase> hasil;
+    // SHA-256 code yang dinilai (hashKode), null jika tidak diketahui. Hanya di memory:
+    // dipakai savePenilaianUlang untuk melewati laporan yang code-nya sudah di-submit ulang
+    private String kodeHash;
+
+
+    public LaporanPenilaian(int proyekId, LocalDateTime waktu, double skor, boolean compileBerhasil, String pesan,
+            List<HasilTestCase> hasil) {
+        this(proyekId, waktu, skor, compileBerhasil, pesan, hasil, null);
+    }
+
+    public LaporanPenilaian(int proyekId, LocalDateTime waktu, double skor, boolean compileBerhasil, String pesan,
+            List<HasilTestCase> hasil, String kodeHash) {
+        this.proyekId = proyekId;
+        this.waktu = waktu;
+        this.skor = skor;
+        this.compileBerhasil = compileBerhasil;
+        this.pesan = pesan != null ? pesan : "";
+        this.hasil = new ArrayList<>(hasil);
+        this.kodeHash = kodeHash;
+    }
+
+    // Salinan laporan dengan hash code yang dinilai
+    public LaporanPenilaian withKodeHash(String kodeHash) {
+        return new LaporanPenilaian(proyekId, waktu, skor, compileBerhasil, pesan, hasil, kodeHash);
+    }
+
+    // SHA-256 (hex) code proyek, null jika code null
+    public static String hashKode(String code) {
+        if (code == null) {
+            return null;
+        }
+        MessageDigest digest = BlobCache.sha256();
+        digest.update(code.getBytes(StandardCharsets.UTF_8));
+        return BlobCache.toKey(digest);
+    }
+
+    // Getters
+
+    public int getProyekId() {
+        return proyekId;
+    }
+
+    public LocalDateTime getWaktu() {
+        return waktu;
+    }
+
+    public double getSkor() {
+        return skor;
+    }
+
+    public boolean isCompileBerhasil() {
+        return compileBerhasil;
+    }
+
+    public String getPesan() {
+        return pesan;
+    }
+
+    public List<HasilTestCase> getHasil() {
+        return Collections.unmodifiableList(hasil);
+    }
+
+    public String getKodeHash() {
+        return kodeHash;
+    }
+
+    // true jika laporan ini menilai code tersebut (atau hash code yang dinilai tidak diketahui)
+    public boolean isUntukKode(String code) {
+        return kodeHash == null || kodeHash.equals(hashKode(code));
+    }
+
+    public int getJumlahLulus() {
+        int lulus = 0;
+        for (HasilTestCase item : hasil) {
+            if (item.isLulus()) {
+                lulus++;
+            }
+        }
+        return lulus;
+    }
+
+    // Hitung skor 0 - 100 dari bobot test case yang lulus (1 angka di belakang koma)
+    public static double hitungSkor(List<HasilTestCase> hasil) {
+        int total = 0;
+        int lulus = 0;
+        for (HasilTestCase item : hasil) {
+            total += item.getBobot();
+            if (item.isLulus()) {
+                lulus += item.getBobot();
+            }
+        }
+        return total == 0 ? 0 : Math.round(lulus * 1000.0 / total) / 10.0;
+    }
+
+    // Ringkasan laporan untuk ditampilkan di console / dialog
+    public String getRingkasan() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Penilaian otomatis");
+        if (waktu != null) {
+            sb.append(" (").append(waktu.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))).append(")");
+        }
+        sb.append("\n");
+        if (!pesan.isEmpty()) {
+            sb.append(pesan).append("\n");
+        }
+        for (HasilTestCase item : hasil) {
+            sb.append(item).append("\n");
+        }
+        sb.append("Lulus: ").append(getJumlahLulus()).append(" / ").append(hasil.size())
+                .append(" test case, skor ").append(skor).append(" / 100");
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "LaporanPenilaian{" +
+                "proyekId=" + proyekId +
+                ", waktu=" + waktu +
+                ", skor=" + skor +
+                ", lulus=" + getJumlahLulus() + "/" + hasil.size() +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package com.goop.models;
+
+public class PasanganMirip {
+
+    // 2 submission proyek yang kodenya terindikasi sama (hasil cek plagiarisme)
+
+    private int proyekIdA;
+    private int proyekIdB;
+    private double kemiripan; // Persen fingerprint yang sama dari gabungan keduanya (Jaccard), 0-100
+    private double cakupan; // Persen fingerprint submission yang lebih pendek yang ada di submission lain, 0-100
+    private int jumlahSama; // Jumlah fingerprint yang sama
+
+
+    public PasanganMirip(int proyekIdA, int proyekIdB, double kemiripan, double cakupan, int jumlahSama) {
+        this.proyekIdA = proyekIdA;
+        this.proyekIdB = proyekIdB;
+        this.kemiripan = kemiripan;
+        this.cakupan = cakupan;
+        this.jumlahSama = jumlahSama;
+    }
+
+    // Getters
+
+    public int getProyekIdA() {
+        return proyekIdA;
+    }
+
+    public int getProyekIdB() {
+        return proyekIdB;
+    }
+
+    public double getKemiripan() {
+        return kemiripan;
+    }
+
+    public double getCakupan() {
+        return cakupan;
+    }
+
+    public int getJumlahSama() {
+        return jumlahSama;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Proyek %d - %d: kemiripan %.0f%%, cakupan %.0f%%", proyekIdA, proyekIdB, kemiripan,
+                cakupan);
+    }
+}
@@ -0,0 +1,98 @@
+package com.goop.models;
+
+import java.time.LocalDateTime;
+
+public class PengerjaanTes {
+
+    // Satu percobaan (attempt) siswa mengerjakan tes kognitif
+
+    private int id; // Nomor urut percobaan (urutan submit)
+    private int siswaId;
+    private int tesId;
+    private LocalDateTime waktu; // Waktu submit, null jika tidak diketahui
+    private double skor;
+    private int durasiDetik; // Lama pengerjaan, 0 jika tidak diketahui
+    private String[] jawaban; // Jawaban per soal (A/B/C/D, null = tidak dijawab), null jika tidak tersimpan
+
+
+    public PengerjaanTes(int id, int siswaId, int tesId, LocalDateTime waktu, double skor, int durasiDetik,
+            String[] jawaban) {
+        this.id = id;
+        this.siswaId = siswaId;
+        this.tesId = tesId;
+        this.waktu = waktu;
+        this.skor = skor;
+        this.durasiDetik = durasiDetik;
+        this.jawaban = jawaban;
+    }
+
+    // Getters
+
+    public int getId() {
+        return id;
+    }
+
+    public int getSiswaId() {
+        return siswaId;
+    }
+
+    public int getTesId() {
+        return tesId;
+    }
+
+    public LocalDateTime getWaktu() {
+        return waktu;
+    }
+
+    public double getSkor() {
+        return skor;
+    }
+
+    public int getDurasiDetik() {
+        return durasiDetik;
+    }
+
+    public String[] getJawaban() {
+        return jawaban;
+    }
+
+    // ==================== ENCODING JAWABAN ====================
+    // Jawaban disimpan sebagai 1 karakter per soal, '-' untuk soal yang tidak dijawab
+
+
+    public static String encodeJawaban(String[] jawaban) {
+        if (jawaban == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(jawaban.length);
+        for (String j : jawaban) {
+            sb.append(j != null && j.length() == 1 ? j.charAt(0) : '-');
+        }
+        return sb.toString();
+    }
+
+
+    public static String[] decodeJawaban(String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        String[] jawaban = new String[encoded.length()];
+        for (int i = 0; i < jawaban.length; i++) {
+            char c = encoded.charAt(i);
+            jawaban[i] = c != '-' ? String.valueOf(c) : null;
+        }
+        return jawaban;
+    }
+
+    @Override
+    public String toString() {
+        return "PengerjaanTes{" +
+                "id=" + id +
+                ", siswaId=" + siswaId +
+                ", tesId=" + tesId +
+                ", waktu=" + waktu +
+                ", skor=" + skor +
+                ", durasiDetik=" + durasiDetik +
+                '}';
+    }
+}
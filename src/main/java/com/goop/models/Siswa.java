@@ -14,6 +14,9 @@ public class Siswa extends User {
     
     private List<Integer> proyekIds; // Menyimpan ID proyek yang dimiliki siswa
 
+    
+    private double rataSkorProyek; // Rata-rata skor proyek tervalidasi, diupdate oleh repository
+
     // ==================== CONSTRUCTORS ====================
 
     
@@ -71,8 +74,12 @@ public class Siswa extends User {
 
     
     public double hitungRataSkorProyek() {
-        // TODO: Implement setelah integrasi dengan DataStore
-        return 0.0;
+        return rataSkorProyek;
+    }
+
+    
+    public void setRataSkorProyek(double rataSkorProyek) {
+        this.rataSkorProyek = rataSkorProyek;
     }
 
     
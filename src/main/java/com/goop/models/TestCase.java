@@ -0,0 +1,87 @@
+package com.goop.models;
+
+public class TestCase {
+
+    // Satu test case penilaian otomatis proyek, dibuat Guru
+    // Jenis OUTPUT: program siswa dijalankan dengan input, output dibandingkan dengan expectedOutput
+    // Jenis CEK: kodeCek (class dengan method @GoopTest) di-compile bersama kode siswa lalu dijalankan
+
+    public static final String JENIS_OUTPUT = "OUTPUT";
+    public static final String JENIS_CEK = "CEK";
+
+    public static final int DEFAULT_BOBOT = 1;
+    public static final int DEFAULT_TIMEOUT_MS = 5000;
+
+    private int urutan; // Nomor urut di proyek (mulai 1)
+    private String nama;
+    private String input; // Isi System.in, boleh kosong
+    private String expectedOutput; // Output yang diharapkan (jenis OUTPUT)
+    private String kodeCek; // Source class cek (jenis CEK), null untuk jenis OUTPUT
+    private int bobot;
+    private int timeoutMs;
+
+
+    public TestCase(int urutan, String nama, String input, String expectedOutput, String kodeCek, int bobot,
+            int timeoutMs) {
+        this.urutan = urutan;
+        this.nama = nama;
+        this.input = input != null ? input : "";
+        this.expectedOutput = expectedOutput != null ? expectedOutput : "";
+        this.kodeCek = kodeCek;
+        this.bobot = Math.max(1, bobot);
+        this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
+    }
+
+    // Getters & Setters
+
+    public int getUrutan() {
+        return urutan;
+    }
+
+    public void setUrutan(int urutan) {
+        this.urutan = urutan;
+    }
+
+    public String getNama() {
+        return nama;
+    }
+
+    public String getInput() {
+        return input;
+    }
+
+    public String getExpectedOutput() {
+        return expectedOutput;
+    }
+
+    public String getKodeCek() {
+        return kodeCek;
+    }
+
+    public int getBobot() {
+        return bobot;
+    }
+
+    public int getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public boolean isCek() {
+        return kodeCek != null && !kodeCek.isBlank();
+    }
+
+    public String getJenis() {
+        return isCek() ? JENIS_CEK : JENIS_OUTPUT;
+    }
+
+    @Override
+    public String toString() {
+        return "TestCase{" +
+                "urutan=" + urutan +
+                ", nama='" + nama + '\'' +
+                ", jenis=" + getJenis() +
+                ", bobot=" + bobot +
+                ", timeoutMs=" + timeoutMs +
+                '}';
+    }
+}
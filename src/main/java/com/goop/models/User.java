@@ -1,5 +1,7 @@
 package com.goop.models;
 
+import com.goop.utils.PasswordHasher;
+
 public class User {
     
     // ==================== ATTRIBUTES ====================
@@ -12,7 +14,7 @@ public class User {
     private String username;
     
     
-    private String password;
+    private String password; // Hash password (PasswordHasher.hash), data lama bisa masih plaintext
     
     
     private String email;
@@ -111,8 +113,8 @@ public class User {
     
     
     public boolean validateLogin(String inputUsername, String inputPassword) {
-        // Bandingkan username dan password
-        return this.username.equals(inputUsername) && this.password.equals(inputPassword);
+        // Bandingkan username, lalu cek password terhadap hash yang tersimpan
+        return this.username.equals(inputUsername) && PasswordHasher.verify(inputPassword, this.password);
     }
     
     
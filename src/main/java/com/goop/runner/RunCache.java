@@ -0,0 +1,391 @@
+package com.goop.runner;
+
+import com.goop.data.DataStore;
+import com.goop.utils.BlobCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Class RunCache - Cache output program siswa yang deterministik
+ *
+ * Program yang sama (bytecode, argumen, stdin dan batas run sama) selalu
+ * menghasilkan output yang sama, KECUALI jika memakai sumber yang berubah
+ * antar run: waktu, random, thread, file/jaringan, environment, atau
+ * hashCode bawaan Object (misal mencetak objek tanpa toString(), atau
+ * HashSet berisi objek tanpa hashCode()).
+ *
+ * Karena itu hasil run hanya disimpan jika:
+ * - Status OK, EXCEPTION atau EXIT (timeout dan batas CPU bergantung pada
+ *   beban komputer)
+ * - Bytecode tidak mereferensikan API yang tidak deterministik (dicek dari
+ *   constant pool setiap class, termasuk nama class bertitik untuk
+ *   reflection seperti Class.forName("java.util.Random"))
+ * - Setiap pemanggilan hashCode()/hash() ditujukan ke class siswa, String
+ *   atau wrapper primitive (hashCode objek JDK lain, misal
+ *   new Object().hashCode() atau Objects.hash(objek), bisa berbeda antar run)
+ * - Output tidak berisi identity hash seperti "Siswa@1b6d3586"
+ *
+ * Pengecekan ini sengaja konservatif: program yang mungkin tidak
+ * deterministik selalu dijalankan ulang.
+ *
+ * Disimpan di BlobCache (folder cache/run di folder data) dengan batas
+ * goop.cache.memoryMb dan goop.cache.diskMb yang sama dengan CompileCache.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class RunCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Awalan nama class JDK yang membuat output bisa berbeda antar run
+     */
+    private static final String[] NONDETERMINISTIC_CLASSES = {
+            "java/util/Random", "java/util/concurrent/", "java/util/UUID", "java/util/Date",
+            "java/util/Calendar", "java/util/GregorianCalendar", "java/util/Timer",
+            "java/util/IdentityHashMap", "java/util/WeakHashMap", "java/util/SplittableRandom",
+            "java/security/", "java/time/", "java/io/File", "java/io/RandomAccessFile",
+            "java/nio/file/", "java/nio/channels/", "java/net/", "java/lang/Thread",
+            "java/lang/Runtime", "java/lang/Process", "java/lang/ref/", "java/lang/management/",
+            "java/lang/System$Logger", "java/text/SimpleDateFormat", "java/lang/reflect/"
+    };
+
+    /**
+     * Nama method yang membaca waktu, random, atau lingkungan
+     */
+    private static final Set<String> NONDETERMINISTIC_METHODS = Set.of(
+            "currentTimeMillis", "nanoTime", "random", "identityHashCode", "getenv", "getProperty",
+            "getProperties", "gc", "getStackTrace", "shuffle", "parallel", "parallelStream",
+            "forName", "loadClass", "findClass");
+
+    /**
+     * Collection yang urutan iterasinya bergantung pada hashCode elemen
+     */
+    private static final String[] HASH_COLLECTIONS = {
+            "java/util/HashMap", "java/util/HashSet", "java/util/Hashtable"
+    };
+
+    /**
+     * Class JDK yang hashCode()-nya hanya bergantung pada nilai
+     */
+    private static final Set<String> VALUE_HASH_CLASSES = Set.of(
+            "java/lang/String", "java/lang/Integer", "java/lang/Long", "java/lang/Short", "java/lang/Byte",
+            "java/lang/Character", "java/lang/Boolean", "java/lang/Float", "java/lang/Double");
+
+    /**
+     * Format toString() bawaan Object: NamaClass@hashHex
+     */
+    private static final Pattern IDENTITY_HASH = Pattern.compile("[A-Za-z_$][\\w.$]*@[0-9a-f]{1,8}\\b");
+
+    private static final int ACC_INTERFACE = 0x0200;
+
+    private final BlobCache cache;
+    private final String environment;
+
+    RunCache(int heapMb) {
+        this(DataStore.getDataDirectory().resolve("cache").resolve("run"), heapMb);
+    }
+
+    /**
+     * RunCache dengan folder tertentu (dipakai test untuk simulasi restart)
+     */
+    RunCache(Path directory, int heapMb) {
+        long memoryBytes = Math.max(0, Long.getLong("goop.cache.memoryMb", 32)) * 1024 * 1024;
+        long diskBytes = Math.max(0, Long.getLong("goop.cache.diskMb", 256)) * 1024 * 1024;
+        cache = new BlobCache(directory, memoryBytes, diskBytes);
+        environment = FORMAT_VERSION + "\n" + Runtime.version() + "\n" + heapMb + "\n";
+    }
+
+    /**
+     * Key cache untuk 1 run (program, argumen, stdin dan batas run), null
+     * jika program mungkin tidak deterministik
+     */
+    String key(Map<String, byte[]> classes, String mainClass, List<String> args, String stdin,
+            RunnerPool.Limits limits) {
+        if (!isDeterministic(classes)) {
+            return null;
+        }
+        MessageDigest digest = BlobCache.sha256();
+        digest.update(environment.getBytes(StandardCharsets.UTF_8));
+        digest.update((limits.timeoutMillis + "\n" + limits.cpuMillis + "\n" + limits.maxOutputBytes + "\n"
+                + mainClass + "\n" + args.size() + "\n").getBytes(StandardCharsets.UTF_8));
+        for (String arg : args) {
+            digest.update((arg.length() + ":" + arg).getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((stdin.length() + ":" + stdin).getBytes(StandardCharsets.UTF_8));
+        // Urutkan per nama agar key tidak bergantung pada urutan Map
+        for (Map.Entry<String, byte[]> entry : new TreeMap<>(classes).entrySet()) {
+            digest.update(ByteBuffer.allocate(4).putInt(entry.getValue().length).array());
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update(entry.getValue());
+        }
+        return BlobCache.toKey(digest);
+    }
+
+    /**
+     * @return Hasil run dari cache (isCached() = true), null jika tidak ada
+     */
+    RunResult get(String key, long startNanos) {
+        byte[] bytes = cache.get(key);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            RunResult.Status status = RunResult.Status.values()[in.readByte()];
+            int exitCode = in.readInt();
+            long cpuMillis = in.readLong();
+            String message = readString(in);
+            String output = readString(in);
+            return new RunResult(status, output, message, exitCode,
+                    (System.nanoTime() - startNanos) / 1_000_000, cpuMillis, true);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("WARNING: Cache run tidak bisa dibaca, dihapus: " + e.getMessage());
+            cache.remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Simpan hasil run jika statusnya bisa diulang dan output tidak berisi identity hash
+     */
+    void put(String key, RunResult result) {
+        RunResult.Status status = result.getStatus();
+        if (status != RunResult.Status.OK && status != RunResult.Status.EXCEPTION
+                && status != RunResult.Status.EXIT) {
+            return;
+        }
+        // Kedalaman stack dan sisa heap bisa berbeda antar run
+        String message = result.getMessage();
+        if (message.startsWith("java.lang.StackOverflowError") || message.startsWith("java.lang.OutOfMemoryError")) {
+            return;
+        }
+        if (IDENTITY_HASH.matcher(result.getOutput()).find()) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + result.getOutput().length());
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(status.ordinal());
+            out.writeInt(result.getExitCode());
+            out.writeLong(result.getCpuMillis());
+            writeString(out, result.getMessage());
+            writeString(out, result.getOutput());
+        } catch (IOException e) {
+            // ByteArrayOutputStream tidak melempar IOException
+            throw new IllegalStateException(e);
+        }
+        cache.put(key, bytes.toByteArray());
+    }
+
+    /**
+     * Cek constant pool semua class: false jika ada referensi ke API yang
+     * tidak deterministik, atau ada hashCode bawaan Object yang bisa
+     * memengaruhi output
+     */
+    static boolean isDeterministic(Map<String, byte[]> classes) {
+        boolean usesHashCode = false;
+        List<ClassInfo> infos = new ArrayList<>(classes.size());
+        Set<String> instantiated = new HashSet<>();
+        Set<String> studentClasses = new HashSet<>();
+        for (byte[] bytecode : classes.values()) {
+            ClassInfo info;
+            try {
+                info = ClassInfo.parse(bytecode);
+            } catch (RuntimeException e) {
+                return false;
+            }
+            infos.add(info);
+            instantiated.addAll(info.constructed);
+            studentClasses.add(info.name);
+            for (String constant : info.utf8) {
+                if (NONDETERMINISTIC_METHODS.contains(constant)) {
+                    return false;
+                }
+                // Nama class bertitik dipakai reflection, misal Class.forName("java.util.Random")
+                String slashed = constant.replace('.', '/');
+                for (String prefix : NONDETERMINISTIC_CLASSES) {
+                    if (slashed.contains(prefix)) {
+                        return false;
+                    }
+                }
+                if (constant.equals("hashCode")) {
+                    usesHashCode = true;
+                }
+                for (String collection : HASH_COLLECTIONS) {
+                    if (constant.contains(collection)) {
+                        usesHashCode = true;
+                    }
+                }
+            }
+        }
+        // hashCode()/hash() objek JDK (Object, Objects.hash, Arrays.hashCode,
+        // List.hashCode, ...) bisa memakai identity hash yang berbeda antar run
+        for (ClassInfo info : infos) {
+            for (String[] ref : info.methodRefs) {
+                if (("hashCode".equals(ref[1]) || "hash".equals(ref[1]))
+                        && !studentClasses.contains(ref[0]) && !VALUE_HASH_CLASSES.contains(ref[0])) {
+                    return false;
+                }
+            }
+        }
+        if (!usesHashCode) {
+            return true;
+        }
+        // Objek dari class (termasuk enum) tanpa hashCode() sendiri memakai identity hash
+        for (ClassInfo info : infos) {
+            if (!info.isInterface && !info.declaresHashCode && instantiated.contains(info.name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Isi class file yang dibutuhkan: string di constant pool, class yang
+     * objeknya dibuat (constructor dipanggil), method yang dipanggil
+     * (owner dan nama), dan method yang dideklarasikan
+     */
+    private static final class ClassInfo {
+
+        final List<String> utf8 = new ArrayList<>();
+        final List<String> constructed = new ArrayList<>();
+        final List<String[]> methodRefs = new ArrayList<>();
+        String name;
+        boolean isInterface;
+        boolean declaresHashCode;
+
+        static ClassInfo parse(byte[] bytecode) {
+            ByteBuffer in = ByteBuffer.wrap(bytecode);
+            if (in.getInt() != 0xCAFEBABE) {
+                throw new IllegalArgumentException("Bukan class file");
+            }
+            in.getInt(); // minor + major version
+
+            ClassInfo info = new ClassInfo();
+            int count = Short.toUnsignedInt(in.getShort());
+            String[] pool = new String[count];
+            // Index yang ditunjuk entry Class, (Interface)Methodref dan NameAndType
+            int[] first = new int[count];
+            int[] second = new int[count];
+            byte[] tags = new byte[count];
+            for (int i = 1; i < count; i++) {
+                byte tag = in.get();
+                tags[i] = tag;
+                switch (tag) {
+                    case 1: // Utf8
+                        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+                        in.get(bytes);
+                        // Modified UTF-8, cukup untuk membandingkan nama ASCII
+                        pool[i] = new String(bytes, StandardCharsets.UTF_8);
+                        info.utf8.add(pool[i]);
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        in.position(in.position() + 8);
+                        i++;
+                        break;
+                    case 7: // Class
+                        first[i] = Short.toUnsignedInt(in.getShort());
+                        break;
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                        first[i] = Short.toUnsignedInt(in.getShort());
+                        second[i] = Short.toUnsignedInt(in.getShort());
+                        break;
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        in.position(in.position() + 2);
+                        break;
+                    case 15: // MethodHandle
+                        in.position(in.position() + 3);
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        in.position(in.position() + 4);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Tag constant pool tidak dikenal: " + tag);
+                }
+            }
+
+            for (int i = 1; i < count; i++) {
+                if (tags[i] != 10 && tags[i] != 11) {
+                    continue;
+                }
+                String owner = pool[first[first[i]]];
+                String method = pool[first[second[i]]];
+                info.methodRefs.add(new String[] {owner, method});
+                if (tags[i] == 10 && "<init>".equals(method)) {
+                    info.constructed.add(owner);
+                }
+            }
+
+            int access = Short.toUnsignedInt(in.getShort());
+            info.isInterface = (access & ACC_INTERFACE) != 0;
+            info.name = pool[first[Short.toUnsignedInt(in.getShort())]];
+            in.getShort(); // super_class
+            int interfaces = Short.toUnsignedInt(in.getShort());
+            in.position(in.position() + 2 * interfaces);
+            skipMembers(in, null, null);
+            skipMembers(in, pool, info);
+            return info;
+        }
+
+        /**
+         * Lewati daftar field atau method; untuk method, catat deklarasi hashCode()
+         */
+        private static void skipMembers(ByteBuffer in, String[] pool, ClassInfo info) {
+            int count = Short.toUnsignedInt(in.getShort());
+            for (int i = 0; i < count; i++) {
+                in.getShort(); // access
+                int name = Short.toUnsignedInt(in.getShort());
+                int descriptor = Short.toUnsignedInt(in.getShort());
+                if (info != null && "hashCode".equals(pool[name]) && "()I".equals(pool[descriptor])) {
+                    info.declaresHashCode = true;
+                }
+                int attributes = Short.toUnsignedInt(in.getShort());
+                for (int j = 0; j < attributes; j++) {
+                    in.getShort(); // name
+                    // Baca panjang dulu, position() harus diambil setelah getInt()
+                    int length = in.getInt();
+                    in.position(in.position() + length);
+                }
+            }
+        }
+    }
+}
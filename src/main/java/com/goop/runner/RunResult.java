@@ -0,0 +1,112 @@
+package com.goop.runner;
+
+/**
+ * Class RunResult - Hasil menjalankan 1 program siswa di worker JVM
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class RunResult {
+
+    public enum Status {
+        /** main() selesai normal */
+        OK,
+        /** main() melempar exception (stack trace ada di output) */
+        EXCEPTION,
+        /** Program memanggil System.exit() */
+        EXIT,
+        /** Melewati batas waktu (wall-clock) */
+        TIMEOUT,
+        /** Melewati batas waktu CPU */
+        CPU_LIMIT,
+        /** Output melewati batas */
+        OUTPUT_LIMIT,
+        /** Worker gagal dijalankan atau mati tanpa sebab yang diketahui */
+        ERROR
+    }
+
+    private final Status status;
+    private final String output;
+    private final String message;
+    private final int exitCode;
+    private final long durasiMillis;
+    private final long cpuMillis;
+    private final boolean cached;
+
+    RunResult(Status status, String output, String message, int exitCode, long durasiMillis, long cpuMillis) {
+        this(status, output, message, exitCode, durasiMillis, cpuMillis, false);
+    }
+
+    RunResult(Status status, String output, String message, int exitCode, long durasiMillis, long cpuMillis,
+            boolean cached) {
+        this.status = status;
+        this.output = output;
+        this.message = message;
+        this.exitCode = exitCode;
+        this.durasiMillis = durasiMillis;
+        this.cpuMillis = cpuMillis;
+        this.cached = cached;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return status == Status.OK || (status == Status.EXIT && exitCode == 0);
+    }
+
+    /**
+     * @return Output program (System.out dan System.err sesuai urutan)
+     */
+    public String getOutput() {
+        return output;
+    }
+
+    /**
+     * @return Keterangan status (misal exception atau batas yang terlampaui), kosong jika OK
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return Exit code jika status EXIT, 0 untuk status lain
+     */
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    /**
+     * @return Waktu dari request dikirim sampai program selesai
+     */
+    public long getDurasiMillis() {
+        return durasiMillis;
+    }
+
+    /**
+     * @return Waktu CPU yang dipakai program, 0 jika tidak diketahui
+     */
+    public long getCpuMillis() {
+        return cpuMillis;
+    }
+
+    /**
+     * @return true jika hasil diambil dari RunCache (program tidak dijalankan ulang)
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    @Override
+    public String toString() {
+        return "RunResult{" +
+                "status=" + status +
+                ", exitCode=" + exitCode +
+                ", durasiMillis=" + durasiMillis +
+                ", cpuMillis=" + cpuMillis +
+                ", cached=" + cached +
+                ", message='" + message + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,379 @@
+package com.goop.runner;
+
+import com.goop.compiler.CompileResult;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Class RunnerPool - Pool JVM worker untuk menjalankan program siswa
+ *
+ * Menjalankan JVM baru untuk setiap klik "Jalankan Kode" butuh ratusan
+ * millisecond. RunnerPool menyiapkan beberapa JVM worker (WorkerMain)
+ * sebelum dibutuhkan; setiap run cukup mengirim bytecode lewat pipe ke
+ * worker yang sudah siap, lalu output dikirim balik secara streaming.
+ *
+ * Batas setiap run (system property):
+ * - goop.runner.workers       Jumlah JVM worker (default 2)
+ * - goop.runner.heapMb        Heap maksimal worker, -Xmx (default 64)
+ * - goop.runner.timeoutMs     Batas waktu wall-clock per run (default 5000)
+ * - goop.runner.cpuMs         Batas waktu CPU per run (default 3000)
+ * - goop.runner.maxOutputKb   Batas output per run (default 64)
+ * - goop.runner.runsPerWorker Worker diganti setelah sekian run (default 50)
+ *
+ * Setiap run memakai class loader baru, jadi static field program siswa
+ * selalu bersih. Worker diganti dengan JVM baru (di background) jika
+ * batas terlampaui, program memanggil System.exit(), ada thread yang
+ * tertinggal, atau jumlah run sudah mencapai runsPerWorker.
+ *
+ * Program yang deterministik tidak dijalankan ulang: output-nya diambil
+ * dari RunCache (dicari di thread terpisah, jadi tidak menunggu worker).
+ *
+ * Worker berjalan di folder sementara kosong tanpa environment variable
+ * aplikasi. JVM worker sendiri TIDAK membatasi akses file/jaringan
+ * (Security Manager sudah deprecated): tanpa wrapper, program siswa
+ * berjalan dengan hak akses user yang menjalankan GOOP. Isolasi di level
+ * OS diaktifkan dengan system property:
+ * - goop.runner.wrapper       Command yang ditaruh sebelum command java
+ *   worker (dipisah spasi), misal "firejail --quiet --net=none --private"
+ *   atau "sudo -n -u goop-runner". Wrapper harus meneruskan stdin/stdout
+ *   apa adanya; user lain harus bisa membaca classpath GOOP
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class RunnerPool {
+
+    /**
+     * Batas waktu menunggu worker idle sebelum run dianggap gagal
+     */
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Batas 1 run (default dibaca sekali dari system property)
+     */
+    static final class Limits {
+        final long timeoutMillis;
+        final long cpuMillis;
+        final long maxOutputBytes;
+        final int runsPerWorker;
+
+        Limits() {
+            this(Math.max(100, Long.getLong("goop.runner.timeoutMs", 5000)),
+                    Math.max(100, Long.getLong("goop.runner.cpuMs", 3000)),
+                    Math.max(1, Long.getLong("goop.runner.maxOutputKb", 64)) * 1024,
+                    Math.max(1, Integer.getInteger("goop.runner.runsPerWorker", 50)));
+        }
+
+        private Limits(long timeoutMillis, long cpuMillis, long maxOutputBytes, int runsPerWorker) {
+            this.timeoutMillis = timeoutMillis;
+            this.cpuMillis = cpuMillis;
+            this.maxOutputBytes = maxOutputBytes;
+            this.runsPerWorker = runsPerWorker;
+        }
+
+        /**
+         * Batas yang sama dengan batas waktu lain; batas CPU ikut batas waktu tersebut
+         */
+        Limits withTimeout(long timeoutMillis) {
+            long timeout = Math.max(100, timeoutMillis);
+            return new Limits(timeout, timeout, maxOutputBytes, runsPerWorker);
+        }
+    }
+
+    private static volatile RunnerPool instance;
+
+    private final int workerCount;
+    private final Limits limits = new Limits();
+    private final List<String> command;
+    private final Path workDir;
+
+    private final BlockingQueue<WorkerProcess> idle = new LinkedBlockingQueue<>();
+
+    /**
+     * Semua worker yang hidup (idle maupun sedang dipakai), untuk shutdown
+     */
+    private final Set<WorkerProcess> workers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Jumlah worker yang sedang dijalankan, idle, atau sedang dipakai
+     */
+    private final AtomicInteger liveWorkers = new AtomicInteger();
+
+    private final RunCache cache;
+
+    private final ExecutorService runExecutor;
+    private final ExecutorService cacheExecutor;
+    private final ExecutorService starter;
+    private final ScheduledExecutorService timer;
+    private volatile boolean closed;
+
+    private RunnerPool() throws IOException {
+        workerCount = Math.max(1, Integer.getInteger("goop.runner.workers", 2));
+        int heapMb = Math.max(16, Integer.getInteger("goop.runner.heapMb", 64));
+        command = buildCommand(heapMb);
+        workDir = Files.createTempDirectory("goop-runner");
+        workDir.toFile().deleteOnExit();
+        cache = new RunCache(heapMb);
+
+        runExecutor = Executors.newFixedThreadPool(workerCount, daemonThreads("goop-runner"));
+        cacheExecutor = Executors.newSingleThreadExecutor(daemonThreads("goop-runner-cache"));
+        starter = Executors.newSingleThreadExecutor(daemonThreads("goop-runner-start"));
+        timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("goop-runner-timer"));
+        for (int i = 0; i < workerCount; i++) {
+            startWorker();
+        }
+    }
+
+    /**
+     * Mendapatkan pool, worker mulai disiapkan saat pool pertama kali dipakai
+     *
+     * @throws IllegalStateException jika worker tidak bisa dijalankan di lingkungan ini
+     */
+    public static RunnerPool getInstance() {
+        RunnerPool pool = instance;
+        if (pool == null) {
+            synchronized (RunnerPool.class) {
+                pool = instance;
+                if (pool == null) {
+                    try {
+                        pool = new RunnerPool();
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Runner tidak bisa disiapkan: " + e.getMessage(), e);
+                    }
+                    instance = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Mematikan semua worker jika pool pernah dibuat
+     * Dipanggil dari Main.stop()
+     */
+    public static void shutdownIfStarted() {
+        RunnerPool pool = instance;
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Jalankan main class hasil compile di worker
+     *
+     * @param compiled Hasil compile yang sukses dan punya main class
+     * @param listener Dipanggil di thread runner untuk setiap potongan output, boleh null
+     * @return Future hasil run
+     */
+    public CompletableFuture<RunResult> run(CompileResult compiled, Consumer<String> listener) {
+        if (!compiled.isSuccess() || compiled.getMainClass() == null) {
+            throw new IllegalArgumentException("Hanya hasil compile sukses dengan main class yang bisa dijalankan");
+        }
+        return run(compiled.getClasses(), compiled.getMainClass(), listener);
+    }
+
+    /**
+     * Jalankan main class dari bytecode di worker tanpa input dan argumen
+     */
+    public CompletableFuture<RunResult> run(Map<String, byte[]> classes, String mainClass,
+            Consumer<String> listener) {
+        return run(classes, mainClass, Collections.emptyList(), "", limits, true, listener);
+    }
+
+    /**
+     * Jalankan main class dengan argumen, isi stdin dan batas waktu sendiri
+     * (misal 1 test case). Beberapa run bisa diminta sekaligus, dan
+     * dijalankan paralel sebanyak jumlah worker.
+     *
+     * @param timeoutMillis Batas waktu wall-clock dan CPU run ini
+     */
+    public CompletableFuture<RunResult> run(Map<String, byte[]> classes, String mainClass, List<String> args,
+            String stdin, long timeoutMillis, Consumer<String> listener) {
+        return run(classes, mainClass, args, stdin, limits.withTimeout(timeoutMillis), true, listener);
+    }
+
+    /**
+     * Seperti run() dengan batas waktu sendiri, tetapi selalu dijalankan di
+     * worker (tanpa RunCache). Untuk run yang argumennya berisi nonce: hasil
+     * dari cache membawa nonce run lama, dan key-nya tidak akan pernah
+     * dipakai lagi.
+     */
+    public CompletableFuture<RunResult> runUncached(Map<String, byte[]> classes, String mainClass,
+            List<String> args, String stdin, long timeoutMillis, Consumer<String> listener) {
+        return run(classes, mainClass, args, stdin, limits.withTimeout(timeoutMillis), false, listener);
+    }
+
+    /**
+     * @return Jumlah worker JVM (jumlah program yang bisa berjalan bersamaan)
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Jalankan di worker, atau ambil hasilnya dari cache (seluruh output
+     * dikirim ke listener sekaligus)
+     */
+    private CompletableFuture<RunResult> run(Map<String, byte[]> classes, String mainClass, List<String> args,
+            String stdin, Limits runLimits, boolean useCache, Consumer<String> listener) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(
+                        () -> useCache ? cache.key(classes, mainClass, args, stdin, runLimits) : null,
+                        cacheExecutor)
+                .thenComposeAsync(key -> {
+                    RunResult cached = key == null ? null : cache.get(key, start);
+                    if (cached != null) {
+                        if (listener != null && !cached.getOutput().isEmpty()) {
+                            listener.accept(cached.getOutput());
+                        }
+                        return CompletableFuture.completedFuture(cached);
+                    }
+                    return CompletableFuture.supplyAsync(() -> {
+                        RunResult result = runNow(classes, mainClass, args, stdin, runLimits, listener);
+                        if (key != null) {
+                            cache.put(key, result);
+                        }
+                        return result;
+                    }, runExecutor);
+                }, cacheExecutor);
+    }
+
+    public void shutdown() {
+        closed = true;
+        runExecutor.shutdownNow();
+        cacheExecutor.shutdownNow();
+        starter.shutdownNow();
+        timer.shutdownNow();
+        idle.clear();
+        for (WorkerProcess worker : workers) {
+            worker.destroy();
+        }
+        workers.clear();
+    }
+
+    private RunResult runNow(Map<String, byte[]> classes, String mainClass, List<String> args, String stdin,
+            Limits runLimits, Consumer<String> listener) {
+        WorkerProcess worker;
+        try {
+            worker = idle.poll(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new RunResult(RunResult.Status.ERROR, "", "Run dibatalkan", 0, 0, 0);
+        }
+        if (worker == null) {
+            // Worker gagal dijalankan sebelumnya, coba siapkan lagi untuk run berikutnya
+            if (liveWorkers.get() < workerCount) {
+                startWorker();
+            }
+            return new RunResult(RunResult.Status.ERROR, "", "Worker tidak tersedia", 0, 0, 0);
+        }
+
+        try {
+            return worker.run(classes, mainClass, args, stdin, runLimits, listener, timer);
+        } finally {
+            release(worker);
+        }
+    }
+
+    private void release(WorkerProcess worker) {
+        if (!closed && worker.isReusable(limits.runsPerWorker)) {
+            idle.add(worker);
+            return;
+        }
+        worker.destroy();
+        workers.remove(worker);
+        liveWorkers.decrementAndGet();
+        startWorker();
+    }
+
+    /**
+     * Jalankan 1 JVM worker baru di background
+     */
+    private void startWorker() {
+        if (closed) {
+            return;
+        }
+        liveWorkers.incrementAndGet();
+        starter.execute(() -> {
+            try {
+                WorkerProcess worker = WorkerProcess.start(command, workDir);
+                workers.add(worker);
+                if (closed) {
+                    worker.destroy();
+                } else {
+                    idle.add(worker);
+                }
+            } catch (IOException e) {
+                liveWorkers.decrementAndGet();
+                System.err.println("ERROR: Worker JVM gagal dijalankan: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Command JVM worker: classpath = lokasi class GOOP (folder atau jar),
+     * opsi JVM untuk start cepat dan memory kecil, diawali wrapper jika ada
+     */
+    static List<String> buildCommand(int heapMb) throws IOException {
+        Path classPath;
+        try {
+            classPath = Paths.get(WorkerMain.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException | RuntimeException e) {
+            throw new IOException("Lokasi class worker tidak diketahui: " + e.getMessage(), e);
+        }
+
+        List<String> command = new ArrayList<>();
+        String wrapper = System.getProperty("goop.runner.wrapper", "").trim();
+        if (!wrapper.isEmpty()) {
+            command.addAll(Arrays.asList(wrapper.split("\\s+")));
+        }
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx" + heapMb + "m");
+        command.add("-Xss1m");
+        command.add("-XX:+UseSerialGC");
+        command.add("-XX:TieredStopAtLevel=1");
+        command.add("-XX:MaxMetaspaceSize=128m");
+        command.add("-XX:ActiveProcessorCount=1");
+        command.add("-Djava.awt.headless=true");
+        command.add("-Dfile.encoding=UTF-8");
+        if (Runtime.version().feature() < 16) {
+            // Default JDK 9-15: reflection ke internal JDK hanya di-warning.
+            // Program siswa tidak boleh membaca field private JDK (misal target thread main)
+            command.add("--illegal-access=deny");
+        }
+        command.add("-cp");
+        command.add(classPath.toString());
+        command.add(WorkerMain.class.getName());
+        return command;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
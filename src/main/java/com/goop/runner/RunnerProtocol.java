@@ -0,0 +1,43 @@
+package com.goop.runner;
+
+/**
+ * Class RunnerProtocol - Konstanta protokol pipe antara RunnerPool dan WorkerMain
+ *
+ * Parent -> worker (stdin worker), 1 request per run:
+ *   long nonce, int jumlahClass, (UTF nama, int panjang, byte[] bytecode) x jumlahClass,
+ *   UTF mainClass, long batasCpuNanos, long batasOutputBytes,
+ *   int panjangStdin, byte[] stdin, int jumlahArgs, UTF arg x jumlahArgs
+ *
+ * Worker -> parent (stdout worker), frame diawali 1 byte jenis:
+ *   FRAME_READY                                   worker siap menerima request
+ *   FRAME_OUT / FRAME_ERR long nonce, int len, byte[] output program (UTF-8)
+ *   FRAME_DONE long nonce, byte status, long cpuNanos, boolean reusable, UTF pesan
+ *
+ * reusable = false: worker berhenti setelah FRAME_DONE (thread siswa
+ * tertinggal, error JVM, atau batas terlampaui) dan tidak boleh dipakai lagi
+ *
+ * Nonce: angka acak (SecureRandom) yang dibuat parent untuk setiap run.
+ * Program siswa berjalan di JVM yang sama dan bisa menulis langsung ke
+ * stdout asli (new FileOutputStream(FileDescriptor.out)), jadi tanpa nonce
+ * program bisa memalsukan FRAME_DONE berstatus OK. Frame yang nonce-nya
+ * salah membuat run gagal dan worker dimatikan. FRAME_READY dikirim
+ * sebelum kode siswa dimuat sehingga tidak perlu nonce.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class RunnerProtocol {
+
+    static final byte FRAME_READY = 0;
+    static final byte FRAME_OUT = 1;
+    static final byte FRAME_ERR = 2;
+    static final byte FRAME_DONE = 3;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_EXCEPTION = 1;
+    static final byte STATUS_CPU_LIMIT = 2;
+    static final byte STATUS_OUTPUT_LIMIT = 3;
+
+    private RunnerProtocol() {
+    }
+}
@@ -0,0 +1,376 @@
+package com.goop.runner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class WorkerMain - Entry point JVM worker yang menjalankan program siswa
+ *
+ * Dijalankan oleh RunnerPool sebagai proses terpisah. Hanya memakai class
+ * JDK dan RunnerProtocol, sehingga worker cukup dijalankan dengan
+ * classpath aplikasi tanpa JavaFX dan module lain.
+ *
+ * Protokol lewat pipe (lihat RunnerProtocol):
+ * 1. Worker mengirim FRAME_READY setelah siap
+ * 2. Parent mengirim request: nonce run, bytecode semua class, nama main
+ *    class, batas CPU, batas output, isi stdin dan argumen main()
+ * 3. Worker menjalankan main() dengan class loader baru, output
+ *    System.out/System.err dikirim sebagai FRAME_OUT/FRAME_ERR
+ * 4. Worker mengirim FRAME_DONE, lalu menunggu request berikutnya
+ *
+ * Setiap frame run membawa nonce dari request, sehingga tulisan program
+ * siswa langsung ke stdout asli tidak bisa dianggap frame oleh parent.
+ *
+ * Batas CPU dan output dijaga di worker: jika terlampaui worker mengirim
+ * FRAME_DONE lalu langsung berhenti (halt), dan RunnerPool menggantinya
+ * dengan worker baru. Batas waktu (wall-clock) dijaga oleh parent.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class WorkerMain {
+
+    private static final long WATCHDOG_INTERVAL_MS = 20;
+
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    /**
+     * Jumlah byte output run saat ini, dan batasnya
+     */
+    private long outputBytes;
+    private long maxOutputBytes;
+
+    /**
+     * Nonce run saat ini, ditulis di setiap frame
+     */
+    private long nonce;
+
+    private WorkerMain(DataInputStream in, DataOutputStream out) {
+        this.in = in;
+        this.out = out;
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Pipe ke parent memakai stdout asli, System.out dipakai program siswa
+        DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 8192));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in, 65536));
+        System.setIn(new ByteArrayInputStream(new byte[0]));
+
+        // Program siswa memanggil System.exit(): kirim sisa output sebelum JVM berhenti
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                // Parent sudah tidak ada
+            }
+        }));
+
+        // Aplikasi GOOP berhenti: worker ikut berhenti walaupun program siswa masih berjalan
+        ProcessHandle.current().parent().ifPresent(parent ->
+                parent.onExit().thenRun(() -> Runtime.getRuntime().halt(0)));
+
+        WorkerMain worker = new WorkerMain(in, out);
+        worker.warmUp();
+        worker.sendReady();
+        worker.serve();
+    }
+
+    /**
+     * Muat class yang dipakai saat run agar run pertama tidak menanggung biayanya
+     */
+    private void warmUp() {
+        new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8).println("warmup " + 1.5);
+        cpuNanos();
+    }
+
+    private void sendReady() throws IOException {
+        synchronized (out) {
+            out.writeByte(RunnerProtocol.FRAME_READY);
+            out.flush();
+        }
+    }
+
+    private void serve() throws IOException {
+        while (true) {
+            Map<String, byte[]> classes = new HashMap<>();
+            String mainClass;
+            long cpuLimitNanos;
+            byte[] stdin;
+            String[] args;
+            try {
+                nonce = in.readLong();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    String name = in.readUTF();
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    classes.put(name, bytes);
+                }
+                mainClass = in.readUTF();
+                cpuLimitNanos = in.readLong();
+                maxOutputBytes = in.readLong();
+                stdin = new byte[in.readInt()];
+                in.readFully(stdin);
+                args = new String[in.readInt()];
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = in.readUTF();
+                }
+            } catch (EOFException e) {
+                // Parent menutup pipe: selesai
+                return;
+            }
+
+            System.setIn(new ByteArrayInputStream(stdin));
+            if (!run(classes, mainClass, args, cpuLimitNanos)) {
+                // Worker kotor (thread tertinggal / error JVM): berhenti, parent membuat worker baru
+                out.flush();
+                Runtime.getRuntime().halt(0);
+            }
+        }
+    }
+
+    /**
+     * Jalankan main() 1 program siswa
+     *
+     * @return false jika worker tidak boleh dipakai lagi
+     */
+    private boolean run(Map<String, byte[]> classes, String mainClass, String[] args, long cpuLimitNanos)
+            throws IOException {
+        outputBytes = 0;
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+        PrintStream studentOut = new PrintStream(new FrameOutputStream(RunnerProtocol.FRAME_OUT), true,
+                StandardCharsets.UTF_8);
+        PrintStream studentErr = new PrintStream(new FrameOutputStream(RunnerProtocol.FRAME_ERR), true,
+                StandardCharsets.UTF_8);
+        System.setOut(studentOut);
+        System.setErr(studentErr);
+
+        ThreadGroup group = new ThreadGroup("goop-student");
+        Throwable[] failure = new Throwable[1];
+        Thread main = new Thread(group, () -> {
+            try {
+                Method method = Class.forName(mainClass, true, new StudentClassLoader(classes))
+                        .getMethod("main", String[].class);
+                method.invoke(null, (Object) args);
+            } catch (InvocationTargetException e) {
+                failure[0] = e.getCause();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                failure[0] = e;
+            }
+        }, "main");
+
+        long cpuStart = cpuNanos();
+        Thread watchdog = startWatchdog(cpuStart, cpuLimitNanos);
+        main.start();
+
+        boolean reusable = true;
+        try {
+            main.join();
+            if (failure[0] != null) {
+                studentErr.print("Exception in thread \"main\" ");
+                trimStackTrace(failure[0]);
+                failure[0].printStackTrace(studentErr);
+            }
+            // Seperti JVM biasa: program selesai setelah semua thread non-daemon selesai
+            for (Thread thread : liveThreads(group)) {
+                if (!thread.isDaemon()) {
+                    thread.join();
+                }
+            }
+            // Thread daemon yang masih hidup bisa mengganggu run berikutnya
+            reusable = liveThreads(group).isEmpty() && !(failure[0] instanceof VirtualMachineError);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reusable = false;
+        } finally {
+            watchdog.interrupt();
+            studentOut.flush();
+            studentErr.flush();
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+
+        byte status = failure[0] == null ? RunnerProtocol.STATUS_OK : RunnerProtocol.STATUS_EXCEPTION;
+        String message = failure[0] == null ? "" : failure[0].toString();
+        sendDone(status, cpuNanos() - cpuStart, reusable, message);
+        return reusable;
+    }
+
+    /**
+     * Thread yang menghentikan worker jika CPU run melewati batas
+     */
+    private Thread startWatchdog(long cpuStart, long cpuLimitNanos) {
+        Thread watchdog = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.sleep(WATCHDOG_INTERVAL_MS);
+                    long used = cpuNanos() - cpuStart;
+                    if (used > cpuLimitNanos) {
+                        abort(RunnerProtocol.STATUS_CPU_LIMIT, used, "Batas waktu CPU terlampaui");
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Run selesai
+            }
+        }, "goop-worker-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+        return watchdog;
+    }
+
+    /**
+     * Kirim FRAME_DONE lalu hentikan JVM (program siswa tidak bisa dihentikan dengan aman)
+     */
+    private void abort(byte status, long cpuUsed, String message) {
+        try {
+            sendDone(status, cpuUsed, false, message);
+        } catch (IOException e) {
+            // Parent sudah tidak ada
+        }
+        Runtime.getRuntime().halt(1);
+    }
+
+    private void sendDone(byte status, long cpuUsed, boolean reusable, String message) throws IOException {
+        synchronized (out) {
+            out.writeByte(RunnerProtocol.FRAME_DONE);
+            out.writeLong(nonce);
+            out.writeByte(status);
+            out.writeLong(cpuUsed);
+            out.writeBoolean(reusable);
+            out.writeUTF(message.length() > 1000 ? message.substring(0, 1000) : message);
+            out.flush();
+        }
+    }
+
+    private static long cpuNanos() {
+        return ProcessHandle.current().info().totalCpuDuration().map(Duration::toNanos).orElse(0L);
+    }
+
+    private static List<Thread> liveThreads(ThreadGroup group) {
+        Thread[] threads = new Thread[group.activeCount() + 8];
+        int count = group.enumerate(threads, true);
+        List<Thread> live = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (threads[i].isAlive()) {
+                live.add(threads[i]);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Buang frame reflection dan worker dari stack trace (setelah frame main siswa)
+     */
+    private static void trimStackTrace(Throwable error) {
+        StackTraceElement[] trace = error.getStackTrace();
+        int end = trace.length;
+        for (int i = 0; i < trace.length; i++) {
+            String className = trace[i].getClassName();
+            if (className.startsWith("jdk.internal.reflect.") || className.startsWith("java.lang.reflect.")
+                    || className.startsWith(WorkerMain.class.getName())) {
+                end = i;
+                break;
+            }
+        }
+        if (end < trace.length) {
+            StackTraceElement[] trimmed = new StackTraceElement[end];
+            System.arraycopy(trace, 0, trimmed, 0, end);
+            error.setStackTrace(trimmed);
+        }
+    }
+
+    /**
+     * OutputStream System.out/System.err siswa: setiap write dikirim sebagai 1 frame
+     */
+    private final class FrameOutputStream extends OutputStream {
+
+        private final byte frame;
+
+        FrameOutputStream(byte frame) {
+            this.frame = frame;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return;
+            }
+            synchronized (out) {
+                outputBytes += len;
+                if (outputBytes > maxOutputBytes) {
+                    abort(RunnerProtocol.STATUS_OUTPUT_LIMIT, 0, "Batas output terlampaui");
+                }
+                out.writeByte(frame);
+                out.writeLong(nonce);
+                out.writeInt(len);
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+
+    /**
+     * Class loader bytecode siswa, 1 instance per run (static field selalu bersih)
+     */
+    private static final class StudentClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        StudentClassLoader(Map<String, byte[]> classes) {
+            super("goop-student", ClassLoader.getPlatformClassLoader());
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String name) {
+            if (name.endsWith(".class")) {
+                byte[] bytes = classes.get(name.substring(0, name.length() - 6).replace('/', '.'));
+                if (bytes != null) {
+                    return new ByteArrayInputStream(bytes);
+                }
+            }
+            return super.getResourceAsStream(name);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.goop.runner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Class WorkerProcess - 1 JVM worker (WorkerMain) dilihat dari sisi parent
+ *
+ * Dipakai oleh 1 thread dalam satu waktu (RunnerPool mengambilnya dari
+ * antrian idle sebelum run dan mengembalikannya setelah selesai).
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class WorkerProcess {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Process process;
+    private final DataOutputStream toWorker;
+    private final DataInputStream fromWorker;
+    private int runs;
+    private boolean reusable = true;
+
+    private WorkerProcess(Process process) {
+        this.process = process;
+        this.toWorker = new DataOutputStream(new BufferedOutputStream(process.getOutputStream(), 65536));
+        this.fromWorker = new DataInputStream(new BufferedInputStream(process.getInputStream(), 8192));
+    }
+
+    /**
+     * Jalankan JVM worker dan tunggu sampai siap (FRAME_READY)
+     */
+    static WorkerProcess start(List<String> command, Path workDir) throws IOException {
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+        // Program siswa tidak perlu environment aplikasi
+        String systemRoot = builder.environment().get("SystemRoot");
+        builder.environment().clear();
+        if (systemRoot != null) {
+            builder.environment().put("SystemRoot", systemRoot);
+        }
+
+        WorkerProcess worker = new WorkerProcess(builder.start());
+        try {
+            byte frame = worker.fromWorker.readByte();
+            if (frame != RunnerProtocol.FRAME_READY) {
+                throw new IOException("Frame pertama worker tidak valid: " + frame);
+            }
+        } catch (IOException e) {
+            worker.destroy();
+            throw e;
+        }
+        return worker;
+    }
+
+    /**
+     * Jalankan main() di worker dan tunggu sampai selesai
+     *
+     * @param args     Argumen main()
+     * @param stdin    Isi System.in program (UTF-8)
+     * @param limits   Batas run
+     * @param listener Menerima potongan output segera setelah dikirim worker, boleh null
+     * @param timer    Untuk mematikan worker jika melewati batas waktu
+     */
+    RunResult run(Map<String, byte[]> classes, String mainClass, List<String> args, String stdin,
+            RunnerPool.Limits limits, Consumer<String> listener, ScheduledExecutorService timer) {
+        long start = System.nanoTime();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> kill = timer.schedule(() -> {
+            timedOut.set(true);
+            process.destroyForcibly();
+        }, limits.timeoutMillis, TimeUnit.MILLISECONDS);
+
+        StringBuilder output = new StringBuilder();
+        long nonce = RANDOM.nextLong();
+        try {
+            toWorker.writeLong(nonce);
+            toWorker.writeInt(classes.size());
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                toWorker.writeUTF(entry.getKey());
+                toWorker.writeInt(entry.getValue().length);
+                toWorker.write(entry.getValue());
+            }
+            toWorker.writeUTF(mainClass);
+            toWorker.writeLong(TimeUnit.MILLISECONDS.toNanos(limits.cpuMillis));
+            toWorker.writeLong(limits.maxOutputBytes);
+            byte[] input = stdin.getBytes(StandardCharsets.UTF_8);
+            toWorker.writeInt(input.length);
+            toWorker.write(input);
+            toWorker.writeInt(args.size());
+            for (String arg : args) {
+                toWorker.writeUTF(arg);
+            }
+            toWorker.flush();
+
+            while (true) {
+                byte frame = fromWorker.readByte();
+                if ((frame == RunnerProtocol.FRAME_OUT || frame == RunnerProtocol.FRAME_ERR
+                        || frame == RunnerProtocol.FRAME_DONE) && fromWorker.readLong() != nonce) {
+                    throw new FrameTidakValid("Nonce frame worker tidak cocok (frame palsu dari program)");
+                }
+                if (frame == RunnerProtocol.FRAME_OUT || frame == RunnerProtocol.FRAME_ERR) {
+                    byte[] bytes = new byte[fromWorker.readInt()];
+                    fromWorker.readFully(bytes);
+                    String text = new String(bytes, StandardCharsets.UTF_8);
+                    output.append(text);
+                    if (listener != null) {
+                        listener.accept(text);
+                    }
+                } else if (frame == RunnerProtocol.FRAME_DONE) {
+                    byte status = fromWorker.readByte();
+                    long cpuNanos = fromWorker.readLong();
+                    boolean workerReusable = fromWorker.readBoolean();
+                    String message = fromWorker.readUTF();
+                    runs++;
+                    reusable = workerReusable;
+                    if (!kill.cancel(false)) {
+                        // Timer sudah mematikan worker tepat saat program selesai
+                        reusable = false;
+                    }
+                    return new RunResult(toStatus(status), output.toString(), message, 0,
+                            elapsedMillis(start), TimeUnit.NANOSECONDS.toMillis(cpuNanos));
+                } else {
+                    throw new FrameTidakValid("Frame worker tidak valid: " + frame);
+                }
+            }
+        } catch (FrameTidakValid e) {
+            // Program menulis langsung ke pipe: hasil run tidak bisa dipercaya
+            reusable = false;
+            kill.cancel(false);
+            process.destroyForcibly();
+            System.err.println("WARNING: " + e.getMessage());
+            return new RunResult(RunResult.Status.ERROR, output.toString(),
+                    "Program menulis langsung ke output worker", 0, elapsedMillis(start), 0);
+        } catch (IOException e) {
+            // Worker mati sebelum FRAME_DONE: timeout, System.exit(), atau crash
+            reusable = false;
+            kill.cancel(false);
+            if (timedOut.get()) {
+                return new RunResult(RunResult.Status.TIMEOUT, output.toString(),
+                        "Program melewati batas waktu " + limits.timeoutMillis + " ms", 0, elapsedMillis(start), 0);
+            }
+            try {
+                if (process.waitFor(1, TimeUnit.SECONDS)) {
+                    int exitCode = process.exitValue();
+                    return new RunResult(RunResult.Status.EXIT, output.toString(),
+                            "Program berhenti dengan System.exit(" + exitCode + ")", exitCode, elapsedMillis(start), 0);
+                }
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            System.err.println("ERROR: Worker JVM gagal: " + e.getMessage());
+            return new RunResult(RunResult.Status.ERROR, output.toString(), "Worker gagal: " + e.getMessage(), 0,
+                    elapsedMillis(start), 0);
+        }
+    }
+
+    /**
+     * @param maxRuns Jumlah run maksimal per worker
+     * @return false jika worker harus diganti (sudah mati, kotor, atau sudah terlalu banyak run)
+     */
+    boolean isReusable(int maxRuns) {
+        return reusable && runs < maxRuns && process.isAlive();
+    }
+
+    void destroy() {
+        try {
+            toWorker.close();
+        } catch (IOException e) {
+            // Worker sudah mati
+        }
+        process.destroyForcibly();
+    }
+
+    private static RunResult.Status toStatus(byte status) {
+        switch (status) {
+            case RunnerProtocol.STATUS_OK:
+                return RunResult.Status.OK;
+            case RunnerProtocol.STATUS_EXCEPTION:
+                return RunResult.Status.EXCEPTION;
+            case RunnerProtocol.STATUS_CPU_LIMIT:
+                return RunResult.Status.CPU_LIMIT;
+            case RunnerProtocol.STATUS_OUTPUT_LIMIT:
+                return RunResult.Status.OUTPUT_LIMIT;
+            default:
+                return RunResult.Status.ERROR;
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Frame yang bukan dikirim WorkerMain (jenis tidak dikenal atau nonce salah)
+     */
+    private static final class FrameTidakValid extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        FrameTidakValid(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.goop.similarity;
+
+import com.goop.utils.BlobCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * Class Fingerprint - Sidik jari 1 submission untuk deteksi kemiripan kode
+ *
+ * Konsep yang diterapkan:
+ * - K-gram: setiap K token berurutan (setelah normalisasi JavaTokenizer)
+ *   di-hash menjadi 1 nilai 64-bit
+ * - Winnowing: dari setiap jendela WINDOW hash berurutan hanya hash
+ *   terkecil yang disimpan. Potongan kode yang sama sepanjang minimal
+ *   K + WINDOW - 1 token dijamin menghasilkan minimal 1 hash yang sama,
+ *   tetapi jumlah hash yang disimpan jauh lebih sedikit dari jumlah k-gram.
+ * - MinHash: SIGNATURE_SIZE nilai minimum dari hash fingerprint dengan
+ *   fungsi hash berbeda-beda. Peluang 2 signature sama di 1 posisi =
+ *   Jaccard similarity kedua himpunan fingerprint; dipakai untuk LSH.
+ *
+ * Immutable, jadi boleh dibaca banyak thread tanpa lock.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class Fingerprint {
+
+    static final int K = 8;
+    static final int WINDOW = 4;
+    static final int SIGNATURE_SIZE = 128;
+
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    /**
+     * SHA-256 code, dipakai untuk melewati perhitungan ulang jika code tidak
+     * berubah. String.hashCode() tidak cukup: code berbeda dengan panjang dan
+     * hashCode sama (misal "Aa" dan "BB") mudah dibuat.
+     */
+    private final byte[] codeDigest;
+
+    /**
+     * Hash hasil winnowing, terurut dan unik
+     */
+    private final long[] hashes;
+    private final int[] signature;
+
+    private Fingerprint(String code, long[] hashes, int[] signature) {
+        this.codeDigest = digest(code);
+        this.hashes = hashes;
+        this.signature = signature;
+    }
+
+    static Fingerprint of(String code) {
+        long[] hashes = winnow(kgrams(JavaTokenizer.tokenize(code)));
+        return new Fingerprint(code, hashes, minHash(hashes));
+    }
+
+    boolean isSameCode(String code) {
+        return MessageDigest.isEqual(codeDigest, digest(code));
+    }
+
+    private static byte[] digest(String code) {
+        return BlobCache.sha256().digest(code.getBytes(StandardCharsets.UTF_8));
+    }
+
+    long[] getHashes() {
+        return hashes;
+    }
+
+    int[] getSignature() {
+        return signature;
+    }
+
+    /**
+     * Kode yang terlalu pendek (kurang dari K token) tidak punya fingerprint
+     */
+    boolean isEmpty() {
+        return hashes.length == 0;
+    }
+
+    /**
+     * Semua hash k-gram code (bukan hanya hasil winnowing), terurut.
+     * Dipakai untuk kode template: setiap fingerprint submission yang
+     * berasal dari template pasti ada di sini
+     */
+    static long[] allHashes(String code) {
+        long[] hashes = kgrams(JavaTokenizer.tokenize(code));
+        Arrays.sort(hashes);
+        return hashes;
+    }
+
+    private static long[] kgrams(int[] tokens) {
+        int count = Math.max(0, tokens.length - K + 1);
+        long[] kgrams = new long[count];
+        for (int i = 0; i < count; i++) {
+            long hash = 0;
+            for (int j = 0; j < K; j++) {
+                hash = hash * 1_000_003L + tokens[i + j];
+            }
+            // Hash polinomial tidak acak; winnowing butuh urutan hash yang acak
+            kgrams[i] = mix(hash);
+        }
+        return kgrams;
+    }
+
+    /**
+     * Robust winnowing: minimum setiap jendela (yang paling kanan jika sama),
+     * posisi yang sama tidak dicatat 2 kali
+     */
+    private static long[] winnow(long[] kgrams) {
+        if (kgrams.length == 0) {
+            return kgrams;
+        }
+        int windows = Math.max(1, kgrams.length - WINDOW + 1);
+        int width = Math.min(WINDOW, kgrams.length);
+        long[] selected = new long[windows];
+        int count = 0;
+        int lastPosition = -1;
+        for (int start = 0; start < windows; start++) {
+            int minPosition = start;
+            for (int i = start + 1; i < start + width; i++) {
+                if (kgrams[i] <= kgrams[minPosition]) {
+                    minPosition = i;
+                }
+            }
+            if (minPosition != lastPosition) {
+                selected[count++] = kgrams[minPosition];
+                lastPosition = minPosition;
+            }
+        }
+        long[] unique = Arrays.copyOf(selected, count);
+        Arrays.sort(unique);
+        int size = 0;
+        for (int i = 0; i < unique.length; i++) {
+            if (i == 0 || unique[i] != unique[size - 1]) {
+                unique[size++] = unique[i];
+            }
+        }
+        return Arrays.copyOf(unique, size);
+    }
+
+    static int[] minHash(long[] hashes) {
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long hash : hashes) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int value = (int) (mix(hash ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Finalizer SplitMix64: mengacak bit hash
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
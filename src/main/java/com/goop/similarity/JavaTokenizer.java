@@ -0,0 +1,147 @@
+package com.goop.similarity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class JavaTokenizer - Memecah kode Java menjadi token yang dinormalisasi
+ *
+ * Normalisasi agar kode yang di-copy tetap dikenali walaupun diubah sedikit:
+ * - Komentar dan spasi/baris baru dibuang
+ * - Semua nama (variabel, method, class) menjadi 1 token yang sama,
+ *   jadi mengganti nama variabel tidak mengubah token
+ * - Angka, string dan char literal masing-masing menjadi 1 token
+ * - Keyword dan tanda baca tetap (struktur program yang dibandingkan)
+ *
+ * Tokenizer sengaja toleran: kode yang tidak bisa di-compile tetap ditokenisasi.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+final class JavaTokenizer {
+
+    static final int TOKEN_NAMA = 1;
+    static final int TOKEN_ANGKA = 2;
+    static final int TOKEN_STRING = 3;
+    static final int TOKEN_CHAR = 4;
+
+    /**
+     * Keyword mendapat kode KEYWORD_BASE + indeks, tanda baca memakai kode karakternya
+     */
+    private static final int KEYWORD_BASE = 0x10000;
+
+    private static final String[] KEYWORDS = {
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else", "enum", "extends", "final", "finally", "float",
+            "for", "goto", "if", "implements", "import", "instanceof", "int", "interface", "long", "native",
+            "new", "package", "private", "protected", "public", "return", "short", "static", "strictfp",
+            "super", "switch", "synchronized", "this", "throw", "throws", "transient", "try", "void",
+            "volatile", "while", "true", "false", "null", "var", "record", "yield"
+    };
+
+    private static final Map<String, Integer> KEYWORD_CODES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < KEYWORDS.length; i++) {
+            KEYWORD_CODES.put(KEYWORDS[i], KEYWORD_BASE + i);
+        }
+    }
+
+    private JavaTokenizer() {
+    }
+
+    /**
+     * @return Kode token berurutan sesuai posisi di source
+     */
+    static int[] tokenize(String code) {
+        int[] tokens = new int[Math.max(16, code.length() / 3)];
+        int count = 0;
+        int length = code.length();
+        int i = 0;
+        while (i < length) {
+            char c = code.charAt(i);
+            int token;
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            } else if (c == '/' && i + 1 < length && code.charAt(i + 1) == '/') {
+                i = skipUntil(code, i + 2, "\n");
+                continue;
+            } else if (c == '/' && i + 1 < length && code.charAt(i + 1) == '*') {
+                i = skipUntil(code, i + 2, "*/");
+                continue;
+            } else if (Character.isJavaIdentifierStart(c)) {
+                int start = i;
+                while (i < length && Character.isJavaIdentifierPart(code.charAt(i))) {
+                    i++;
+                }
+                Integer keyword = KEYWORD_CODES.get(code.substring(start, i));
+                token = keyword != null ? keyword : TOKEN_NAMA;
+            } else if (Character.isDigit(c) || (c == '.' && i + 1 < length && Character.isDigit(code.charAt(i + 1)))) {
+                i = skipNumber(code, i);
+                token = TOKEN_ANGKA;
+            } else if (c == '"') {
+                i = code.startsWith("\"\"\"", i) ? skipUntil(code, i + 3, "\"\"\"") : skipQuoted(code, i, '"');
+                token = TOKEN_STRING;
+            } else if (c == '\'') {
+                i = skipQuoted(code, i, '\'');
+                token = TOKEN_CHAR;
+            } else {
+                i++;
+                token = c;
+            }
+            if (count == tokens.length) {
+                tokens = Arrays.copyOf(tokens, count * 2);
+            }
+            tokens[count++] = token;
+        }
+        return Arrays.copyOf(tokens, count);
+    }
+
+    /**
+     * @return Posisi setelah penutup, atau akhir source jika penutup tidak ada
+     */
+    private static int skipUntil(String code, int from, String end) {
+        int index = code.indexOf(end, from);
+        return index < 0 ? code.length() : index + end.length();
+    }
+
+    /**
+     * String/char literal 1 baris, dengan escape (\" dan \\)
+     */
+    private static int skipQuoted(String code, int start, char quote) {
+        int i = start + 1;
+        while (i < code.length()) {
+            char c = code.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote || c == '\n') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return code.length();
+    }
+
+    /**
+     * Angka desimal, hex, biner, dengan underscore, suffix dan eksponen (1e-5, 0x1p+3)
+     */
+    private static int skipNumber(String code, int start) {
+        boolean hex = code.startsWith("0x", start) || code.startsWith("0X", start);
+        int i = start;
+        while (i < code.length()) {
+            char c = code.charAt(i);
+            char previous = code.charAt(i - 1 < start ? start : i - 1);
+            boolean exponentSign = (c == '+' || c == '-')
+                    && (previous == 'p' || previous == 'P' || (!hex && (previous == 'e' || previous == 'E')));
+            if (Character.isLetterOrDigit(c) || c == '_' || c == '.' || exponentSign) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+}
@@ -0,0 +1,330 @@
+package com.goop.similarity;
+
+import com.goop.models.PasanganMirip;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Class SimilarityIndex - Deteksi plagiarisme antar submission proyek
+ *
+ * Membandingkan setiap pasangan submission satu per satu butuh n(n-1)/2
+ * perbandingan (500 submission = 124.750 pasangan). Index ini hanya
+ * menghitung kemiripan untuk pasangan kandidat.
+ *
+ * Konsep yang diterapkan:
+ * - Fingerprint (winnowing + MinHash) dihitung sekali per versi code:
+ *   update() dipanggil setiap code proyek disimpan (lihat
+ *   FingerprintKodeRepository). Code yang belum ada di index (misal
+ *   setelah aplikasi restart) dibaca lewat codeLoader saat check().
+ * - LSH (locality sensitive hashing): signature MinHash dibagi BANDS band
+ *   berisi ROWS baris. Submission dengan minimal 1 band identik masuk 1
+ *   bucket dan menjadi pasangan kandidat. Peluang menjadi kandidat
+ *   1 - (1 - s^ROWS)^BANDS untuk Jaccard s: ~23% pada s=0,3, ~87% pada
+ *   s=0,5 dan ~98% pada s=0,6. Membuat bucket O(n * BANDS).
+ * - Kemiripan tepat (Jaccard dan cakupan) dihitung dari himpunan
+ *   fingerprint lengkap, hanya untuk kandidat
+ * - Kode bawaan: fingerprint yang berasal dari kode template Guru (jika
+ *   diberikan) tidak dihitung. Tanpa template, hanya fingerprint yang
+ *   muncul di lebih dari BOILERPLATE_FRACTION submission pada grup minimal
+ *   BOILERPLATE_MIN_SUBMISSION submission yang dianggap kode bawaan; batas
+ *   ini sengaja tinggi agar kode yang disalin sebagian besar kelas tetap
+ *   terdeteksi. Jumlah fingerprint yang dikecualikan dilaporkan di Hasil.
+ *   Signature MinHash submission yang berisi kode bawaan dihitung ulang
+ *   tanpa fingerprint itu, agar kode bawaan tidak membuat semua submission
+ *   menjadi kandidat.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class SimilarityIndex {
+
+    /**
+     * Ambang kemiripan default (persen)
+     */
+    public static final double DEFAULT_AMBANG = 50;
+
+    static final int BANDS = 32;
+    static final int ROWS = Fingerprint.SIGNATURE_SIZE / BANDS;
+
+    static final int BOILERPLATE_MIN_SUBMISSION = 10;
+
+    /**
+     * Tanpa template: fingerprint di lebih dari 90% submission dianggap kode bawaan
+     */
+    static final double BOILERPLATE_FRACTION = 0.9;
+
+    /**
+     * Hasil 1 kali pemeriksaan grup submission
+     */
+    public static final class Hasil {
+        private final int jumlahSubmission;
+        private final int jumlahKandidat;
+        private final int jumlahKodeBawaan;
+        private final List<PasanganMirip> pasangan;
+        private final long durasiMillis;
+
+        Hasil(int jumlahSubmission, int jumlahKandidat, int jumlahKodeBawaan, List<PasanganMirip> pasangan,
+                long durasiMillis) {
+            this.jumlahSubmission = jumlahSubmission;
+            this.jumlahKandidat = jumlahKandidat;
+            this.jumlahKodeBawaan = jumlahKodeBawaan;
+            this.pasangan = Collections.unmodifiableList(pasangan);
+            this.durasiMillis = durasiMillis;
+        }
+
+        /**
+         * @return Jumlah submission yang punya fingerprint (code kosong atau terlalu pendek dilewati)
+         */
+        public int getJumlahSubmission() {
+            return jumlahSubmission;
+        }
+
+        /**
+         * @return Jumlah semua pasangan yang mungkin, n(n-1)/2
+         */
+        public long getJumlahSemuaPasangan() {
+            return (long) jumlahSubmission * (jumlahSubmission - 1) / 2;
+        }
+
+        /**
+         * @return Jumlah pasangan kandidat dari LSH yang dihitung kemiripannya
+         */
+        public int getJumlahKandidat() {
+            return jumlahKandidat;
+        }
+
+        /**
+         * @return Jumlah fingerprint berbeda yang tidak dihitung karena kode bawaan
+         */
+        public int getJumlahKodeBawaan() {
+            return jumlahKodeBawaan;
+        }
+
+        /**
+         * @return Pasangan dengan kemiripan >= ambang, terurut dari yang paling mirip
+         */
+        public List<PasanganMirip> getPasangan() {
+            return pasangan;
+        }
+
+        public long getDurasiMillis() {
+            return durasiMillis;
+        }
+
+        @Override
+        public String toString() {
+            String text = String.format("%d pasangan mirip dari %d submission (%d kandidat diperiksa dari %d "
+                    + "pasangan) dalam %d ms", pasangan.size(), jumlahSubmission, jumlahKandidat,
+                    getJumlahSemuaPasangan(), durasiMillis);
+            return jumlahKodeBawaan == 0 ? text
+                    : text + String.format(", %d fingerprint kode bawaan tidak dihitung", jumlahKodeBawaan);
+        }
+    }
+
+    private static class Holder {
+        private static final SimilarityIndex INSTANCE = new SimilarityIndex();
+    }
+
+    private final Map<Integer, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    private SimilarityIndex() {
+    }
+
+    public static SimilarityIndex getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Hitung ulang fingerprint proyek (dilewati jika code sama dengan sebelumnya)
+     */
+    public void update(int proyekId, String code) {
+        if (code == null) {
+            fingerprints.remove(proyekId);
+            return;
+        }
+        Fingerprint current = fingerprints.get(proyekId);
+        if (current == null || !current.isSameCode(code)) {
+            fingerprints.put(proyekId, Fingerprint.of(code));
+        }
+    }
+
+    public void remove(int proyekId) {
+        fingerprints.remove(proyekId);
+    }
+
+    /**
+     * Cari pasangan submission yang mirip dalam 1 grup (misal semua proyek dengan judul sama)
+     *
+     * @param proyekIds  Submission yang dibandingkan
+     * @param codeLoader Membaca code proyek yang belum ada di index (boleh mengembalikan null)
+     * @param ambang     Kemiripan minimal (persen) agar pasangan dilaporkan
+     */
+    public Hasil check(List<Integer> proyekIds, IntFunction<String> codeLoader, double ambang) {
+        return check(proyekIds, codeLoader, ambang, null);
+    }
+
+    /**
+     * Cari pasangan submission yang mirip, tanpa menghitung kode template
+     *
+     * @param template Kode template/starter dari Guru, null atau kosong jika tidak ada
+     */
+    public Hasil check(List<Integer> proyekIds, IntFunction<String> codeLoader, double ambang, String template) {
+        long start = System.nanoTime();
+
+        List<Integer> ids = new ArrayList<>(proyekIds.size());
+        List<Fingerprint> members = new ArrayList<>(proyekIds.size());
+        for (int proyekId : proyekIds) {
+            Fingerprint fingerprint = fingerprints.get(proyekId);
+            if (fingerprint == null) {
+                String code = codeLoader.apply(proyekId);
+                if (code == null) {
+                    continue;
+                }
+                fingerprint = Fingerprint.of(code);
+                fingerprints.putIfAbsent(proyekId, fingerprint);
+            }
+            if (!fingerprint.isEmpty()) {
+                ids.add(proyekId);
+                members.add(fingerprint);
+            }
+        }
+
+        long[] templateHashes = template == null || template.isBlank() ? null : Fingerprint.allHashes(template);
+        Set<Long> excluded = new HashSet<>();
+        long[][] hashes = withoutBoilerplate(members, templateHashes, excluded);
+        int[][] signatures = new int[hashes.length][];
+        for (int i = 0; i < hashes.length; i++) {
+            // Signature tersimpan hanya berlaku untuk fingerprint lengkap
+            signatures[i] = hashes[i] == members.get(i).getHashes()
+                    ? members.get(i).getSignature() : Fingerprint.minHash(hashes[i]);
+        }
+        Set<Long> candidates = candidatePairs(hashes, signatures);
+
+        List<PasanganMirip> pasangan = new ArrayList<>();
+        for (long pair : candidates) {
+            int a = (int) (pair >>> 32);
+            int b = (int) pair;
+            int same = countSame(hashes[a], hashes[b]);
+            int union = hashes[a].length + hashes[b].length - same;
+            int smaller = Math.min(hashes[a].length, hashes[b].length);
+            if (same == 0) {
+                continue;
+            }
+            double kemiripan = 100.0 * same / union;
+            if (kemiripan >= ambang) {
+                pasangan.add(new PasanganMirip(ids.get(a), ids.get(b), kemiripan, 100.0 * same / smaller, same));
+            }
+        }
+        pasangan.sort((x, y) -> Double.compare(y.getKemiripan(), x.getKemiripan()));
+
+        return new Hasil(members.size(), candidates.size(), excluded.size(), pasangan,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * LSH: pasangan (indeks a < b, digabung dalam 1 long) yang minimal 1 band-nya identik
+     */
+    private static Set<Long> candidatePairs(long[][] hashes, int[][] signatures) {
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        for (int index = 0; index < signatures.length; index++) {
+            if (hashes[index].length == 0) {
+                // Hanya berisi kode bawaan, tidak ada yang dibandingkan
+                continue;
+            }
+            int[] signature = signatures[index];
+            for (int band = 0; band < BANDS; band++) {
+                int bandHash = 1;
+                for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                    bandHash = 31 * bandHash + signature[row];
+                }
+                long key = ((long) band << 32) | (bandHash & 0xFFFFFFFFL);
+                buckets.computeIfAbsent(key, k -> new ArrayList<>(2)).add(index);
+            }
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (List<Integer> bucket : buckets.values()) {
+            for (int i = 0; i < bucket.size(); i++) {
+                for (int j = i + 1; j < bucket.size(); j++) {
+                    candidates.add(((long) bucket.get(i) << 32) | bucket.get(j));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Fingerprint setiap submission tanpa fingerprint kode bawaan: yang ada
+     * di template, atau (tanpa template) yang ada di hampir semua submission
+     *
+     * @param templateHashes Semua hash k-gram template (terurut), null jika tidak ada
+     * @param excluded       Diisi fingerprint yang tidak dihitung
+     */
+    private static long[][] withoutBoilerplate(List<Fingerprint> members, long[] templateHashes,
+            Set<Long> excluded) {
+        long[][] hashes = new long[members.size()][];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = members.get(i).getHashes();
+        }
+
+        Map<Long, Integer> frequency = null;
+        int limit = Integer.MAX_VALUE;
+        if (templateHashes == null) {
+            if (members.size() < BOILERPLATE_MIN_SUBMISSION) {
+                return hashes;
+            }
+            frequency = new HashMap<>();
+            for (long[] memberHashes : hashes) {
+                for (long hash : memberHashes) {
+                    frequency.merge(hash, 1, Integer::sum);
+                }
+            }
+            limit = (int) (members.size() * BOILERPLATE_FRACTION);
+        }
+        for (int i = 0; i < hashes.length; i++) {
+            long[] filtered = new long[hashes[i].length];
+            int count = 0;
+            for (long hash : hashes[i]) {
+                boolean bawaan = templateHashes != null
+                        ? Arrays.binarySearch(templateHashes, hash) >= 0 : frequency.get(hash) > limit;
+                if (bawaan) {
+                    excluded.add(hash);
+                } else {
+                    filtered[count++] = hash;
+                }
+            }
+            hashes[i] = count == filtered.length ? hashes[i] : Arrays.copyOf(filtered, count);
+        }
+        return hashes;
+    }
+
+    /**
+     * Jumlah hash yang ada di kedua array terurut (merge)
+     */
+    private static int countSame(long[] a, long[] b) {
+        int same = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                same++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return same;
+    }
+}
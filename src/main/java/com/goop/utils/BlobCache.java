@@ -0,0 +1,318 @@
+package com.goop.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Class BlobCache - Cache byte[] per key: LRU di memory + folder di disk
+ *
+ * Konsep yang diterapkan:
+ * - LRU: LinkedHashMap dengan access order, entry paling lama tidak
+ *   dipakai dibuang jika total ukuran melewati batas memory
+ * - Disk: 1 file per key (ditulis ke .tmp lalu di-rename, atomic), jadi
+ *   isi cache tetap ada setelah aplikasi di-restart. Jika folder melewati
+ *   batas disk, file dengan waktu akses paling lama dihapus.
+ *
+ * Key harus berupa string aman untuk nama file, biasanya hash hex dari
+ * isi yang di-cache (lihat sha256() dan toKey()). Isi file dicek dengan
+ * CRC32; file rusak dianggap tidak ada dan dihapus.
+ *
+ * Thread-safe. Akses disk dilakukan di thread pemanggil, jadi jangan
+ * dipanggil dari FX thread.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class BlobCache {
+
+    private static final int MAGIC = 0x474F4342; // "GOCB"
+    private static final int HEADER_BYTES = 8;
+    private static final String SUFFIX = ".bin";
+    private static final long PID = ProcessHandle.current().pid();
+
+    private final Path directory;
+    private final long maxMemoryBytes;
+    private final long maxDiskBytes;
+
+    private final Object lock = new Object();
+
+    /**
+     * Key -> value, urutan akses (paling lama di depan)
+     */
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes;
+
+    /**
+     * Perkiraan total ukuran file di folder cache (-1 = belum dihitung)
+     */
+    private final AtomicLong diskBytes = new AtomicLong(-1);
+
+    /**
+     * @param directory      Folder cache di disk, null jika hanya memakai memory
+     * @param maxMemoryBytes Batas total value di memory
+     * @param maxDiskBytes   Batas total file di disk, 0 = tanpa disk
+     */
+    public BlobCache(Path directory, long maxMemoryBytes, long maxDiskBytes) {
+        this.directory = maxDiskBytes > 0 ? directory : null;
+        this.maxMemoryBytes = Math.max(0, maxMemoryBytes);
+        this.maxDiskBytes = Math.max(0, maxDiskBytes);
+    }
+
+    /**
+     * Ambil value dari memory, atau dari disk (lalu disimpan di memory)
+     *
+     * @return value, null jika tidak ada di cache
+     */
+    public byte[] get(String key) {
+        synchronized (lock) {
+            byte[] value = memory.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        if (directory == null) {
+            return null;
+        }
+        byte[] value = readFile(key);
+        if (value != null) {
+            putMemory(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Simpan value di memory dan di disk (value tidak boleh diubah setelah disimpan)
+     */
+    public void put(String key, byte[] value) {
+        putMemory(key, value);
+        if (directory != null) {
+            writeFile(key, value);
+        }
+    }
+
+    /**
+     * Hapus key dari memory dan disk (misal isi file tidak bisa di-decode)
+     */
+    public void remove(String key) {
+        synchronized (lock) {
+            byte[] old = memory.remove(key);
+            if (old != null) {
+                memoryBytes -= old.length;
+            }
+        }
+        if (directory != null) {
+            deleteFile(directory.resolve(key + SUFFIX));
+        }
+    }
+
+    /**
+     * @return Jumlah entry di memory
+     */
+    public int getMemoryCount() {
+        synchronized (lock) {
+            return memory.size();
+        }
+    }
+
+    /**
+     * Digest SHA-256 baru untuk membuat key
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 tidak tersedia", e);
+        }
+    }
+
+    /**
+     * Key hex dari digest (digest di-reset)
+     */
+    public static String toKey(MessageDigest digest) {
+        byte[] hash = digest.digest();
+        StringBuilder key = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private void putMemory(String key, byte[] value) {
+        // Value yang terlalu besar hanya disimpan di disk agar tidak mengusir semua entry lain
+        if (value.length > maxMemoryBytes / 4) {
+            return;
+        }
+        synchronized (lock) {
+            byte[] old = memory.put(key, value);
+            memoryBytes += value.length - (old == null ? 0 : old.length);
+            Iterator<byte[]> eldest = memory.values().iterator();
+            while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+                memoryBytes -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    private byte[] readFile(String key) {
+        Path file = directory.resolve(key + SUFFIX);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("WARNING: Gagal membaca cache " + file + ": " + e.getMessage());
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            System.err.println("WARNING: File cache rusak, dihapus: " + file);
+            deleteFile(file);
+            return null;
+        }
+        int crc = buffer.getInt();
+        byte[] value = new byte[bytes.length - HEADER_BYTES];
+        buffer.get(value);
+        if (crc != crc32(value)) {
+            System.err.println("WARNING: Checksum cache tidak cocok, dihapus: " + file);
+            deleteFile(file);
+            return null;
+        }
+
+        try {
+            // Waktu akses untuk urutan eviction di disk
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Tidak masalah, file hanya lebih cepat dihapus saat eviction
+        }
+        return value;
+    }
+
+    private void writeFile(String key, byte[] value) {
+        Path file = directory.resolve(key + SUFFIX);
+        // Folder cache bisa dipakai beberapa proses sekaligus (node penilaian di 1 komputer)
+        Path temp = directory.resolve(key + "." + PID + "-" + Thread.currentThread().getId() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + value.length);
+        buffer.putInt(MAGIC).putInt(crc32(value)).put(value);
+        try {
+            Files.createDirectories(directory);
+            ensureDiskSize();
+            long previous = Files.exists(file) ? Files.size(file) : 0;
+            Files.write(temp, buffer.array());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (diskBytes.addAndGet(buffer.capacity() - previous) > maxDiskBytes) {
+                evictDisk();
+            }
+        } catch (IOException e) {
+            System.err.println("WARNING: Gagal menyimpan cache " + file + ": " + e.getMessage());
+            deleteFile(temp);
+        }
+    }
+
+    /**
+     * Hitung ukuran folder cache sekali (saat cache pertama kali menulis)
+     */
+    private void ensureDiskSize() throws IOException {
+        if (diskBytes.get() >= 0) {
+            return;
+        }
+        long total = 0;
+        for (Path file : listFiles()) {
+            total += sizeOf(file);
+        }
+        diskBytes.compareAndSet(-1, total);
+    }
+
+    /**
+     * Hapus file yang paling lama tidak diakses sampai ukuran folder di bawah 90% batas
+     */
+    private synchronized void evictDisk() {
+        List<Path> files;
+        try {
+            files = listFiles();
+        } catch (IOException e) {
+            System.err.println("WARNING: Gagal membaca folder cache " + directory + ": " + e.getMessage());
+            return;
+        }
+        Map<Path, Long> modified = new LinkedHashMap<>();
+        long total = 0;
+        for (Path file : files) {
+            try {
+                modified.put(file, Files.getLastModifiedTime(file).toMillis());
+                total += Files.size(file);
+            } catch (IOException e) {
+                // File dihapus thread lain
+            }
+        }
+        List<Path> oldestFirst = new ArrayList<>(modified.keySet());
+        oldestFirst.sort(Comparator.comparingLong(modified::get));
+
+        long target = maxDiskBytes * 9 / 10;
+        for (Path file : oldestFirst) {
+            if (total <= target) {
+                break;
+            }
+            long size = sizeOf(file);
+            if (deleteFile(file)) {
+                total -= size;
+            }
+        }
+        diskBytes.set(total);
+    }
+
+    private List<Path> listFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return files;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static boolean deleteFile(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("WARNING: Gagal menghapus cache " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static int crc32(byte[] value) {
+        CRC32 crc = new CRC32();
+        crc.update(value);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,141 @@
+package com.goop.utils;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Class PasswordHasher - Hash password dengan salt (PBKDF2-HMAC-SHA256)
+ *
+ * Konsep yang diterapkan:
+ * - UTILITY CLASS: Class dengan static methods untuk fungsi-fungsi umum
+ *
+ * Format hash yang disimpan di User.password:
+ *   pbkdf2-sha256$iterasi$salt$hash   (salt dan hash base64, tanpa padding)
+ *
+ * Jumlah iterasi (cost) diatur lewat system property goop.password.iterations
+ * (default 210000, minimal 10000). Hash dengan iterasi berbeda tetap bisa
+ * diverifikasi, dan needsRehash() memberi tahu repository agar hash
+ * diperbarui saat login berikutnya berhasil. Data lama yang masih
+ * menyimpan password plaintext juga diterima dan di-upgrade dengan cara
+ * yang sama.
+ *
+ * Hashing sengaja lambat (puluhan millisecond), jadi jangan dipanggil di
+ * FX thread untuk banyak user sekaligus; login memakai LoginService.
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class PasswordHasher {
+
+    private static final String PREFIX = "pbkdf2-sha256";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BYTES = 32;
+    private static final int DEFAULT_ITERATIONS = 210_000;
+    private static final int MIN_ITERATIONS = 10_000;
+
+    private static final int ITERATIONS = Math.max(MIN_ITERATIONS,
+            Integer.getInteger("goop.password.iterations", DEFAULT_ITERATIONS));
+
+    /**
+     * Salt tetap untuk verifikasi username yang tidak ada, agar waktu
+     * respon login gagal sama dengan login dengan password salah
+     */
+    private static final byte[] DUMMY_SALT = new byte[SALT_BYTES];
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    private PasswordHasher() {
+    }
+
+    /**
+     * Hash password baru dengan salt acak dan iterasi saat ini
+     *
+     * @param password Password plaintext
+     * @return Hash dalam format pbkdf2-sha256$iterasi$salt$hash
+     */
+    public static String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] hash = pbkdf2(password, salt, ITERATIONS, HASH_BYTES);
+        return PREFIX + "$" + ITERATIONS + "$" + ENCODER.encodeToString(salt) + "$" + ENCODER.encodeToString(hash);
+    }
+
+    /**
+     * Cek password terhadap nilai yang tersimpan
+     *
+     * @param password Password yang diinput
+     * @param stored   Hash tersimpan, plaintext (data lama), atau null jika user tidak ada
+     * @return true jika password cocok
+     */
+    public static boolean verify(String password, String stored) {
+        if (password == null) {
+            return false;
+        }
+        if (stored == null) {
+            // User tidak ada: tetap hitung hash agar waktunya sama
+            pbkdf2(password, DUMMY_SALT, ITERATIONS, HASH_BYTES);
+            return false;
+        }
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            System.err.println("WARNING: Format hash password tidak valid");
+            return false;
+        }
+        try {
+            int iterations = Integer.parseInt(parts[1]);
+            byte[] salt = DECODER.decode(parts[2]);
+            byte[] expected = DECODER.decode(parts[3]);
+            if (iterations <= 0 || expected.length == 0) {
+                System.err.println("WARNING: Format hash password tidak valid");
+                return false;
+            }
+            return MessageDigest.isEqual(expected, pbkdf2(password, salt, iterations, expected.length));
+        } catch (IllegalArgumentException e) {
+            System.err.println("WARNING: Format hash password tidak valid: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return true jika nilai tersimpan adalah hash (bukan plaintext data lama)
+     */
+    public static boolean isHashed(String stored) {
+        return stored != null && stored.startsWith(PREFIX + "$");
+    }
+
+    /**
+     * @return true jika nilai tersimpan perlu di-hash ulang (plaintext atau iterasi berbeda)
+     */
+    public static boolean needsRehash(String stored) {
+        if (!isHashed(stored)) {
+            return true;
+        }
+        int start = PREFIX.length() + 1;
+        int end = stored.indexOf('$', start);
+        return end < 0 || !stored.substring(start, end).equals(Integer.toString(ITERATIONS));
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations, int length) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, length * 8);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("PBKDF2 tidak tersedia", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.goop.utils;
+
+import com.goop.data.Repositories;
+import com.goop.data.Session;
+import com.goop.models.User;
+
+/**
+ * Class SessionContext - Session login milik aplikasi desktop ini
+ *
+ * Konsep yang diterapkan:
+ * - UTILITY CLASS: Class dengan static methods untuk fungsi-fungsi umum
+ * - ENCAPSULATION: Token session disimpan private, controller hanya
+ *   mendapatkan user lewat getUser()
+ *
+ * Cara kerja:
+ * 1. LoginController memanggil begin() dengan session dari LoginService
+ * 2. Controller memanggil getUser() untuk mendapatkan user yang login
+ *    (null jika belum login atau session sudah expired karena idle)
+ * 3. Logout / aplikasi ditutup memanggil end()
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public class SessionContext {
+
+    /**
+     * Token session aktif, null jika belum login
+     */
+    private static volatile String token;
+
+    /**
+     * Memakai session hasil login sebagai session aktif
+     * Session sebelumnya (jika ada) ditutup
+     *
+     * @param session Session dari LoginService.login()
+     */
+    public static void begin(Session session) {
+        Repositories.sessions().invalidate(token);
+        token = session.getToken();
+    }
+
+    /**
+     * Logout: menutup session aktif
+     */
+    public static void end() {
+        String current = token;
+        token = null;
+        Session session = Repositories.sessions().invalidate(current);
+        if (session != null) {
+            System.out.println("Logout: " + session.getUser().getNamaLengkap());
+        }
+    }
+
+    /**
+     * @return Session aktif, null jika belum login atau sudah expired
+     */
+    public static Session getSession() {
+        return Repositories.sessions().get(token);
+    }
+
+    /**
+     * @return User yang sedang login, null jika belum login atau session sudah expired
+     */
+    public static User getUser() {
+        Session session = getSession();
+        return session != null ? session.getUser() : null;
+    }
+
+    /**
+     * Sama seperti getUser(), tetapi jika session sudah berakhir user
+     * diberi tahu dan diarahkan kembali ke halaman login
+     *
+     * @return User yang sedang login, null jika sudah diarahkan ke login
+     */
+    public static User requireUser() {
+        User user = getUser();
+        if (user == null) {
+            token = null;
+            System.err.println("WARNING: Session tidak ada atau sudah expired");
+            SceneManager.showError("Session Berakhir", "Session Anda sudah berakhir, silakan login kembali.");
+            SceneManager.loadScene("login.fxml");
+            SceneManager.setTitle("Login");
+        }
+        return user;
+    }
+}
@@ -15,6 +15,15 @@ module com.goop {
     requires javafx.fxml;
     requires javafx.graphics;
 
+    // JDBC + driver H2 (backend goop.storage=jdbc)
+    requires java.sql;
+    requires com.h2database;
+
+    // javax.tools untuk compile kode siswa (CompilerService)
+    requires java.compiler;
+    // javac Tree API untuk membaca struktur kode siswa (rubrik penilaian)
+    requires jdk.compiler;
+
     // Open packages untuk JavaFX FXML reflection
     // FXML perlu akses ke controller class via reflection
     opens com.goop to javafx.fxml;
@@ -28,5 +37,10 @@ module com.goop {
     exports com.goop.controllers;
     exports com.goop.models;
     exports com.goop.data;
+    exports com.goop.data.jdbc;
+    exports com.goop.compiler;
+    exports com.goop.runner;
+    exports com.goop.grading;
+    exports com.goop.similarity;
     exports com.goop.utils;
 }
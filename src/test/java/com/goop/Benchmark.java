@@ -0,0 +1,115 @@
+package com.goop;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Class Benchmark - Pengukur waktu sederhana untuk benchmark di src/test
+ *
+ * Benchmark ditandai @Tag("benchmark") dan hanya dijalankan dengan
+ * mvn test -Pbenchmark. Hasilnya dicetak ke output test, bukan di-assert,
+ * karena angkanya tergantung mesin.
+ *
+ * Cara kerja measure():
+ * - Jumlah iterasi per ronde digandakan sampai 1 ronde >= ROUND_MILLIS
+ *   (sekaligus pemanasan JIT)
+ * - Lalu ROUNDS ronde diukur dan diambil median waktu per operasi
+ *
+ * @author GOOP Development Team
+ * @version 1.0
+ */
+public final class Benchmark {
+
+    public static final String TAG = "benchmark";
+
+    private static final long ROUND_MILLIS = 100;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Hasil task ditampung di sini agar JIT tidak membuang kode yang diukur
+     */
+    private static volatile long sink;
+
+    /**
+     * Operasi yang diukur
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * Jalankan operasi sebanyak iterations kali
+         *
+         * @return Nilai apa saja dari hasil operasi (mencegah dead code elimination)
+         */
+        long run(int iterations) throws Exception;
+    }
+
+    private Benchmark() {
+    }
+
+    /**
+     * @return Median nanodetik per operasi
+     */
+    public static double measure(Task task) throws Exception {
+        int iterations = 1;
+        while (true) {
+            long start = System.nanoTime();
+            sink += task.run(iterations);
+            long elapsed = System.nanoTime() - start;
+            if (elapsed >= ROUND_MILLIS * 1_000_000 || iterations >= 1 << 30) {
+                break;
+            }
+            iterations *= 2;
+        }
+        double[] nsPerOp = new double[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += task.run(iterations);
+            nsPerOp[round] = (double) (System.nanoTime() - start) / iterations;
+        }
+        Arrays.sort(nsPerOp);
+        return nsPerOp[ROUNDS / 2];
+    }
+
+    /**
+     * Cetak 1 baris hasil, misal "[bench] EntityTable get 1k: index 12.3 ns/op"
+     */
+    public static void report(String format, Object... args) {
+        System.out.println("[bench] " + String.format(format, args));
+    }
+
+    /**
+     * Byte yang dialokasikan thread ini per operasi (rata-rata dari iterations kali)
+     */
+    public static double allocatedBytesPerOp(int iterations, Task task) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        sink += task.run(iterations);
+        long before = threads.getThreadAllocatedBytes(thread);
+        sink += task.run(iterations);
+        return (double) (threads.getThreadAllocatedBytes(thread) - before) / iterations;
+    }
+
+    /**
+     * Jumlah GC (semua collector) sejak JVM start
+     */
+    public static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Perkiraan heap terpakai setelah GC (byte)
+     */
+    public static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
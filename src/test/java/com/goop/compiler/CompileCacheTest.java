@@ -0,0 +1,79 @@
+package com.goop.compiler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test CompileCache: key stabil per source dan opsi compiler, dan hasil
+ * compile (termasuk diagnostic) tetap terbaca setelah restart.
+ */
+class CompileCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keyStabil() {
+        CompileCache cache = new CompileCache(dir, CompilerService.OPTIONS);
+        String key = cache.key(List.of("class A {}", "class B {}"));
+
+        assertEquals(key, cache.key(List.of("class A {}", "class B {}")));
+        assertEquals(key, new CompileCache(dir, CompilerService.OPTIONS).key(List.of("class A {}", "class B {}")));
+        // Urutan file dan batas antar file ikut diperhitungkan
+        assertNotEquals(key, cache.key(List.of("class B {}", "class A {}")));
+        assertNotEquals(cache.key(List.of("ab", "c")), cache.key(List.of("a", "bc")));
+        assertNotEquals(key, new CompileCache(dir, List.of("-proc:none")).key(List.of("class A {}", "class B {}")));
+    }
+
+    @Test
+    void hasilTersimpanSetelahRestart() {
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        classes.put("Main", new byte[] {(byte) 0xCA, (byte) 0xFE, 1, 2});
+        classes.put("Main$Dalam", new byte[] {3, 4, 5});
+        List<CompileDiagnostic> diagnostics = List.of(
+                new CompileDiagnostic(CompileDiagnostic.Kind.WARNING, 3, 9, "unchecked call"));
+        CompileCache cache = new CompileCache(dir, CompilerService.OPTIONS);
+        String key = cache.key(List.of("public class Main {}"));
+        cache.put(key, new CompileResult(true, classes, diagnostics, "Main", 120));
+
+        CompileResult cached = new CompileCache(dir, CompilerService.OPTIONS).get(key, System.nanoTime());
+        assertNotNull(cached);
+        assertTrue(cached.isCached());
+        assertTrue(cached.isSuccess());
+        assertEquals("Main", cached.getMainClass());
+        assertEquals(List.of("Main", "Main$Dalam"), List.copyOf(cached.getClasses().keySet()));
+        assertArrayEquals(classes.get("Main$Dalam"), cached.getClasses().get("Main$Dalam"));
+        CompileDiagnostic diagnostic = cached.getDiagnostics().get(0);
+        assertEquals(CompileDiagnostic.Kind.WARNING, diagnostic.getKind());
+        assertEquals(3, diagnostic.getLine());
+        assertEquals(9, diagnostic.getColumn());
+        assertEquals("unchecked call", diagnostic.getMessage());
+    }
+
+    @Test
+    void compileGagalJugaDiCache() {
+        CompileCache cache = new CompileCache(dir, CompilerService.OPTIONS);
+        String key = cache.key(List.of("class A {"));
+        cache.put(key, new CompileResult(false, Map.of(), List.of(
+                new CompileDiagnostic(CompileDiagnostic.Kind.ERROR, 1, 10, "reached end of file")), null, 50));
+
+        CompileResult cached = new CompileCache(dir, CompilerService.OPTIONS).get(key, System.nanoTime());
+        assertFalse(cached.isSuccess());
+        assertNull(cached.getMainClass());
+        assertEquals(1, cached.getErrorCount());
+        assertNull(cache.get(cache.key(List.of("class B {")), System.nanoTime()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.goop.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test CompilerService: diagnostic dengan nomor baris, pencarian main class
+ * pada source dengan beberapa class, dan hasil compile dari cache.
+ */
+class CompilerServiceTest {
+
+    private final CompilerService compiler = CompilerService.getInstance();
+
+    @Test
+    void diagnosticPunyaNomorBaris() throws Exception {
+        String source = "public class Main {\n"
+                + "    public static void main(String[] args) {\n"
+                + "        int ok = 1;\n"
+                + "        int salah = \"teks\";\n"
+                + "        System.out.println(ok + tidakAda);\n"
+                + "    }\n"
+                + "}\n" + unik();
+        List<CompileDiagnostic> dilaporkan = new ArrayList<>();
+
+        CompileResult result = compiler.compile(source, dilaporkan::add).get();
+
+        assertFalse(result.isSuccess());
+        assertNull(result.getMainClass());
+        assertTrue(result.getClasses().isEmpty());
+        assertEquals(2, result.getErrorCount(), result.getDiagnostics().toString());
+        assertEquals(List.of(4L, 5L), List.of(result.getDiagnostics().get(0).getLine(),
+                result.getDiagnostics().get(1).getLine()));
+        assertEquals(21, result.getDiagnostics().get(0).getColumn());
+        assertTrue(result.getDiagnostics().get(1).getMessage().contains("tidakAda"));
+        assertEquals(result.getDiagnostics(), dilaporkan);
+    }
+
+    @Test
+    void mainClassDicariDariClassPublic() throws Exception {
+        // Class lain dengan main() ditulis lebih dulu, class public tetap dipilih
+        CompileResult result = compiler.compile("class Pembantu {\n"
+                + "    public static void main(String[] args) { }\n"
+                + "}\n"
+                + "public class Program {\n"
+                + "    public static void main(String[] args) { new Pembantu(); }\n"
+                + "}\n" + unik(), null).get();
+        assertTrue(result.isSuccess());
+        assertEquals("Program", result.getMainClass());
+        assertEquals(2, result.getClasses().size());
+
+        // Class public tanpa main(): main class diambil dari class lain
+        result = compiler.compile("public class Main {\n"
+                + "    int nilai;\n"
+                + "}\n"
+                + "class Aplikasi {\n"
+                + "    static void main() { }\n"
+                + "    public static void main(String[] args) { }\n"
+                + "}\n" + unik(), null).get();
+        assertTrue(result.isSuccess());
+        assertEquals("Aplikasi", result.getMainClass());
+
+        // main() yang tidak static tidak dihitung
+        result = compiler.compile("public class Main {\n"
+                + "    public void main(String[] args) { }\n"
+                + "}\n" + unik(), null).get();
+        assertTrue(result.isSuccess());
+        assertNull(result.getMainClass());
+    }
+
+    @Test
+    void mainClassDariSourcePertama() throws Exception {
+        CompileResult result = compiler.compile(List.of(
+                "public class Siswa {\n"
+                        + "    public static void main(String[] args) { Cek.jalankan(); }\n"
+                        + "}\n" + unik(),
+                "public class Cek {\n"
+                        + "    static void jalankan() { }\n"
+                        + "    public static void main(String[] args) { }\n"
+                        + "}\n"), null).get();
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+        assertEquals("Siswa", result.getMainClass());
+        assertTrue(result.getClasses().containsKey("Cek"));
+    }
+
+    @Test
+    void compileUlangDariCache() throws Exception {
+        String source = "public class Main {\n"
+                + "    public static void main(String[] args) {\n"
+                + "        java.util.List raw = new java.util.ArrayList();\n"
+                + "        raw.add(args);\n"
+                + "    }\n"
+                + "}\n" + unik();
+
+        CompileResult first = compiler.compile(source, null).get();
+        List<CompileDiagnostic> dilaporkan = new ArrayList<>();
+        CompileResult second = compiler.compile(source, dilaporkan::add).get();
+
+        assertFalse(first.isCached());
+        assertTrue(second.isCached());
+        assertTrue(second.isSuccess());
+        assertEquals("Main", second.getMainClass());
+        assertArrayEquals(first.getClasses().get("Main"), second.getClasses().get("Main"));
+        // Warning unchecked dari compile pertama tetap dilaporkan ke listener
+        assertEquals(1, second.getDiagnostics().size());
+        assertEquals(CompileDiagnostic.Kind.WARNING, second.getDiagnostics().get(0).getKind());
+        assertEquals(4, second.getDiagnostics().get(0).getLine());
+        assertEquals(second.getDiagnostics(), dilaporkan);
+
+        // Source berbeda (walau hanya komentar) tidak memakai cache
+        assertFalse(compiler.compile(source + "// ubah\n", null).get().isCached());
+    }
+
+    /**
+     * Komentar unik agar source tidak pernah ada di cache dari run sebelumnya
+     */
+    private static String unik() {
+        return "// " + UUID.randomUUID() + "\n";
+    }
+}
@@ -0,0 +1,176 @@
+package com.goop.data;
+
+import com.goop.models.PengerjaanTes;
+import com.goop.models.Proyek;
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test checkpoint DataStore: data dibuka ulang dari snapshot dan sisa
+ * write-ahead log di folder yang sama, seperti aplikasi yang di-restart.
+ * Termasuk crash setelah snapshot ditulis tapi sebelum segment lama dihapus.
+ */
+class DataStoreCheckpointTest {
+
+    private static final int SISWA_ID = 7_000_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void codeDariSnapshotLamaTetapAdaDanCodeProyekTerhapusDibuang() throws Exception {
+        int dipakai;
+        int tidakDibuka;
+        int dihapus;
+        DataStore store = open();
+        store.addSiswa(new Siswa(SISWA_ID, "checkpoint-siswa", "x", "c@goop.id", "Siswa Checkpoint"));
+        dipakai = addProyek(store);
+        tidakDibuka = addProyek(store);
+        dihapus = addProyek(store);
+        store.saveProyekCode(dipakai, "class A { }");
+        store.saveProyekCode(tidakDibuka, "class B { }");
+        store.saveProyekCode(dihapus, "class C { }");
+        store.shutdown();
+
+        // Code di snapshot baru di-decode saat dibuka; 1 code dibuka, 1 tidak
+        store = open();
+        assertEquals("class A { }", store.getProyekCode(dipakai));
+        store.deleteProyek(dihapus);
+        store.checkpoint();
+        store.closeWithoutCheckpoint();
+
+        store = open();
+        assertEquals("class A { }", store.getProyekCode(dipakai));
+        assertEquals("class B { }", store.getProyekCode(tidakDibuka));
+        assertNull(store.getProyekCode(dihapus));
+        store.shutdown();
+    }
+
+    @Test
+    void crashSebelumSegmentLamaDihapus() throws Exception {
+        Crash crash = crashSetelahSnapshot();
+
+        // Segment lama masih ada di folder, seperti saat crash
+        for (Map.Entry<Path, byte[]> segment : crash.oldSegments.entrySet()) {
+            Files.write(segment.getKey(), segment.getValue());
+        }
+        assertCrashState(crash);
+    }
+
+    @Test
+    void recordYangSudahAdaDiSnapshotDiReplayUlang() throws Exception {
+        Crash crash = crashSetelahSnapshot();
+
+        // Kasus terburuk: semua record sebelum checkpoint ikut di segment
+        // sesudah snapshot (seperti perubahan yang masuk saat snapshot
+        // ditulis), jadi di-replay lagi di atas snapshot
+        Path newSegment = segments().lastEntry().getValue();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (byte[] segment : crash.oldSegments.values()) {
+            records.write(segment);
+        }
+        records.write(Files.readAllBytes(newSegment));
+        Files.write(newSegment, records.toByteArray());
+        assertCrashState(crash);
+    }
+
+    /**
+     * Isi data, checkpoint, ubah data lagi, lalu crash. Segment yang
+     * dihapus checkpoint dikembalikan oleh test
+     */
+    private Crash crashSetelahSnapshot() throws Exception {
+        Crash crash = new Crash();
+        DataStore store = open();
+        store.addSiswa(new Siswa(SISWA_ID, "checkpoint-siswa", "x", "c@goop.id", "Siswa Checkpoint"));
+        crash.tesId = store.getAllTesKognitif().get(0).getId();
+        crash.dipakai = addProyek(store);
+        crash.dihapus = addProyek(store);
+        store.saveProyekCode(crash.dipakai, "class A { }");
+        store.saveProyekCode(crash.dihapus, "class C { }");
+        store.saveHasilTes(SISWA_ID, crash.tesId, 40, 60, new String[] {"A"});
+        store.saveHasilTes(SISWA_ID, crash.tesId, 70, 50, new String[] {"B"});
+        store.deleteProyek(crash.dihapus);
+
+        Map<Path, byte[]> before = new TreeMap<>();
+        for (Path segment : segments().values()) {
+            before.put(segment, Files.readAllBytes(segment));
+        }
+        store.checkpoint();
+        for (Map.Entry<Path, byte[]> segment : before.entrySet()) {
+            if (!Files.exists(segment.getKey())) {
+                crash.oldSegments.put(segment.getKey(), segment.getValue());
+            }
+        }
+        assertFalse(crash.oldSegments.isEmpty());
+
+        store.saveHasilTes(SISWA_ID, crash.tesId, 90, 40, new String[] {"C"});
+        store.saveProyekCode(crash.dipakai, "class A { int versi = 2; }");
+        store.closeWithoutCheckpoint();
+        return crash;
+    }
+
+    private void assertCrashState(Crash crash) throws IOException {
+        for (int restart = 0; restart < 2; restart++) {
+            DataStore store = open();
+            List<PengerjaanTes> riwayat = store.getRiwayatTesSiswa(SISWA_ID);
+            assertEquals(3, riwayat.size());
+            assertEquals(40, riwayat.get(0).getSkor());
+            assertEquals(70, riwayat.get(1).getSkor());
+            assertEquals(90, riwayat.get(2).getSkor());
+            assertEquals(90, store.getHasilTes(SISWA_ID, crash.tesId));
+            assertEquals(3, store.getHasilTesSiswa(SISWA_ID).get(0).getJumlahPercobaan());
+            assertEquals("class A { int versi = 2; }", store.getProyekCode(crash.dipakai));
+            assertNull(store.getProyekById(crash.dihapus));
+            assertNull(store.getProyekCode(crash.dihapus));
+            assertEquals(1, store.getProyekBySiswaId(SISWA_ID).size());
+            // Restart kedua membaca snapshot dari checkpoint saat shutdown
+            store.shutdown();
+        }
+    }
+
+    /**
+     * Segment write-ahead log di folder data, urut nomor segment
+     */
+    private TreeMap<Path, Path> segments() throws IOException {
+        TreeMap<Path, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "wal-*.log")) {
+            for (Path file : files) {
+                segments.put(file.getFileName(), file);
+            }
+        }
+        return segments;
+    }
+
+    private static final class Crash {
+        final Map<Path, byte[]> oldSegments = new TreeMap<>();
+        int tesId;
+        int dipakai;
+        int dihapus;
+    }
+
+    private DataStore open() {
+        return new DataStore(dir, "sync", 0);
+    }
+
+    private static int addProyek(DataStore store) {
+        Proyek proyek = new Proyek(0, "Proyek checkpoint", "Deskripsi", LocalDate.now(), Proyek.STATUS_SELESAI, 0,
+                SISWA_ID, 1);
+        store.addProyek(proyek);
+        return proyek.getId();
+    }
+}
@@ -0,0 +1,225 @@
+package com.goop.data;
+
+import com.goop.models.Proyek;
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test DataStore: writer dan reader berjalan bersamaan, lalu semua
+ * index (ID, username, siswa -> proyek) diperiksa konsisten dengan data.
+ *
+ * Reader juga memeriksa invariant selama writer berjalan, dan throughput
+ * campuran baca/tulis dicetak ke output test.
+ */
+class DataStoreConcurrencyTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int SISWA_PER_WRITER = 200;
+    private static final int OPS_PER_WRITER = 4_000;
+    private static final int ID_BASE = 5_000_000;
+
+    private final DataStore store = DataStore.getInstance();
+
+    @Test
+    void indexTetapKonsistenSaatDiubahBanyakThread() throws Exception {
+        // Siswa milik setiap writer, username yang sudah diganti, dan proyek yang belum dihapus
+        List<List<Siswa>> siswaPerWriter = new ArrayList<>();
+        Set<String> usernameLama = ConcurrentHashMap.newKeySet();
+        Map<Integer, Boolean> proyekHidup = new ConcurrentHashMap<>();
+        List<Integer> semuaSiswaId = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            siswaPerWriter.add(new ArrayList<>());
+            for (int i = 0; i < SISWA_PER_WRITER; i++) {
+                semuaSiswaId.add(siswaId(w, i));
+            }
+        }
+
+        // Pemilik username ini tidak pernah diubah; rename ke username ini harus ditolak
+        Siswa pemilik = new Siswa(ID_BASE - 1, "stress-pemilik", "x", "s@goop.id", "Pemilik");
+        assertTrue(store.addSiswa(pemilik));
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong reads = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            threads.add(thread("writer-" + w, failure, () -> {
+                start.await();
+                List<Siswa> own = siswaPerWriter.get(writer);
+                List<Integer> ownProyek = new ArrayList<>();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < SISWA_PER_WRITER; i++) {
+                    Siswa siswa = new Siswa(siswaId(writer, i), "stress-" + writer + "-" + i, "x",
+                            "s@goop.id", "Siswa " + i);
+                    assertTrue(store.addSiswa(siswa));
+                    // Username yang sama ditolak
+                    assertFalse(store.addSiswa(new Siswa(siswaId(writer, i) + 1_000_000, siswa.getUsername(),
+                            "x", "s@goop.id", "Duplikat")));
+                    own.add(siswa);
+                    writes.addAndGet(2);
+                }
+                for (int op = 0; op < OPS_PER_WRITER; op++) {
+                    int pilihan = random.nextInt(10);
+                    Siswa siswa = own.get(random.nextInt(own.size()));
+                    if (pilihan < 4) {
+                        Proyek proyek = new Proyek(0, "Stress " + op, "", LocalDate.now(),
+                                Proyek.STATUS_BELUM_DIKERJAKAN, 0, siswa.getId(), 1);
+                        store.addProyek(proyek);
+                        ownProyek.add(proyek.getId());
+                        proyekHidup.put(proyek.getId(), true);
+                    } else if (pilihan < 7 && !ownProyek.isEmpty()) {
+                        Proyek proyek = store.getProyekById(ownProyek.get(random.nextInt(ownProyek.size())));
+                        proyek.setSiswaId(siswa.getId());
+                        if (random.nextBoolean()) {
+                            // Validasi proyek mengubah rata-rata skor proyek siswa
+                            proyek.setStatus(Proyek.STATUS_TERVALIDASI);
+                            proyek.setSkor(random.nextInt(101));
+                        }
+                        store.updateProyek(proyek);
+                    } else if (pilihan < 8 && !ownProyek.isEmpty()) {
+                        int id = ownProyek.remove(random.nextInt(ownProyek.size()));
+                        assertTrue(store.deleteProyek(id));
+                        proyekHidup.remove(id);
+                    } else if (pilihan < 9) {
+                        String lama = siswa.getUsername();
+                        siswa.setUsername(lama + "r");
+                        assertTrue(store.updateSiswa(siswa));
+                        usernameLama.add(lama);
+                    } else {
+                        // Rename ke username user lain harus ditolak dan dikembalikan
+                        String lama = siswa.getUsername();
+                        siswa.setUsername(pemilik.getUsername());
+                        assertFalse(store.updateSiswa(siswa));
+                        assertEquals(lama, siswa.getUsername());
+                    }
+                    writes.incrementAndGet();
+                }
+            }));
+        }
+
+        for (int r = 0; r < READERS; r++) {
+            threads.add(thread("reader-" + r, failure, () -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (writing.get()) {
+                    int id = semuaSiswaId.get(random.nextInt(semuaSiswaId.size()));
+                    Siswa siswa = store.getSiswaById(id);
+                    if (siswa != null) {
+                        assertEquals(id, siswa.getId());
+                    }
+                    for (Proyek proyek : store.getProyekBySiswaId(id)) {
+                        // Index tidak boleh menunjuk ke proyek yang sudah dihapus
+                        assertNotNull(proyek);
+                    }
+                    store.countProyekBySiswaId(id);
+                    assertTrue(store.isUsernameTaken(pemilik.getUsername(), null));
+                    // State Siswa yang diturunkan dari proyek dibaca di bawah userLock
+                    // (seperti checkpoint): list proyek tidak boleh berubah selama diiterasi
+                    long[] total = new long[1];
+                    store.forEachSiswa(item -> {
+                        for (int proyekId : item.getProyekIds()) {
+                            total[0] += proyekId;
+                        }
+                        total[0] += (long) item.hitungRataSkorProyek();
+                    });
+                    reads.addAndGet(5);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        long begin = System.nanoTime();
+        start.countDown();
+        for (int i = 0; i < WRITERS; i++) {
+            threads.get(i).join();
+        }
+        writing.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        if (failure.get() != null) {
+            throw new AssertionError("Thread gagal", failure.get());
+        }
+        System.out.printf("DataStore stress: %d writer + %d reader, %d tulis + %d baca dalam %.2f s "
+                        + "(%.0f tulis/s, %.0f baca/s)%n",
+                WRITERS, READERS, writes.get(), reads.get(), seconds, writes.get() / seconds, reads.get() / seconds);
+
+        // Index ID dan username
+        for (List<Siswa> own : siswaPerWriter) {
+            for (Siswa siswa : own) {
+                assertEquals(siswa, store.getSiswaById(siswa.getId()));
+                assertTrue(store.isUsernameTaken(siswa.getUsername(), null));
+                assertFalse(store.isUsernameTaken(siswa.getUsername(), siswa));
+            }
+        }
+        for (String username : usernameLama) {
+            assertFalse(store.isUsernameTaken(username, null), "Username lama masih di index: " + username);
+        }
+
+        // Index siswa -> proyek
+        Set<Integer> terindex = new HashSet<>();
+        for (int siswaId : semuaSiswaId) {
+            List<Proyek> proyekSiswa = store.getProyekBySiswaId(siswaId);
+            assertEquals(proyekSiswa.size(), store.countProyekBySiswaId(siswaId));
+            Set<Integer> milikSiswa = new HashSet<>();
+            for (Proyek proyek : proyekSiswa) {
+                assertEquals(siswaId, proyek.getSiswaId());
+                assertTrue(terindex.add(proyek.getId()), "Proyek terindex di 2 siswa: " + proyek.getId());
+                milikSiswa.add(proyek.getId());
+            }
+            // Siswa.proyekIds dan rata-rata skor proyek sama dengan index dan ringkasan
+            Siswa siswa = store.getSiswaById(siswaId);
+            assertEquals(milikSiswa, new HashSet<>(siswa.getProyekIds()));
+            assertEquals(store.getSkorProyekSiswa(siswaId).getRataRata(), siswa.hitungRataSkorProyek(), 1e-9);
+        }
+        assertEquals(proyekHidup.keySet(), terindex);
+        for (int id : proyekHidup.keySet()) {
+            assertNotNull(store.getProyekById(id));
+        }
+        assertFalse(store.isUsernameTaken(pemilik.getUsername(), pemilik));
+        assertNull(store.getSiswaById(ID_BASE - 2));
+    }
+
+    private static int siswaId(int writer, int index) {
+        return ID_BASE + writer * SISWA_PER_WRITER + index;
+    }
+
+    private interface Body {
+        void run() throws Exception;
+    }
+
+    private static Thread thread(String name, AtomicReference<Throwable> failure, Body body) {
+        return new Thread(() -> {
+            try {
+                body.run();
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }, name);
+    }
+}
@@ -0,0 +1,58 @@
+package com.goop.data;
+
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test DataStore saat write-ahead log gagal ditulis: mutation harus gagal
+ * (DataAccessException), bukan dilaporkan berhasil tanpa tersimpan.
+ */
+class DataStoreWalTest {
+
+    private static final int SISWA_ID = 7_100_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void mutationGagalSetelahWalRusak() throws Exception {
+        DataStore store = new DataStore(dir, "sync", 0);
+        store.addSiswa(siswa(0));
+
+        // Simulasi I/O error: file segment tidak bisa ditulis lagi
+        channelOf(store).close();
+        assertThrows(DataAccessException.class, () -> store.addSiswa(siswa(1)));
+        // Log sudah rusak: mutation berikutnya juga ditolak
+        assertThrows(DataAccessException.class, () -> store.addSiswa(siswa(2)));
+        assertThrows(IOException.class, store::closeWithoutCheckpoint);
+
+        DataStore reopened = new DataStore(dir, "sync", 0);
+        assertEquals("wal-siswa-0", reopened.getSiswaById(SISWA_ID).getUsername());
+        assertNull(reopened.getSiswaById(SISWA_ID + 1));
+        assertNull(reopened.getSiswaById(SISWA_ID + 2));
+        reopened.closeWithoutCheckpoint();
+    }
+
+    private static Siswa siswa(int i) {
+        return new Siswa(SISWA_ID + i, "wal-siswa-" + i, "x", "w@goop.id", "Siswa WAL " + i);
+    }
+
+    private static FileChannel channelOf(DataStore store) throws ReflectiveOperationException {
+        Field walField = DataStore.class.getDeclaredField("wal");
+        walField.setAccessible(true);
+        Object wal = walField.get(store);
+        Field channelField = WriteAheadLog.class.getDeclaredField("channel");
+        channelField.setAccessible(true);
+        return (FileChannel) channelField.get(wal);
+    }
+}
@@ -0,0 +1,90 @@
+package com.goop.data;
+
+import com.goop.Benchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark lookup dan update by ID: index primary key EntityTable vs
+ * linear scan ArrayList (cara lama DataStore) untuk 1k, 100k dan 1M row.
+ */
+@Tag(Benchmark.TAG)
+class EntityTableBenchmark {
+
+    private static final int[] SIZES = {1_000, 100_000, 1_000_000};
+
+    private static final class Row {
+        private final int id;
+
+        Row(int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    void indexVsScan() throws Exception {
+        for (int size : SIZES) {
+            EntityTable<Row> table = new EntityTable<>(row -> row.id);
+            List<Row> list = new ArrayList<>(size);
+            for (int id = 1; id <= size; id++) {
+                Row row = new Row(id);
+                table.add(row);
+                list.add(row);
+            }
+            int[] keys = new SplittableRandom(size).ints(1 << 16, 1, size + 1).toArray();
+            int mask = keys.length - 1;
+
+            double index = Benchmark.measure(iterations -> {
+                long found = 0;
+                for (int i = 0; i < iterations; i++) {
+                    found += table.get(keys[i & mask]).id;
+                }
+                return found;
+            });
+            double scan = Benchmark.measure(iterations -> {
+                long found = 0;
+                for (int i = 0; i < iterations; i++) {
+                    found += scan(list, keys[i & mask]).id;
+                }
+                return found;
+            });
+            double replace = Benchmark.measure(iterations -> {
+                long found = 0;
+                for (int i = 0; i < iterations; i++) {
+                    found += table.replace(new Row(keys[i & mask])).id;
+                }
+                return found;
+            });
+            double scanReplace = Benchmark.measure(iterations -> {
+                long found = 0;
+                for (int i = 0; i < iterations; i++) {
+                    int key = keys[i & mask];
+                    for (int j = 0; j < list.size(); j++) {
+                        if (list.get(j).id == key) {
+                            found += list.set(j, new Row(key)).id;
+                            break;
+                        }
+                    }
+                }
+                return found;
+            });
+
+            Benchmark.report("EntityTable %,d row: get index %.1f ns/op, scan %.1f ns/op (%.0fx); "
+                            + "update index %.1f ns/op, scan %.1f ns/op (%.0fx)",
+                    size, index, scan, scan / index, replace, scanReplace, scanReplace / replace);
+        }
+    }
+
+    private static Row scan(List<Row> rows, int id) {
+        for (Row row : rows) {
+            if (row.id == id) {
+                return row;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.goop.data;
+
+import com.goop.data.jdbc.JdbcDatabase;
+import com.goop.models.HasilTesSiswa;
+import com.goop.models.Siswa;
+import com.goop.models.TesKognitif;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test getHasilTesSiswa: hasilnya harus sama dengan cara lama (getHasilTes
+ * untuk setiap tes di katalog, skor 0 dilewati), kecuali skor 0 yang
+ * sungguhan sekarang ikut muncul. Termasuk hasil untuk tes yang sudah tidak
+ * ada di katalog dan siswa yang sudah tidak ada.
+ * Dijalankan untuk DataStore dan backend JDBC.
+ */
+class HasilTesSiswaTest {
+
+    private static final int ID_BASE = 7_400_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void dataStoreSamaDenganCaraLama() {
+        DataStore store = new DataStore(dir, "off", 0);
+        check(store, store, ID_BASE);
+    }
+
+    @Test
+    void jdbcSamaDenganCaraLama() throws Exception {
+        try (JdbcDatabase database = JdbcDatabase.open(JdbcDatabase.defaultUrl(dir), 2)) {
+            check(database.getUserRepository(), database.getTesRepository(), ID_BASE + 100);
+        }
+    }
+
+    private static void check(UserRepository users, TesRepository tesRepository, int siswaId) {
+        int lain = siswaId + 1;
+        int tanpaData = siswaId + 2;
+        users.addSiswa(new Siswa(siswaId, "hasil-" + siswaId, "x", "h@goop.id", "Siswa Hasil"));
+        users.addSiswa(new Siswa(lain, "hasil-" + lain, "x", "h@goop.id", "Siswa Lain"));
+        int[] tes = new int[4];
+        for (int i = 0; i < tes.length; i++) {
+            TesKognitif item = new TesKognitif(0, "Tes Hasil " + i, 15);
+            tesRepository.addTesKognitif(item);
+            tes[i] = item.getId();
+        }
+
+        tesRepository.saveHasilTes(siswaId, tes[0], 70, 100, new String[] {"A"});
+        tesRepository.saveHasilTes(siswaId, tes[0], 85, 90, new String[] {"B"});
+        tesRepository.saveHasilTes(siswaId, tes[1], 0, 30, new String[] {null});
+        tesRepository.saveHasilTes(siswaId, tes[2], 40, 60, new String[] {"C"});
+        tesRepository.saveHasilTes(lain, tes[0], 99, 80, new String[] {"D"});
+        // Tidak ada hapus tes/siswa di repository: hasil untuk tes yang tidak
+        // ada di katalog dan siswa yang tidak terdaftar mewakili data yang
+        // tersisa setelah tes/siswa dihapus
+        int tesTerhapus = tes[3] + 1_000;
+        int siswaTerhapus = siswaId + 50;
+        tesRepository.saveHasilTes(siswaId, tesTerhapus, 55, 10, new String[] {"A"});
+        tesRepository.saveHasilTes(siswaTerhapus, tes[2], 65, 10, new String[] {"A"});
+
+        for (int id : new int[] {siswaId, lain, tanpaData, siswaTerhapus}) {
+            List<HasilTesSiswa> hasil = tesRepository.getHasilTesSiswa(id);
+            Map<Integer, Double> tanpaNol = new LinkedHashMap<>();
+            for (HasilTesSiswa item : hasil) {
+                if (item.getSkor() > 0) {
+                    tanpaNol.put(item.getTes().getId(), item.getSkor());
+                }
+            }
+            assertEquals(caraLama(tesRepository, id), tanpaNol, "siswa " + id);
+
+            List<Integer> tesIds = new ArrayList<>();
+            for (HasilTesSiswa item : hasil) {
+                tesIds.add(item.getTes().getId());
+            }
+            List<Integer> urut = new ArrayList<>(tesIds);
+            urut.sort(null);
+            assertEquals(urut, tesIds);
+            assertFalse(tesIds.contains(tesTerhapus));
+        }
+
+        // Skor 0 yang sungguhan muncul (cara lama melewatinya), tes yang belum dikerjakan tidak
+        List<HasilTesSiswa> hasil = tesRepository.getHasilTesSiswa(siswaId);
+        assertEquals(3, hasil.size());
+        assertEquals(tes[1], hasil.get(1).getTes().getId());
+        assertEquals(0, hasil.get(1).getSkor());
+        assertEquals(85, hasil.get(0).getSkor());
+        assertEquals(2, hasil.get(0).getJumlahPercobaan());
+        assertTrue(tesRepository.getHasilTesSiswa(tanpaData).isEmpty());
+    }
+
+    /**
+     * Cara lama layar hasil: getHasilTes untuk setiap tes, skor 0 dianggap
+     * belum dikerjakan
+     */
+    private static Map<Integer, Double> caraLama(TesRepository tesRepository, int siswaId) {
+        Map<Integer, Double> hasil = new LinkedHashMap<>();
+        for (TesKognitif tes : tesRepository.getAllTesKognitif()) {
+            double skor = tesRepository.getHasilTes(siswaId, tes.getId());
+            if (skor > 0) {
+                hasil.put(tes.getId(), skor);
+            }
+        }
+        return hasil;
+    }
+}
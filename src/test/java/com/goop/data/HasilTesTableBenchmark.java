@@ -0,0 +1,102 @@
+package com.goop.data;
+
+import com.goop.Benchmark;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark HasilTesTable vs struktur lama Map&lt;Integer, Map&lt;Integer, Double&gt;&gt;:
+ * memori per hasil tes, put (update skor), get, dan skor semua tes 1 siswa.
+ */
+@Tag(Benchmark.TAG)
+class HasilTesTableBenchmark {
+
+    private static final int[][] SIZES = {{1_000, 20}, {20_000, 50}};
+
+    @Test
+    void primitiveTableVsNestedHashMap() throws Exception {
+        for (int[] size : SIZES) {
+            int siswa = size[0];
+            int tes = size[1];
+            int hasil = siswa * tes;
+
+            long base = Benchmark.usedHeap();
+            HasilTesTable table = new HasilTesTable();
+            for (int s = 1; s <= siswa; s++) {
+                for (int t = 1; t <= tes; t++) {
+                    table.put(s, t, s % 101);
+                }
+            }
+            long tableBytes = Benchmark.usedHeap() - base;
+
+            base = Benchmark.usedHeap();
+            Map<Integer, Map<Integer, Double>> nested = new HashMap<>();
+            for (int s = 1; s <= siswa; s++) {
+                for (int t = 1; t <= tes; t++) {
+                    nested.computeIfAbsent(s, k -> new HashMap<>()).put(t, (double) (s % 101));
+                }
+            }
+            long nestedBytes = Benchmark.usedHeap() - base;
+
+            SplittableRandom random = new SplittableRandom(hasil);
+            int[] siswaKeys = random.ints(1 << 16, 1, siswa + 1).toArray();
+            int[] tesKeys = random.ints(1 << 16, 1, tes + 1).toArray();
+            int mask = siswaKeys.length - 1;
+
+            double tableGet = Benchmark.measure(iterations -> {
+                double sum = 0;
+                for (int i = 0; i < iterations; i++) {
+                    sum += table.get(siswaKeys[i & mask], tesKeys[i & mask]);
+                }
+                return (long) sum;
+            });
+            double nestedGet = Benchmark.measure(iterations -> {
+                double sum = 0;
+                for (int i = 0; i < iterations; i++) {
+                    sum += nested.get(siswaKeys[i & mask]).get(tesKeys[i & mask]);
+                }
+                return (long) sum;
+            });
+            double tablePut = Benchmark.measure(iterations -> {
+                for (int i = 0; i < iterations; i++) {
+                    table.put(siswaKeys[i & mask], tesKeys[i & mask], i % 101);
+                }
+                return table.size();
+            });
+            double nestedPut = Benchmark.measure(iterations -> {
+                for (int i = 0; i < iterations; i++) {
+                    nested.computeIfAbsent(siswaKeys[i & mask], k -> new HashMap<>())
+                            .put(tesKeys[i & mask], (double) (i % 101));
+                }
+                return nested.size();
+            });
+            double tableSiswa = Benchmark.measure(iterations -> {
+                double sum = 0;
+                for (int i = 0; i < iterations; i++) {
+                    for (double skor : table.skorBySiswa(siswaKeys[i & mask])) {
+                        sum += skor;
+                    }
+                }
+                return (long) sum;
+            });
+            double nestedSiswa = Benchmark.measure(iterations -> {
+                double sum = 0;
+                for (int i = 0; i < iterations; i++) {
+                    for (double skor : nested.get(siswaKeys[i & mask]).values()) {
+                        sum += skor;
+                    }
+                }
+                return (long) sum;
+            });
+
+            Benchmark.report("HasilTes %,d siswa x %d tes: memori %.1f vs %.1f B/hasil; get %.1f vs %.1f ns; "
+                            + "put %.1f vs %.1f ns; skor 1 siswa %.0f vs %.0f ns (HasilTesTable vs HashMap)",
+                    siswa, tes, (double) tableBytes / hasil, (double) nestedBytes / hasil, tableGet, nestedGet,
+                    tablePut, nestedPut, tableSiswa, nestedSiswa);
+        }
+    }
+}
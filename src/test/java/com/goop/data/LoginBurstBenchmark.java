@@ -0,0 +1,114 @@
+package com.goop.data;
+
+import com.goop.Benchmark;
+import com.goop.models.Siswa;
+import com.goop.utils.PasswordHasher;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Benchmark login saat banyak siswa login bersamaan (burst):
+ * - serial di 1 thread (cara lama, login di FX thread)
+ * - LoginService: berapa lama thread pemanggil tertahan, throughput,
+ *   latency p50/p99 per login
+ * - LoginService dengan antrian kecil: berapa login yang langsung ditolak
+ * - Request berikutnya lewat token session vs verifikasi password ulang
+ */
+@Tag(Benchmark.TAG)
+class LoginBurstBenchmark {
+
+    private static final int BURST = 32;
+    private static final int SMALL_QUEUE = 8;
+    private static final int ID_BASE = 9_000_000;
+    private static final String PASSWORD = "rahasia";
+
+    @Test
+    void loginBurst() throws Exception {
+        DataStore store = DataStore.getInstance();
+        String hash = PasswordHasher.hash(PASSWORD);
+        for (int i = 0; i < BURST; i++) {
+            store.addSiswa(new Siswa(ID_BASE + i, username(i), hash, "l@goop.id", "Siswa " + i));
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BURST; i++) {
+            store.login(username(i), PASSWORD);
+        }
+        double serialMs = (System.nanoTime() - start) / 1e6;
+        Benchmark.report("login burst %d, serial 1 thread: thread pemanggil tertahan %.0f ms, %.1f login/s",
+                BURST, serialMs, BURST * 1000 / serialMs);
+
+        SessionRegistry sessions = new SessionRegistry(60_000, 0);
+        LoginService service = new LoginService(store, sessions, threads, 1024);
+        try {
+            long[] latencyNanos = new long[BURST];
+            List<CompletableFuture<Session>> futures = new ArrayList<>();
+            start = System.nanoTime();
+            for (int i = 0; i < BURST; i++) {
+                int index = i;
+                long submitted = System.nanoTime();
+                futures.add(service.login(username(i), PASSWORD)
+                        .whenComplete((session, error) -> latencyNanos[index] = System.nanoTime() - submitted));
+            }
+            double submitMs = (System.nanoTime() - start) / 1e6;
+            CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+            double totalMs = (System.nanoTime() - start) / 1e6;
+            Arrays.sort(latencyNanos);
+            Benchmark.report("login burst %d, LoginService %d thread: thread pemanggil tertahan %.2f ms, "
+                            + "selesai %.0f ms, %.1f login/s, latency p50 %.0f ms p99 %.0f ms",
+                    BURST, threads, submitMs, totalMs, BURST * 1000 / totalMs,
+                    latencyNanos[BURST / 2] / 1e6, latencyNanos[BURST * 99 / 100] / 1e6);
+
+            String token = futures.get(0).join().getToken();
+            double lookup = Benchmark.measure(iterations -> {
+                long found = 0;
+                for (int i = 0; i < iterations; i++) {
+                    found += sessions.get(token).getUser().getId();
+                }
+                return found;
+            });
+            start = System.nanoTime();
+            PasswordHasher.verify(PASSWORD, hash);
+            double verifyNs = System.nanoTime() - start;
+            Benchmark.report("request berikutnya: token session %.0f ns vs verifikasi password %.1f ms (%.0fx)",
+                    lookup, verifyNs / 1e6, verifyNs / lookup);
+        } finally {
+            service.shutdown();
+            sessions.shutdown();
+        }
+
+        LoginService small = new LoginService(store, new SessionRegistry(60_000, 0), threads, SMALL_QUEUE);
+        try {
+            List<CompletableFuture<Session>> futures = new ArrayList<>();
+            for (int i = 0; i < BURST; i++) {
+                futures.add(small.login(username(i), PASSWORD));
+            }
+            int rejected = 0;
+            for (CompletableFuture<Session> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RejectedExecutionException) {
+                        rejected++;
+                    }
+                }
+            }
+            Benchmark.report("login burst %d, antrian %d: %d diproses, %d langsung ditolak (server sibuk)",
+                    BURST, SMALL_QUEUE, BURST - rejected, rejected);
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    private static String username(int i) {
+        return "burst-" + i;
+    }
+}
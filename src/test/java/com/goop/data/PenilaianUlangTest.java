@@ -0,0 +1,94 @@
+package com.goop.data;
+
+import com.goop.data.jdbc.JdbcDatabase;
+import com.goop.models.HasilTestCase;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.Proyek;
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test savePenilaianUlang: laporan penilaian ulang tidak boleh menimpa
+ * submission yang di-submit ulang siswa selama penilaian ulang berjalan.
+ * Dijalankan untuk DataStore dan backend JDBC.
+ */
+class PenilaianUlangTest {
+
+    private static final int ID_BASE = 6_000_000;
+    private static final String CODE_LAMA = "public class Main { }\n";
+    private static final String CODE_BARU = "public class Main { int x; }\n";
+
+    @Test
+    void dataStoreMelewatiCodeYangDiSubmitUlang() {
+        DataStore store = DataStore.getInstance();
+        check(store, store, store, store, ID_BASE);
+    }
+
+    @Test
+    void jdbcMelewatiCodeYangDiSubmitUlang() throws Exception {
+        Path dir = DataStore.getDataDirectory().resolve("penilaian-ulang-jdbc");
+        delete(dir);
+        Files.createDirectories(dir);
+        try (JdbcDatabase database = JdbcDatabase.open(JdbcDatabase.defaultUrl(dir), 2)) {
+            check(database.getUserRepository(), database.getProyekRepository(), database.getKodeRepository(),
+                    database.getPenilaianRepository(), ID_BASE + 100);
+        }
+    }
+
+    private static void check(UserRepository users, ProyekRepository proyek, KodeRepository kode,
+            PenilaianRepository penilaian, int siswaId) {
+        users.addSiswa(new Siswa(siswaId, "ulang-" + siswaId, "x", "u@goop.id", "Siswa Ulang"));
+        Proyek tetap = addProyek(proyek, siswaId);
+        Proyek diubah = addProyek(proyek, siswaId);
+        kode.saveProyekCode(tetap.getId(), CODE_LAMA);
+        kode.saveProyekCode(diubah.getId(), CODE_LAMA);
+
+        // Penilaian ulang membaca code lama, lalu siswa submit ulang 1 proyek dan dinilai
+        LaporanPenilaian ulangTetap = laporan(tetap.getId(), 80).withKodeHash(LaporanPenilaian.hashKode(CODE_LAMA));
+        LaporanPenilaian ulangDiubah = laporan(diubah.getId(), 40).withKodeHash(LaporanPenilaian.hashKode(CODE_LAMA));
+        kode.saveProyekCode(diubah.getId(), CODE_BARU);
+        penilaian.saveLaporanPenilaian(laporan(diubah.getId(), 100));
+
+        assertEquals(1, penilaian.savePenilaianUlang(List.of(ulangTetap, ulangDiubah)));
+        assertEquals(80, penilaian.getLaporanPenilaian(tetap.getId()).getSkor());
+        assertEquals(80, proyek.getProyekById(tetap.getId()).getSkor());
+        assertEquals(100, penilaian.getLaporanPenilaian(diubah.getId()).getSkor());
+
+        // Laporan tanpa hash (misal dari log lama) tetap disimpan
+        assertEquals(1, penilaian.savePenilaianUlang(List.of(laporan(diubah.getId(), 60))));
+        assertEquals(60, penilaian.getLaporanPenilaian(diubah.getId()).getSkor());
+    }
+
+    private static Proyek addProyek(ProyekRepository proyek, int siswaId) {
+        Proyek item = new Proyek(0, "Proyek ulang", "Deskripsi", LocalDate.now(), Proyek.STATUS_SELESAI, 0,
+                siswaId, 1);
+        proyek.addProyek(item);
+        return item;
+    }
+
+    private static LaporanPenilaian laporan(int proyekId, double skor) {
+        return new LaporanPenilaian(proyekId, LocalDateTime.now(), skor, true, "",
+                List.of(new HasilTestCase(1, "Tes", HasilTestCase.STATUS_LULUS, "", "", 1, 1)));
+    }
+
+    private static void delete(Path dir) throws Exception {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
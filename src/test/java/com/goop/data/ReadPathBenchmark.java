@@ -0,0 +1,130 @@
+package com.goop.data;
+
+import com.goop.Benchmark;
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark tekanan GC jalur baca DataStore: copy list per panggilan
+ * (cara lama getAllSiswa) vs view read-only yang di-cache, countSiswa,
+ * forEachSiswa dan keyset paging.
+ *
+ * Dicetak per operasi: waktu dan byte yang dialokasikan, serta jumlah GC
+ * selama GC_OPS operasi.
+ */
+@Tag(Benchmark.TAG)
+class ReadPathBenchmark {
+
+    private static final int SISWA = 10_000;
+    private static final int PAGE = 50;
+    private static final int GC_OPS = 100_000;
+    private static final int ID_BASE = 8_000_000;
+
+    @Test
+    void copyVsViewCountForEachPage() throws Exception {
+        DataStore store = DataStore.getInstance();
+        for (int i = 0; i < SISWA; i++) {
+            store.addSiswa(new Siswa(ID_BASE + i, "read-" + i, "x", "r@goop.id", "Siswa " + i));
+        }
+        int rows = store.countSiswa();
+        int middle = ID_BASE + SISWA / 2;
+
+        compare("count", rows,
+                iterations -> {
+                    long sum = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        sum += copy(store).size();
+                    }
+                    return sum;
+                },
+                iterations -> {
+                    long sum = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        sum += store.countSiswa();
+                    }
+                    return sum;
+                });
+        compare("getAll", rows,
+                iterations -> {
+                    long sum = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        sum += copy(store).get(0).getId();
+                    }
+                    return sum;
+                },
+                iterations -> {
+                    long sum = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        sum += store.getAllSiswa().get(0).getId();
+                    }
+                    return sum;
+                });
+        compare("iterate", rows,
+                iterations -> {
+                    long[] sum = new long[1];
+                    for (int i = 0; i < iterations; i++) {
+                        for (Siswa siswa : copy(store)) {
+                            sum[0] += siswa.getId();
+                        }
+                    }
+                    return sum[0];
+                },
+                iterations -> {
+                    long[] sum = new long[1];
+                    for (int i = 0; i < iterations; i++) {
+                        store.forEachSiswa(siswa -> sum[0] += siswa.getId());
+                    }
+                    return sum[0];
+                });
+        compare("page " + PAGE, rows,
+                iterations -> {
+                    long sum = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        List<Siswa> all = copy(store);
+                        int from = 0;
+                        while (from < all.size() && all.get(from).getId() <= middle) {
+                            from++;
+                        }
+                        sum += new ArrayList<>(all.subList(from, Math.min(all.size(), from + PAGE))).size();
+                    }
+                    return sum;
+                },
+                iterations -> {
+                    long sum = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        sum += store.getSiswaPage(middle, PAGE).size();
+                    }
+                    return sum;
+                });
+    }
+
+    /**
+     * Cara lama: setiap getAllSiswa() membuat copy list
+     */
+    private static List<Siswa> copy(DataStore store) {
+        return new ArrayList<>(store.getAllSiswa());
+    }
+
+    private static void compare(String name, int rows, Benchmark.Task copy, Benchmark.Task current)
+            throws Exception {
+        double copyNs = Benchmark.measure(copy);
+        double currentNs = Benchmark.measure(current);
+        double copyBytes = Benchmark.allocatedBytesPerOp(1_000, copy);
+        double currentBytes = Benchmark.allocatedBytesPerOp(1_000, current);
+        long copyGc = gcDuring(copy);
+        long currentGc = gcDuring(current);
+        Benchmark.report("%s (%,d siswa): copy %.0f ns, %.0f B/op, %d GC per %,d op; "
+                        + "sekarang %.0f ns, %.0f B/op, %d GC per %,d op",
+                name, rows, copyNs, copyBytes, copyGc, GC_OPS, currentNs, currentBytes, currentGc, GC_OPS);
+    }
+
+    private static long gcDuring(Benchmark.Task task) throws Exception {
+        long before = Benchmark.gcCount();
+        task.run(GC_OPS);
+        return Benchmark.gcCount() - before;
+    }
+}
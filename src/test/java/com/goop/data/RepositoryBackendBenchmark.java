@@ -0,0 +1,116 @@
+package com.goop.data;
+
+import com.goop.Benchmark;
+import com.goop.data.jdbc.JdbcDatabase;
+import com.goop.models.Proyek;
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark backend penyimpanan: DataStore (memory + write-ahead log) vs
+ * JDBC (H2 file embedded), lewat interface repository yang sama dengan
+ * yang dipakai controller.
+ *
+ * Dengan -Pbenchmark write-ahead log DataStore memakai mode async, dan H2
+ * memakai setting default (write delay), jadi keduanya tanpa fsync per write.
+ */
+@Tag(Benchmark.TAG)
+class RepositoryBackendBenchmark {
+
+    private static final int SISWA = 1_000;
+    private static final int PROYEK_PER_SISWA = 10;
+    private static final int ID_BASE = 7_000_000;
+
+    @Test
+    void memoryVsJdbc() throws Exception {
+        DataStore dataStore = DataStore.getInstance();
+        run("memory", dataStore, dataStore, dataStore, ID_BASE);
+
+        Path dir = DataStore.getDataDirectory().resolve("bench-jdbc");
+        delete(dir);
+        Files.createDirectories(dir);
+        try (JdbcDatabase database = JdbcDatabase.open(JdbcDatabase.defaultUrl(dir), 4)) {
+            run("jdbc", database.getUserRepository(), database.getProyekRepository(),
+                    database.getKodeRepository(), ID_BASE);
+        }
+    }
+
+    private static void run(String backend, UserRepository users, ProyekRepository proyek, KodeRepository kode,
+            int idBase) throws Exception {
+        long setupStart = System.nanoTime();
+        int[] proyekIds = new int[SISWA * PROYEK_PER_SISWA];
+        for (int i = 0; i < SISWA; i++) {
+            users.addSiswa(new Siswa(idBase + i, "bench-" + backend + "-" + i, "x", "b@goop.id", "Siswa " + i));
+            for (int j = 0; j < PROYEK_PER_SISWA; j++) {
+                Proyek item = new Proyek(0, "Proyek " + j, "Deskripsi", LocalDate.now(),
+                        Proyek.STATUS_BELUM_DIKERJAKAN, 0, idBase + i, 1);
+                proyek.addProyek(item);
+                proyekIds[i * PROYEK_PER_SISWA + j] = item.getId();
+            }
+        }
+        double setupMs = (System.nanoTime() - setupStart) / 1e6;
+        String code = "public class Main {\n" + "    // kode siswa\n".repeat(100) + "}\n";
+        SplittableRandom random = new SplittableRandom(42);
+
+        double getSiswa = Benchmark.measure(iterations -> {
+            long sum = 0;
+            for (int i = 0; i < iterations; i++) {
+                sum += users.getSiswaById(idBase + random.nextInt(SISWA)).getId();
+            }
+            return sum;
+        });
+        double proyekSiswa = Benchmark.measure(iterations -> {
+            long sum = 0;
+            for (int i = 0; i < iterations; i++) {
+                sum += proyek.getProyekBySiswaId(idBase + random.nextInt(SISWA)).size();
+            }
+            return sum;
+        });
+        double update = Benchmark.measure(iterations -> {
+            for (int i = 0; i < iterations; i++) {
+                Proyek item = proyek.getProyekById(proyekIds[random.nextInt(proyekIds.length)]);
+                item.setSkor(random.nextInt(101));
+                proyek.updateProyek(item);
+            }
+            return iterations;
+        });
+        double saveCode = Benchmark.measure(iterations -> {
+            for (int i = 0; i < iterations; i++) {
+                kode.saveProyekCode(proyekIds[random.nextInt(proyekIds.length)], code);
+            }
+            return iterations;
+        });
+        double loadCode = Benchmark.measure(iterations -> {
+            long sum = 0;
+            for (int i = 0; i < iterations; i++) {
+                String loaded = kode.getProyekCode(proyekIds[random.nextInt(proyekIds.length)]);
+                sum += loaded != null ? loaded.length() : 0;
+            }
+            return sum;
+        });
+
+        Benchmark.report("%s: setup %,d siswa + %,d proyek %.0f ms; getSiswaById %.0f ns; "
+                        + "getProyekBySiswaId %.0f ns; get+updateProyek %.0f ns; saveProyekCode (2 KB) %.0f ns; "
+                        + "getProyekCode %.0f ns",
+                backend, SISWA, proyekIds.length, setupMs, getSiswa, proyekSiswa, update, saveCode, loadCode);
+    }
+
+    private static void delete(Path dir) throws Exception {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.goop.data;
+
+import com.goop.models.HasilTesSiswa;
+import com.goop.models.PengerjaanTes;
+import com.goop.models.Siswa;
+import com.goop.models.TesKognitif;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test riwayat percobaan tes (RiwayatTesTable lewat DataStore): beberapa
+ * percobaan untuk siswa dan tes yang sama, skor terakhir vs riwayat lengkap,
+ * dan riwayat yang tetap sama setelah replay log dan load snapshot.
+ */
+class RiwayatTesTest {
+
+    private static final int SISWA_A = 7_300_000;
+    private static final int SISWA_B = 7_300_001;
+
+    @TempDir
+    Path dir;
+
+    private int tes1;
+    private int tes2;
+
+    @Test
+    void percobaanBerulangTersimpanUrutDanBertahanSetelahRestart() throws Exception {
+        DataStore store = open();
+        store.addSiswa(new Siswa(SISWA_A, "riwayat-a", "x", "a@goop.id", "Siswa A"));
+        store.addSiswa(new Siswa(SISWA_B, "riwayat-b", "x", "b@goop.id", "Siswa B"));
+        tes1 = store.getAllTesKognitif().get(0).getId();
+        TesKognitif tes = new TesKognitif(0, "Tes Riwayat", 20);
+        store.addTesKognitif(tes);
+        tes2 = tes.getId();
+
+        store.saveHasilTes(SISWA_A, tes1, 50, 300, new String[] {"A", "B"});
+        store.saveHasilTes(SISWA_A, tes2, 80, 200, new String[] {"C"});
+        store.saveHasilTes(SISWA_B, tes1, 30, 400, new String[] {"D"});
+        store.saveHasilTes(SISWA_A, tes1, 75, 250, new String[] {"A", "C"});
+        store.saveHasilTes(SISWA_A, tes1, 60, 150, new String[] {null, "B"});
+        store.saveHasilTes(SISWA_B, tes1, 90, 350, new String[] {"A"});
+        assertRiwayat(store);
+
+        // Restart dari write-ahead log saja
+        store.closeWithoutCheckpoint();
+        store = open();
+        assertRiwayat(store);
+
+        // Restart dari snapshot
+        store.checkpoint();
+        store.closeWithoutCheckpoint();
+        store = open();
+        assertRiwayat(store);
+        store.shutdown();
+    }
+
+    private void assertRiwayat(DataStore store) {
+        // Skor tes = percobaan terakhir, bukan yang tertinggi
+        assertEquals(60, store.getHasilTes(SISWA_A, tes1));
+        assertEquals(80, store.getHasilTes(SISWA_A, tes2));
+        assertEquals(90, store.getHasilTes(SISWA_B, tes1));
+        assertEquals(0, store.getHasilTes(SISWA_B, tes2));
+        assertEquals(70, store.getSiswaById(SISWA_A).getSkorKognitif());
+
+        List<PengerjaanTes> riwayatA = store.getRiwayatTesSiswa(SISWA_A);
+        assertEquals(List.of(50.0, 80.0, 75.0, 60.0), skor(riwayatA));
+        assertEquals(List.of(tes1, tes2, tes1, tes1),
+                riwayatA.stream().map(PengerjaanTes::getTesId).collect(Collectors.toList()));
+        assertEquals(List.of(300, 200, 250, 150),
+                riwayatA.stream().map(PengerjaanTes::getDurasiDetik).collect(Collectors.toList()));
+        assertArrayEquals(new String[] {null, "B"}, riwayatA.get(3).getJawaban());
+        for (int i = 1; i < riwayatA.size(); i++) {
+            assertTrue(riwayatA.get(i - 1).getId() < riwayatA.get(i).getId());
+        }
+
+        // Riwayat per tes berisi semua siswa, urut sesuai waktu submit
+        List<PengerjaanTes> riwayatTes1 = new ArrayList<>();
+        for (PengerjaanTes pengerjaan : store.getRiwayatTes(tes1)) {
+            if (pengerjaan.getSiswaId() == SISWA_A || pengerjaan.getSiswaId() == SISWA_B) {
+                riwayatTes1.add(pengerjaan);
+            }
+        }
+        assertEquals(List.of(50.0, 30.0, 75.0, 60.0, 90.0), skor(riwayatTes1));
+        assertEquals(List.of(SISWA_A, SISWA_B, SISWA_A, SISWA_A, SISWA_B),
+                riwayatTes1.stream().map(PengerjaanTes::getSiswaId).collect(Collectors.toList()));
+        assertEquals(List.of(80.0), skor(store.getRiwayatTes(tes2)));
+
+        // Ringkasan per tes: skor terakhir, tertinggi dan jumlah percobaan
+        List<HasilTesSiswa> hasil = store.getHasilTesSiswa(SISWA_A);
+        assertEquals(2, hasil.size());
+        assertEquals(tes1, hasil.get(0).getTes().getId());
+        assertEquals(60, hasil.get(0).getSkor());
+        assertEquals(75, hasil.get(0).getSkorTertinggi());
+        assertEquals(3, hasil.get(0).getJumlahPercobaan());
+        assertEquals(150, hasil.get(0).getDurasiDetikTerakhir());
+        assertEquals(1, hasil.get(1).getJumlahPercobaan());
+    }
+
+    private static List<Double> skor(List<PengerjaanTes> riwayat) {
+        return riwayat.stream().map(PengerjaanTes::getSkor).collect(Collectors.toList());
+    }
+
+    private DataStore open() {
+        return new DataStore(dir, "sync", 0);
+    }
+}
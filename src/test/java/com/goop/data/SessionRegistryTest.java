@@ -0,0 +1,117 @@
+package com.goop.data;
+
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test SessionRegistry: 10k session dibuat, dicari, di-touch dan
+ * dibiarkan expired lewat timer wheel.
+ *
+ * Registry memakai jam manual (1 tick = 1 ms) supaya expiry bisa diperiksa
+ * tepat tanpa sleep.
+ */
+class SessionRegistryTest {
+
+    private static final int SESSIONS = 10_000;
+    private static final long IDLE_MILLIS = 5_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SessionRegistry registry = new SessionRegistry(IDLE_MILLIS, 0, clock::get);
+
+    @Test
+    void sessionDiTouchBertahanDanSessionIdleDihapusWheel() {
+        long start = System.nanoTime();
+        List<Session> created = new ArrayList<>(SESSIONS);
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            Session session = registry.create(siswa(i));
+            created.add(session);
+            tokens.add(session.getToken());
+        }
+        assertEquals(SESSIONS, tokens.size(), "token harus unik");
+        assertEquals(SESSIONS, registry.size());
+        for (int i = 0; i < SESSIONS; i++) {
+            Session session = created.get(i);
+            assertSame(session, registry.get(session.getToken()));
+            assertEquals(i + 1, session.getUser().getId());
+        }
+
+        // Session genap di-touch di tengah masa idle, session ganjil tidak
+        advance(IDLE_MILLIS / 2);
+        for (int i = 0; i < SESSIONS; i += 2) {
+            assertSame(created.get(i), registry.get(created.get(i).getToken()));
+        }
+
+        // Session ganjil lewat batas idle: dihapus wheel tanpa perlu get()
+        advance(IDLE_MILLIS / 2 + 1);
+        assertEquals(SESSIONS / 2, registry.size());
+        for (int i = 0; i < SESSIONS; i++) {
+            Session session = created.get(i);
+            if (i % 2 == 0) {
+                assertFalse(session.isClosed());
+                assertSame(session, registry.get(session.getToken()));
+            } else {
+                assertTrue(session.isClosed());
+                assertNull(registry.get(session.getToken()));
+            }
+        }
+
+        // Tanpa akses lagi semua session expired
+        advance(IDLE_MILLIS + 1);
+        assertEquals(0, registry.size());
+        for (Session session : created) {
+            assertTrue(session.isClosed());
+            assertNull(registry.get(session.getToken()));
+        }
+
+        System.out.printf("SessionRegistry: %,d session dibuat, dicari dan expired dalam %.0f ms%n",
+                SESSIONS, (System.nanoTime() - start) / 1e6);
+    }
+
+    @Test
+    void getTidakMengembalikanSessionExpiredSebelumWheelSampai() {
+        Session session = registry.create(siswa(0));
+        clock.addAndGet(IDLE_MILLIS);
+
+        assertNull(registry.get(session.getToken()));
+        assertTrue(session.isClosed());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void logoutMenghapusSession() {
+        Session session = registry.create(siswa(0));
+
+        assertSame(session, registry.invalidate(session.getToken()));
+        assertTrue(session.isClosed());
+        assertNull(registry.get(session.getToken()));
+        assertNull(registry.invalidate(session.getToken()));
+        assertNull(registry.get(null));
+    }
+
+    /**
+     * Majukan jam registry dan proses wheel 1 tick per millisecond
+     */
+    private void advance(long millis) {
+        for (long i = 0; i < millis; i++) {
+            clock.incrementAndGet();
+            registry.tick();
+        }
+    }
+
+    private static Siswa siswa(int i) {
+        return new Siswa(i + 1, "sesi-" + i, "x", "s@goop.id", "Siswa " + i);
+    }
+}
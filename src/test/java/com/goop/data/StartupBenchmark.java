@@ -0,0 +1,96 @@
+package com.goop.data;
+
+import com.goop.Benchmark;
+import com.goop.models.Proyek;
+import com.goop.models.Siswa;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark waktu start DataStore vs panjang write-ahead log: start dari
+ * log saja (replay semua record, seperti setelah crash tanpa checkpoint)
+ * vs start dari snapshot checkpoint. Tanpa snapshot, sample data juga
+ * dibuat ulang sebelum replay, seperti start sungguhan.
+ */
+@Tag(Benchmark.TAG)
+class StartupBenchmark {
+
+    private static final int[] RECORDS = {2_000, 20_000, 200_000};
+    private static final int SISWA = 100;
+    private static final int PROYEK = 1_000;
+    private static final int ID_BASE = 7_200_000;
+    private static final int OPENS = 5;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayVsSnapshot() throws Exception {
+        for (int records : RECORDS) {
+            Path dataDir = Files.createDirectories(dir.resolve("log-" + records));
+            write(dataDir, records);
+
+            double replayMs = medianOpenMillis(dataDir);
+            DataStore store = open(dataDir);
+            store.checkpoint();
+            store.closeWithoutCheckpoint();
+            double snapshotMs = medianOpenMillis(dataDir);
+
+            Benchmark.report("Start DataStore setelah %,d record log: replay log %.1f ms, snapshot %.1f ms",
+                    records, replayMs, snapshotMs);
+        }
+    }
+
+    /**
+     * Tulis siswa dan proyek, lalu sisa record berupa update skor dan code
+     */
+    private static void write(Path dataDir, int records) throws Exception {
+        DataStore store = open(dataDir);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] proyekIds = new int[PROYEK];
+        for (int i = 0; i < SISWA; i++) {
+            store.addSiswa(new Siswa(ID_BASE + i, "startup-" + i, "x", "s@goop.id", "Siswa " + i));
+        }
+        for (int i = 0; i < PROYEK; i++) {
+            Proyek proyek = new Proyek(0, "Proyek " + i, "Deskripsi", LocalDate.now(),
+                    Proyek.STATUS_DIKERJAKAN, 0, ID_BASE + i % SISWA, 1);
+            store.addProyek(proyek);
+            proyekIds[i] = proyek.getId();
+        }
+        String code = "public class Main {\n" + "    // kode siswa\n".repeat(20) + "}\n";
+        for (int i = SISWA + PROYEK; i < records; i++) {
+            int proyekId = proyekIds[random.nextInt(PROYEK)];
+            if (i % 2 == 0) {
+                Proyek proyek = store.getProyekById(proyekId);
+                proyek.setSkor(random.nextInt(101));
+                store.updateProyek(proyek);
+            } else {
+                store.saveProyekCode(proyekId, code + i);
+            }
+        }
+        store.closeWithoutCheckpoint();
+    }
+
+    private static double medianOpenMillis(Path dataDir) throws Exception {
+        double[] millis = new double[OPENS];
+        for (int i = 0; i < OPENS; i++) {
+            long start = System.nanoTime();
+            DataStore store = open(dataDir);
+            millis[i] = (System.nanoTime() - start) / 1e6;
+            store.closeWithoutCheckpoint();
+        }
+        Arrays.sort(millis);
+        return millis[OPENS / 2];
+    }
+
+    private static DataStore open(Path dataDir) {
+        return new DataStore(dataDir, "async", 0);
+    }
+}
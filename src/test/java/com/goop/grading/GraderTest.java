@@ -0,0 +1,116 @@
+package com.goop.grading;
+
+import com.goop.models.HasilTestCase;
+import com.goop.models.KriteriaRubrik;
+import com.goop.models.LaporanPenilaian;
+import com.goop.models.TestCase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test penilaian test case CEK: cek hanya lulus dengan token hasil
+ * GoopTestRunner yang membawa nonce run tersebut.
+ */
+class GraderTest {
+
+    private static final String KODE = "public class Kalkulator {\n"
+            + "    public static int tambah(int a, int b) {\n"
+            + "        return a + b;\n"
+            + "    }\n"
+            + "    public static void main(String[] args) {\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    void cekLulusDenganTokenDanTokenTidakDisimpan() throws Exception {
+        HasilTestCase hasil = gradeCek("GoopAssert.assertEquals(5, Kalkulator.tambah(2, 3));");
+
+        assertEquals(HasilTestCase.STATUS_LULUS, hasil.getStatus(), hasil.getPesan());
+        assertFalse(hasil.getOutput().contains("GOOP-HASIL"), hasil.getOutput());
+    }
+
+    @Test
+    void cekGagal() throws Exception {
+        HasilTestCase hasil = gradeCek("GoopAssert.assertEquals(6, Kalkulator.tambah(2, 3));");
+
+        assertEquals(HasilTestCase.STATUS_GAGAL, hasil.getStatus(), hasil.getPesan());
+    }
+
+    @Test
+    void tokenHarusMembawaNonceRunDanSemuaCekLulus() {
+        String output = "✓ a\n✓ b\nGOOP-HASIL 1f2e 2/2\n";
+
+        assertEquals("✓ a\n✓ b\n", Grader.removeToken(output, "1f2e"));
+        assertNull(Grader.removeToken(output, "9999"));
+        assertNull(Grader.removeToken("✓ a\n", "1f2e"));
+        assertNull(Grader.removeToken("GOOP-HASIL 1f2e 1/2\n", "1f2e"));
+        assertNull(Grader.removeToken("GOOP-HASIL 1f2e 0/0\n", "1f2e"));
+        assertNull(Grader.removeToken("cetak GOOP-HASIL 1f2e 1/1\n", "1f2e"));
+    }
+
+    @Test
+    void nonceTidakBisaDibacaLewatThreadMain() throws Exception {
+        // Kode siswa mencari args GoopTestRunner di Runnable thread main lalu mencetak token sendiri
+        String kode = "public class Kalkulator {\n"
+                + "    public static int tambah(int a, int b) {\n"
+                + "        try {\n"
+                + "            java.lang.reflect.Field target = Thread.class.getDeclaredField(\"target\");\n"
+                + "            target.setAccessible(true);\n"
+                + "            Object runnable = target.get(Thread.currentThread());\n"
+                + "            for (java.lang.reflect.Field field : runnable.getClass().getDeclaredFields()) {\n"
+                + "                field.setAccessible(true);\n"
+                + "                Object value = field.get(runnable);\n"
+                + "                if (value instanceof String[] && ((String[]) value).length > 1\n"
+                + "                        && ((String[]) value)[1] != null) {\n"
+                + "                    System.out.println(\"GOOP-HASIL \" + ((String[]) value)[1] + \" 1/1\");\n"
+                + "                    Runtime.getRuntime().halt(0);\n"
+                + "                }\n"
+                + "            }\n"
+                + "        } catch (Throwable e) {\n"
+                + "            // Akses ditolak\n"
+                + "        }\n"
+                + "        return a - b;\n"
+                + "    }\n"
+                + "}\n";
+
+        HasilTestCase hasil = gradeCek(kode, "GoopAssert.assertEquals(5, Kalkulator.tambah(2, 3));");
+
+        assertNotEquals(HasilTestCase.STATUS_LULUS, hasil.getStatus(), hasil.getOutput());
+    }
+
+    @Test
+    void rubrikGagalJikaCompileGagal() throws Exception {
+        String rusak = KODE.replace("return a + b;", "return a + ;");
+        List<KriteriaRubrik> rubrik = List.of(new KriteriaRubrik(1, KriteriaRubrik.JENIS_JUMLAH_CLASS, 1, 1));
+
+        LaporanPenilaian laporan = Grader.getInstance().grade(1, rusak, List.of(), rubrik).get();
+
+        assertFalse(laporan.isCompileBerhasil());
+        assertEquals(0, laporan.getSkor());
+        for (HasilTestCase hasil : laporan.getHasil()) {
+            assertFalse(hasil.isLulus(), hasil.getNama());
+        }
+    }
+
+    private static HasilTestCase gradeCek(String assertion) throws Exception {
+        return gradeCek(KODE, assertion);
+    }
+
+    private static HasilTestCase gradeCek(String kode, String assertion) throws Exception {
+        String kodeCek = "public class CekKalkulator {\n"
+                + "    @GoopTest\n"
+                + "    void tambah() {\n"
+                + "        " + assertion + "\n"
+                + "    }\n"
+                + "}\n";
+        TestCase cek = new TestCase(1, "Cek tambah", "", "", kodeCek, 1, 5000);
+        LaporanPenilaian laporan = Grader.getInstance().grade(1, kode, List.of(cek), List.of()).get();
+        return laporan.getHasil().get(0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.goop.grading;
+
+import com.goop.models.HasilTestCase;
+import com.goop.models.LaporanPenilaian;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Test GradingCoordinator dengan node palsu yang berbicara protokol
+ * GradingProtocol langsung lewat socket.
+ */
+class GradingCoordinatorTest {
+
+    @AfterEach
+    void shutdown() {
+        GradingCoordinator.shutdownIfStarted();
+        System.clearProperty("goop.grading.port");
+    }
+
+    @Test
+    void laporanUntukProyekLainDitolakDanJobDicobaUlang() throws Exception {
+        System.setProperty("goop.grading.port", "0");
+        GradingCoordinator coordinator = GradingCoordinator.getIfConfigured();
+
+        try (Socket socket = new Socket("127.0.0.1", coordinator.getPort())) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeByte(GradingProtocol.FRAME_HELLO);
+            out.writeInt(GradingProtocol.VERSION);
+            GradingProtocol.writeString(out, "");
+            out.writeInt(1);
+            GradingProtocol.writeString(out, "node-palsu");
+            out.flush();
+            assertEquals(GradingProtocol.FRAME_WELCOME, in.readByte());
+
+            CompletableFuture<LaporanPenilaian> future = coordinator.submit(42, "class Main {}", List.of(),
+                    List.of());
+
+            long jobId = readJob(in, 42);
+            sendResult(out, jobId, 99);
+            // Laporan proyek 99 ditolak: job yang sama dikirim ulang
+            assertEquals(jobId, readJob(in, 42));
+            assertFalse(future.isDone());
+            sendResult(out, jobId, 42);
+
+            assertEquals(42, future.get(10, TimeUnit.SECONDS).getProyekId());
+        }
+    }
+
+    /**
+     * Baca frame sampai FRAME_JOB (heartbeat dilewati)
+     *
+     * @return ID job
+     */
+    private static long readJob(DataInputStream in, int expectedProyekId) throws IOException {
+        while (true) {
+            byte frame = in.readByte();
+            if (frame == GradingProtocol.FRAME_HEARTBEAT) {
+                continue;
+            }
+            assertEquals(GradingProtocol.FRAME_JOB, frame);
+            long jobId = in.readLong();
+            assertEquals(expectedProyekId, in.readInt());
+            GradingProtocol.readString(in);
+            GradingProtocol.readTestCases(in);
+            GradingProtocol.readRubrik(in);
+            return jobId;
+        }
+    }
+
+    private static void sendResult(DataOutputStream out, long jobId, int proyekId) throws IOException {
+        out.writeByte(GradingProtocol.FRAME_RESULT);
+        out.writeLong(jobId);
+        GradingProtocol.writeLaporan(out, new LaporanPenilaian(proyekId, LocalDateTime.now(), 100, true, "",
+                List.of(new HasilTestCase(1, "Tes", HasilTestCase.STATUS_LULUS, "", "", 1, 1))));
+        out.flush();
+    }
+}
@@ -0,0 +1,118 @@
+package com.goop.grading;
+
+import com.goop.Benchmark;
+import com.goop.models.KriteriaRubrik;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark RubrikEngine untuk submission 10KB+: biaya parse, evaluate
+ * semua kriteria dengan 1 kali parse, dan cara lama 1 parse per kriteria.
+ */
+@Tag(Benchmark.TAG)
+class RubrikEngineBenchmark {
+
+    private static final int[] CLASS_COUNTS = {16, 64};
+
+    private static final List<KriteriaRubrik> RUBRIK = List.of(
+            new KriteriaRubrik(1, KriteriaRubrik.JENIS_JUMLAH_CLASS, 3, 1),
+            new KriteriaRubrik(2, KriteriaRubrik.JENIS_JUMLAH_METHOD, 10, 1),
+            new KriteriaRubrik(3, KriteriaRubrik.JENIS_MODIFIER_AKSES, 5, 1),
+            new KriteriaRubrik(4, KriteriaRubrik.JENIS_ENKAPSULASI, 5, 1),
+            new KriteriaRubrik(5, KriteriaRubrik.JENIS_PEWARISAN, 2, 1),
+            new KriteriaRubrik(6, KriteriaRubrik.JENIS_OVERRIDE, 2, 1),
+            new KriteriaRubrik(7, KriteriaRubrik.JENIS_ABSTRAKSI, 1, 1));
+
+    @Test
+    void onceParseVsParsePerKriteria() throws Exception {
+        // Pemanasan javac parser (class loading + JIT) sebelum ukuran pertama
+        for (int i = 0; i < 50; i++) {
+            RubrikEngine.evaluate(submission(CLASS_COUNTS[0]), RUBRIK, 0);
+        }
+        for (int classCount : CLASS_COUNTS) {
+            String code = submission(classCount);
+            int kb = code.length() / 1024;
+
+            double parse = Benchmark.measure(iterations -> {
+                long total = 0;
+                for (int i = 0; i < iterations; i++) {
+                    total += StrukturKode.parse(code).getKelas().size();
+                }
+                return total;
+            });
+            double once = Benchmark.measure(iterations -> {
+                long total = 0;
+                for (int i = 0; i < iterations; i++) {
+                    total += RubrikEngine.evaluate(code, RUBRIK, 0).size();
+                }
+                return total;
+            });
+            double perKriteria = Benchmark.measure(iterations -> {
+                long total = 0;
+                for (int i = 0; i < iterations; i++) {
+                    for (KriteriaRubrik kriteria : RUBRIK) {
+                        total += RubrikEngine.evaluate(code, List.of(kriteria), 0).size();
+                    }
+                }
+                return total;
+            });
+            double onceBytes = Benchmark.allocatedBytesPerOp(20,
+                    iterations -> {
+                        long total = 0;
+                        for (int i = 0; i < iterations; i++) {
+                            total += RubrikEngine.evaluate(code, RUBRIK, 0).size();
+                        }
+                        return total;
+                    });
+
+            Benchmark.report("RubrikEngine %d KB (%d class), %d kriteria: parse %.2f ms, evaluate %.2f ms "
+                    + "(%.0f KB alokasi), parse per kriteria %.2f ms (%.1fx)",
+                    kb, classCount, RUBRIK.size(), parse / 1e6, once / 1e6, onceBytes / 1024,
+                    perKriteria / 1e6, perKriteria / once);
+        }
+    }
+
+    /**
+     * Submission sintetis: 1 interface, class abstract, dan classCount class
+     * turunan dengan field private, getter/setter, dan method @Override
+     */
+    private static String submission(int classCount) {
+        StringBuilder code = new StringBuilder();
+        code.append("import java.util.*;\n\n");
+        code.append("interface Bentuk {\n    double luas();\n    String nama();\n}\n\n");
+        code.append("abstract class BentukDasar implements Bentuk {\n");
+        code.append("    protected final String label;\n\n");
+        code.append("    protected BentukDasar(String label) {\n        this.label = label;\n    }\n\n");
+        code.append("    @Override\n    public String nama() {\n        return label;\n    }\n}\n\n");
+        List<String> names = new ArrayList<>();
+        for (int c = 0; c < classCount; c++) {
+            String name = "Bentuk" + c;
+            names.add(name);
+            code.append("class ").append(name).append(" extends BentukDasar {\n");
+            code.append("    private double lebar;\n    private double tinggi;\n    private int skala;\n\n");
+            code.append("    ").append(name).append("(double lebar, double tinggi) {\n");
+            code.append("        super(\"").append(name).append("\");\n");
+            code.append("        this.lebar = lebar;\n        this.tinggi = tinggi;\n        this.skala = 1;\n");
+            code.append("    }\n\n");
+            code.append("    public double getLebar() {\n        return lebar;\n    }\n\n");
+            code.append("    public void setLebar(double lebar) {\n        this.lebar = lebar;\n    }\n\n");
+            code.append("    public double getTinggi() {\n        return tinggi;\n    }\n\n");
+            code.append("    private double hitung(int n) {\n        double hasil = 0;\n");
+            code.append("        for (int i = 0; i < n; i++) {\n            hasil += lebar * tinggi / (i + 1);\n");
+            code.append("        }\n        return hasil * skala;\n    }\n\n");
+            code.append("    @Override\n    public double luas() {\n        return hitung(").append(c + 1)
+                    .append(");\n    }\n}\n\n");
+        }
+        code.append("public class Main {\n    public static void main(String[] args) {\n");
+        code.append("        List<Bentuk> semua = new ArrayList<>();\n");
+        for (String name : names) {
+            code.append("        semua.add(new ").append(name).append("(2, 3));\n");
+        }
+        code.append("        for (Bentuk b : semua) {\n");
+        code.append("            System.out.println(b.nama() + \" \" + b.luas());\n        }\n    }\n}\n");
+        return code.toString();
+    }
+}
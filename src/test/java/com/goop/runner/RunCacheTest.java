@@ -0,0 +1,154 @@
+package com.goop.runner;
+
+import com.goop.compiler.CompileResult;
+import com.goop.compiler.CompilerService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test RunCache: program yang mungkin tidak deterministik tidak di-cache,
+ * key stabil, dan hasil di disk tetap terbaca setelah restart.
+ */
+class RunCacheTest {
+
+    private static final String TITIK = "class Titik {\n"
+            + "    final int x;\n"
+            + "    Titik(int x) { this.x = x; }\n"
+            + "    @Override public boolean equals(Object o) { return o instanceof Titik && ((Titik) o).x == x; }\n"
+            + "    @Override public int hashCode() { return Integer.hashCode(x); }\n"
+            + "}\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void programDeterministikDiterima() throws Exception {
+        assertTrue(RunCache.isDeterministic(compile("System.out.println(\"halo\");")));
+        // String.hashCode() (switch String) dan class siswa dengan hashCode() sendiri
+        assertTrue(RunCache.isDeterministic(compile(
+                "switch (args.length > 0 ? args[0] : \"a\") { case \"a\": System.out.println(1); break; }\n"
+                        + "java.util.Set<Titik> set = new java.util.HashSet<>();\n"
+                        + "set.add(new Titik(1));\n"
+                        + "System.out.println(set.size() + \" \" + \"abc\".hashCode());", TITIK)));
+    }
+
+    @Test
+    void hashCodeObjekJdkDitolak() throws Exception {
+        assertFalse(RunCache.isDeterministic(compile("System.out.println(new Object().hashCode());")));
+        assertFalse(RunCache.isDeterministic(compile(
+                "System.out.println(java.util.Objects.hash(new Object()));")));
+        assertFalse(RunCache.isDeterministic(compile(
+                "java.util.List<Object> list = java.util.List.of(new Object());\n"
+                        + "System.out.println(list.hashCode());")));
+        // Objek siswa tanpa hashCode() sendiri di HashSet
+        assertFalse(RunCache.isDeterministic(compile(
+                "java.util.Set<Kotak> set = new java.util.HashSet<>();\n"
+                        + "set.add(new Kotak()); set.add(new Kotak());\n"
+                        + "for (Kotak k : set) System.out.println(k.nama);",
+                "class Kotak { String nama = \"k\"; }\n")));
+    }
+
+    @Test
+    void reflectionNamaBertitikDitolak() throws Exception {
+        assertFalse(RunCache.isDeterministic(compile(
+                "Object r = Class.forName(\"java.util.Random\").getDeclaredConstructor().newInstance();\n"
+                        + "System.out.println(r);", "", "throws Exception")));
+        assertFalse(RunCache.isDeterministic(compile(
+                "String nama = \"java.time.\" + \"Instant\";\n"
+                        + "System.out.println(nama);")));
+    }
+
+    @Test
+    void apiTidakDeterministikDitolak() throws Exception {
+        assertFalse(RunCache.isDeterministic(compile("System.out.println(System.currentTimeMillis());")));
+        assertFalse(RunCache.isDeterministic(compile("System.out.println(new java.util.Random().nextInt());")));
+    }
+
+    @Test
+    void keyStabil() throws Exception {
+        Map<String, byte[]> classes = compile("System.out.println(new Titik(2).hashCode());", TITIK);
+        RunCache cache = new RunCache(dir, 64);
+        RunnerPool.Limits limits = new RunnerPool.Limits();
+
+        // Urutan Map berbeda, key sama
+        List<Map.Entry<String, byte[]>> entries = new ArrayList<>(classes.entrySet());
+        Map<String, byte[]> reversed = new LinkedHashMap<>();
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            reversed.put(entries.get(i).getKey(), entries.get(i).getValue());
+        }
+        String key = cache.key(classes, "Main", List.of("a"), "", limits);
+        assertNotNull(key);
+        assertEquals(key, cache.key(reversed, "Main", List.of("a"), "", limits));
+        assertEquals(key, new RunCache(dir, 64).key(classes, "Main", List.of("a"), "", limits));
+
+        assertNotEquals(key, cache.key(classes, "Main", List.of("b"), "", limits));
+        assertNotEquals(key, cache.key(classes, "Main", List.of("a"), "input", limits));
+        assertNotEquals(key, cache.key(classes, "Main", List.of("a"), "", limits.withTimeout(1234)));
+        assertNotEquals(key, new RunCache(dir, 128).key(classes, "Main", List.of("a"), "", limits));
+
+        assertNull(cache.key(compile("System.out.println(System.nanoTime());"), "Main", List.of(), "", limits));
+    }
+
+    @Test
+    void hasilTersimpanSetelahRestart() throws Exception {
+        Map<String, byte[]> classes = compile("System.out.println(\"halo\");");
+        RunnerPool.Limits limits = new RunnerPool.Limits();
+        RunCache cache = new RunCache(dir, 64);
+        String key = cache.key(classes, "Main", List.of(), "", limits);
+        cache.put(key, new RunResult(RunResult.Status.OK, "halo\n", "", 0, 12, 8));
+
+        RunResult cached = new RunCache(dir, 64).get(key, System.nanoTime());
+        assertNotNull(cached);
+        assertTrue(cached.isCached());
+        assertEquals(RunResult.Status.OK, cached.getStatus());
+        assertEquals("halo\n", cached.getOutput());
+        assertEquals(8, cached.getCpuMillis());
+    }
+
+    @Test
+    void hasilTidakBisaDiulangTidakDisimpan() throws Exception {
+        RunCache cache = new RunCache(dir, 64);
+        cache.put("timeout", new RunResult(RunResult.Status.TIMEOUT, "", "Timeout", -1, 5000, 5000));
+        cache.put("identity", new RunResult(RunResult.Status.OK, "Siswa@1b6d3586\n", "", 0, 10, 5));
+        cache.put("stack", new RunResult(RunResult.Status.EXCEPTION, "",
+                "java.lang.StackOverflowError", 1, 10, 5));
+
+        RunCache reopened = new RunCache(dir, 64);
+        assertNull(reopened.get("timeout", System.nanoTime()));
+        assertNull(reopened.get("identity", System.nanoTime()));
+        assertNull(reopened.get("stack", System.nanoTime()));
+    }
+
+    private static Map<String, byte[]> compile(String body) throws Exception {
+        return compile(body, "");
+    }
+
+    private static Map<String, byte[]> compile(String body, String extraClasses) throws Exception {
+        return compile(body, extraClasses, "");
+    }
+
+    private static Map<String, byte[]> compile(String body, String extraClasses, String throwsClause)
+            throws Exception {
+        String source = "public class Main {\n"
+                + "    public static void main(String[] args) " + throwsClause + " {\n"
+                + body + "\n"
+                + "    }\n"
+                + "}\n" + extraClasses;
+        CompileResult result = CompilerService.getInstance().compile(source, null).get();
+        assertTrue(result.isSuccess(), result.getDiagnostics().toString());
+        return result.getClasses();
+    }
+}
@@ -0,0 +1,97 @@
+package com.goop.runner;
+
+import com.goop.Benchmark;
+import com.goop.compiler.CompileResult;
+import com.goop.compiler.CompilerService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark latency 1 run program hello world: RunnerPool (worker JVM yang
+ * sudah siap, tanpa RunCache) vs menjalankan JVM baru per run (cold fork).
+ */
+@Tag(Benchmark.TAG)
+class RunnerPoolBenchmark {
+
+    private static final int POOL_RUNS = 200;
+    private static final int COLD_RUNS = 30;
+    private static final int WARMUP_RUNS = 20;
+
+    private static final String SOURCE = "public class Main {\n"
+            + "    public static void main(String[] args) {\n"
+            + "        System.out.println(\"halo \" + args.length);\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    void poolVsColdFork() throws Exception {
+        CompileResult compiled = CompilerService.getInstance().compile(SOURCE, null).get();
+        RunnerPool pool = RunnerPool.getInstance();
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            runPool(pool, compiled);
+        }
+        long[] poolNanos = new long[POOL_RUNS];
+        for (int i = 0; i < POOL_RUNS; i++) {
+            long start = System.nanoTime();
+            runPool(pool, compiled);
+            poolNanos[i] = System.nanoTime() - start;
+        }
+
+        Path classDir = Files.createTempDirectory("goop-cold-fork");
+        for (Map.Entry<String, byte[]> entry : compiled.getClasses().entrySet()) {
+            Files.write(classDir.resolve(entry.getKey() + ".class"), entry.getValue());
+        }
+        List<String> command = List.of(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-XX:+UseSerialGC", "-XX:TieredStopAtLevel=1", "-cp", classDir.toString(), compiled.getMainClass());
+        runCold(command);
+        long[] coldNanos = new long[COLD_RUNS];
+        for (int i = 0; i < COLD_RUNS; i++) {
+            long start = System.nanoTime();
+            runCold(command);
+            coldNanos[i] = System.nanoTime() - start;
+        }
+        for (String name : compiled.getClasses().keySet()) {
+            Files.deleteIfExists(classDir.resolve(name + ".class"));
+        }
+        Files.deleteIfExists(classDir);
+
+        Benchmark.report("RunnerPool hello world, %d worker, %d run: p50 %.1f ms, p99 %.1f ms",
+                pool.getWorkerCount(), POOL_RUNS, percentile(poolNanos, 50), percentile(poolNanos, 99));
+        Benchmark.report("JVM baru per run (cold fork), %d run: p50 %.1f ms, p99 %.1f ms",
+                COLD_RUNS, percentile(coldNanos, 50), percentile(coldNanos, 99));
+    }
+
+    private static void runPool(RunnerPool pool, CompileResult compiled) throws Exception {
+        RunResult result = pool.runUncached(compiled.getClasses(), compiled.getMainClass(), List.of(), "", 5000,
+                null).get();
+        assertEquals(RunResult.Status.OK, result.getStatus(), result.getMessage());
+    }
+
+    private static void runCold(List<String> command) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (InputStream in = process.getInputStream()) {
+            in.readAllBytes();
+        }
+        assertEquals(0, process.waitFor());
+    }
+
+    /**
+     * @return Percentile dalam millisecond
+     */
+    private static double percentile(long[] nanos, int percent) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percent / 100)] / 1e6;
+    }
+}
@@ -0,0 +1,103 @@
+package com.goop.runner;
+
+import com.goop.compiler.CompileResult;
+import com.goop.compiler.CompilerService;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test protokol RunnerPool - WorkerMain: program siswa yang menulis frame
+ * palsu langsung ke stdout asli worker tidak boleh menghasilkan status OK.
+ * Worker juga harus tetap berjalan jika dibungkus goop.runner.wrapper.
+ */
+class WorkerProtocolTest {
+
+    @Test
+    void programBiasaBerjalanNormal() throws Exception {
+        RunResult result = run("public class Main {\n"
+                + "    public static void main(String[] args) {\n"
+                + "        System.out.println(\"halo\");\n"
+                + "    }\n"
+                + "}\n");
+
+        assertEquals(RunResult.Status.OK, result.getStatus());
+        assertEquals("halo", result.getOutput().trim());
+    }
+
+    @Test
+    void frameDonePalsuDitolak() throws Exception {
+        // FRAME_DONE status OK dalam format tanpa nonce, lalu program gagal
+        RunResult result = run("import java.io.*;\n"
+                + "public class Main {\n"
+                + "    public static void main(String[] args) throws IOException {\n"
+                + "        DataOutputStream out = new DataOutputStream(new FileOutputStream(FileDescriptor.out));\n"
+                + "        out.writeByte(3);\n"
+                + "        out.writeByte(0);\n"
+                + "        out.writeLong(0);\n"
+                + "        out.writeBoolean(true);\n"
+                + "        out.writeUTF(\"\");\n"
+                + "        out.flush();\n"
+                + "        throw new IllegalStateException(\"jawaban salah\");\n"
+                + "    }\n"
+                + "}\n");
+
+        assertEquals(RunResult.Status.ERROR, result.getStatus());
+        assertTrue(result.getMessage().contains("langsung ke output worker"), result.getMessage());
+    }
+
+    @Test
+    void workerBaruDipakaiSetelahFramePalsu() throws Exception {
+        frameDonePalsuDitolak();
+        programBiasaBerjalanNormal();
+    }
+
+    @Test
+    void workerBerjalanLewatWrapper() throws Exception {
+        Path env = Paths.get("/usr/bin/env");
+        assumeTrue(Files.isExecutable(env), "Butuh /usr/bin/env sebagai wrapper");
+        CompileResult compiled = CompilerService.getInstance().compile("public class Main {\n"
+                + "    public static void main(String[] args) {\n"
+                + "        System.out.println(\"lewat wrapper\");\n"
+                + "    }\n"
+                + "}\n", null).get();
+
+        List<String> command;
+        System.setProperty("goop.runner.wrapper", env + " ");
+        try {
+            command = RunnerPool.buildCommand(64);
+        } finally {
+            System.clearProperty("goop.runner.wrapper");
+        }
+        assertEquals(env.toString(), command.get(0));
+
+        Path workDir = Files.createTempDirectory("goop-wrapper");
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+        WorkerProcess worker = WorkerProcess.start(command, workDir);
+        try {
+            RunResult result = worker.run(compiled.getClasses(), compiled.getMainClass(), List.of(), "",
+                    new RunnerPool.Limits(), null, timer);
+            assertEquals(RunResult.Status.OK, result.getStatus(), result.getMessage());
+            assertEquals("lewat wrapper", result.getOutput().trim());
+        } finally {
+            worker.destroy();
+            timer.shutdownNow();
+            Files.deleteIfExists(workDir);
+        }
+    }
+
+    private static RunResult run(String source) throws Exception {
+        CompileResult compiled = CompilerService.getInstance().compile(source, null).get();
+        assertTrue(compiled.isSuccess(), () -> compiled.getDiagnostics().toString());
+        return RunnerPool.getInstance().run(compiled, null).get();
+    }
+}
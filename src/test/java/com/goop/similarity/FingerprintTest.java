@@ -0,0 +1,28 @@
+package com.goop.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test Fingerprint.isSameCode: code berbeda dengan panjang dan
+ * String.hashCode() sama tidak boleh dianggap sama.
+ */
+class FingerprintTest {
+
+    @Test
+    void codeDenganHashCodeSamaTetapBerbeda() {
+        String code = "class Main { String s = \"Aa\"; }";
+        String collision = "class Main { String s = \"BB\"; }";
+        assertEquals(code.length(), collision.length());
+        assertEquals(code.hashCode(), collision.hashCode());
+
+        Fingerprint fingerprint = Fingerprint.of(code);
+
+        assertTrue(fingerprint.isSameCode(code));
+        assertTrue(fingerprint.isSameCode(new String(code.toCharArray())));
+        assertFalse(fingerprint.isSameCode(collision));
+    }
+}
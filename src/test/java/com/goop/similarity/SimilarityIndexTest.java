@@ -0,0 +1,200 @@
+package com.goop.similarity;
+
+import com.goop.models.PasanganMirip;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test SimilarityIndex.check: kode hasil copy (nama variabel dan komentar
+ * diganti) ditemukan, kode yang tidak berhubungan tidak, dan kode bawaan
+ * (template Guru) tidak membuat semua submission mirip tapi juga tidak
+ * menyembunyikan kode yang di-copy oleh sebagian besar kelas.
+ */
+class SimilarityIndexTest {
+
+    private static final String[] OPERATOR = {"+", "-", "*", "/", "%"};
+    private static final String[] PEMBANDING = {"<", ">", "<=", ">=", "==", "!="};
+
+    private static final String TEMPLATE = "import java.util.Scanner;\n"
+            + "public class Main {\n"
+            + "    // TODO: lengkapi method di bawah\n"
+            + "    static int bacaAngka(Scanner scanner, String pesan) {\n"
+            + "        System.out.print(pesan);\n"
+            + "        while (!scanner.hasNextInt()) {\n"
+            + "            System.out.println(\"Masukkan angka!\");\n"
+            + "            scanner.next();\n"
+            + "        }\n"
+            + "        return scanner.nextInt();\n"
+            + "    }\n"
+            + "    public static void main(String[] args) {\n"
+            + "        Scanner scanner = new Scanner(System.in);\n"
+            + "        int n = bacaAngka(scanner, \"Jumlah data: \");\n"
+            + "        int[] data = new int[n];\n"
+            + "        for (int i = 0; i < n; i++) {\n"
+            + "            data[i] = bacaAngka(scanner, \"Data ke-\" + (i + 1) + \": \");\n"
+            + "        }\n"
+            + "        System.out.println(\"Hasil: \" + proses(data));\n"
+            + "    }\n";
+
+    private static int nextId = 9_100_000;
+
+    private final Map<Integer, String> codes = new HashMap<>();
+
+    @Test
+    void copyDitemukanKodeBerbedaTidak() {
+        String asli = jawaban(1, "hitung", "total");
+        // Nama diganti, komentar dan format diubah: token tetap sama
+        String copy = "// dikerjakan sendiri\n" + jawaban(1, "jumlahkan", "sum").replace("    ", "  ");
+        int a = add(asli);
+        int b = add(copy);
+        int c = add(jawaban(2, "hitung", "total"));
+
+        SimilarityIndex.Hasil hasil = check(List.of(a, b, c), null);
+
+        assertEquals(3, hasil.getJumlahSubmission());
+        assertEquals(1, hasil.getPasangan().size(), hasil.getPasangan().toString());
+        PasanganMirip pasangan = hasil.getPasangan().get(0);
+        assertEquals(List.of(a, b), List.of(pasangan.getProyekIdA(), pasangan.getProyekIdB()));
+        assertEquals(100, pasangan.getKemiripan(), 0.001);
+        assertEquals(0, hasil.getJumlahKodeBawaan());
+    }
+
+    @Test
+    void kodeTemplateTidakDihitung() {
+        // Grup kecil (tanpa deteksi kode bawaan dari frekuensi), jawaban
+        // pendek sehingga sebagian besar kode adalah template
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ids.add(add(TEMPLATE + jawaban(100 + i, "proses", "total", 4) + "}\n"));
+        }
+        // 2 siswa mengumpulkan jawaban yang sama
+        int copyA = add(TEMPLATE + jawaban(200, "proses", "total", 4) + "}\n");
+        int copyB = add(TEMPLATE + jawaban(200, "proses", "jumlah", 4) + "}\n");
+        ids.add(copyA);
+        ids.add(copyB);
+
+        // Tanpa template submission yang tidak berhubungan ikut mirip karena kode template
+        SimilarityIndex.Hasil tanpaTemplate = check(ids, null);
+        assertTrue(tanpaTemplate.getPasangan().size() > 1, tanpaTemplate.toString());
+        assertEquals(0, tanpaTemplate.getJumlahKodeBawaan());
+
+        SimilarityIndex.Hasil hasil = check(ids, TEMPLATE);
+        assertEquals(1, hasil.getPasangan().size(), hasil.getPasangan().toString());
+        assertEquals(copyA, hasil.getPasangan().get(0).getProyekIdA());
+        assertEquals(copyB, hasil.getPasangan().get(0).getProyekIdB());
+        assertTrue(hasil.getJumlahKodeBawaan() > 0);
+        assertTrue(hasil.toString().contains("kode bawaan"), hasil.toString());
+    }
+
+    @Test
+    void kodeBawaanTanpaTemplateHanyaYangAdaDiHampirSemuaSubmission() {
+        // 7 dari 12 siswa meng-copy jawaban yang sama (lebih dari separuh,
+        // kurang dari batas kode bawaan): harus tetap terdeteksi
+        List<Integer> ids = new ArrayList<>();
+        List<Integer> copies = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int id = add(TEMPLATE + jawaban(i < 7 ? 300 : 400 + i, "proses", "total") + "}\n");
+            ids.add(id);
+            if (i < 7) {
+                copies.add(id);
+            }
+        }
+
+        SimilarityIndex.Hasil hasil = check(ids, null);
+
+        // Template ada di semua submission: dikecualikan dan dilaporkan
+        assertTrue(hasil.getJumlahKodeBawaan() > 0);
+        assertEquals(7 * 6 / 2, hasil.getPasangan().size(), hasil.getPasangan().toString());
+        for (PasanganMirip pasangan : hasil.getPasangan()) {
+            assertTrue(copies.contains(pasangan.getProyekIdA()) && copies.contains(pasangan.getProyekIdB()),
+                    pasangan.toString());
+        }
+    }
+
+    private SimilarityIndex.Hasil check(List<Integer> ids, String template) {
+        return check(ids, template, SimilarityIndex.DEFAULT_AMBANG);
+    }
+
+    private SimilarityIndex.Hasil check(List<Integer> ids, String template, double ambang) {
+        return SimilarityIndex.getInstance().check(ids, codes::get, ambang, template);
+    }
+
+    /**
+     * Simpan code dengan ID proyek baru (index singleton dipakai bersama test lain)
+     */
+    private int add(String code) {
+        int id = nextId++;
+        codes.put(id, code);
+        SimilarityIndex.getInstance().update(id, code);
+        return id;
+    }
+
+    /**
+     * Method jawaban siswa: struktur (statement, operator, angka atau nama)
+     * diacak dari seed, nama variabel boleh berbeda
+     */
+    private static String jawaban(int seed, String method, String variabel) {
+        return jawaban(seed, method, variabel, 20);
+    }
+
+    private static String jawaban(int seed, String method, String variabel, int statements) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder code = new StringBuilder();
+        code.append("    static int ").append(method).append("(int[] data) {\n");
+        code.append("        int ").append(variabel).append(" = 0;\n");
+        for (int i = 0; i < statements; i++) {
+            String expr = ekspresi(random, variabel);
+            switch (random.nextInt(4)) {
+                case 0:
+                    code.append("        if (").append(ekspresi(random, variabel))
+                            .append(PEMBANDING[random.nextInt(PEMBANDING.length)]).append(expr).append(") {\n")
+                            .append("            ").append(variabel).append(" = ").append(expr).append(";\n")
+                            .append("        }\n");
+                    break;
+                case 1:
+                    code.append("        for (int i = 0; i < data.length; i++) { ").append(variabel)
+                            .append(" += data[i] ").append(OPERATOR[random.nextInt(OPERATOR.length)])
+                            .append(' ').append(expr).append("; }\n");
+                    break;
+                case 2:
+                    code.append("        System.out.println(").append(expr).append(");\n");
+                    break;
+                default:
+                    code.append("        ").append(variabel).append(" = ").append(expr).append(";\n");
+                    break;
+            }
+        }
+        code.append("        return ").append(variabel).append(";\n");
+        code.append("    }\n");
+        return code.toString();
+    }
+
+    private static String ekspresi(SplittableRandom random, String variabel) {
+        StringBuilder expr = new StringBuilder(operand(random, variabel));
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            expr.append(' ').append(OPERATOR[random.nextInt(OPERATOR.length)]).append(' ')
+                    .append(operand(random, variabel));
+        }
+        return random.nextBoolean() ? "(" + expr + ")" : expr.toString();
+    }
+
+    private static String operand(SplittableRandom random, String variabel) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return String.valueOf(random.nextInt(100));
+            case 1:
+                return "data[" + random.nextInt(5) + "]";
+            default:
+                return variabel;
+        }
+    }
+}